@@ -1,10 +1,33 @@
 package com.learning.calculator;
 
+import com.learning.calculator.audit.AuditLogDecoder;
+import com.learning.calculator.cluster.CalculatorWorker;
+import com.learning.calculator.cluster.WorkerPool;
 import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.exceptions.CalculatorException;
+import com.learning.calculator.history.CalculationHistory;
+import com.learning.calculator.history.HeapPressureMonitor;
+import com.learning.calculator.history.HistorySegmentStore;
+import com.learning.calculator.operations.statistics.Dataset;
 import com.learning.calculator.ui.ConsoleUI;
+import com.learning.calculator.ui.ScriptSession;
+import com.learning.calculator.workload.LoadGenerator;
+import com.learning.calculator.workload.LoadGeneratorConfig;
+import com.learning.calculator.workload.Workload;
+import com.learning.calculator.workload.WorkloadReplayer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+
 /**
  * Main entry point for the Calculator application.
  * This class demonstrates enterprise-grade Java development practices
@@ -16,30 +39,173 @@ import org.slf4j.LoggerFactory;
  * - Professional logging
  * - Modular architecture
  * 
+ * Usage:
+ * - no arguments: interactive console menu
+ * - {@code --eval <code> <a> [b]}: performs one calculation and prints the
+ * result, for scripts and batch jobs
+ * - {@code --aggregate <code> <file> [parameter]}: prints a statistical
+ * aggregate (31 sum, 32 mean, 33 variance, 34 standard deviation, 35 min,
+ * 36 max, 37 percentile) of the numbers in the file, or in standard input
+ * for {@code -}
+ * - {@code --capture <file>}: interactive menu, capturing every calculation
+ * into a binary workload file
+ * - {@code --history-dir <dir>}: interactive menu, spilling history beyond
+ * the in-memory records to segment files in the directory, kept across sessions
+ * - {@code --history-bytes <n>}: interactive menu, sizing the in-memory
+ * history by an approximate byte budget instead of a record count, and shrinking it
+ * while the heap is under pressure
+ * - {@code --audit <file>}: interactive menu, writing every calculation to a
+ * binary audit file
+ * - {@code --log-sample <n>}: interactive menu, logging only every n-th
+ * calculation (0 for none)
+ * - {@code --script}: reads menu commands from standard input without
+ * prompts, see below
+ * - {@code --audit-decode <file>}: prints an audit file as text
+ * - {@code --replay <file> [--paced]}: replays a captured workload and prints
+ * throughput and latency percentiles
+ * - {@code --loadgen [key=value ...]}: drives the engine with synthetic load,
+ * see {@link LoadGeneratorConfig} for the settings
+ * - {@code --worker <port> <token>}: worker process of a {@link WorkerPool},
+ * started by the coordinator
+ * 
+ * With {@code --script}, or when standard input is not a terminal, for
+ * example when a script of menu commands is piped in, the menu is replaced
+ * by a {@link ScriptSession}, which reads the same commands without prompts
+ * and prints only results. The interactive options above apply to it as
+ * well. Standard input is checked on its own where the system exposes it,
+ * through {@code /proc} on Linux; elsewhere the JVM only tells whether both
+ * standard input and output are a terminal, so redirecting only the output
+ * also selects the script mode.
+ * 
+ * Logging is configured lazily: non-interactive modes select the minimal
+ * {@code logback-batch.xml} before the first logger is created, which keeps
+ * JVM start-up to first result short.
+ * 
  * @author Learning Java Developer
  * @version 1.0
  * @since 2026-01-28
  */
 public class Calculator {
-    private static final Logger logger = LoggerFactory.getLogger(Calculator.class);
+    private static final String BATCH_LOGGING_CONFIG = "logback-batch.xml";
+    private static final String LOGGING_CONFIG_PROPERTY = "logback.configurationFile";
+    private static final int HISTORY_MEMORY_SIZE = 100;
+    private static final Set<String> INTERACTIVE_OPTIONS =
+            Set.of("--capture", "--history-dir", "--history-bytes", "--audit", "--log-sample");
+    private static final String INTERACTIVE_USAGE = "Usage: [--script] [--capture <file>] [--history-dir <dir>]"
+            + " [--history-bytes <n>] [--audit <file>] [--log-sample <n>]";
 
     /**
      * Main method - application entry point.
      * 
-     * @param args command line arguments (not used)
+     * @param args command line arguments, see class documentation
      */
     public static void main(String[] args) {
+        if (args.length > 0 && "--eval".equals(args[0])) {
+            useBatchLogging();
+            System.exit(runEval(args));
+        }
+        if (args.length > 0 && "--aggregate".equals(args[0])) {
+            useBatchLogging();
+            System.exit(runAggregate(args));
+        }
+        if (args.length > 0 && "--replay".equals(args[0])) {
+            useBatchLogging();
+            System.exit(runReplay(args));
+        }
+        if (args.length > 0 && "--loadgen".equals(args[0])) {
+            useBatchLogging();
+            System.exit(runLoadGenerator(args));
+        }
+        if (args.length > 0 && "--worker".equals(args[0])) {
+            useBatchLogging();
+            System.exit(runWorker(args));
+        }
+        if (args.length > 0 && "--audit-decode".equals(args[0])) {
+            useBatchLogging();
+            System.exit(runAuditDecode(args));
+        }
+
+        Path captureFile = null;
+        Path historyDirectory = null;
+        long historyBytes = 0;
+        Path auditFile = null;
+        int logSampling = 1;
+        boolean script = false;
+        // --script takes no value; every other option is followed by one
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if ("--script".equals(option)) {
+                script = true;
+                continue;
+            }
+            if (!INTERACTIVE_OPTIONS.contains(option)) {
+                exitWithUsage("Unknown option: " + option);
+            }
+            if (i + 1 == args.length) {
+                exitWithUsage("Missing value for " + option);
+            }
+            String value = args[++i];
+            try {
+                if ("--capture".equals(option)) {
+                    captureFile = Path.of(value);
+                } else if ("--history-dir".equals(option)) {
+                    historyDirectory = Path.of(value);
+                } else if ("--history-bytes".equals(option)) {
+                    historyBytes = Long.parseLong(value);
+                } else if ("--audit".equals(option)) {
+                    auditFile = Path.of(value);
+                } else {
+                    logSampling = Integer.parseInt(value);
+                }
+            } catch (NumberFormatException | InvalidPathException e) {
+                exitWithUsage("Invalid value for " + option + ": " + value);
+            }
+        }
+
+        script = script || !isStandardInputTerminal();
+        if (script) {
+            useBatchLogging();
+        }
+
+        Logger logger = LoggerFactory.getLogger(Calculator.class);
         logger.info("Starting Calculator Application");
         logger.info("Java Version: {}", System.getProperty("java.version"));
         logger.info("OS: {} {}", System.getProperty("os.name"), System.getProperty("os.version"));
 
         try {
             // Initialize calculator engine
-            CalculatorEngine engine = new CalculatorEngine();
+            HistorySegmentStore coldTier = historyDirectory == null ? null : new HistorySegmentStore(historyDirectory);
+            CalculationHistory history;
+            HeapPressureMonitor pressureMonitor = null;
+            if (historyBytes > 0) {
+                history = CalculationHistory.withByteBudget(historyBytes, coldTier);
+                pressureMonitor = new HeapPressureMonitor();
+                pressureMonitor.addListener(history::setMemoryPressure);
+            } else if (coldTier != null) {
+                history = new CalculationHistory(HISTORY_MEMORY_SIZE, coldTier);
+            } else {
+                history = new CalculationHistory();
+            }
+            CalculatorEngine engine = new CalculatorEngine(history);
+            try {
+                if (captureFile != null) {
+                    engine.startCapture(captureFile);
+                }
+                if (auditFile != null) {
+                    engine.startAudit(auditFile);
+                }
+                engine.setLogSampling(logSampling);
 
-            // Initialize and start UI
-            ConsoleUI ui = new ConsoleUI(engine);
-            ui.start();
+                // Initialize and start UI
+                if (script) {
+                    new ScriptSession(engine, System.in, System.out).run();
+                } else {
+                    ConsoleUI ui = new ConsoleUI(engine);
+                    ui.start();
+                }
+            } finally {
+                shutDown(engine, pressureMonitor, history);
+            }
 
             logger.info("Calculator Application terminated normally");
 
@@ -49,4 +215,207 @@ public class Calculator {
             System.exit(1);
         }
     }
+
+    /**
+     * Reports an invalid command line and exits with status 2, as the
+     * one-shot modes do.
+     */
+    private static void exitWithUsage(String message) {
+        System.err.println(message);
+        System.err.println(INTERACTIVE_USAGE);
+        System.exit(2);
+    }
+
+    /**
+     * Flushes the capture and audit files and closes the history, also when
+     * the session ended with an error. Each step runs even if an earlier one
+     * fails; the first failure is rethrown.
+     */
+    private static void shutDown(CalculatorEngine engine, HeapPressureMonitor pressureMonitor,
+            CalculationHistory history) throws IOException {
+        try {
+            engine.stopCapture();
+        } finally {
+            try {
+                engine.stopAudit();
+            } finally {
+                try {
+                    if (pressureMonitor != null) {
+                        pressureMonitor.close();
+                    }
+                } finally {
+                    history.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if standard input is a terminal. Where the system exposes the
+     * link behind standard input, it decides on its own. Elsewhere
+     * {@link System#console()} is the fallback, which requires standard
+     * output to be a terminal too; since JDK 22 it is also non-null when
+     * input is piped, so it is only consulted without that link.
+     * 
+     * @return false if standard input is not a terminal, or if that cannot
+     *         be told apart from redirected output
+     */
+    private static boolean isStandardInputTerminal() {
+        try {
+            String source = Files.readSymbolicLink(Path.of("/proc/self/fd/0")).toString();
+            return source.startsWith("/dev/pts/") || source.startsWith("/dev/tty");
+        } catch (IOException | UnsupportedOperationException | InvalidPathException e) {
+            return System.console() != null;
+        }
+    }
+
+    /**
+     * Selects the minimal logging configuration unless one was given explicitly.
+     * Must run before the first logger is created.
+     */
+    private static void useBatchLogging() {
+        if (System.getProperty(LOGGING_CONFIG_PROPERTY) == null) {
+            System.setProperty(LOGGING_CONFIG_PROPERTY, BATCH_LOGGING_CONFIG);
+        }
+    }
+
+    /**
+     * Performs a single calculation given as {@code --eval <code> <a> [b]}.
+     * 
+     * @param args command line arguments
+     * @return process exit code
+     */
+    private static int runEval(String[] args) {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println("Usage: --eval <operation code> <first number> [second number]");
+            return 2;
+        }
+        try {
+            int operationCode = Integer.parseInt(args[1]);
+            double operand1 = Double.parseDouble(args[2]);
+            double operand2 = args.length == 4 ? Double.parseDouble(args[3]) : 0;
+
+            double result = new CalculatorEngine().calculate(operationCode, operand1, operand2);
+            System.out.println(result);
+            return 0;
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid number: " + e.getMessage());
+            return 2;
+        } catch (CalculatorException e) {
+            System.err.println("Calculation error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Performs a statistical aggregate given as
+     * {@code --aggregate <code> <file> [parameter]}.
+     * 
+     * @param args command line arguments
+     * @return process exit code
+     */
+    private static int runAggregate(String[] args) {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println("Usage: --aggregate <operation code> <data file or -> [parameter]");
+            return 2;
+        }
+        try {
+            int operationCode = Integer.parseInt(args[1]);
+            double parameter = args.length == 4 ? Double.parseDouble(args[3]) : 0;
+            double[] values = "-".equals(args[2]) ? Dataset.read(System.in) : Dataset.read(Path.of(args[2]));
+            System.out.println(new CalculatorEngine().calculateAggregate(operationCode, values, parameter));
+            return 0;
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid number: " + e.getMessage());
+            return 2;
+        } catch (IOException e) {
+            System.err.println("Cannot read data: " + e.getMessage());
+            return 1;
+        } catch (CalculatorException e) {
+            System.err.println("Calculation error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Replays a capture file given as {@code --replay <file> [--paced]}.
+     * 
+     * @param args command line arguments
+     * @return process exit code
+     */
+    private static int runReplay(String[] args) {
+        if (args.length < 2 || args.length > 3 || (args.length == 3 && !"--paced".equals(args[2]))) {
+            System.err.println("Usage: --replay <capture file> [--paced]");
+            return 2;
+        }
+        try {
+            Workload workload = Workload.read(Path.of(args[1]));
+            System.out.println(new WorkloadReplayer().replay(workload, new CalculatorEngine(), args.length == 3));
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Cannot read capture file: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Runs synthetic load given as {@code --loadgen [key=value ...]}.
+     * 
+     * @param args command line arguments
+     * @return process exit code
+     */
+    private static int runLoadGenerator(String[] args) {
+        try {
+            LoadGeneratorConfig config = LoadGeneratorConfig.parse(Arrays.copyOfRange(args, 1, args.length));
+            System.out.println(new LoadGenerator(config).run(new CalculatorEngine()));
+            return 0;
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            System.err.println("Invalid load generator settings: " + e.getMessage());
+            return 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    /**
+     * Serves a coordinator given as {@code --worker <port> <token>}.
+     * 
+     * @param args command line arguments
+     * @return process exit code
+     */
+    private static int runWorker(String[] args) {
+        if (args.length != 3) {
+            System.err.println("Usage: --worker <coordinator port> <token>");
+            return 2;
+        }
+        try {
+            return CalculatorWorker.run(Integer.parseInt(args[1]), args[2]);
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid port: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    /**
+     * Prints an audit file given as {@code --audit-decode <file>}.
+     * 
+     * @param args command line arguments
+     * @return process exit code
+     */
+    private static int runAuditDecode(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: --audit-decode <audit file>");
+            return 2;
+        }
+        try {
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out));
+            AuditLogDecoder.decode(Path.of(args[1]), out);
+            out.flush();
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Cannot decode audit file: " + e.getMessage());
+            return 1;
+        }
+    }
 }
@@ -0,0 +1,300 @@
+package com.learning.calculator.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous audit trail of calculations, written as fixed-size binary
+ * records instead of formatted log lines.
+ * 
+ * Calling threads only copy an entry into a preallocated ring of primitive
+ * columns and publish its sequence number; a single background thread
+ * encodes published entries in order and writes them to the file in large
+ * blocks. A caller only waits when the writer is a whole ring behind.
+ * 
+ * Format (big-endian):
+ * - header: magic {@code 'AUDT'} (int), version (short), record size (short)
+ * - one 40-byte record per calculation: epoch nanoseconds (long), operation
+ * code (int), {@link AuditStatus} ordinal (byte), 3 bytes padding, first
+ * operand, second operand and result (doubles; the result is NaN for
+ * failures)
+ * 
+ * Files are turned back into text by {@link AuditLogDecoder}.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class AuditLog implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(AuditLog.class);
+
+    static final int MAGIC = 0x41554454;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_SIZE = 40;
+
+    /** Default number of entries the ring holds. */
+    public static final int DEFAULT_CAPACITY = 16384;
+
+    private static final int BLOCK_RECORDS = 1024;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int capacity;
+    private final int mask;
+    private final long[] timestamps;
+    private final int[] codes;
+    private final byte[] statuses;
+    private final double[] operands1;
+    private final double[] operands2;
+    private final double[] results;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final long epochNanosAtStart;
+    private final long nanoTimeAtStart;
+    private final Thread writer;
+    private volatile long consumed;
+    private volatile long written;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+    private volatile boolean failed;
+
+    /**
+     * Creates an audit log with the default capacity, replacing any existing
+     * file.
+     * 
+     * @param file path of the audit file
+     * @throws IOException if the file cannot be created
+     */
+    public AuditLog(Path file) throws IOException {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an audit log, replacing any existing file.
+     * 
+     * @param file     path of the audit file
+     * @param capacity number of entries the ring holds, a power of two
+     * @throws IOException              if the file cannot be created
+     * @throws IllegalArgumentException if capacity is not a positive power of two
+     */
+    public AuditLog(Path file, int capacity) throws IOException {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Audit capacity must be a positive power of two");
+        }
+        this.file = file;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.codes = new int[capacity];
+        this.statuses = new byte[capacity];
+        this.operands1 = new double[capacity];
+        this.operands2 = new double[capacity];
+        this.results = new double[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+
+        Instant now = Instant.now();
+        this.epochNanosAtStart = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+        this.nanoTimeAtStart = System.nanoTime();
+        this.writer = new Thread(this::drain, "audit-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Appends a successful calculation.
+     * 
+     * @param operationCode code of the operation
+     * @param operand1      first operand
+     * @param operand2      second operand
+     * @param result        the result
+     */
+    public void record(int operationCode, double operand1, double operand2, double result) {
+        append(operationCode, operand1, operand2, result, AuditStatus.OK);
+    }
+
+    /**
+     * Appends a failed calculation.
+     * 
+     * @param operationCode code of the operation
+     * @param operand1      first operand
+     * @param operand2      second operand
+     * @param failure       the failure
+     */
+    public void recordFailure(int operationCode, double operand1, double operand2, RuntimeException failure) {
+        append(operationCode, operand1, operand2, Double.NaN, AuditStatus.of(failure));
+    }
+
+    /**
+     * Gets the number of entries written to the file so far.
+     * 
+     * @return number of written entries
+     */
+    public long getCount() {
+        return written;
+    }
+
+    /**
+     * Gets the number of entries that were dropped because they raced with
+     * {@link #close()} or the file could no longer be written.
+     * 
+     * @return number of dropped entries
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the path of the audit file.
+     * 
+     * @return the file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes the remaining entries and closes the file. Entries appended
+     * concurrently with closing may be dropped.
+     * 
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        logger.info("Audit log closed after {} entries: {}", getCount(), file);
+    }
+
+    private void append(int operationCode, double operand1, double operand2, double result, AuditStatus status) {
+        if (closed || failed) {
+            dropped.increment();
+            return;
+        }
+        long timestamp = epochNanosAtStart + (System.nanoTime() - nanoTimeAtStart);
+        long sequence = claimed.getAndIncrement();
+        while (sequence - consumed >= capacity) {
+            if (!writer.isAlive()) {
+                dropped.increment();
+                return;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        int slot = (int) sequence & mask;
+        timestamps[slot] = timestamp;
+        codes[slot] = operationCode;
+        statuses[slot] = (byte) status.ordinal();
+        operands1[slot] = operand1;
+        operands2[slot] = operand2;
+        results[slot] = result;
+        published.set(slot, sequence);
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Writer loop: encodes published entries in sequence order and writes
+     * them a block at a time.
+     */
+    private void drain() {
+        ByteBuffer block = ByteBuffer.allocateDirect(BLOCK_RECORDS * RECORD_SIZE);
+        long next = 0;
+        while (true) {
+            int slot = (int) next & mask;
+            if (published.get(slot) != next) {
+                if (closed && next >= claimed.get()) {
+                    break;
+                }
+                park(slot, next);
+                continue;
+            }
+            long first = next;
+            block.clear();
+            while (block.hasRemaining() && published.get(slot) == next) {
+                block.putLong(timestamps[slot])
+                        .putInt(codes[slot])
+                        .put(statuses[slot])
+                        .put((byte) 0).put((byte) 0).put((byte) 0)
+                        .putDouble(operands1[slot])
+                        .putDouble(operands2[slot])
+                        .putDouble(results[slot]);
+                next++;
+                slot = (int) next & mask;
+            }
+            // The entries are copied, so their slots can be reused while the block is written
+            consumed = next;
+            if (failed) {
+                dropped.add(next - first);
+            } else if (write(block.flip())) {
+                written += next - first;
+            } else {
+                dropped.add(next - first);
+            }
+        }
+    }
+
+    private void park(int slot, long next) {
+        writerParked = true;
+        try {
+            if (published.get(slot) != next && !closed) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            } else if (closed) {
+                // A claimed entry is being copied by its caller
+                Thread.onSpinWait();
+            }
+        } finally {
+            writerParked = false;
+        }
+    }
+
+    private boolean write(ByteBuffer block) {
+        try {
+            while (block.hasRemaining()) {
+                channel.write(block);
+            }
+            return true;
+        } catch (IOException e) {
+            failed = true;
+            logger.error("Audit log write failed, further entries are dropped: {}", file, e);
+            return false;
+        }
+    }
+}
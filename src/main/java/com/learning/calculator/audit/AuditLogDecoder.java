@@ -0,0 +1,107 @@
+package com.learning.calculator.audit;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Turns an {@link AuditLog} file back into text, one line per entry:
+ * 
+ * <pre>
+ * 2026-01-28T10:15:30.123456789Z code=4 10.0 2.0 = 5.0
+ * 2026-01-28T10:15:30.123460001Z code=4 10.0 0.0 ! DIVISION_BY_ZERO
+ * </pre>
+ * 
+ * A partial record at the end of the file, left by a process that did not
+ * close its log, is ignored.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class AuditLogDecoder {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private AuditLogDecoder() {
+    }
+
+    /**
+     * Decodes an audit file.
+     * 
+     * @param file path of the audit file
+     * @param out  receives one line per entry
+     * @return number of decoded entries
+     * @throws IOException if the file cannot be read or is not an audit file
+     */
+    public static long decode(Path file, Appendable out) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return decode(input, out);
+        }
+    }
+
+    /**
+     * Decodes an audit stream.
+     * 
+     * @param input the audit stream, positioned at its header
+     * @param out   receives one line per entry
+     * @return number of decoded entries
+     * @throws IOException if the stream cannot be read or is not an audit stream
+     */
+    public static long decode(InputStream input, Appendable out) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+        int magic;
+        short version;
+        short recordSize;
+        try {
+            magic = in.readInt();
+            version = in.readShort();
+            recordSize = in.readShort();
+        } catch (EOFException e) {
+            throw new IOException("Not an audit log: missing header", e);
+        }
+        if (magic != AuditLog.MAGIC) {
+            throw new IOException("Not an audit log: bad magic number");
+        }
+        if (version != AuditLog.VERSION || recordSize != AuditLog.RECORD_SIZE) {
+            throw new IOException("Unsupported audit log version: " + version);
+        }
+
+        byte[] record = new byte[AuditLog.RECORD_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        StringBuilder line = new StringBuilder(96);
+        long count = 0;
+        while (in.readNBytes(record, 0, record.length) == record.length) {
+            appendLine(line, buffer);
+            out.append(line);
+            count++;
+        }
+        return count;
+    }
+
+    private static void appendLine(StringBuilder line, ByteBuffer record) {
+        long timestamp = record.getLong(0);
+        int code = record.getInt(8);
+        AuditStatus status = AuditStatus.fromCode(record.get(12));
+        double operand1 = record.getDouble(16);
+        double operand2 = record.getDouble(24);
+        double result = record.getDouble(32);
+
+        line.setLength(0);
+        line.append(Instant.ofEpochSecond(0, timestamp))
+                .append(" code=").append(code)
+                .append(' ').append(operand1)
+                .append(' ').append(operand2);
+        if (status == AuditStatus.OK) {
+            line.append(" = ").append(result);
+        } else {
+            line.append(" ! ").append(status);
+        }
+        line.append(System.lineSeparator());
+    }
+}
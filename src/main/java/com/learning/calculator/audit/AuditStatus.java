@@ -0,0 +1,65 @@
+package com.learning.calculator.audit;
+
+import com.learning.calculator.exceptions.CalculationRejectedException;
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidInputException;
+import com.learning.calculator.exceptions.InvalidOperationException;
+import com.learning.calculator.exceptions.NegativeSquareRootException;
+
+/**
+ * Outcome of an audited calculation, stored as its ordinal in one byte of
+ * the audit record. New values must only be appended.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public enum AuditStatus {
+    /** The calculation succeeded. */
+    OK,
+    /** The calculation failed for another reason. */
+    FAILED,
+    /** Division or modulus by zero. */
+    DIVISION_BY_ZERO,
+    /** Square root of a negative number. */
+    NEGATIVE_SQUARE_ROOT,
+    /** Unknown operation code. */
+    INVALID_OPERATION,
+    /** Operand outside the operation's domain. */
+    INVALID_INPUT,
+    /** Shed by admission control. */
+    REJECTED;
+
+    private static final AuditStatus[] VALUES = values();
+
+    /**
+     * Gets the status describing a calculation failure.
+     * 
+     * @param failure the failure
+     * @return the matching status, {@link #FAILED} if there is none
+     */
+    public static AuditStatus of(RuntimeException failure) {
+        if (failure instanceof DivisionByZeroException) {
+            return DIVISION_BY_ZERO;
+        } else if (failure instanceof NegativeSquareRootException) {
+            return NEGATIVE_SQUARE_ROOT;
+        } else if (failure instanceof InvalidOperationException) {
+            return INVALID_OPERATION;
+        } else if (failure instanceof InvalidInputException) {
+            return INVALID_INPUT;
+        } else if (failure instanceof CalculationRejectedException) {
+            return REJECTED;
+        }
+        return FAILED;
+    }
+
+    /**
+     * Gets the status stored as the given byte.
+     * 
+     * @param code the stored ordinal
+     * @return the status, {@link #FAILED} for an unknown code
+     */
+    static AuditStatus fromCode(int code) {
+        return code >= 0 && code < VALUES.length ? VALUES[code] : FAILED;
+    }
+}
@@ -0,0 +1,128 @@
+package com.learning.calculator.cluster;
+
+import com.learning.calculator.core.CalculatorEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Worker side of a {@link WorkerPool}: connects back to the coordinator and
+ * evaluates the task frames it receives with its own
+ * {@link CalculatorEngine} until it is told to shut down or the connection
+ * closes. Started as {@code Calculator --worker <port> <token>}; the token
+ * is sent as the first frame, so the coordinator can tell its workers from
+ * other local connections.
+ * 
+ * The worker keeps almost no history of its own; the coordinator merges
+ * the results into its history.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class CalculatorWorker {
+    private static final Logger logger = LoggerFactory.getLogger(CalculatorWorker.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CalculatorEngine engine = new CalculatorEngine(1);
+    private WorkerProtocol.Modes modes = new WorkerProtocol.Modes(false, 0, null);
+
+    private CalculatorWorker() {
+    }
+
+    /**
+     * Connects to the coordinator on the loopback interface and serves it.
+     * 
+     * @param port  port the coordinator listens on
+     * @param token token the coordinator passed on the command line
+     * @return process exit code: 0 after a shutdown frame, 1 on I/O failure
+     */
+    public static int run(int port, String token) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+            WorkerProtocol.writeHello(out, token);
+            new CalculatorWorker().serve(in, out);
+            return 0;
+        } catch (EOFException e) {
+            logger.warn("Coordinator closed the connection");
+            return 1;
+        } catch (IOException e) {
+            logger.error("Worker failed: {}", e.getMessage(), e);
+            return 1;
+        }
+    }
+
+    private void serve(DataInputStream in, DataOutputStream out) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(BUFFER_SIZE);
+        while (true) {
+            DataInputStream frame = new DataInputStream(new ByteArrayInputStream(WorkerProtocol.readFrame(in)));
+            byte type = frame.readByte();
+            if (type == WorkerProtocol.SHUTDOWN) {
+                return;
+            }
+            if (type != WorkerProtocol.TASK) {
+                throw new IOException("Unexpected frame type: " + type);
+            }
+            payload.reset();
+            evaluate(frame, new DataOutputStream(payload));
+            WorkerProtocol.writeFrame(out, payload);
+        }
+    }
+
+    private void evaluate(DataInputStream task, DataOutputStream result) throws IOException {
+        int chunk = task.readInt();
+        applyModes(WorkerProtocol.Modes.read(task));
+        int rows = task.readInt();
+
+        LocalDateTime start = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        result.writeByte(WorkerProtocol.RESULT);
+        result.writeInt(chunk);
+        result.writeLong(start.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + start.getNano());
+        result.writeInt(rows);
+        for (int i = 0; i < rows; i++) {
+            int code = WorkerProtocol.readCode(task);
+            double operand1 = task.readDouble();
+            double operand2 = task.readDouble();
+            try {
+                double value = engine.calculate(code, operand1, operand2);
+                result.writeByte(WorkerProtocol.STATUS_OK);
+                result.writeDouble(value);
+            } catch (RuntimeException e) {
+                result.writeByte(WorkerProtocol.statusOf(e));
+                result.writeUTF(String.valueOf(e.getMessage()));
+            }
+        }
+        result.writeLong(System.nanoTime() - startNanos);
+    }
+
+    private void applyModes(WorkerProtocol.Modes requested) {
+        if (requested.equals(modes)) {
+            return;
+        }
+        engine.setScientificMode(requested.scientific);
+        if (requested.fastMathUlpError > 0) {
+            engine.enableFastMath(requested.fastMathUlpError);
+        } else {
+            engine.disableFastMath();
+        }
+        engine.setDecimalMode(requested.decimalMathContext);
+        modes = requested;
+    }
+}
@@ -0,0 +1,145 @@
+package com.learning.calculator.cluster;
+
+import com.learning.calculator.exceptions.CalculatorException;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of a {@link WorkerPool} evaluation: the result or failure of each
+ * row, and the statistics merged from the workers.
+ * 
+ * Worker statistics count every chunk a worker evaluated, including chunks
+ * that were also sent to another worker and whose result was discarded.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class DistributedResult {
+    private final double[] results;
+    private final CalculatorException[] failures;
+    private final int failedRows;
+    private final int chunks;
+    private final int reassignedChunks;
+    private final long elapsedNanos;
+    private final long[] workerRows;
+    private final long[] workerBusyNanos;
+
+    DistributedResult(double[] results, CalculatorException[] failures, int chunks, int reassignedChunks,
+            long elapsedNanos, long[] workerRows, long[] workerBusyNanos) {
+        this.results = results;
+        this.failures = failures;
+        this.failedRows = (int) Arrays.stream(failures).filter(failure -> failure != null).count();
+        this.chunks = chunks;
+        this.reassignedChunks = reassignedChunks;
+        this.elapsedNanos = elapsedNanos;
+        this.workerRows = workerRows;
+        this.workerBusyNanos = workerBusyNanos;
+    }
+
+    /**
+     * Gets the number of rows.
+     * 
+     * @return number of rows
+     */
+    public int size() {
+        return results.length;
+    }
+
+    /**
+     * Gets the result of a row.
+     * 
+     * @param row index of the row
+     * @return the result
+     * @throws CalculatorException the failure of the row, recreated at the
+     *                             coordinator with the worker's message
+     */
+    public double getResult(int row) {
+        if (failures[row] != null) {
+            throw failures[row];
+        }
+        return results[row];
+    }
+
+    /**
+     * Gets the failure of a row.
+     * 
+     * @param row index of the row
+     * @return the failure, or null if the row succeeded
+     */
+    public CalculatorException getFailure(int row) {
+        return failures[row];
+    }
+
+    /**
+     * Checks if a row failed.
+     * 
+     * @param row index of the row
+     * @return true if the row failed
+     */
+    public boolean isFailed(int row) {
+        return failures[row] != null;
+    }
+
+    /**
+     * Gets the number of failed rows.
+     * 
+     * @return number of failed rows
+     */
+    public int getFailedRows() {
+        return failedRows;
+    }
+
+    /**
+     * Gets the number of chunks the rows were partitioned into.
+     * 
+     * @return number of chunks
+     */
+    public int getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Gets the number of times a chunk was sent to a second worker, because
+     * its worker was slow or failed.
+     * 
+     * @return number of reassignments
+     */
+    public int getReassignedChunks() {
+        return reassignedChunks;
+    }
+
+    /**
+     * Gets the wall-clock time of the evaluation at the coordinator.
+     * 
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of rows each worker evaluated.
+     * 
+     * @return rows per worker, indexed by worker
+     */
+    public long[] getWorkerRows() {
+        return workerRows.clone();
+    }
+
+    /**
+     * Gets the time each worker spent evaluating, as measured by the worker.
+     * 
+     * @return busy nanoseconds per worker, indexed by worker
+     */
+    public long[] getWorkerBusyNanos() {
+        return workerBusyNanos.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Distributed: %d rows, %d failed, %d chunks (%d reassigned), %.3f ms elapsed, "
+                + "rows per worker %s", results.length, failedRows, chunks, reassignedChunks,
+                elapsedNanos / 1_000_000.0, Arrays.toString(workerRows));
+    }
+}
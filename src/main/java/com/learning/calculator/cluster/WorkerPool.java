@@ -0,0 +1,619 @@
+package com.learning.calculator.cluster;
+
+import com.learning.calculator.Calculator;
+import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.exceptions.CalculatorException;
+import com.learning.calculator.history.CalculationHistory;
+import com.learning.calculator.history.CalculationRecord;
+import com.learning.calculator.operations.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coordinator of calculation worker processes on the local machine, so
+ * that batch runs are not limited by the heap and garbage collector of one
+ * JVM.
+ * 
+ * The pool starts N child JVMs running {@link CalculatorWorker}, which
+ * connect back over loopback sockets. Each pool passes its workers a random
+ * token on their command line, and a connection is only accepted as a
+ * worker once its first frame presents that token, so other local
+ * processes cannot take a worker's place. An evaluation partitions its rows
+ * into chunks that workers pull one at a time, so a slow worker simply
+ * takes fewer chunks. Once no chunk is left to hand out, an idle worker
+ * also evaluates any chunk that has been outstanding for several times the
+ * mean chunk time, and the first result wins. A chunk whose worker fails is
+ * handed to the next idle worker. Results are merged back in row order,
+ * successful rows are recorded in the coordinator engine's history, and
+ * the workers' statistics are merged into the {@link DistributedResult}.
+ * 
+ * Workers evaluate with the modes (scientific, fast-math and decimal) the
+ * coordinator engine has when the evaluation starts.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class WorkerPool implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(WorkerPool.class);
+
+    /** Default upper bound of rows per chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /** Chunks per worker an evaluation aims for, so work can be rebalanced. */
+    private static final int CHUNKS_PER_WORKER = 8;
+
+    /** A chunk outstanding for this many mean chunk times is also sent to an idle worker. */
+    private static final double STRAGGLER_FACTOR = 3.0;
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration HANDSHAKE_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final AtomicInteger POOL_IDS = new AtomicInteger();
+
+    private final CalculatorEngine engine;
+    private final List<Process> processes;
+    private final List<Worker> workers;
+    private final int maxChunkSize;
+    private final ExecutorService coordinators;
+    private boolean closed;
+
+    private WorkerPool(CalculatorEngine engine, List<Process> processes, List<Worker> workers, int maxChunkSize) {
+        this.engine = engine;
+        this.processes = processes;
+        this.workers = workers;
+        this.maxChunkSize = maxChunkSize;
+        int poolId = POOL_IDS.incrementAndGet();
+        AtomicInteger threadIds = new AtomicInteger();
+        this.coordinators = Executors.newFixedThreadPool(workers.size(), runnable -> {
+            Thread thread = new Thread(runnable, "worker-pool-" + poolId + "-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts worker processes with the default chunk size.
+     * 
+     * @param engine  coordinator engine, whose history receives the results
+     * @param workers number of worker processes
+     * @return the pool
+     * @throws IOException              if a worker cannot be started or does
+     *                                  not connect in time
+     * @throws IllegalArgumentException if workers is less than 1
+     */
+    public static WorkerPool spawn(CalculatorEngine engine, int workers) throws IOException {
+        return spawn(engine, workers, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Starts worker processes running on this JVM's class path.
+     * 
+     * @param engine       coordinator engine, whose history receives the
+     *                     results
+     * @param workers      number of worker processes
+     * @param maxChunkSize upper bound of rows per chunk
+     * @return the pool
+     * @throws IOException              if a worker cannot be started, or
+     *                                  fewer than workers connections
+     *                                  present the token in time
+     * @throws IllegalArgumentException if workers or maxChunkSize is less
+     *                                  than 1
+     */
+    public static WorkerPool spawn(CalculatorEngine engine, int workers, int maxChunkSize) throws IOException {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Worker count must be at least 1");
+        }
+        if (maxChunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String classPath = System.getProperty("java.class.path");
+        List<Process> processes = new ArrayList<>();
+        List<Worker> connected = new ArrayList<>();
+        String token = WorkerProtocol.newToken();
+        try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            String port = Integer.toString(server.getLocalPort());
+            for (int i = 0; i < workers; i++) {
+                processes.add(new ProcessBuilder(java, "-cp", classPath, Calculator.class.getName(),
+                        "--worker", port, token)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start());
+            }
+            // Connections arrive in any order; a worker is identified by its connection
+            long deadline = System.nanoTime() + CONNECT_TIMEOUT.toNanos();
+            while (connected.size() < workers) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    throw new SocketTimeoutException(String.format(
+                            "Only %d of %d worker(s) connected in time", connected.size(), workers));
+                }
+                server.setSoTimeout((int) remainingMillis);
+                Socket socket = server.accept();
+                if (isAuthenticated(socket, token, remainingMillis)) {
+                    connected.add(new Worker(connected.size(), socket));
+                }
+            }
+        } catch (IOException e) {
+            connected.forEach(Worker::disconnect);
+            processes.forEach(Process::destroyForcibly);
+            throw e;
+        }
+        logger.info("Worker pool started with {} worker process(es)", workers);
+        return new WorkerPool(engine, Collections.unmodifiableList(processes), connected, maxChunkSize);
+    }
+
+    /**
+     * Reads the hello frame of a new connection, closing the connection
+     * unless it presents the pool's token in time.
+     */
+    private static boolean isAuthenticated(Socket socket, String token, long timeoutMillis) {
+        try {
+            socket.setSoTimeout((int) Math.min(timeoutMillis, HANDSHAKE_TIMEOUT.toMillis()));
+            // Unbuffered, so that nothing beyond the hello frame is consumed
+            if (WorkerProtocol.readHello(new DataInputStream(socket.getInputStream()), token)) {
+                socket.setSoTimeout(0);
+                return true;
+            }
+        } catch (IOException e) {
+            logger.debug("Worker handshake failed: {}", e.getMessage());
+        }
+        logger.warn("Rejected a connection without the worker token from {}", socket.getRemoteSocketAddress());
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close rejected connection: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Evaluates rows of calculations on the workers. Rows that fail are
+     * reported in the result and do not affect other rows.
+     * 
+     * @param codes     operation code of each row
+     * @param operands1 first operand of each row
+     * @param operands2 second operand of each row
+     * @return the results and merged statistics
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws IllegalStateException    if the pool is closed
+     * @throws UncheckedIOException     if every worker failed before all rows
+     *                                  were evaluated
+     */
+    public DistributedResult evaluate(int[] codes, double[] operands1, double[] operands2) {
+        if (codes.length != operands1.length || codes.length != operands2.length) {
+            throw new IllegalArgumentException("Codes and operands must have the same length");
+        }
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Worker pool is closed");
+            }
+        }
+        int target = workers.size() * CHUNKS_PER_WORKER;
+        int chunkSize = Math.max(1, Math.min(maxChunkSize, (codes.length + target - 1) / target));
+        WorkerProtocol.Modes modes = new WorkerProtocol.Modes(engine.isScientificModeEnabled(),
+                engine.getFastMathUlpError(), engine.getDecimalMathContext());
+        Run run = new Run(codes, operands1, operands2, chunkSize, modes, workers.size());
+
+        long start = System.nanoTime();
+        for (Worker worker : workers) {
+            coordinators.execute(() -> worker.serve(run));
+        }
+        run.await();
+        long elapsed = System.nanoTime() - start;
+        mergeHistory(run);
+
+        DistributedResult result = run.toResult(elapsed);
+        logger.info("{}", result);
+        return result;
+    }
+
+    /**
+     * Gets the number of workers that are still connected.
+     * 
+     * @return number of live workers
+     */
+    public int getLiveWorkers() {
+        return (int) workers.stream().filter(Worker::isAlive).count();
+    }
+
+    /**
+     * Gets the worker processes, in start order.
+     */
+    List<Process> getProcesses() {
+        return processes;
+    }
+
+    /**
+     * Tells the workers to shut down and waits briefly for their processes
+     * to exit, killing those that do not.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        for (Worker worker : workers) {
+            worker.shutdown();
+        }
+        coordinators.shutdownNow();
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        logger.info("Worker pool closed");
+    }
+
+    private void mergeHistory(Run run) {
+        CalculationHistory history = engine.getHistory();
+        Map<Integer, Operation> operations = new HashMap<>();
+        for (int row = 0; row < run.results.length; row++) {
+            if (run.failures[row] != null) {
+                continue;
+            }
+            Operation operation = operations.computeIfAbsent(run.codes[row], engine::getOperation);
+            long epochNanos = run.chunkStartNanos[row / run.chunkSize];
+            LocalDateTime timestamp = LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                    (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+            history.addRecord(new CalculationRecord(run.operands1[row], run.operands2[row],
+                    operation.getSymbol(), operation.getName(), run.results[row], timestamp));
+        }
+    }
+
+    /**
+     * State of one evaluation, shared by the coordinator threads of all
+     * workers and guarded by its monitor.
+     */
+    private static final class Run {
+        static final int DONE = -1;
+        static final int WAIT = -2;
+
+        final int[] codes;
+        final double[] operands1;
+        final double[] operands2;
+        final int chunkSize;
+        final int chunkCount;
+        final WorkerProtocol.Modes modes;
+
+        final double[] results;
+        final CalculatorException[] failures;
+        final long[] chunkStartNanos;
+        private final long[] workerRows;
+        private final long[] workerBusyNanos;
+
+        private final ArrayDeque<Integer> pending = new ArrayDeque<>();
+        private final boolean[] done;
+        private final int[] attempts;
+        private final long[] dispatchedAt;
+        private int remaining;
+        private int liveWorkers;
+        private int completedChunks;
+        private long completedNanos;
+        private int reassigned;
+
+        Run(int[] codes, double[] operands1, double[] operands2, int chunkSize, WorkerProtocol.Modes modes,
+                int workers) {
+            this.codes = codes;
+            this.operands1 = operands1;
+            this.operands2 = operands2;
+            this.chunkSize = chunkSize;
+            this.chunkCount = (codes.length + chunkSize - 1) / chunkSize;
+            this.modes = modes;
+            this.results = new double[codes.length];
+            this.failures = new CalculatorException[codes.length];
+            this.chunkStartNanos = new long[chunkCount];
+            this.workerRows = new long[workers];
+            this.workerBusyNanos = new long[workers];
+            this.done = new boolean[chunkCount];
+            this.attempts = new int[chunkCount];
+            this.dispatchedAt = new long[chunkCount];
+            this.remaining = chunkCount;
+            this.liveWorkers = workers;
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                pending.add(chunk);
+            }
+        }
+
+        int firstRow(int chunk) {
+            return chunk * chunkSize;
+        }
+
+        int rows(int chunk) {
+            return Math.min(chunkSize, codes.length - firstRow(chunk));
+        }
+
+        /**
+         * Hands out the next chunk: a pending one, else a straggler.
+         * 
+         * @return the chunk, {@link #DONE} or {@link #WAIT}
+         */
+        synchronized int next() {
+            long now = System.nanoTime();
+            while (!pending.isEmpty()) {
+                int chunk = pending.poll();
+                if (!done[chunk]) {
+                    attempts[chunk]++;
+                    dispatchedAt[chunk] = now;
+                    return chunk;
+                }
+            }
+            if (remaining == 0) {
+                return DONE;
+            }
+            if (completedChunks > 0) {
+                double threshold = STRAGGLER_FACTOR * completedNanos / completedChunks;
+                for (int chunk = 0; chunk < chunkCount; chunk++) {
+                    if (!done[chunk] && attempts[chunk] == 1 && now - dispatchedAt[chunk] > threshold) {
+                        attempts[chunk]++;
+                        reassigned++;
+                        logger.debug("Reassigning straggling chunk {}", chunk);
+                        return chunk;
+                    }
+                }
+            }
+            return WAIT;
+        }
+
+        /**
+         * Waits for a chunk to complete or fail, bounded so stragglers are
+         * noticed.
+         */
+        synchronized void idle() {
+            if (remaining == 0) {
+                return;
+            }
+            long mean = completedChunks == 0 ? 1_000_000 : completedNanos / completedChunks;
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, Math.max(100_000, mean / 2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized void complete(int worker, int chunk, ChunkResult result, long elapsedNanos) {
+            workerRows[worker] += result.values.length;
+            workerBusyNanos[worker] += result.busyNanos;
+            if (done[chunk]) {
+                return;
+            }
+            done[chunk] = true;
+            int first = firstRow(chunk);
+            System.arraycopy(result.values, 0, results, first, result.values.length);
+            System.arraycopy(result.failures, 0, failures, first, result.failures.length);
+            chunkStartNanos[chunk] = result.startEpochNanos;
+            completedChunks++;
+            completedNanos += elapsedNanos;
+            remaining--;
+            notifyAll();
+        }
+
+        synchronized void fail(int chunk) {
+            liveWorkers--;
+            if (chunk >= 0 && !done[chunk]) {
+                attempts[chunk] = 0;
+                reassigned++;
+                pending.addFirst(chunk);
+            }
+            notifyAll();
+        }
+
+        /**
+         * Snapshots the statistics, which a worker still finishing a
+         * reassigned chunk may keep updating.
+         */
+        synchronized DistributedResult toResult(long elapsedNanos) {
+            return new DistributedResult(results, failures, chunkCount, reassigned, elapsedNanos,
+                    workerRows.clone(), workerBusyNanos.clone());
+        }
+
+        synchronized void await() {
+            boolean interrupted = false;
+            while (remaining > 0 && liveWorkers > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (remaining > 0) {
+                throw new UncheckedIOException(new IOException(
+                        "All workers failed with " + remaining + " chunk(s) left"));
+            }
+        }
+    }
+
+    /**
+     * Rows of one chunk decoded from a result frame.
+     */
+    private static final class ChunkResult {
+        final long startEpochNanos;
+        final double[] values;
+        final CalculatorException[] failures;
+        final long busyNanos;
+
+        ChunkResult(long startEpochNanos, double[] values, CalculatorException[] failures, long busyNanos) {
+            this.startEpochNanos = startEpochNanos;
+            this.values = values;
+            this.failures = failures;
+            this.busyNanos = busyNanos;
+        }
+    }
+
+    /**
+     * Connection to one worker process. Its lock is held for the whole of
+     * an evaluation, so a worker still finishing a reassigned chunk of the
+     * previous evaluation joins the next one once it is done. Shutting down
+     * never waits for the lock: the connection of a worker that is still
+     * waiting for a result is closed, which ends the wait.
+     */
+    private static final class Worker {
+        private final int index;
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private final ByteArrayOutputStream payload = new ByteArrayOutputStream(BUFFER_SIZE);
+        private final Lock lock = new ReentrantLock();
+        private volatile boolean alive = true;
+
+        Worker(int index, Socket socket) throws IOException {
+            this.index = index;
+            this.socket = socket;
+            socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+        }
+
+        boolean isAlive() {
+            return alive;
+        }
+
+        void serve(Run run) {
+            lock.lock();
+            try {
+                serveLocked(run);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void serveLocked(Run run) {
+            if (!alive) {
+                run.fail(-1);
+                return;
+            }
+            int chunk = -1;
+            try {
+                while (true) {
+                    chunk = run.next();
+                    if (chunk == Run.DONE) {
+                        return;
+                    }
+                    if (chunk == Run.WAIT) {
+                        run.idle();
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    send(run, chunk);
+                    ChunkResult result = receive(run, chunk);
+                    run.complete(index, chunk, result, System.nanoTime() - start);
+                }
+            } catch (IOException e) {
+                logger.error("Worker {} failed: {}", index, e.getMessage());
+                disconnect();
+                run.fail(chunk);
+            }
+        }
+
+        private void send(Run run, int chunk) throws IOException {
+            payload.reset();
+            DataOutputStream task = new DataOutputStream(payload);
+            task.writeByte(WorkerProtocol.TASK);
+            task.writeInt(chunk);
+            run.modes.write(task);
+            int first = run.firstRow(chunk);
+            int rows = run.rows(chunk);
+            task.writeInt(rows);
+            for (int row = first; row < first + rows; row++) {
+                WorkerProtocol.writeCode(task, run.codes[row]);
+                task.writeDouble(run.operands1[row]);
+                task.writeDouble(run.operands2[row]);
+            }
+            WorkerProtocol.writeFrame(out, payload);
+        }
+
+        private ChunkResult receive(Run run, int chunk) throws IOException {
+            DataInputStream frame = new DataInputStream(new ByteArrayInputStream(WorkerProtocol.readFrame(in)));
+            int rows = run.rows(chunk);
+            if (frame.readByte() != WorkerProtocol.RESULT || frame.readInt() != chunk) {
+                throw new IOException("Unexpected frame from worker " + index);
+            }
+            long startEpochNanos = frame.readLong();
+            if (frame.readInt() != rows) {
+                throw new IOException("Wrong row count from worker " + index);
+            }
+            double[] values = new double[rows];
+            CalculatorException[] failures = new CalculatorException[rows];
+            for (int i = 0; i < rows; i++) {
+                byte status = frame.readByte();
+                if (status == WorkerProtocol.STATUS_OK) {
+                    values[i] = frame.readDouble();
+                } else {
+                    failures[i] = WorkerProtocol.failureOf(status, frame.readUTF());
+                }
+            }
+            return new ChunkResult(startEpochNanos, values, failures, frame.readLong());
+        }
+
+        void shutdown() {
+            if (lock.tryLock()) {
+                try {
+                    if (alive) {
+                        payload.reset();
+                        payload.write(WorkerProtocol.SHUTDOWN);
+                        WorkerProtocol.writeFrame(out, payload);
+                    }
+                } catch (IOException e) {
+                    logger.debug("Worker {} already gone: {}", index, e.getMessage());
+                } finally {
+                    lock.unlock();
+                }
+            } else {
+                logger.warn("Worker {} is still busy, closing its connection", index);
+            }
+            disconnect();
+        }
+
+        void disconnect() {
+            alive = false;
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.debug("Cannot close worker {} connection: {}", index, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.learning.calculator.cluster;
+
+import com.learning.calculator.exceptions.CalculatorException;
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidInputException;
+import com.learning.calculator.exceptions.InvalidOperationException;
+import com.learning.calculator.exceptions.NegativeSquareRootException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Framing between a {@link WorkerPool} and its worker processes.
+ * 
+ * Every frame is its payload length (int) followed by the payload, whose
+ * first byte is the frame type. All values are big-endian.
+ * - hello: the token the coordinator passed on the worker's command line
+ * (modified UTF-8); the first frame a worker sends, before any task
+ * - task: chunk id (int), engine modes (flags byte, fast-math ULP error,
+ * decimal precision, rounding mode byte), row count (int), then per row the
+ * operation code (zig-zag varint) and both operands (raw doubles)
+ * - result: chunk id (int), evaluation start in epoch nanoseconds (long),
+ * row count (int), then per row a status byte followed by the result (raw
+ * double) or, for a failure, the message (modified UTF-8), and finally the
+ * worker's busy time in nanoseconds (long)
+ * - shutdown: no payload
+ * 
+ * A typical task row takes 17 bytes and a result row 9 bytes.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+final class WorkerProtocol {
+    static final byte TASK = 1;
+    static final byte RESULT = 2;
+    static final byte SHUTDOWN = 3;
+    static final byte HELLO = 4;
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_FAILED = 1;
+    static final byte STATUS_DIVISION_BY_ZERO = 2;
+    static final byte STATUS_NEGATIVE_SQUARE_ROOT = 3;
+    static final byte STATUS_INVALID_OPERATION = 4;
+    static final byte STATUS_INVALID_INPUT = 5;
+
+    private static final int FLAG_SCIENTIFIC = 1;
+    private static final int FLAG_FAST_MATH = 2;
+    private static final int FLAG_DECIMAL = 4;
+
+    /** Upper bound of a frame, to fail fast on a corrupt stream. */
+    private static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    /** Upper bound of a hello frame, read before the peer is trusted. */
+    private static final int MAX_HELLO_SIZE = 256;
+
+    private static final int TOKEN_BYTES = 16;
+    private static final SecureRandom TOKEN_RANDOM = new SecureRandom();
+
+    private WorkerProtocol() {
+    }
+
+    /**
+     * Engine modes a worker applies before evaluating a task.
+     */
+    static final class Modes {
+        final boolean scientific;
+        final int fastMathUlpError;
+        final MathContext decimalMathContext;
+
+        Modes(boolean scientific, int fastMathUlpError, MathContext decimalMathContext) {
+            this.scientific = scientific;
+            this.fastMathUlpError = fastMathUlpError;
+            this.decimalMathContext = decimalMathContext;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeByte((scientific ? FLAG_SCIENTIFIC : 0)
+                    | (fastMathUlpError > 0 ? FLAG_FAST_MATH : 0)
+                    | (decimalMathContext != null ? FLAG_DECIMAL : 0));
+            out.writeInt(fastMathUlpError);
+            out.writeInt(decimalMathContext == null ? 0 : decimalMathContext.getPrecision());
+            out.writeByte(decimalMathContext == null ? 0 : decimalMathContext.getRoundingMode().ordinal());
+        }
+
+        static Modes read(DataInputStream in) throws IOException {
+            int flags = in.readByte();
+            int fastMathUlpError = in.readInt();
+            int precision = in.readInt();
+            int rounding = in.readByte();
+            return new Modes((flags & FLAG_SCIENTIFIC) != 0,
+                    (flags & FLAG_FAST_MATH) != 0 ? fastMathUlpError : 0,
+                    (flags & FLAG_DECIMAL) != 0 ? new MathContext(precision, RoundingMode.valueOf(rounding)) : null);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Modes)) {
+                return false;
+            }
+            Modes that = (Modes) o;
+            return scientific == that.scientific && fastMathUlpError == that.fastMathUlpError
+                    && Objects.equals(decimalMathContext, that.decimalMathContext);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scientific, fastMathUlpError, decimalMathContext);
+        }
+    }
+
+    /**
+     * Writes one frame from a payload buffer.
+     */
+    static void writeFrame(DataOutputStream out, ByteArrayOutputStream payload) throws IOException {
+        out.writeInt(payload.size());
+        payload.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Reads one frame payload.
+     * 
+     * @return the payload, starting with the frame type
+     * @throws EOFException if the stream ended between frames
+     */
+    static byte[] readFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 1 || length > MAX_FRAME_SIZE) {
+            throw new IOException("Invalid frame length: " + length);
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return payload;
+    }
+
+    /**
+     * Creates a random token for a worker to present in its hello frame.
+     */
+    static String newToken() {
+        byte[] token = new byte[TOKEN_BYTES];
+        TOKEN_RANDOM.nextBytes(token);
+        return HexFormat.of().formatHex(token);
+    }
+
+    /**
+     * Writes the hello frame carrying the token.
+     */
+    static void writeHello(DataOutputStream out, String token) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream frame = new DataOutputStream(payload);
+        frame.writeByte(HELLO);
+        frame.writeUTF(token);
+        writeFrame(out, payload);
+    }
+
+    /**
+     * Reads the first frame of a connection and checks that it is a hello
+     * frame carrying the expected token. Reads nothing beyond that frame.
+     * 
+     * @return true if the token matches
+     * @throws IOException if the stream ends or fails before a whole frame
+     */
+    static boolean readHello(DataInputStream in, String expectedToken) throws IOException {
+        int length = in.readInt();
+        if (length < 1 || length > MAX_HELLO_SIZE) {
+            return false;
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        DataInputStream frame = new DataInputStream(new ByteArrayInputStream(payload));
+        if (frame.readByte() != HELLO) {
+            return false;
+        }
+        byte[] token = frame.readUTF().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(token, expectedToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void writeCode(DataOutputStream out, int code) throws IOException {
+        long value = Integer.toUnsignedLong((code << 1) ^ (code >> 31));
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static int readCode(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (value >>> 1) ^ -(value & 1);
+            }
+        }
+        throw new IOException("Malformed operation code");
+    }
+
+    /**
+     * Maps a calculation failure to its status byte.
+     */
+    static byte statusOf(RuntimeException failure) {
+        if (failure instanceof DivisionByZeroException) {
+            return STATUS_DIVISION_BY_ZERO;
+        } else if (failure instanceof NegativeSquareRootException) {
+            return STATUS_NEGATIVE_SQUARE_ROOT;
+        } else if (failure instanceof InvalidOperationException) {
+            return STATUS_INVALID_OPERATION;
+        } else if (failure instanceof InvalidInputException) {
+            return STATUS_INVALID_INPUT;
+        }
+        return STATUS_FAILED;
+    }
+
+    /**
+     * Recreates a worker's calculation failure at the coordinator.
+     */
+    static CalculatorException failureOf(byte status, String message) {
+        switch (status) {
+            case STATUS_DIVISION_BY_ZERO:
+                return new DivisionByZeroException(message);
+            case STATUS_NEGATIVE_SQUARE_ROOT:
+                return new NegativeSquareRootException(message);
+            case STATUS_INVALID_OPERATION:
+                return new InvalidOperationException(message);
+            case STATUS_INVALID_INPUT:
+                return new InvalidInputException(message);
+            default:
+                return new CalculatorException(message);
+        }
+    }
+}
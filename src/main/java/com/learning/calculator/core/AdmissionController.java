@@ -0,0 +1,366 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.exceptions.CalculationRejectedException;
+import com.learning.calculator.exceptions.CalculationRejectedException.Reason;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control for {@link CalculatorEngine}.
+ * Bounds the number of calculations executing at once. Callers over the
+ * limit wait in a bounded queue for at most the queue timeout; when the queue
+ * is full or the timeout expires the calculation is shed with a
+ * {@link CalculationRejectedException} instead of adding to everyone's latency.
+ * 
+ * The limit is either fixed or adaptive. An adaptive limit follows the
+ * gradient of observed latency: every window of samples compares the window's
+ * mean latency with a long-term average and shrinks the limit (by at most
+ * half) when latency rises beyond the tolerance, or grows it by about
+ * sqrt(limit) while latency is stable and the limit is actually in use.
+ * 
+ * Uncontended admission is a single compare-and-set; the lock is only taken
+ * by callers that have to queue and by releases that wake them.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class AdmissionController {
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionController.class);
+
+    /** Ratio of window latency to long-term latency tolerated before shrinking. */
+    private static final double TOLERANCE = 1.5;
+
+    /** Weight of a new limit estimate against the current limit. */
+    private static final double SMOOTHING = 0.2;
+
+    /** Weight of a window in the long-term latency average (about 20 windows). */
+    private static final double LONG_LATENCY_WEIGHT = 0.1;
+
+    /** Smallest number of latency samples per adaptation window. */
+    private static final int MIN_WINDOW_SAMPLES = 32;
+
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueLength;
+    private final long queueTimeoutNanos;
+
+    private volatile int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private final Condition slotFreed = queueLock.newCondition();
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder[] rejected = new LongAdder[Reason.values().length];
+
+    private final AtomicInteger windowSamples = new AtomicInteger();
+    private final AtomicLong windowLatencyNanos = new AtomicLong();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final Object adaptationLock = new Object();
+    private double estimatedLimit;
+    private double longLatencyNanos;
+
+    /**
+     * Creates an admission controller with a fixed concurrency limit.
+     * 
+     * @param concurrencyLimit maximum number of calculations executing at once
+     * @param maxQueueLength   maximum number of callers waiting for a slot;
+     *                         0 rejects as soon as the limit is reached
+     * @param queueTimeout     maximum time a caller waits in the queue
+     * @throws IllegalArgumentException if a limit is out of range or the
+     *                                  timeout is negative
+     */
+    public AdmissionController(int concurrencyLimit, int maxQueueLength, Duration queueTimeout) {
+        this(false, concurrencyLimit, concurrencyLimit, concurrencyLimit, maxQueueLength, queueTimeout);
+    }
+
+    private AdmissionController(boolean adaptive, int initialLimit, int minLimit, int maxLimit,
+            int maxQueueLength, Duration queueTimeout) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid concurrency limits: initial=%d, min=%d, max=%d", initialLimit, minLimit, maxLimit));
+        }
+        if (maxQueueLength < 0) {
+            throw new IllegalArgumentException("Queue length cannot be negative");
+        }
+        if (queueTimeout == null || queueTimeout.isNegative()) {
+            throw new IllegalArgumentException("Queue timeout must be zero or positive");
+        }
+        this.adaptive = adaptive;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueueLength = maxQueueLength;
+        this.queueTimeoutNanos = saturatedNanos(queueTimeout);
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        for (int i = 0; i < rejected.length; i++) {
+            rejected[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Creates an admission controller whose concurrency limit adapts to the
+     * observed calculation latency.
+     * 
+     * @param initialLimit   starting concurrency limit
+     * @param minLimit       lowest limit the controller may shrink to
+     * @param maxLimit       highest limit the controller may grow to
+     * @param maxQueueLength maximum number of callers waiting for a slot
+     * @param queueTimeout   maximum time a caller waits in the queue
+     * @return the adaptive admission controller
+     * @throws IllegalArgumentException if the limits are out of range or the
+     *                                  timeout is negative
+     */
+    public static AdmissionController adaptive(int initialLimit, int minLimit, int maxLimit,
+            int maxQueueLength, Duration queueTimeout) {
+        return new AdmissionController(true, initialLimit, minLimit, maxLimit, maxQueueLength, queueTimeout);
+    }
+
+    /**
+     * Admits a calculation, waiting in the queue if the limit is reached.
+     * Every successful call must be paired with {@link #release(long)}.
+     * 
+     * @return admission timestamp to pass to {@link #release(long)}
+     * @throws CalculationRejectedException if the queue is full, the queue
+     *                                      timeout expires or the thread is
+     *                                      interrupted while waiting
+     */
+    public long acquire() {
+        // Queued callers go first; only take the fast path when nobody waits
+        if (waiting.get() == 0 && tryAcquireSlot()) {
+            admitted.increment();
+            return System.nanoTime();
+        }
+        return awaitSlot();
+    }
+
+    /**
+     * Releases the slot of an admitted calculation and, for an adaptive
+     * limit, records its latency.
+     * 
+     * @param admittedAtNanos the timestamp returned by {@link #acquire()}
+     */
+    public void release(long admittedAtNanos) {
+        inFlight.decrementAndGet();
+        if (waiting.get() > 0) {
+            queueLock.lock();
+            try {
+                slotFreed.signal();
+            } finally {
+                queueLock.unlock();
+            }
+        }
+        if (adaptive) {
+            sample(System.nanoTime() - admittedAtNanos);
+        }
+    }
+
+    private boolean tryAcquireSlot() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        if (adaptive && current + 1 > windowMaxInFlight.get()) {
+            windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+        }
+        return true;
+    }
+
+    private long awaitSlot() {
+        if (waiting.incrementAndGet() > maxQueueLength) {
+            waiting.decrementAndGet();
+            throw reject(Reason.QUEUE_FULL, "Calculation rejected: concurrency limit reached and queue is full");
+        }
+        queueLock.lock();
+        try {
+            long remaining = queueTimeoutNanos;
+            while (!tryAcquireSlot()) {
+                if (remaining <= 0) {
+                    // Hand a signal that raced with the timeout on to the next waiter
+                    slotFreed.signal();
+                    throw reject(Reason.TIMEOUT, "Calculation rejected: timed out waiting for admission");
+                }
+                remaining = slotFreed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(Reason.INTERRUPTED, "Calculation rejected: interrupted while waiting for admission");
+        } finally {
+            waiting.decrementAndGet();
+            queueLock.unlock();
+        }
+        admitted.increment();
+        return System.nanoTime();
+    }
+
+    private CalculationRejectedException reject(Reason reason, String message) {
+        rejected[reason.ordinal()].increment();
+        logger.debug("{} (limit={}, inFlight={})", message, limit, inFlight.get());
+        return new CalculationRejectedException(reason, message);
+    }
+
+    private void sample(long latencyNanos) {
+        windowLatencyNanos.addAndGet(latencyNanos);
+        if (windowSamples.incrementAndGet() >= Math.max(MIN_WINDOW_SAMPLES, limit)) {
+            adapt();
+        }
+    }
+
+    /**
+     * Closes the current latency window and moves the limit along the
+     * latency gradient.
+     */
+    private void adapt() {
+        int grown;
+        synchronized (adaptationLock) {
+            int samples = windowSamples.getAndSet(0);
+            if (samples < MIN_WINDOW_SAMPLES) {
+                return;
+            }
+            double shortLatency = Math.max(1.0, (double) windowLatencyNanos.getAndSet(0) / samples);
+            int maxInFlight = windowMaxInFlight.getAndSet(0);
+            if (longLatencyNanos == 0) {
+                longLatencyNanos = shortLatency;
+            } else {
+                longLatencyNanos += (shortLatency - longLatencyNanos) * LONG_LATENCY_WEIGHT;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatencyNanos / shortLatency));
+            // Without demand a stable latency says nothing about a higher limit
+            if (gradient == 1.0 && maxInFlight < limit / 2) {
+                return;
+            }
+            double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                    estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING));
+            int previous = limit;
+            limit = (int) estimatedLimit;
+            if (limit == previous) {
+                return;
+            }
+            logger.debug("Concurrency limit changed from {} to {} (window latency {} ns, long-term {} ns)",
+                    previous, limit, Math.round(shortLatency), Math.round(longLatencyNanos));
+            grown = limit - previous;
+        }
+        if (grown > 0 && waiting.get() > 0) {
+            queueLock.lock();
+            try {
+                slotFreed.signalAll();
+            } finally {
+                queueLock.unlock();
+            }
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Gets the current concurrency limit.
+     * 
+     * @return maximum number of calculations executing at once
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Checks if the concurrency limit adapts to latency.
+     * 
+     * @return true for an adaptive limit
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Gets the number of calculations currently executing.
+     * 
+     * @return calculations in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the number of callers currently waiting for admission.
+     * 
+     * @return current queue length
+     */
+    public int getQueueLength() {
+        return waiting.get();
+    }
+
+    /**
+     * Gets the maximum number of callers allowed to wait for admission.
+     * 
+     * @return maximum queue length
+     */
+    public int getMaxQueueLength() {
+        return maxQueueLength;
+    }
+
+    /**
+     * Gets the maximum time a caller waits for admission.
+     * 
+     * @return the queue timeout
+     */
+    public Duration getQueueTimeout() {
+        return Duration.ofNanos(queueTimeoutNanos);
+    }
+
+    /**
+     * Gets the number of admitted calculations.
+     * 
+     * @return admitted calculations since creation
+     */
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    /**
+     * Gets the number of rejected calculations for all reasons.
+     * 
+     * @return rejected calculations since creation
+     */
+    public long getRejectedCount() {
+        long total = 0;
+        for (LongAdder counter : rejected) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of calculations rejected for the given reason.
+     * 
+     * @param reason the rejection reason
+     * @return rejected calculations since creation
+     */
+    public long getRejectedCount(Reason reason) {
+        return rejected[reason.ordinal()].sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AdmissionController[%s limit=%d, inFlight=%d, queued=%d, admitted=%d, rejected=%d]",
+                adaptive ? "adaptive" : "fixed", limit, inFlight.get(), waiting.get(),
+                getAdmittedCount(), getRejectedCount());
+    }
+}
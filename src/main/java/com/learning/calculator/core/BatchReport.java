@@ -0,0 +1,102 @@
+package com.learning.calculator.core;
+
+/**
+ * Outcome of a {@link CalculationBatch} execution: how many requested rows
+ * were folded into how many unique evaluations, and the time that saved.
+ * 
+ * The time saved is an estimate: the evaluations avoided by deduplication
+ * multiplied by the mean time of the evaluations that did run.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class BatchReport {
+    private final int rows;
+    private final int uniqueNodes;
+    private final int failedRows;
+    private final int levels;
+    private final long elapsedNanos;
+
+    BatchReport(int rows, int uniqueNodes, int failedRows, int levels, long elapsedNanos) {
+        this.rows = rows;
+        this.uniqueNodes = uniqueNodes;
+        this.failedRows = failedRows;
+        this.levels = levels;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of requested rows.
+     * 
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of unique calculations that were evaluated.
+     * 
+     * @return number of evaluations
+     */
+    public int getUniqueNodes() {
+        return uniqueNodes;
+    }
+
+    /**
+     * Gets the number of rows whose calculation, or a calculation they
+     * depend on, failed.
+     * 
+     * @return number of failed rows
+     */
+    public int getFailedRows() {
+        return failedRows;
+    }
+
+    /**
+     * Gets the depth of the dependency DAG, i.e. the number of sequential
+     * evaluation levels.
+     * 
+     * @return number of levels
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Gets the dedupe ratio: requested rows per evaluated calculation.
+     * 
+     * @return rows divided by unique nodes, 1 for an empty batch
+     */
+    public double getDedupeRatio() {
+        return uniqueNodes == 0 ? 1.0 : (double) rows / uniqueNodes;
+    }
+
+    /**
+     * Gets the wall-clock time spent evaluating the unique calculations.
+     * 
+     * @return evaluation time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the estimated time saved by evaluating each unique calculation
+     * once instead of once per row.
+     * 
+     * @return estimated saving in nanoseconds
+     */
+    public long getEstimatedTimeSavedNanos() {
+        return uniqueNodes == 0 ? 0 : elapsedNanos / uniqueNodes * (rows - uniqueNodes);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Batch: %d rows, %d unique (dedupe %.2fx), %d failed, %d levels, "
+                + "%.3f ms elapsed, ~%.3f ms saved",
+                rows, uniqueNodes, getDedupeRatio(), failedRows, levels,
+                elapsedNanos / 1_000_000.0, getEstimatedTimeSavedNanos() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,349 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.exceptions.CalculatorException;
+import com.learning.calculator.operations.Operation;
+import com.learning.calculator.operations.decimal.DecimalOperation;
+import com.learning.calculator.operations.factory.OperationFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/**
+ * Cost-aware scheduler for {@link CalculationBatch} execution.
+ * Uses the metadata declared by {@link Operation} and
+ * {@link DecimalOperation} to route every node of a batch:
+ * - operations costing at most the inline limit run on the calling thread,
+ *   where handing them to another thread would cost more than the work;
+ * - more expensive operations (scientific functions, decimal mode) are
+ *   split into chunks for a fixed worker pool while the caller runs the
+ *   cheap ones;
+ * - expensive pure operations go through a result cache shared by all
+ *   batches run by this scheduler. Cheap ones skip it: a lookup, usually a
+ *   cache-line miss, costs about as much as recomputing them.
+ * 
+ * The cache is direct-mapped: a fixed array of immutable entries keyed by
+ * the operation instance, the decimal math context and the operand bit
+ * patterns, so changing the engine's fast-math or decimal mode never serves
+ * stale results. A cache hit skips {@link CalculatorEngine#calculate(int, double, double)},
+ * so it is neither recorded in history nor subject to admission control.
+ * Failed calculations are not cached.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class BatchScheduler implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(BatchScheduler.class);
+
+    /** Default highest cost run inline: basic and cheap advanced arithmetic. */
+    public static final int DEFAULT_INLINE_COST_LIMIT = 4;
+
+    /** Default number of result cache entries. */
+    public static final int DEFAULT_CACHE_SIZE = 16_384;
+
+    /** Route flag: run the node on the worker pool. */
+    static final int OFFLOAD = 1;
+
+    /** Route flag: look the result up in, and store it to, the cache. */
+    static final int CACHE = 2;
+
+    /** Decimal operation costs are declared for this precision. */
+    private static final int REFERENCE_PRECISION = MathContext.DECIMAL64.getPrecision();
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final CalculatorEngine engine;
+    private final int parallelism;
+    private final int inlineCostLimit;
+    private final ExecutorService pool;
+    private final CacheEntry[] cache;
+    private final int cacheMask;
+    private final LongAdder inlineCount = new LongAdder();
+    private final LongAdder offloadedCount = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    /**
+     * Creates a scheduler with one worker per additional available processor
+     * (the calling thread works too) and the default inline limit and cache
+     * size. On a single processor nothing is offloaded.
+     * 
+     * @param engine the engine evaluating the calculations
+     */
+    public BatchScheduler(CalculatorEngine engine) {
+        this(engine, Runtime.getRuntime().availableProcessors() - 1, DEFAULT_INLINE_COST_LIMIT,
+                DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a scheduler.
+     * 
+     * @param engine          the engine evaluating the calculations
+     * @param parallelism     number of worker threads for expensive
+     *                        operations; 0 runs everything on the calling thread
+     * @param inlineCostLimit highest operation cost run on the calling thread
+     * @param cacheSize       number of result cache entries, rounded up to a
+     *                        power of two; 0 disables caching
+     * @throws IllegalArgumentException if parallelism or the cache size is
+     *                                  negative
+     */
+    public BatchScheduler(CalculatorEngine engine, int parallelism, int inlineCostLimit, int cacheSize) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Parallelism cannot be negative");
+        }
+        if (cacheSize < 0 || cacheSize > 1 << 30) {
+            throw new IllegalArgumentException("Cache size must be between 0 and 2^30");
+        }
+        this.engine = Objects.requireNonNull(engine, "Engine cannot be null");
+        this.parallelism = parallelism;
+        this.inlineCostLimit = inlineCostLimit;
+        int entries = cacheSize <= 1 ? cacheSize : Integer.highestOneBit(cacheSize - 1) << 1;
+        this.cache = new CacheEntry[entries];
+        this.cacheMask = entries - 1;
+        if (parallelism > 0) {
+            int poolId = POOL_COUNT.incrementAndGet();
+            AtomicInteger threadCount = new AtomicInteger();
+            this.pool = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable,
+                        String.format("batch-scheduler-%d-%d", poolId, threadCount.incrementAndGet()));
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.pool = null;
+        }
+        logger.info("BatchScheduler initialized with {} worker(s), inline cost limit {}, {} cache entries",
+                parallelism, inlineCostLimit, entries);
+    }
+
+    /**
+     * Gets the relative cost of a calculation in the engine's current mode.
+     * In decimal mode the decimal operation's cost is scaled by the
+     * configured precision.
+     * 
+     * @param operationCode the operation code
+     * @return relative cost in units of one double addition
+     * @throws com.learning.calculator.exceptions.InvalidOperationException if
+     *                                                                      the code
+     *                                                                      is invalid
+     */
+    public int getCost(int operationCode) {
+        MathContext mathContext = engine.getDecimalMathContext();
+        if (mathContext == null) {
+            return engine.resolveOperation(operationCode).getCost();
+        }
+        DecimalOperation operation = OperationFactory.getInstance().createDecimalOperation(operationCode);
+        int precision = mathContext.getPrecision() == 0 ? 4 * REFERENCE_PRECISION : mathContext.getPrecision();
+        return (int) Math.min(Integer.MAX_VALUE,
+                (long) operation.getCost() * Math.max(1, precision / REFERENCE_PRECISION));
+    }
+
+    /**
+     * Computes the route flags of an operation code for the engine's current mode.
+     * 
+     * @param operationCode the operation code
+     * @return combination of {@link #OFFLOAD} and {@link #CACHE}; invalid
+     *         codes run inline without caching so that they fail as usual
+     */
+    int route(int operationCode) {
+        try {
+            boolean pure = engine.getDecimalMathContext() == null
+                    ? engine.resolveOperation(operationCode).isPure()
+                    : OperationFactory.getInstance().createDecimalOperation(operationCode).isPure();
+            boolean expensive = getCost(operationCode) > inlineCostLimit;
+            return (expensive && pool != null ? OFFLOAD : 0) | (expensive && pure && cache.length > 0 ? CACHE : 0);
+        } catch (CalculatorException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Runs one dependency level of a batch: offloaded nodes in chunks on the
+     * pool, all others on the calling thread, and waits for the pool.
+     * 
+     * @param nodes     nodes of the level
+     * @param routes    route flags by node
+     * @param evaluator evaluates one node
+     */
+    void run(int[] nodes, int[] routes, IntConsumer evaluator) {
+        int offloaded = 0;
+        for (int node : nodes) {
+            if ((routes[node] & OFFLOAD) != 0) {
+                offloaded++;
+            }
+        }
+        List<Future<?>> pending = new ArrayList<>();
+        if (offloaded > 0) {
+            int[] expensive = new int[offloaded];
+            int count = 0;
+            for (int node : nodes) {
+                if ((routes[node] & OFFLOAD) != 0) {
+                    expensive[count++] = node;
+                }
+            }
+            int chunks = Math.min(parallelism, offloaded);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int from = (int) ((long) offloaded * chunk / chunks);
+                int to = (int) ((long) offloaded * (chunk + 1) / chunks);
+                pending.add(pool.submit(() -> {
+                    for (int i = from; i < to; i++) {
+                        evaluator.accept(expensive[i]);
+                    }
+                }));
+            }
+            offloadedCount.add(offloaded);
+        }
+        for (int node : nodes) {
+            if ((routes[node] & OFFLOAD) == 0) {
+                evaluator.accept(node);
+            }
+        }
+        inlineCount.add(nodes.length - offloaded);
+        for (Future<?> future : pending) {
+            awaitChunk(future);
+        }
+    }
+
+    private static void awaitChunk(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch workers", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Batch worker failed", cause);
+        }
+    }
+
+    /**
+     * Calculates through the engine, consulting the result cache when the
+     * route allows it.
+     * 
+     * @param route         route flags of the operation
+     * @param operationCode the operation code
+     * @param operand1      first operand
+     * @param operand2      second operand
+     * @return the result of the calculation
+     */
+    double calculate(int route, int operationCode, double operand1, double operand2) {
+        if ((route & CACHE) == 0) {
+            return engine.calculate(operationCode, operand1, operand2);
+        }
+        MathContext mathContext = engine.getDecimalMathContext();
+        Object operation = mathContext == null
+                ? engine.resolveOperation(operationCode)
+                : OperationFactory.getInstance().createDecimalOperation(operationCode);
+        long bits1 = Double.doubleToLongBits(operand1);
+        long bits2 = Double.doubleToLongBits(operand2);
+        int index = hash(operationCode, bits1, bits2) & cacheMask;
+        CacheEntry entry = cache[index];
+        if (entry != null && entry.operation == operation && entry.bits1 == bits1 && entry.bits2 == bits2
+                && Objects.equals(entry.mathContext, mathContext)) {
+            cacheHits.increment();
+            return entry.result;
+        }
+        cacheMisses.increment();
+        double result = engine.calculate(operationCode, operand1, operand2);
+        cache[index] = new CacheEntry(operation, mathContext, bits1, bits2, result);
+        return result;
+    }
+
+    private static int hash(int operationCode, long bits1, long bits2) {
+        long hash = (bits1 * 0x9E3779B97F4A7C15L + bits2) * 0xC2B2AE3D27D4EB4FL + operationCode;
+        return (int) (hash ^ (hash >>> 29));
+    }
+
+    /**
+     * Gets the number of nodes evaluated on the calling thread.
+     * 
+     * @return inline evaluations since creation
+     */
+    public long getInlineCount() {
+        return inlineCount.sum();
+    }
+
+    /**
+     * Gets the number of nodes evaluated on the worker pool.
+     * 
+     * @return offloaded evaluations since creation
+     */
+    public long getOffloadedCount() {
+        return offloadedCount.sum();
+    }
+
+    /**
+     * Gets the number of results served from the cache.
+     * 
+     * @return cache hits since creation
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Gets the number of cacheable calculations that had to be evaluated.
+     * 
+     * @return cache misses since creation
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * Stops the worker threads. Batches must not be run afterwards.
+     */
+    @Override
+    public void close() {
+        if (pool == null) {
+            return;
+        }
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchScheduler[inline=%d, offloaded=%d, cacheHits=%d, cacheMisses=%d]",
+                getInlineCount(), getOffloadedCount(), getCacheHits(), getCacheMisses());
+    }
+
+    /**
+     * Immutable cache entry; final fields make racy publication safe.
+     */
+    private static final class CacheEntry {
+        private final Object operation;
+        private final MathContext mathContext;
+        private final long bits1;
+        private final long bits2;
+        private final double result;
+
+        CacheEntry(Object operation, MathContext mathContext, long bits1, long bits2, double result) {
+            this.operation = operation;
+            this.mathContext = mathContext;
+            this.bits1 = bits1;
+            this.bits2 = bits2;
+            this.result = result;
+        }
+    }
+}
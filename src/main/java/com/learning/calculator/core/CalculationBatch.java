@@ -0,0 +1,402 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.exceptions.CalculatorException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Batch of calculations planned as a DAG with common-subexpression
+ * elimination. Every {@link #add} requests one row; an operand is either a
+ * literal or the result of an earlier row, so rows can share sub-steps.
+ * 
+ * Rows are hash-consed into nodes keyed by operation code and operand bit
+ * patterns ({@link Double#doubleToLongBits(double)}, so 0.0 and -0.0 stay
+ * distinct while all NaNs are one value) or referenced node. Each unique
+ * node is evaluated once through {@link CalculatorEngine#calculate(int, double, double)}
+ * and its result is scattered back to every row that requested it. Nodes
+ * are evaluated level by level in dependency order; a level may be
+ * evaluated in parallel.
+ * 
+ * A failed node fails every row that requested it or depends on it, with
+ * the same exception. Building a batch is not thread-safe.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class CalculationBatch {
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Smallest level worth splitting across threads. */
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    /** Operation codes below this bound have their scheduler route memoized per execution. */
+    private static final int ROUTE_MEMO_SIZE = 64;
+
+    private final CalculatorEngine engine;
+    private final List<Row> rows = new ArrayList<>();
+    private final Map<NodeKey, Integer> nodeIds = new HashMap<>();
+    private int[] codes = new int[INITIAL_CAPACITY];
+    private NodeKey[] keys = new NodeKey[INITIAL_CAPACITY];
+    private int[] levels = new int[INITIAL_CAPACITY];
+    private int nodeCount;
+    private int maxLevel;
+    private double[] results;
+    private CalculatorException[] failures;
+
+    CalculationBatch(CalculatorEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Requests a calculation on two literal operands.
+     * 
+     * @param operationCode code identifying the operation
+     * @param operand1      first operand
+     * @param operand2      second operand
+     * @return the row holding the result after execution
+     * @throws IllegalStateException if the batch has been executed
+     */
+    public Row add(int operationCode, double operand1, double operand2) {
+        return addRow(operationCode, -1, operand1, -1, operand2);
+    }
+
+    /**
+     * Requests a calculation whose first operand is the result of an earlier row.
+     * 
+     * @param operationCode code identifying the operation
+     * @param operand1      row providing the first operand
+     * @param operand2      second operand
+     * @return the row holding the result after execution
+     * @throws IllegalArgumentException if the row belongs to another batch
+     * @throws IllegalStateException    if the batch has been executed
+     */
+    public Row add(int operationCode, Row operand1, double operand2) {
+        return addRow(operationCode, nodeOf(operand1), 0, -1, operand2);
+    }
+
+    /**
+     * Requests a calculation whose second operand is the result of an earlier row.
+     * 
+     * @param operationCode code identifying the operation
+     * @param operand1      first operand
+     * @param operand2      row providing the second operand
+     * @return the row holding the result after execution
+     * @throws IllegalArgumentException if the row belongs to another batch
+     * @throws IllegalStateException    if the batch has been executed
+     */
+    public Row add(int operationCode, double operand1, Row operand2) {
+        return addRow(operationCode, -1, operand1, nodeOf(operand2), 0);
+    }
+
+    /**
+     * Requests a calculation on the results of two earlier rows.
+     * 
+     * @param operationCode code identifying the operation
+     * @param operand1      row providing the first operand
+     * @param operand2      row providing the second operand
+     * @return the row holding the result after execution
+     * @throws IllegalArgumentException if a row belongs to another batch
+     * @throws IllegalStateException    if the batch has been executed
+     */
+    public Row add(int operationCode, Row operand1, Row operand2) {
+        return addRow(operationCode, nodeOf(operand1), 0, nodeOf(operand2), 0);
+    }
+
+    /**
+     * Evaluates every unique node once on the calling thread.
+     * 
+     * @return counts and timings of the execution
+     * @throws IllegalStateException if the batch has been executed
+     */
+    public BatchReport execute() {
+        return execute(false, null);
+    }
+
+    /**
+     * Evaluates every unique node once, splitting large dependency levels
+     * across the common fork-join pool.
+     * 
+     * @return counts and timings of the execution
+     * @throws IllegalStateException if the batch has been executed
+     */
+    public BatchReport executeParallel() {
+        return execute(true, null);
+    }
+
+    /**
+     * Evaluates every unique node once, letting the scheduler keep cheap
+     * operations on the calling thread, move expensive ones to its worker
+     * pool and serve pure ones from its result cache.
+     * 
+     * @param scheduler the cost-aware scheduler
+     * @return counts and timings of the execution
+     * @throws IllegalStateException if the batch has been executed
+     */
+    public BatchReport execute(BatchScheduler scheduler) {
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+        return execute(false, scheduler);
+    }
+
+    /**
+     * Gets the number of requested rows.
+     * 
+     * @return number of rows
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Gets the number of unique nodes after deduplication.
+     * 
+     * @return number of nodes to evaluate
+     */
+    public int getUniqueCount() {
+        return nodeCount;
+    }
+
+    private Row addRow(int operationCode, int node1, double operand1, int node2, double operand2) {
+        checkNotExecuted();
+        NodeKey key = new NodeKey(operationCode,
+                node1, node1 < 0 ? Double.doubleToLongBits(operand1) : 0,
+                node2, node2 < 0 ? Double.doubleToLongBits(operand2) : 0);
+        Integer existing = nodeIds.get(key);
+        int node;
+        if (existing != null) {
+            node = existing;
+        } else {
+            node = nodeCount;
+            if (node == codes.length) {
+                codes = Arrays.copyOf(codes, node * 2);
+                keys = Arrays.copyOf(keys, node * 2);
+                levels = Arrays.copyOf(levels, node * 2);
+            }
+            codes[node] = operationCode;
+            keys[node] = key;
+            levels[node] = 1 + Math.max(node1 < 0 ? -1 : levels[node1], node2 < 0 ? -1 : levels[node2]);
+            maxLevel = Math.max(maxLevel, levels[node]);
+            nodeIds.put(key, node);
+            nodeCount++;
+        }
+        Row row = new Row(this, node);
+        rows.add(row);
+        return row;
+    }
+
+    private int nodeOf(Row row) {
+        Objects.requireNonNull(row, "Row cannot be null");
+        if (row.batch != this) {
+            throw new IllegalArgumentException("Row belongs to another batch");
+        }
+        return row.node;
+    }
+
+    private void checkNotExecuted() {
+        if (results != null) {
+            throw new IllegalStateException("Batch has already been executed");
+        }
+    }
+
+    private BatchReport execute(boolean parallel, BatchScheduler scheduler) {
+        checkNotExecuted();
+        double[] nodeResults = new double[nodeCount];
+        CalculatorException[] nodeFailures = new CalculatorException[nodeCount];
+        int[][] byLevel = groupByLevel();
+
+        long start = System.nanoTime();
+        if (scheduler != null) {
+            int[] routes = routes(scheduler);
+            for (int[] level : byLevel) {
+                scheduler.run(level, routes, node -> evaluate(node, nodeResults, nodeFailures, scheduler, routes));
+            }
+        } else {
+            for (int[] level : byLevel) {
+                if (parallel && level.length >= PARALLEL_THRESHOLD) {
+                    IntStream.of(level).parallel()
+                            .forEach(node -> evaluate(node, nodeResults, nodeFailures, null, null));
+                } else {
+                    for (int node : level) {
+                        evaluate(node, nodeResults, nodeFailures, null, null);
+                    }
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        results = nodeResults;
+        failures = nodeFailures;
+        int failedRows = 0;
+        for (Row row : rows) {
+            if (nodeFailures[row.node] != null) {
+                failedRows++;
+            }
+        }
+        return new BatchReport(rows.size(), nodeCount, failedRows, byLevel.length, elapsed);
+    }
+
+    private int[][] groupByLevel() {
+        int levelCount = nodeCount == 0 ? 0 : maxLevel + 1;
+        int[] sizes = new int[levelCount];
+        for (int node = 0; node < nodeCount; node++) {
+            sizes[levels[node]]++;
+        }
+        int[][] byLevel = new int[levelCount][];
+        for (int level = 0; level < levelCount; level++) {
+            byLevel[level] = new int[sizes[level]];
+            sizes[level] = 0;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            int level = levels[node];
+            byLevel[level][sizes[level]++] = node;
+        }
+        return byLevel;
+    }
+
+    private int[] routes(BatchScheduler scheduler) {
+        // Routes of small codes are memoized as route + 1, 0 meaning unknown
+        int[] byCode = new int[ROUTE_MEMO_SIZE];
+        int[] routes = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            int code = codes[node];
+            if (code < 0 || code >= byCode.length) {
+                routes[node] = scheduler.route(code);
+                continue;
+            }
+            if (byCode[code] == 0) {
+                byCode[code] = scheduler.route(code) + 1;
+            }
+            routes[node] = byCode[code] - 1;
+        }
+        return routes;
+    }
+
+    private void evaluate(int node, double[] nodeResults, CalculatorException[] nodeFailures,
+            BatchScheduler scheduler, int[] routes) {
+        NodeKey key = keys[node];
+        CalculatorException failure = key.node1 >= 0 ? nodeFailures[key.node1] : null;
+        if (failure == null && key.node2 >= 0) {
+            failure = nodeFailures[key.node2];
+        }
+        if (failure != null) {
+            nodeFailures[node] = failure;
+            return;
+        }
+        double operand1 = key.node1 >= 0 ? nodeResults[key.node1] : Double.longBitsToDouble(key.bits1);
+        double operand2 = key.node2 >= 0 ? nodeResults[key.node2] : Double.longBitsToDouble(key.bits2);
+        try {
+            nodeResults[node] = scheduler == null
+                    ? engine.calculate(codes[node], operand1, operand2)
+                    : scheduler.calculate(routes[node], codes[node], operand1, operand2);
+        } catch (CalculatorException e) {
+            nodeFailures[node] = e;
+        }
+    }
+
+    /**
+     * Identity of a node: operation code plus, per operand, either a
+     * referenced node (node &gt;= 0) or the literal's bit pattern.
+     */
+    private static final class NodeKey {
+        private final int code;
+        private final int node1;
+        private final long bits1;
+        private final int node2;
+        private final long bits2;
+
+        NodeKey(int code, int node1, long bits1, int node2, long bits2) {
+            this.code = code;
+            this.node1 = node1;
+            this.bits1 = bits1;
+            this.node2 = node2;
+            this.bits2 = bits2;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NodeKey)) {
+                return false;
+            }
+            NodeKey other = (NodeKey) o;
+            return code == other.code && node1 == other.node1 && bits1 == other.bits1
+                    && node2 == other.node2 && bits2 == other.bits2;
+        }
+
+        @Override
+        public int hashCode() {
+            long hash = code;
+            hash = hash * 31 + node1;
+            hash = hash * 31 + bits1;
+            hash = hash * 31 + node2;
+            hash = hash * 31 + bits2;
+            return Long.hashCode(hash * 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    /**
+     * Handle to one requested calculation of a batch.
+     */
+    public static final class Row {
+        private final CalculationBatch batch;
+        private final int node;
+
+        private Row(CalculationBatch batch, int node) {
+            this.batch = batch;
+            this.node = node;
+        }
+
+        /**
+         * Gets the result of the row.
+         * 
+         * @return the result of the calculation
+         * @throws IllegalStateException                                  if the
+         *                                                                batch has
+         *                                                                not been
+         *                                                                executed
+         * @throws com.learning.calculator.exceptions.CalculatorException if the
+         *                                                                calculation
+         *                                                                or one it
+         *                                                                depends on
+         *                                                                failed
+         */
+        public double getResult() {
+            CalculatorException failure = getFailure();
+            if (failure != null) {
+                throw failure;
+            }
+            return batch.results[node];
+        }
+
+        /**
+         * Gets the failure of the row.
+         * 
+         * @return the exception of the failed calculation, or null if it succeeded
+         * @throws IllegalStateException if the batch has not been executed
+         */
+        public CalculatorException getFailure() {
+            if (batch.results == null) {
+                throw new IllegalStateException("Batch has not been executed");
+            }
+            return batch.failures[node];
+        }
+
+        /**
+         * Checks if the row failed.
+         * 
+         * @return true if the calculation or one it depends on failed
+         * @throws IllegalStateException if the batch has not been executed
+         */
+        public boolean isFailed() {
+            return getFailure() != null;
+        }
+    }
+}
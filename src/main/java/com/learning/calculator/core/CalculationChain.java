@@ -0,0 +1,175 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.history.CalculationRecord;
+import com.learning.calculator.operations.Operation;
+
+import java.util.Arrays;
+
+/**
+ * Accumulator-style calculation chain: a starting value followed by a
+ * sequence of steps, each applying an operation to the running result,
+ * e.g. {@code 5 -> * 2 -> + 5 -> sqrt}.
+ * 
+ * Steps are resolved once when they are added. Evaluation is fused: a
+ * single loop over parallel arrays keeps the accumulator in a primitive
+ * and calls {@link Operation#evaluate(double, double)}, so a pipeline of
+ * any length runs without per-step allocation or logging. Committing a
+ * chain writes one aggregated history record instead of one per step.
+ * 
+ * Interactive front ends that show the running result after every step
+ * use {@link #apply(int, double)} and {@link #getCurrentValue()}, which
+ * only evaluate the steps added since the last call.
+ * 
+ * Not thread-safe; build and evaluate a chain on one thread.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class CalculationChain {
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Symbol used for aggregated chain records in history. */
+    public static final String SYMBOL = "⛓";
+
+    private final CalculatorEngine engine;
+    private final double initialValue;
+    private Operation[] operations = new Operation[INITIAL_CAPACITY];
+    private double[] operands = new double[INITIAL_CAPACITY];
+    private int size;
+    private double currentValue;
+    private int evaluatedSteps;
+
+    CalculationChain(CalculatorEngine engine, double initialValue) {
+        this.engine = engine;
+        this.initialValue = initialValue;
+        this.currentValue = initialValue;
+    }
+
+    /**
+     * Appends a step that applies a binary operation to the running result.
+     * 
+     * @param operationCode code identifying the operation
+     * @param operand       second operand of the operation
+     * @return this chain
+     * @throws com.learning.calculator.exceptions.InvalidOperationException if
+     *                                                                      operation
+     *                                                                      code is
+     *                                                                      invalid
+     */
+    public CalculationChain then(int operationCode, double operand) {
+        append(engine.resolveOperation(operationCode), operand);
+        return this;
+    }
+
+    /**
+     * Applies a step to the running result right away and appends it only if
+     * it succeeds, so that a failing step leaves the chain as it was.
+     * 
+     * @param operationCode code identifying the operation
+     * @param operand       second operand of the operation, ignored by
+     *                      unary operations
+     * @return the new running result
+     * @throws com.learning.calculator.exceptions.CalculatorException if the
+     *                                                                code is
+     *                                                                invalid or
+     *                                                                the step
+     *                                                                fails
+     */
+    public double apply(int operationCode, double operand) {
+        Operation operation = engine.resolveOperation(operationCode);
+        double result = operation.evaluate(getCurrentValue(), operand);
+        append(operation, operand);
+        currentValue = result;
+        evaluatedSteps = size;
+        return result;
+    }
+
+    /**
+     * Appends a step that applies a unary operation (e.g. square root or
+     * sine) to the running result.
+     * 
+     * @param operationCode code identifying the operation
+     * @return this chain
+     */
+    public CalculationChain then(int operationCode) {
+        return then(operationCode, 0);
+    }
+
+    /**
+     * Evaluates the chain without recording it.
+     * 
+     * @return the final accumulator value
+     * @throws com.learning.calculator.exceptions.CalculatorException if a step
+     *                                                                fails
+     */
+    public double evaluate() {
+        double accumulator = initialValue;
+        for (int i = 0; i < size; i++) {
+            accumulator = operations[i].evaluate(accumulator, operands[i]);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Gets the running result, evaluating only the steps added since the
+     * last call.
+     * 
+     * @return the current accumulator value
+     * @throws com.learning.calculator.exceptions.CalculatorException if a
+     *                                                                pending
+     *                                                                step fails
+     */
+    public double getCurrentValue() {
+        for (; evaluatedSteps < size; evaluatedSteps++) {
+            currentValue = operations[evaluatedSteps].evaluate(currentValue, operands[evaluatedSteps]);
+        }
+        return currentValue;
+    }
+
+    /**
+     * Evaluates the chain and records it as one history entry. The record
+     * holds the starting value, the number of steps as second operand and
+     * the final result.
+     * 
+     * @return the final accumulator value
+     * @throws com.learning.calculator.exceptions.CalculatorException if a step
+     *                                                                fails;
+     *                                                                nothing is
+     *                                                                recorded
+     */
+    public double commit() {
+        double result = evaluate();
+        engine.getHistory().addRecord(new CalculationRecord(
+                initialValue, size, SYMBOL, String.format("Chain (%d steps)", size), result));
+        return result;
+    }
+
+    /**
+     * Gets the starting value of the chain.
+     * 
+     * @return the initial accumulator value
+     */
+    public double getInitialValue() {
+        return initialValue;
+    }
+
+    /**
+     * Gets the number of steps in the chain.
+     * 
+     * @return number of steps
+     */
+    public int size() {
+        return size;
+    }
+
+    private void append(Operation operation, double operand) {
+        if (size == operations.length) {
+            operations = Arrays.copyOf(operations, size * 2);
+            operands = Arrays.copyOf(operands, size * 2);
+        }
+        operations[size] = operation;
+        operands[size] = operand;
+        size++;
+    }
+}
@@ -0,0 +1,70 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.exceptions.CalculatorException;
+
+/**
+ * Outcome of one {@link CalculationRequest} published by a
+ * {@link CalculationProcessor}: either its result or the
+ * {@link CalculatorException} it failed with, so a failing request does not
+ * terminate the stream.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class CalculationOutcome {
+    private final CalculationRequest request;
+    private final double result;
+    private final CalculatorException failure;
+
+    CalculationOutcome(CalculationRequest request, double result, CalculatorException failure) {
+        this.request = request;
+        this.result = result;
+        this.failure = failure;
+    }
+
+    /**
+     * Gets the request this is the outcome of.
+     * 
+     * @return the request
+     */
+    public CalculationRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Gets the result.
+     * 
+     * @return the result
+     * @throws CalculatorException the failure, if the calculation failed
+     */
+    public double getResult() {
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the failure.
+     * 
+     * @return the failure, or null if the calculation succeeded
+     */
+    public CalculatorException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Checks if the calculation failed.
+     * 
+     * @return true if the calculation failed
+     */
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    @Override
+    public String toString() {
+        return failure != null ? request + " failed: " + failure.getMessage() : request + " = " + result;
+    }
+}
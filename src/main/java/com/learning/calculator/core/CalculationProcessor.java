@@ -0,0 +1,268 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.exceptions.CalculatorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reactive-streams stage that evaluates {@link CalculationRequest}s with a
+ * {@link CalculatorEngine} and publishes a {@link CalculationOutcome} per
+ * request to a single subscriber.
+ * 
+ * Demand is honored end to end: the processor only requests from upstream
+ * what its subscriber has requested, and never holds more than two runs of
+ * requests. Buffered requests are evaluated in runs of up to
+ * {@code batchSize} through the engine's run API, which resolves each
+ * operation once per run. A {@link CalculatorException} is published as a
+ * failed outcome and the stream continues; only upstream errors and
+ * unexpected engine errors terminate it.
+ * 
+ * Signals are delivered on the thread that causes them: an upstream
+ * {@code onNext} or a downstream {@code request}. A work-in-progress counter
+ * serializes them, so the subscriber is never called concurrently.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class CalculationProcessor implements Flow.Processor<CalculationRequest, CalculationOutcome> {
+    private static final Logger logger = LoggerFactory.getLogger(CalculationProcessor.class);
+
+    private final CalculatorEngine engine;
+    private final int batchSize;
+    private final int capacity;
+
+    private final Queue<CalculationRequest> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicLong upstreamReceived = new AtomicLong();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscriber<? super CalculationOutcome>> downstream = new AtomicReference<>();
+    private volatile long upstreamRequested;
+    private volatile boolean upstreamDone;
+    private volatile boolean downstreamReady;
+    private volatile boolean cancelled;
+    private volatile Throwable error;
+
+    // Only touched while draining
+    private boolean terminated;
+    private long emitted;
+    private final CalculationRequest[] requests;
+    private final int[] codes;
+    private final double[] operands1;
+    private final double[] operands2;
+    private final double[] results;
+    private final CalculatorException[] failures;
+
+    CalculationProcessor(CalculatorEngine engine, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.engine = Objects.requireNonNull(engine, "Engine cannot be null");
+        this.batchSize = batchSize;
+        this.capacity = 2 * batchSize;
+        this.requests = new CalculationRequest[batchSize];
+        this.codes = new int[batchSize];
+        this.operands1 = new double[batchSize];
+        this.operands2 = new double[batchSize];
+        this.results = new double[batchSize];
+        this.failures = new CalculatorException[batchSize];
+    }
+
+    /**
+     * Gets the maximum number of requests evaluated as one run.
+     * 
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super CalculationOutcome> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("CalculationProcessor supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("Requested amount must be positive: " + n));
+                } else {
+                    demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                cancelUpstream();
+                drain();
+            }
+        });
+        downstreamReady = true;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "Subscription cannot be null");
+        if (!upstream.compareAndSet(null, subscription) || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(CalculationRequest request) {
+        Objects.requireNonNull(request, "Request cannot be null");
+        if (upstreamReceived.incrementAndGet() > upstreamRequested) {
+            fail(new IllegalStateException("Upstream published more requests than were requested"));
+        } else {
+            buffer.offer(request);
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = Objects.requireNonNull(throwable, "Error cannot be null");
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    private void fail(Throwable throwable) {
+        error = throwable;
+        cancelUpstream();
+    }
+
+    private void cancelUpstream() {
+        upstreamDone = true;
+        Flow.Subscription subscription = upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            drainOnce();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainOnce() {
+        Flow.Subscriber<? super CalculationOutcome> subscriber = downstream.get();
+        while (!terminated) {
+            if (cancelled) {
+                buffer.clear();
+                return;
+            }
+            if (subscriber == null || !downstreamReady) {
+                return;
+            }
+            Throwable failure = error;
+            if (failure != null) {
+                terminated = true;
+                buffer.clear();
+                subscriber.onError(failure);
+                return;
+            }
+            long requested = demand.get();
+            if (requested > 0 && !buffer.isEmpty()) {
+                emitRun(subscriber, (int) Math.min(requested, batchSize));
+                continue;
+            }
+            if (upstreamDone && buffer.isEmpty()) {
+                terminated = true;
+                subscriber.onComplete();
+                return;
+            }
+            break;
+        }
+        if (!terminated) {
+            requestUpstream();
+        }
+    }
+
+    /**
+     * Evaluates up to {@code limit} buffered requests as one run and
+     * publishes their outcomes.
+     */
+    private void emitRun(Flow.Subscriber<? super CalculationOutcome> subscriber, int limit) {
+        int count = 0;
+        CalculationRequest request;
+        while (count < limit && (request = buffer.poll()) != null) {
+            requests[count] = request;
+            codes[count] = request.getOperationCode();
+            operands1[count] = request.getOperand1();
+            operands2[count] = request.getOperand2();
+            count++;
+        }
+        try {
+            engine.calculateAll(count, codes, operands1, operands2, results, failures);
+        } catch (RuntimeException e) {
+            logger.error("Calculation run failed: {}", e.getMessage(), e);
+            fail(e);
+            return;
+        }
+        if (demand.get() != Long.MAX_VALUE) {
+            demand.addAndGet(-count);
+        }
+        emitted += count;
+        for (int i = 0; i < count && !cancelled; i++) {
+            CalculationOutcome outcome = new CalculationOutcome(requests[i], results[i], failures[i]);
+            requests[i] = null;
+            failures[i] = null;
+            subscriber.onNext(outcome);
+        }
+    }
+
+    /**
+     * Requests enough from upstream to cover the outstanding demand, up to
+     * the buffer capacity.
+     */
+    private void requestUpstream() {
+        Flow.Subscription subscription = upstream.get();
+        if (subscription == null || upstreamDone) {
+            return;
+        }
+        long inFlight = upstreamRequested - emitted;
+        long wanted = Math.min(demand.get(), capacity) - inFlight;
+        if (wanted > 0) {
+            upstreamRequested += wanted;
+            subscription.request(wanted);
+        }
+    }
+}
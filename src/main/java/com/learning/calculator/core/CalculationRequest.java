@@ -0,0 +1,46 @@
+package com.learning.calculator.core;
+
+/**
+ * Immutable request for one calculation, the input element of a
+ * {@link CalculationProcessor}.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class CalculationRequest {
+    private final int operationCode;
+    private final double operand1;
+    private final double operand2;
+
+    /**
+     * Constructs a calculation request.
+     * 
+     * @param operationCode code identifying the operation to perform
+     * @param operand1      first operand
+     * @param operand2      second operand
+     */
+    public CalculationRequest(int operationCode, double operand1, double operand2) {
+        this.operationCode = operationCode;
+        this.operand1 = operand1;
+        this.operand2 = operand2;
+    }
+
+    // Getters
+    public int getOperationCode() {
+        return operationCode;
+    }
+
+    public double getOperand1() {
+        return operand1;
+    }
+
+    public double getOperand2() {
+        return operand2;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Request[code=%d, %s, %s]", operationCode, operand1, operand2);
+    }
+}
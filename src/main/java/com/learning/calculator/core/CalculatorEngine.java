@@ -1,12 +1,43 @@
 package com.learning.calculator.core;
 
+import com.learning.calculator.audit.AuditLog;
+import com.learning.calculator.exceptions.CalculationRejectedException;
+import com.learning.calculator.exceptions.CalculatorException;
+import com.learning.calculator.exceptions.InvalidInputException;
+import com.learning.calculator.exceptions.InvalidOperationException;
 import com.learning.calculator.history.CalculationHistory;
 import com.learning.calculator.history.CalculationRecord;
 import com.learning.calculator.operations.Operation;
+import com.learning.calculator.operations.advanced.CombinatorialOperation;
+import com.learning.calculator.operations.decimal.DecimalMath;
+import com.learning.calculator.operations.decimal.DecimalOperation;
 import com.learning.calculator.operations.factory.OperationFactory;
+import com.learning.calculator.operations.rational.Rational;
+import com.learning.calculator.operations.rational.RationalOperation;
+import com.learning.calculator.operations.scientific.FastScientificMath;
+import com.learning.calculator.operations.statistics.AggregateOperation;
+import com.learning.calculator.workload.CaptureWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+
 /**
  * Core calculator engine that performs calculations and manages history.
  * This class is the heart of the calculator application, coordinating
@@ -22,6 +53,15 @@ public class CalculatorEngine {
     private final OperationFactory operationFactory;
     private final CalculationHistory history;
     private boolean scientificModeEnabled;
+    private volatile Map<Integer, Operation> fastMathOperations = Map.of();
+    private volatile int fastMathUlpError;
+    private volatile MathContext decimalMathContext;
+    private volatile boolean ready = true;
+    private volatile CaptureWriter capture;
+    private volatile AdmissionController admissionController;
+    private volatile AuditLog audit;
+    private volatile int logSampling = 1;
+    private final AtomicLong logSequence = new AtomicLong();
 
     /**
      * Constructs a new Calculator Engine with default settings.
@@ -45,6 +85,20 @@ public class CalculatorEngine {
         logger.info("CalculatorEngine initialized with max history size: {}", maxHistorySize);
     }
 
+    /**
+     * Constructs a new Calculator Engine recording into the given history,
+     * for example a tiered history with an on-disk cold tier.
+     * 
+     * @param history the calculation history to record into
+     * @throws NullPointerException if history is null
+     */
+    public CalculatorEngine(CalculationHistory history) {
+        this.operationFactory = OperationFactory.getInstance();
+        this.history = Objects.requireNonNull(history, "History cannot be null");
+        this.scientificModeEnabled = false;
+        logger.info("CalculatorEngine initialized with history of max size: {}", history.getMaxSize());
+    }
+
     /**
      * Performs a calculation based on the operation code and operands.
      * Automatically records the calculation in history.
@@ -53,30 +107,81 @@ public class CalculatorEngine {
      * @param operand1      first operand
      * @param operand2      second operand
      * @return the result of the calculation
-     * @throws com.learning.calculator.exceptions.InvalidOperationException if
-     *                                                                      operation
-     *                                                                      code is
-     *                                                                      invalid
-     * @throws com.learning.calculator.exceptions.CalculatorException       if
-     *                                                                      calculation
-     *                                                                      fails
+     * @throws InvalidOperationException    if operation code is invalid
+     * @throws CalculatorException          if calculation fails
+     * @throws CalculationRejectedException if admission control sheds the calculation
      */
     public double calculate(int operationCode, double operand1, double operand2) {
-        logger.info("Calculating: operation={}, operand1={}, operand2={}",
-                operationCode, operand1, operand2);
+        CaptureWriter activeCapture = capture;
+        if (activeCapture != null) {
+            activeCapture.record(operationCode, operand1, operand2);
+        }
+        return guarded(operationCode, operand1, operand2,
+                () -> executeCalculation(operationCode, operand1, operand2), Double::doubleValue);
+    }
+
+    /**
+     * Runs a calculation under the engine's audit log and admission control.
+     * The body holds an admission slot while it runs, and its outcome is
+     * audited with the given operands: the result as a double, or the
+     * failure if it throws a {@link CalculatorException}.
+     */
+    private <T> T guarded(int operationCode, double operand1, double operand2, Supplier<T> body,
+            ToDoubleFunction<T> auditValue) {
+        AuditLog activeAudit = audit;
+        if (activeAudit == null) {
+            return admitted(body);
+        }
+        try {
+            T result = admitted(body);
+            activeAudit.record(operationCode, operand1, operand2, auditValue.applyAsDouble(result));
+            return result;
+        } catch (CalculatorException e) {
+            activeAudit.recordFailure(operationCode, operand1, operand2, e);
+            throw e;
+        }
+    }
+
+    private <T> T admitted(Supplier<T> body) {
+        AdmissionController admission = admissionController;
+        if (admission == null) {
+            return body.get();
+        }
+        long admittedAt = admission.acquire();
+        try {
+            return body.get();
+        } finally {
+            admission.release(admittedAt);
+        }
+    }
+
+    private double executeCalculation(int operationCode, double operand1, double operand2) {
+        if (decimalMathContext != null && operationFactory.hasDecimalOperation(operationCode)) {
+            return executeDecimal(operationCode, toDecimal(operand1), toDecimal(operand2)).doubleValue();
+        }
+
+        boolean logged = isLogSampled();
+        if (logged) {
+            logger.info("Calculating: operation={}, operand1={}, operand2={}",
+                    operationCode, operand1, operand2);
+        }
 
         // Get the operation from factory
-        Operation operation = operationFactory.createOperation(operationCode);
+        Operation operation = resolveOperation(operationCode);
 
-        // Execute the operation
+        // Execute the operation; unsampled calls skip the operation's own logging too
         double result;
-        try {
-            result = operation.execute(operand1, operand2);
-            logger.info("Calculation successful: {} {} {} = {}",
-                    operand1, operation.getSymbol(), operand2, result);
-        } catch (Exception e) {
-            logger.error("Calculation failed: {}", e.getMessage(), e);
-            throw e;
+        if (logged) {
+            try {
+                result = operation.execute(operand1, operand2);
+                logger.info("Calculation successful: {} {} {} = {}",
+                        operand1, operation.getSymbol(), operand2, result);
+            } catch (Exception e) {
+                logger.error("Calculation failed: {}", e.getMessage(), e);
+                throw e;
+            }
+        } else {
+            result = operation.evaluate(operand1, operand2);
         }
 
         // Record in history
@@ -87,6 +192,412 @@ public class CalculatorEngine {
         return result;
     }
 
+    /**
+     * Performs a run of calculations as one unit, for streaming front ends
+     * such as {@link CalculationProcessor}. Compared with calling
+     * {@link #calculate(int, double, double)} per row, each operation code is
+     * resolved once per run, the run takes a single admission slot, its
+     * records are added to history as one batch, also in decimal mode, and
+     * logging is summarized per run, without the operations' own per-call
+     * logging. Failures are reported per row.
+     * 
+     * @param count     number of rows
+     * @param codes     operation code of each row
+     * @param operands1 first operand of each row
+     * @param operands2 second operand of each row
+     * @param results   receives the result of each successful row
+     * @param failures  receives the failure of each failed row, and null for
+     *                  each successful row
+     */
+    void calculateAll(int count, int[] codes, double[] operands1, double[] operands2,
+            double[] results, CalculatorException[] failures) {
+        CaptureWriter activeCapture = capture;
+        if (activeCapture != null) {
+            for (int i = 0; i < count; i++) {
+                activeCapture.record(codes[i], operands1[i], operands2[i]);
+            }
+        }
+
+        AdmissionController admission = admissionController;
+        long admittedAt = 0;
+        boolean admitted = true;
+        if (admission != null) {
+            try {
+                admittedAt = admission.acquire();
+            } catch (CalculationRejectedException e) {
+                Arrays.fill(failures, 0, count, e);
+                admitted = false;
+            }
+        }
+        if (admitted) {
+            try {
+                executeAll(count, codes, operands1, operands2, results, failures);
+            } finally {
+                if (admission != null) {
+                    admission.release(admittedAt);
+                }
+            }
+        }
+
+        AuditLog activeAudit = audit;
+        if (activeAudit != null) {
+            for (int i = 0; i < count; i++) {
+                if (failures[i] == null) {
+                    activeAudit.record(codes[i], operands1[i], operands2[i], results[i]);
+                } else {
+                    activeAudit.recordFailure(codes[i], operands1[i], operands2[i], failures[i]);
+                }
+            }
+        }
+    }
+
+    private void executeAll(int count, int[] codes, double[] operands1, double[] operands2,
+            double[] results, CalculatorException[] failures) {
+        MathContext mathContext = decimalMathContext;
+        // Rows are recorded as one history batch, visible to readers only once the run is done
+        CalculationRecord[] records = new CalculationRecord[count];
+        int recorded = 0;
+        int failed = 0;
+        int lastCode = 0;
+        Operation lastOperation = null;
+        for (int i = 0; i < count; i++) {
+            try {
+                double result;
+                if (mathContext != null && operationFactory.hasDecimalOperation(codes[i])) {
+                    DecimalOperation operation = operationFactory.createDecimalOperation(codes[i]);
+                    result = operation.execute(toDecimal(operands1[i]), toDecimal(operands2[i]), mathContext)
+                            .doubleValue();
+                    records[recorded++] = new CalculationRecord(operands1[i], operands2[i],
+                            operation.getSymbol(), operation.getName(), result);
+                } else {
+                    // Runs from streams are mostly homogeneous, so remembering the last code is enough
+                    if (lastOperation == null || codes[i] != lastCode) {
+                        lastOperation = resolveOperation(codes[i]);
+                        lastCode = codes[i];
+                    }
+                    result = lastOperation.evaluate(operands1[i], operands2[i]);
+                    records[recorded++] = new CalculationRecord(operands1[i], operands2[i],
+                            lastOperation.getSymbol(), lastOperation.getName(), result);
+                }
+                results[i] = result;
+                failures[i] = null;
+            } catch (CalculatorException e) {
+                logger.debug("Calculation failed: {}", e.getMessage());
+                failures[i] = e;
+                failed++;
+            }
+        }
+        history.addAll(Arrays.asList(records).subList(0, recorded));
+        logger.info("Calculated run of {} calculation(s), {} failed", count, failed);
+    }
+
+    /**
+     * Performs an arbitrary-precision calculation.
+     * Uses the engine's decimal math context, or {@link MathContext#DECIMAL128}
+     * when decimal mode is disabled. The result is recorded in history.
+     * 
+     * @param operationCode code identifying the operation to perform
+     * @param operand1      first operand
+     * @param operand2      second operand
+     * @return the result of the calculation, rounded to the math context
+     * @throws InvalidOperationException    if the code has no decimal operation
+     * @throws CalculationRejectedException if admission control sheds the calculation
+     */
+    public BigDecimal calculateDecimal(int operationCode, BigDecimal operand1, BigDecimal operand2) {
+        return guarded(operationCode, operand1.doubleValue(), operand2.doubleValue(),
+                () -> executeDecimal(operationCode, operand1, operand2), BigDecimal::doubleValue);
+    }
+
+    private BigDecimal executeDecimal(int operationCode, BigDecimal operand1, BigDecimal operand2) {
+        MathContext mathContext = decimalMathContext != null ? decimalMathContext : MathContext.DECIMAL128;
+        boolean logged = isLogSampled();
+        if (logged) {
+            logger.info("Calculating decimal: operation={}, operand1={}, operand2={}, precision={}",
+                    operationCode, operand1, operand2, mathContext.getPrecision());
+        }
+
+        DecimalOperation operation = operationFactory.createDecimalOperation(operationCode);
+
+        BigDecimal result;
+        try {
+            result = operation.execute(operand1, operand2, mathContext);
+            if (logged) {
+                logger.info("Calculation successful: {} {} {} = {}",
+                        operand1, operation.getSymbol(), operand2, result);
+            }
+        } catch (Exception e) {
+            if (logged) {
+                logger.error("Calculation failed: {}", e.getMessage(), e);
+            }
+            throw e;
+        }
+
+        CalculationRecord record = new CalculationRecord(operand1.doubleValue(), operand2.doubleValue(),
+                operation.getSymbol(), operation.getName(), result.doubleValue());
+        history.addRecord(record);
+
+        return result;
+    }
+
+    /**
+     * Performs an exact rational calculation, for results such as 1/3 that
+     * double and decimal arithmetic can only round. The result is recorded
+     * in history as its nearest double.
+     * 
+     * @param operationCode code identifying the operation to perform, see
+     *                      {@link OperationFactory#getRationalOperationCodes()}
+     * @param operand1      first operand
+     * @param operand2      second operand
+     * @return the exact result, not necessarily in lowest terms
+     * @throws InvalidOperationException    if the code has no rational operation
+     * @throws CalculationRejectedException if admission control sheds the calculation
+     */
+    public Rational calculateRational(int operationCode, Rational operand1, Rational operand2) {
+        return guarded(operationCode, operand1.doubleValue(), operand2.doubleValue(),
+                () -> executeRational(operationCode, operand1, operand2), Rational::doubleValue);
+    }
+
+    private Rational executeRational(int operationCode, Rational operand1, Rational operand2) {
+        boolean logged = isLogSampled();
+        if (logged) {
+            logger.info("Calculating rational: operation={}, operand1={}, operand2={}",
+                    operationCode, operand1, operand2);
+        }
+
+        RationalOperation operation = operationFactory.createRationalOperation(operationCode);
+
+        Rational result;
+        try {
+            result = operation.execute(operand1, operand2);
+            if (logged) {
+                logger.info("Calculation successful: {} {} {} = {}",
+                        operand1, operation.getSymbol(), operand2, result);
+            }
+        } catch (Exception e) {
+            if (logged) {
+                logger.error("Calculation failed: {}", e.getMessage(), e);
+            }
+            throw e;
+        }
+
+        history.addRecord(new CalculationRecord(operand1.doubleValue(), operand2.doubleValue(),
+                operation.getSymbol(), operation.getName(), result.doubleValue()));
+        return result;
+    }
+
+    /**
+     * Performs a combinatorial calculation exactly, for results such as
+     * 100000! that a double can only report as infinity. Large results are
+     * computed on the common fork/join pool. The result is recorded in
+     * history as its nearest double, or infinity.
+     * 
+     * @param operationCode code identifying the operation to perform, see
+     *                      {@link OperationFactory#getCombinatorialOperationCodes()}
+     * @param operand1      first operand
+     * @param operand2      second operand, ignored by unary operations
+     * @return the exact result
+     * @throws InvalidOperationException    if the code is not combinatorial
+     * @throws InvalidInputException        if an operand is out of range
+     * @throws CalculationRejectedException if admission control sheds the calculation
+     */
+    public BigInteger calculateExact(int operationCode, int operand1, int operand2) {
+        return guarded(operationCode, operand1, operand2,
+                () -> executeExact(operationCode, operand1, operand2), BigInteger::doubleValue);
+    }
+
+    private BigInteger executeExact(int operationCode, int operand1, int operand2) {
+        boolean logged = isLogSampled();
+        if (logged) {
+            logger.info("Calculating exactly: operation={}, operand1={}, operand2={}",
+                    operationCode, operand1, operand2);
+        }
+
+        CombinatorialOperation operation = operationFactory.createCombinatorialOperation(operationCode);
+
+        BigInteger result;
+        try {
+            result = operation.executeExact(operand1, operand2);
+            if (logged) {
+                logger.info("Calculation successful: {} {} {} = {} bit result",
+                        operand1, operation.getSymbol(), operand2, result.bitLength());
+            }
+        } catch (Exception e) {
+            if (logged) {
+                logger.error("Calculation failed: {}", e.getMessage(), e);
+            }
+            throw e;
+        }
+
+        history.addRecord(new CalculationRecord(operand1, operand2,
+                operation.getSymbol(), operation.getName(), result.doubleValue()));
+        return result;
+    }
+
+    /**
+     * Performs a statistical aggregate over a dataset, such as its mean or a
+     * percentile. Large datasets are reduced in parallel. The result is
+     * recorded in history with the dataset size as first operand and the
+     * parameter as second.
+     * 
+     * @param operationCode code of the aggregate, see
+     *                      {@link OperationFactory#getAggregateOperationCodes()}
+     * @param values        the dataset, not modified
+     * @param parameter     the aggregate's parameter, such as the percentile;
+     *                      ignored by aggregates without one
+     * @return the aggregate
+     * @throws InvalidOperationException    if the code is not an aggregate
+     * @throws InvalidInputException        if the dataset is too small
+     * @throws CalculationRejectedException if admission control sheds the calculation
+     */
+    public double calculateAggregate(int operationCode, double[] values, double parameter) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        return guarded(operationCode, values.length, parameter,
+                () -> executeAggregate(operationCode, values, parameter), Double::doubleValue);
+    }
+
+    private double executeAggregate(int operationCode, double[] values, double parameter) {
+        boolean logged = isLogSampled();
+        if (logged) {
+            logger.info("Calculating aggregate: operation={}, values={}, parameter={}",
+                    operationCode, values.length, parameter);
+        }
+
+        AggregateOperation operation = operationFactory.createAggregateOperation(operationCode);
+
+        double result;
+        try {
+            result = operation.aggregate(values, parameter);
+            if (logged) {
+                logger.info("Aggregate successful: {} of {} value(s) = {}", operation.getName(), values.length, result);
+            }
+        } catch (CalculatorException e) {
+            if (logged) {
+                logger.error("Aggregate failed: {}", e.getMessage(), e);
+            }
+            throw e;
+        }
+
+        history.addRecord(new CalculationRecord(values.length, operation.hasParameter() ? parameter : 0,
+                operation.getSymbol(), operation.getName(), result));
+        return result;
+    }
+
+    /**
+     * Applies an associative operation, such as addition or multiplication,
+     * across any number of operands in one call. Compared with N-1 calls to
+     * {@link #calculate(int, double, double)}, the operation is resolved
+     * once, operands are combined pairwise as a balanced tree (in parallel
+     * for large arrays), and a single history record is written with the
+     * first operand and the operand count as operands. Evaluation is always
+     * in double arithmetic, also in decimal mode. Reductions are audited
+     * with the same operands as their history record, but they are not
+     * captured: a capture file holds two-operand requests only, so workload
+     * replay does not cover reductions.
+     * 
+     * @param operationCode code of an associative operation
+     * @param operands      at least one operand, not modified
+     * @return the reduced value; a single operand is returned unchanged
+     * @throws InvalidOperationException    if the code is unknown or the operation is not associative
+     * @throws InvalidInputException        if there are no operands
+     * @throws CalculationRejectedException if admission control sheds the calculation
+     */
+    public double reduce(int operationCode, double... operands) {
+        Objects.requireNonNull(operands, "Operands cannot be null");
+        return guarded(operationCode, operands.length > 0 ? operands[0] : Double.NaN, operands.length,
+                () -> executeReduction(operationCode, operands), Double::doubleValue);
+    }
+
+    /**
+     * Applies an associative operation across the elements of a stream, as
+     * {@link #reduce(int, double...)}. The stream is consumed.
+     * 
+     * @param operationCode code of an associative operation
+     * @param operands      at least one operand
+     * @return the reduced value
+     * @throws InvalidOperationException    if the code is unknown or the operation is not associative
+     * @throws InvalidInputException        if the stream is empty
+     * @throws CalculationRejectedException if admission control sheds the calculation
+     */
+    public double reduce(int operationCode, DoubleStream operands) {
+        Objects.requireNonNull(operands, "Operands cannot be null");
+        return reduce(operationCode, operands.toArray());
+    }
+
+    private double executeReduction(int operationCode, double[] operands) {
+        Operation operation = resolveOperation(operationCode);
+        if (!operation.isAssociative()) {
+            throw new InvalidOperationException(
+                    String.format("%s cannot be applied to more than two operands", operation.getName()));
+        }
+        if (operands.length == 0) {
+            throw new InvalidInputException(
+                    String.format("%s requires at least one operand", operation.getName()));
+        }
+
+        boolean logged = isLogSampled();
+        if (logged) {
+            logger.info("Reducing: operation={}, operands={}", operationCode, operands.length);
+        }
+        double result = TreeReduction.reduce(operation, operands);
+        if (logged) {
+            logger.info("Reduction successful: {} of {} operand(s) = {}",
+                    operation.getName(), operands.length, result);
+        }
+
+        history.addRecord(new CalculationRecord(operands[0], operands.length, operation.getSymbol(),
+                operation.getName(), result));
+        return result;
+    }
+
+    /**
+     * Starts an accumulator chain from the given value.
+     * Steps are added with {@link CalculationChain#then(int, double)} and the
+     * whole chain is evaluated in one fused pass by
+     * {@link CalculationChain#commit()}, which writes a single history record.
+     * 
+     * @param initialValue starting value of the accumulator
+     * @return a new, empty chain
+     */
+    public CalculationChain chain(double initialValue) {
+        return new CalculationChain(this, initialValue);
+    }
+
+    /**
+     * Starts an accumulator chain from the result of the most recent
+     * calculation, or from zero if history is empty.
+     * 
+     * @return a new, empty chain
+     */
+    public CalculationChain chainFromLastResult() {
+        List<CalculationRecord> recent = history.getRecentRecords(1);
+        return chain(recent.isEmpty() ? 0 : recent.get(0).getResult());
+    }
+
+    /**
+     * Starts an empty calculation batch. Rows are added with
+     * {@link CalculationBatch#add(int, double, double)} and its overloads;
+     * {@link CalculationBatch#execute()} evaluates each unique calculation
+     * once through this engine and shares the result between identical rows.
+     * 
+     * @return a new, empty batch
+     */
+    public CalculationBatch batch() {
+        return new CalculationBatch(this);
+    }
+
+    /**
+     * Creates a reactive-streams processor that evaluates the calculation
+     * requests it receives with this engine and publishes their outcomes,
+     * honoring downstream demand.
+     * 
+     * @param batchSize maximum number of requests evaluated as one run
+     * @return a new processor
+     * @throws IllegalArgumentException if batchSize is less than 1
+     */
+    public CalculationProcessor processor(int batchSize) {
+        return new CalculationProcessor(this, batchSize);
+    }
+
     /**
      * Performs a calculation with detailed result information.
      * 
@@ -101,7 +612,7 @@ public class CalculatorEngine {
         long endTime = System.nanoTime();
 
         double executionTimeMs = (endTime - startTime) / 1_000_000.0;
-        Operation operation = operationFactory.createOperation(operationCode);
+        Operation operation = resolveOperation(operationCode);
 
         return new CalculationResult(operand1, operand2, result,
                 operation.getName(), operation.getSymbol(), executionTimeMs);
@@ -143,6 +654,332 @@ public class CalculatorEngine {
         return scientificModeEnabled;
     }
 
+    /**
+     * Enables the fast-math tier for the scientific operations of this engine.
+     * Sine, cosine, tangent and natural logarithm then use polynomial
+     * approximations bounded by the given error instead of the JDK intrinsics.
+     * 
+     * @param maxUlpError maximum error in ULPs (tangent allows 2 * maxUlpError + 1)
+     * @throws IllegalArgumentException if maxUlpError is below
+     *                                  {@link FastScientificMath#MIN_ULP_ERROR}
+     */
+    public void enableFastMath(int maxUlpError) {
+        FastScientificMath fastMath = new FastScientificMath(maxUlpError);
+        this.fastMathOperations = Map.copyOf(operationFactory.createFastMathOperations(fastMath));
+        this.fastMathUlpError = maxUlpError;
+        logger.info("Fast-math mode enabled with max ULP error: {}", maxUlpError);
+    }
+
+    /**
+     * Disables the fast-math tier and returns to the JDK math library.
+     */
+    public void disableFastMath() {
+        this.fastMathOperations = Map.of();
+        this.fastMathUlpError = 0;
+        logger.info("Fast-math mode disabled");
+    }
+
+    /**
+     * Checks if the fast-math tier is enabled.
+     * 
+     * @return true if fast-math mode is enabled
+     */
+    public boolean isFastMathEnabled() {
+        return !fastMathOperations.isEmpty();
+    }
+
+    /**
+     * Gets the error bound of the fast-math tier.
+     * 
+     * @return maximum ULP error, or 0 if fast-math mode is disabled
+     */
+    public int getFastMathUlpError() {
+        return fastMathUlpError;
+    }
+
+    /**
+     * Selects the arbitrary-precision operation family for this engine.
+     * While decimal mode is enabled, {@link #calculate(int, double, double)}
+     * converts its operands to their shortest decimal form and evaluates them
+     * with the decimal operations. Operations without a decimal counterpart,
+     * such as the scientific ones, keep running in double arithmetic.
+     * 
+     * @param mathContext precision and rounding of results, or null to return
+     *                    to double arithmetic
+     */
+    public void setDecimalMode(MathContext mathContext) {
+        this.decimalMathContext = mathContext;
+        if (mathContext != null) {
+            logger.info("Decimal mode enabled with precision: {}", mathContext.getPrecision());
+        } else {
+            logger.info("Decimal mode disabled");
+        }
+    }
+
+    /**
+     * Selects the arbitrary-precision operation family with the given precision.
+     * 
+     * @param precision number of significant digits, 0 for unlimited
+     */
+    public void setDecimalPrecision(int precision) {
+        setDecimalMode(DecimalMath.context(precision));
+    }
+
+    /**
+     * Checks if decimal mode is enabled.
+     * 
+     * @return true if calculations use the decimal operation family
+     */
+    public boolean isDecimalModeEnabled() {
+        return decimalMathContext != null;
+    }
+
+    /**
+     * Gets the decimal math context.
+     * 
+     * @return the math context, or null if decimal mode is disabled
+     */
+    public MathContext getDecimalMathContext() {
+        return decimalMathContext;
+    }
+
+    /**
+     * Runs the JIT warm-up stage: exercises every operation registered in the
+     * factory on representative inputs until it has been called often enough
+     * to be compiled, or until the budget runs out. The engine reports not
+     * ready while the warm-up is in progress. History is not affected.
+     * The mean latency of the first calls before and after the warm-up is
+     * logged per operation.
+     * 
+     * @param budget maximum wall-clock time to spend in the warm-up loop
+     * @return report with the before/after latencies
+     */
+    public WarmUpReport warmUp(Duration budget) {
+        if (budget == null || budget.isNegative()) {
+            throw new IllegalArgumentException("Warm-up budget must be a non-negative duration");
+        }
+        List<Integer> codes = new ArrayList<>(operationFactory.getBasicOperationCodes());
+        codes.addAll(operationFactory.getScientificOperationCodes());
+        Collections.sort(codes);
+
+        ready = false;
+        try {
+            WarmUpReport report = new EngineWarmUp(codes, this::resolveOperation).run(budget);
+            logger.info("{}", report);
+            return report;
+        } finally {
+            ready = true;
+        }
+    }
+
+    /**
+     * Checks if the engine is ready to serve calculations, i.e. no warm-up
+     * stage is in progress.
+     * 
+     * @return true if the engine is ready
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Starts capturing every request passed to
+     * {@link #calculate(int, double, double)} (operation code, operands and
+     * timing) into a binary capture file, for later replay with
+     * {@link com.learning.calculator.workload.WorkloadReplayer}. Requests are
+     * captured before execution, so failing requests are replayed too.
+     * 
+     * @param file path of the capture file, replaced if it exists
+     * @throws IOException           if the file cannot be created
+     * @throws IllegalStateException if a capture is already running
+     */
+    public synchronized void startCapture(Path file) throws IOException {
+        if (capture != null) {
+            throw new IllegalStateException("A workload capture is already running");
+        }
+        capture = new CaptureWriter(file);
+        logger.info("Workload capture started: {}", file);
+    }
+
+    /**
+     * Stops the running capture and closes its file.
+     * 
+     * @return number of captured requests, or 0 if no capture was running
+     * @throws IOException if the capture file cannot be flushed
+     */
+    public synchronized long stopCapture() throws IOException {
+        CaptureWriter activeCapture = capture;
+        if (activeCapture == null) {
+            return 0;
+        }
+        capture = null;
+        activeCapture.close();
+        logger.info("Workload capture stopped after {} requests", activeCapture.getCount());
+        return activeCapture.getCount();
+    }
+
+    /**
+     * Writes a checkpoint of the engine state (scientific, fast-math and
+     * decimal modes and the in-memory history) in the background. The
+     * calling thread only copies the in-memory history; calculations carry
+     * on while the file is written. A fresh engine picks the state up with
+     * {@link #restoreCheckpoint(Path)}.
+     * 
+     * @param file path of the checkpoint file, replaced atomically if it exists
+     * @return future completed with the number of records written, or
+     *         exceptionally if the file cannot be written
+     */
+    public CompletableFuture<Integer> checkpoint(Path file) {
+        Objects.requireNonNull(file, "Checkpoint file cannot be null");
+        return EngineCheckpoint.writeAsync(this, file).whenComplete((records, failure) -> {
+            if (failure == null) {
+                logger.info("Checkpoint of {} record(s) written: {}", records, file);
+            } else {
+                logger.error("Checkpoint failed: {}", file, failure);
+            }
+        });
+    }
+
+    /**
+     * Restores the state saved by {@link #checkpoint(Path)}. The checkpoint
+     * is memory-mapped and its history records are read, and validated, only
+     * when they are requested, so restoring takes the same time for any
+     * history size.
+     * 
+     * @param file path of the checkpoint file
+     * @return the mapped checkpoint
+     * @throws IOException           if the file is not a valid checkpoint
+     * @throws IllegalStateException if the in-memory history is not empty
+     */
+    public EngineCheckpoint restoreCheckpoint(Path file) throws IOException {
+        EngineCheckpoint checkpoint = EngineCheckpoint.open(file);
+        history.restore(checkpoint.getRecords());
+        setScientificMode(checkpoint.isScientificModeEnabled());
+        if (checkpoint.getFastMathUlpError() > 0) {
+            enableFastMath(checkpoint.getFastMathUlpError());
+        } else {
+            disableFastMath();
+        }
+        setDecimalMode(checkpoint.getDecimalMathContext());
+        logger.info("Restored checkpoint taken at {}: {}", checkpoint.getCreatedAt(), file);
+        return checkpoint;
+    }
+
+    /**
+     * Installs admission control in front of
+     * {@link #calculate(int, double, double)} and
+     * {@link #calculateDecimal(int, BigDecimal, BigDecimal)}. Calculations
+     * over the controller's concurrency limit queue or are rejected with a
+     * {@link com.learning.calculator.exceptions.CalculationRejectedException}.
+     * Capture still records rejected requests, so replays see the offered load.
+     * 
+     * @param controller the admission controller, or null to admit everything
+     */
+    public void setAdmissionController(AdmissionController controller) {
+        this.admissionController = controller;
+        if (controller != null) {
+            logger.info("Admission control enabled: {}", controller);
+        } else {
+            logger.info("Admission control disabled");
+        }
+    }
+
+    /**
+     * Gets the installed admission controller, for example to read its
+     * admission and rejection counts.
+     * 
+     * @return the admission controller, or null if admission control is disabled
+     */
+    public AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    /**
+     * Starts writing every calculation passed to
+     * {@link #calculate(int, double, double)},
+     * {@link #calculateDecimal(int, BigDecimal, BigDecimal)} or a
+     * {@link CalculationProcessor} to a binary audit file: operation code,
+     * operands, result or failure status and timestamp. Entries are written
+     * by a background thread, so auditing costs a calculation an array copy
+     * rather than formatted log lines; combine it with
+     * {@link #setLogSampling(int)} to keep the human-readable log small.
+     * 
+     * @param file path of the audit file, replaced if it exists
+     * @throws IOException           if the file cannot be created
+     * @throws IllegalStateException if an audit log is already open
+     */
+    public synchronized void startAudit(Path file) throws IOException {
+        if (audit != null) {
+            throw new IllegalStateException("An audit log is already open");
+        }
+        audit = new AuditLog(file);
+        logger.info("Audit log started: {}", file);
+    }
+
+    /**
+     * Stops auditing, writes the remaining entries and closes the audit file.
+     * 
+     * @return number of entries written, or 0 if no audit log was open
+     * @throws IOException if the audit file cannot be closed
+     */
+    public synchronized long stopAudit() throws IOException {
+        AuditLog activeAudit = audit;
+        if (activeAudit == null) {
+            return 0;
+        }
+        audit = null;
+        activeAudit.close();
+        return activeAudit.getCount();
+    }
+
+    /**
+     * Sets how many calculations produce the per-calculation log lines
+     * ("Calculating", "Calculation successful" and the operations' own DEBUG
+     * lines). Calculations that are not sampled are evaluated without any
+     * logging, including their failures; use {@link #startAudit(Path)} to
+     * keep a complete record.
+     * 
+     * @param everyNth 1 to log every calculation (the default), n to log
+     *                 every n-th, 0 to log none
+     * @throws IllegalArgumentException if everyNth is negative
+     */
+    public void setLogSampling(int everyNth) {
+        if (everyNth < 0) {
+            throw new IllegalArgumentException("Log sampling cannot be negative");
+        }
+        this.logSampling = everyNth;
+        logger.info("Calculation log sampling: {}", everyNth == 0 ? "off" : "1 in " + everyNth);
+    }
+
+    /**
+     * Gets the calculation log sampling set by {@link #setLogSampling(int)}.
+     * 
+     * @return 1 if every calculation is logged, n for every n-th, 0 for none
+     */
+    public int getLogSampling() {
+        return logSampling;
+    }
+
+    private boolean isLogSampled() {
+        int sampling = logSampling;
+        if (sampling <= 1) {
+            return sampling == 1;
+        }
+        return logSequence.getAndIncrement() % sampling == 0;
+    }
+
+    /**
+     * Gets the operation {@link #calculate(int, double, double)} executes for
+     * a code, including fast-math overrides, e.g. to inspect its arity.
+     * 
+     * @param operationCode the operation code
+     * @return the operation
+     * @throws InvalidOperationException if operation code is invalid
+     */
+    public Operation getOperation(int operationCode) {
+        return resolveOperation(operationCode);
+    }
+
     /**
      * Validates if an operation code is valid.
      * 
@@ -153,6 +990,32 @@ public class CalculatorEngine {
         return operationFactory.isValidOperationCode(operationCode);
     }
 
+    /**
+     * Converts a double operand for the decimal operation family.
+     * 
+     * @param value the operand
+     * @return the shortest decimal representation of the operand
+     * @throws InvalidInputException if the operand is NaN or infinite
+     */
+    private static BigDecimal toDecimal(double value) {
+        if (!Double.isFinite(value)) {
+            throw new InvalidInputException(
+                    String.format("Decimal mode requires finite operands: %s", value));
+        }
+        return DecimalMath.toDecimal(value);
+    }
+
+    /**
+     * Resolves an operation code, preferring the engine's fast-math overrides.
+     * 
+     * @param operationCode the operation code
+     * @return the operation to execute
+     */
+    Operation resolveOperation(int operationCode) {
+        Operation operation = fastMathOperations.get(operationCode);
+        return operation != null ? operation : operationFactory.createOperation(operationCode);
+    }
+
     /**
      * Inner class representing a detailed calculation result.
      */
@@ -0,0 +1,412 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.history.CalculationRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/**
+ * Memory-mapped snapshot of a {@link CalculatorEngine}: its modes and the
+ * in-memory tier of its history, so a restarted process can serve queries
+ * without rebuilding that state.
+ * 
+ * Format (big-endian):
+ * - 64-byte header: magic {@code 'CKPT'}, version, mode flags, fast-math
+ * ULP error, decimal precision and rounding mode, number of operations,
+ * creation time in epoch milliseconds, record count, dictionary length,
+ * records offset, dictionary CRC and, in the last four bytes, the CRC of
+ * the header itself
+ * - operation dictionary: symbol and name of each operation that occurs in
+ * the records (length-prefixed UTF-8)
+ * - fixed-width 40-byte records: both operands and the result (raw
+ * doubles), timestamp (epoch second and nano in UTC) and dictionary index
+ * - one CRC per block of {@value #BLOCK_RECORDS} records
+ * 
+ * Opening a checkpoint maps the file and checks the header and dictionary
+ * only, so it takes the same time for any number of records. Fixed-width
+ * records give O(1) access by index, and each block is validated against
+ * its CRC the first time one of its records is read. Checkpoints are
+ * written to a temporary file and atomically moved into place.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class EngineCheckpoint {
+    static final int MAGIC = 0x434B5054;
+    static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 40;
+    static final int BLOCK_RECORDS = 1024;
+
+    private static final int FLAG_SCIENTIFIC = 1;
+    private static final int FLAG_FAST_MATH = 2;
+    private static final int FLAG_DECIMAL = 4;
+    private static final int HEADER_CRC_OFFSET = HEADER_SIZE - Integer.BYTES;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** Single background writer, so checkpoints never run concurrently with each other. */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "engine-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path file;
+    private final ByteBuffer data;
+    private final boolean scientificMode;
+    private final int fastMathUlpError;
+    private final MathContext decimalMathContext;
+    private final Instant createdAt;
+    private final int recordCount;
+    private final int recordsOffset;
+    private final String[] symbols;
+    private final String[] names;
+
+    /** Blocks whose CRC has been checked; a lost update only repeats a check. */
+    private final boolean[] validatedBlocks;
+
+    private EngineCheckpoint(Path file, ByteBuffer data) throws IOException {
+        this.file = file;
+        this.data = data;
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IOException("Not an engine checkpoint: " + file);
+        }
+        if (data.getShort(4) != VERSION) {
+            throw new IOException("Unsupported engine checkpoint version " + data.getShort(4) + ": " + file);
+        }
+        if (crc(data, 0, HEADER_CRC_OFFSET) != data.getInt(HEADER_CRC_OFFSET)) {
+            throw new IOException("Corrupt engine checkpoint header: " + file);
+        }
+        int flags = data.getShort(6);
+        this.scientificMode = (flags & FLAG_SCIENTIFIC) != 0;
+        this.fastMathUlpError = (flags & FLAG_FAST_MATH) != 0 ? data.getInt(8) : 0;
+        this.decimalMathContext = (flags & FLAG_DECIMAL) != 0
+                ? new MathContext(data.getInt(12), RoundingMode.valueOf(data.getInt(16)))
+                : null;
+        int operationCount = data.getInt(20);
+        this.createdAt = Instant.ofEpochMilli(data.getLong(24));
+        this.recordCount = data.getInt(32);
+        int dictionaryLength = data.getInt(36);
+        this.recordsOffset = (int) data.getLong(40);
+
+        int blocks = blockCount(recordCount);
+        long expectedSize = (long) recordsOffset + (long) recordCount * RECORD_SIZE + (long) blocks * Integer.BYTES;
+        if (recordCount < 0 || operationCount < 0 || recordsOffset < HEADER_SIZE + dictionaryLength
+                || expectedSize != data.capacity()) {
+            throw new IOException("Truncated engine checkpoint: " + file);
+        }
+        if (crc(data, HEADER_SIZE, dictionaryLength) != data.getInt(48)) {
+            throw new IOException("Corrupt engine checkpoint dictionary: " + file);
+        }
+        this.symbols = new String[operationCount];
+        this.names = new String[operationCount];
+        ByteBuffer dictionary = data.duplicate().position(HEADER_SIZE).limit(HEADER_SIZE + dictionaryLength);
+        for (int i = 0; i < operationCount; i++) {
+            symbols[i] = readString(dictionary);
+            names[i] = readString(dictionary);
+        }
+        this.validatedBlocks = new boolean[blocks];
+    }
+
+    /**
+     * Maps a checkpoint file. Only the header and the operation dictionary
+     * are read; records are validated lazily.
+     * 
+     * @param file the checkpoint file
+     * @return the mapped checkpoint
+     * @throws IOException if the file cannot be mapped, is not a checkpoint,
+     *                     or its header or dictionary is corrupt
+     */
+    public static EngineCheckpoint open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Engine checkpoint too large to map: " + file);
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new EngineCheckpoint(file, data);
+        }
+    }
+
+    /**
+     * Captures the state of an engine and writes it in the background. Only
+     * the capture runs on the calling thread: it copies the in-memory
+     * history, which holds the history lock for the time of an array copy.
+     * 
+     * @param engine the engine
+     * @param file   the checkpoint file, replaced atomically if it exists
+     * @return future completed with the number of records written, or
+     *         exceptionally with an {@link UncheckedIOException}
+     */
+    static CompletableFuture<Integer> writeAsync(CalculatorEngine engine, Path file) {
+        boolean scientificMode = engine.isScientificModeEnabled();
+        int fastMathUlpError = engine.getFastMathUlpError();
+        MathContext decimalMathContext = engine.getDecimalMathContext();
+        List<CalculationRecord> records = engine.getHistory().getInMemoryRecords();
+        long createdAt = System.currentTimeMillis();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                write(file, scientificMode, fastMathUlpError, decimalMathContext, records, createdAt);
+                return records.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write engine checkpoint " + file, e);
+            }
+        }, WRITER);
+    }
+
+    private static void write(Path file, boolean scientificMode, int fastMathUlpError,
+            MathContext decimalMathContext, List<CalculationRecord> records, long createdAt) throws IOException {
+        Map<String, Integer> indexes = new HashMap<>();
+        ByteBuffer dictionary = ByteBuffer.allocate(256);
+        int[] recordOperations = new int[records.size()];
+        for (int i = 0; i < records.size(); i++) {
+            CalculationRecord record = records.get(i);
+            String key = record.getOperationSymbol() + '\0' + record.getOperationName();
+            Integer index = indexes.get(key);
+            if (index == null) {
+                index = indexes.size();
+                indexes.put(key, index);
+                dictionary = writeString(dictionary, record.getOperationSymbol());
+                dictionary = writeString(dictionary, record.getOperationName());
+            }
+            recordOperations[i] = index;
+        }
+        dictionary.flip();
+        int dictionaryLength = dictionary.remaining();
+        int recordsOffset = align(HEADER_SIZE + dictionaryLength, Long.BYTES);
+        int blocks = blockCount(records.size());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(0, MAGIC);
+        header.putShort(4, VERSION);
+        header.putShort(6, (short) ((scientificMode ? FLAG_SCIENTIFIC : 0)
+                | (fastMathUlpError > 0 ? FLAG_FAST_MATH : 0)
+                | (decimalMathContext != null ? FLAG_DECIMAL : 0)));
+        header.putInt(8, fastMathUlpError);
+        if (decimalMathContext != null) {
+            header.putInt(12, decimalMathContext.getPrecision());
+            header.putInt(16, decimalMathContext.getRoundingMode().ordinal());
+        }
+        header.putInt(20, indexes.size());
+        header.putLong(24, createdAt);
+        header.putInt(32, records.size());
+        header.putInt(36, dictionaryLength);
+        header.putLong(40, recordsOffset);
+        header.putInt(48, crc(dictionary, 0, dictionaryLength));
+        header.putInt(HEADER_CRC_OFFSET, crc(header, 0, HEADER_CRC_OFFSET));
+
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            writeFully(channel, dictionary);
+            writeFully(channel, ByteBuffer.allocate(recordsOffset - HEADER_SIZE - dictionaryLength));
+
+            ByteBuffer crcs = ByteBuffer.allocate(blocks * Integer.BYTES);
+            ByteBuffer block = ByteBuffer.allocate(BLOCK_RECORDS * RECORD_SIZE);
+            for (int start = 0; start < records.size(); start += BLOCK_RECORDS) {
+                int end = Math.min(records.size(), start + BLOCK_RECORDS);
+                block.clear();
+                for (int i = start; i < end; i++) {
+                    CalculationRecord record = records.get(i);
+                    LocalDateTime timestamp = record.getTimestamp();
+                    block.putDouble(record.getOperand1())
+                            .putDouble(record.getOperand2())
+                            .putDouble(record.getResult())
+                            .putLong(timestamp.toEpochSecond(ZoneOffset.UTC))
+                            .putInt(timestamp.getNano())
+                            .putInt(recordOperations[i]);
+                }
+                block.flip();
+                crcs.putInt(crc(block, 0, block.remaining()));
+                writeFully(channel, block);
+            }
+            crcs.flip();
+            writeFully(channel, crcs);
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Gets the path of the checkpoint file.
+     * 
+     * @return the file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the time the engine state was captured.
+     * 
+     * @return the capture time
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Checks if the engine was in scientific mode.
+     * 
+     * @return true if scientific mode was enabled
+     */
+    public boolean isScientificModeEnabled() {
+        return scientificMode;
+    }
+
+    /**
+     * Gets the fast-math error bound of the engine.
+     * 
+     * @return maximum ULP error, or 0 if fast-math mode was disabled
+     */
+    public int getFastMathUlpError() {
+        return fastMathUlpError;
+    }
+
+    /**
+     * Gets the decimal math context of the engine.
+     * 
+     * @return the math context, or null if decimal mode was disabled
+     */
+    public MathContext getDecimalMathContext() {
+        return decimalMathContext;
+    }
+
+    /**
+     * Gets the number of history records in the checkpoint.
+     * 
+     * @return number of records
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Reads a history record. The first read from a block validates the
+     * whole block.
+     * 
+     * @param index index of the record, 0 being the oldest
+     * @return the record
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws UncheckedIOException      if the block of the record is corrupt
+     */
+    public CalculationRecord getRecord(int index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record index " + index + " out of range 0-" + recordCount);
+        }
+        int block = index / BLOCK_RECORDS;
+        if (!validatedBlocks[block]) {
+            validateBlock(block);
+        }
+        int offset = recordsOffset + index * RECORD_SIZE;
+        int operation = data.getInt(offset + 36);
+        if (operation < 0 || operation >= symbols.length) {
+            throw new UncheckedIOException(new IOException("Corrupt engine checkpoint record " + index + ": " + file));
+        }
+        LocalDateTime timestamp = LocalDateTime.ofEpochSecond(data.getLong(offset + 24),
+                data.getInt(offset + 32), ZoneOffset.UTC);
+        return new CalculationRecord(data.getDouble(offset), data.getDouble(offset + 8),
+                symbols[operation], names[operation], data.getDouble(offset + 16), timestamp);
+    }
+
+    /**
+     * Returns a random-access view of the history records that reads each
+     * record from the mapping when it is requested, as expected by
+     * {@link com.learning.calculator.history.CalculationHistory#restore(List)}.
+     * 
+     * @return unmodifiable lazy list of records, oldest first
+     */
+    public List<CalculationRecord> getRecords() {
+        return new RecordList();
+    }
+
+    private void validateBlock(int block) {
+        int start = block * BLOCK_RECORDS;
+        int length = Math.min(BLOCK_RECORDS, recordCount - start) * RECORD_SIZE;
+        int crcTable = recordsOffset + recordCount * RECORD_SIZE;
+        if (crc(data, recordsOffset + start * RECORD_SIZE, length) != data.getInt(crcTable + block * Integer.BYTES)) {
+            throw new UncheckedIOException(new IOException(
+                    "Corrupt engine checkpoint block " + block + ": " + file));
+        }
+        validatedBlocks[block] = true;
+    }
+
+    private static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(offset).limit(offset + length));
+        return (int) crc.getValue();
+    }
+
+    private static int blockCount(int records) {
+        return (records + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+    }
+
+    private static int align(int value, int alignment) {
+        return (value + alignment - 1) / alignment * alignment;
+    }
+
+    private static ByteBuffer writeString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (buffer.remaining() < Short.BYTES + bytes.length) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2,
+                    buffer.position() + Short.BYTES + bytes.length));
+            buffer = grown.put(buffer.flip());
+        }
+        return buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < Short.BYTES) {
+            throw new IOException("Corrupt engine checkpoint dictionary");
+        }
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (buffer.remaining() < length) {
+            throw new IOException("Corrupt engine checkpoint dictionary");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private final class RecordList extends AbstractList<CalculationRecord> implements RandomAccess {
+        @Override
+        public CalculationRecord get(int index) {
+            return getRecord(index);
+        }
+
+        @Override
+        public int size() {
+            return recordCount;
+        }
+    }
+}
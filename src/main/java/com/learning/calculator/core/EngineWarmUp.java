@@ -0,0 +1,131 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.history.CalculationHistory;
+import com.learning.calculator.history.CalculationRecord;
+import com.learning.calculator.operations.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * Warm-up stage that drives every registered operation through the same
+ * steps as {@link CalculatorEngine#calculate(int, double, double)} until the
+ * JIT has compiled them, so that the first real requests do not run
+ * interpreted. Records go to a scratch history, never the engine's own.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+class EngineWarmUp {
+    private static final Logger logger = LoggerFactory.getLogger(EngineWarmUp.class);
+
+    /** Calls per operation after which C2 has normally compiled the hot path. */
+    static final int TARGET_CALLS_PER_OPERATION = 20_000;
+
+    /** Calls averaged for the before/after latency samples. */
+    static final int SAMPLE_CALLS = 50;
+
+    private static final int BATCH_CALLS = 500;
+    private static final int SCRATCH_HISTORY_SIZE = 16;
+
+    private final List<Integer> operationCodes;
+    private final IntFunction<Operation> operationResolver;
+    private final CalculationHistory scratchHistory = new CalculationHistory(SCRATCH_HISTORY_SIZE);
+    private final SplittableRandom random = new SplittableRandom(42);
+    private double sink;
+
+    /**
+     * Creates a warm-up stage.
+     * 
+     * @param operationCodes    codes of the operations to exercise
+     * @param operationResolver resolves a code the same way the engine does
+     */
+    EngineWarmUp(List<Integer> operationCodes, IntFunction<Operation> operationResolver) {
+        this.operationCodes = operationCodes;
+        this.operationResolver = operationResolver;
+    }
+
+    /**
+     * Runs the warm-up until every operation reached the target call count
+     * or the budget is exhausted. The before/after latency samples are taken
+     * outside the budget.
+     * 
+     * @param budget maximum wall-clock time to spend in the warm-up loop
+     * @return report with before/after latencies
+     */
+    WarmUpReport run(Duration budget) {
+        long start = System.nanoTime();
+        Map<Integer, Double> cold = new HashMap<>();
+        for (int code : operationCodes) {
+            cold.put(code, sampleLatency(code));
+        }
+
+        long deadline = System.nanoTime() + budget.toNanos();
+
+        long calls = 0;
+        int perOperation = 0;
+        rounds:
+        while (perOperation < TARGET_CALLS_PER_OPERATION) {
+            for (int code : operationCodes) {
+                if (System.nanoTime() >= deadline) {
+                    break rounds;
+                }
+                Operation operation = operationResolver.apply(code);
+                for (int i = 0; i < BATCH_CALLS; i++) {
+                    invoke(operation);
+                }
+                calls += BATCH_CALLS;
+            }
+            perOperation += BATCH_CALLS;
+        }
+
+        Map<Integer, Double> warm = new HashMap<>();
+        for (int code : operationCodes) {
+            warm.put(code, sampleLatency(code));
+        }
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        if (perOperation < TARGET_CALLS_PER_OPERATION) {
+            logger.warn("Warm-up budget of {} ms exhausted after {} of {} calls per operation",
+                    budget.toMillis(), perOperation, TARGET_CALLS_PER_OPERATION);
+        }
+        for (int code : operationCodes) {
+            logger.info("Warm-up {}: first {} calls {} us/call, after warm-up {} us/call",
+                    operationResolver.apply(code).getName(), SAMPLE_CALLS,
+                    String.format("%.3f", cold.get(code) / 1_000.0),
+                    String.format("%.3f", warm.get(code) / 1_000.0));
+        }
+        scratchHistory.clear();
+        return new WarmUpReport(SAMPLE_CALLS, calls, elapsedMs, cold, warm);
+    }
+
+    /**
+     * Measures the mean latency of the next sample calls of one operation.
+     */
+    private double sampleLatency(int code) {
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLE_CALLS; i++) {
+            invoke(operationResolver.apply(code));
+        }
+        return (double) (System.nanoTime() - start) / SAMPLE_CALLS;
+    }
+
+    /**
+     * Executes one call on representative inputs that are valid for every
+     * registered operation (positive, non-zero operands).
+     */
+    private void invoke(Operation operation) {
+        double a = random.nextDouble(1.0, 1_000.0);
+        double b = random.nextDouble(1.0, 10.0);
+        double result = operation.execute(a, b);
+        scratchHistory.addRecord(new CalculationRecord(a, b, operation.getSymbol(), operation.getName(), result));
+        sink += result;
+    }
+}
@@ -0,0 +1,75 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.operations.Operation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Pairwise reduction of an operand array with an associative operation.
+ * Operands are combined as a balanced tree of short left folds, which keeps
+ * the rounding error of a floating-point sum growing with the logarithm of
+ * the operand count rather than linearly, and splits naturally across the
+ * common fork/join pool for large arrays.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+final class TreeReduction extends RecursiveTask<Double> {
+    /** Operand count above which the reduction is split across the common pool. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Operand count folded left to right at the leaves of the tree. */
+    private static final int LEAF_SIZE = 8;
+
+    private final Operation operation;
+    private final double[] operands;
+    private final int from;
+    private final int to;
+
+    private TreeReduction(Operation operation, double[] operands, int from, int to) {
+        this.operation = operation;
+        this.operands = operands;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Reduces all operands, in parallel above {@link #PARALLEL_THRESHOLD}.
+     * 
+     * @param operation an associative operation, evaluated without logging
+     * @param operands  at least one operand, not modified
+     * @return the reduced value
+     */
+    static double reduce(Operation operation, double[] operands) {
+        if (operands.length <= PARALLEL_THRESHOLD) {
+            return reduce(operation, operands, 0, operands.length);
+        }
+        return ForkJoinPool.commonPool().invoke(new TreeReduction(operation, operands, 0, operands.length));
+    }
+
+    private static double reduce(Operation operation, double[] operands, int from, int to) {
+        if (to - from <= LEAF_SIZE) {
+            double accumulator = operands[from];
+            for (int i = from + 1; i < to; i++) {
+                accumulator = operation.evaluate(accumulator, operands[i]);
+            }
+            return accumulator;
+        }
+        int middle = (from + to) >>> 1;
+        return operation.evaluate(reduce(operation, operands, from, middle), reduce(operation, operands, middle, to));
+    }
+
+    @Override
+    protected Double compute() {
+        if (to - from <= PARALLEL_THRESHOLD) {
+            return reduce(operation, operands, from, to);
+        }
+        int middle = (from + to) >>> 1;
+        TreeReduction left = new TreeReduction(operation, operands, from, middle);
+        left.fork();
+        double right = new TreeReduction(operation, operands, middle, to).compute();
+        return operation.evaluate(left.join(), right);
+    }
+}
@@ -0,0 +1,82 @@
+package com.learning.calculator.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of a {@link CalculatorEngine} warm-up stage.
+ * Holds, per operation code, the mean latency of the first calls in the
+ * cold JVM and of the same number of calls after warm-up.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class WarmUpReport {
+    private final int sampleCalls;
+    private final long warmUpCalls;
+    private final double elapsedMs;
+    private final Map<Integer, Double> coldLatencyNanos;
+    private final Map<Integer, Double> warmLatencyNanos;
+
+    WarmUpReport(int sampleCalls, long warmUpCalls, double elapsedMs,
+            Map<Integer, Double> coldLatencyNanos, Map<Integer, Double> warmLatencyNanos) {
+        this.sampleCalls = sampleCalls;
+        this.warmUpCalls = warmUpCalls;
+        this.elapsedMs = elapsedMs;
+        this.coldLatencyNanos = Collections.unmodifiableMap(new TreeMap<>(coldLatencyNanos));
+        this.warmLatencyNanos = Collections.unmodifiableMap(new TreeMap<>(warmLatencyNanos));
+    }
+
+    /**
+     * Gets the number of calls averaged for each latency sample.
+     * 
+     * @return calls per latency sample
+     */
+    public int getSampleCalls() {
+        return sampleCalls;
+    }
+
+    /**
+     * Gets the total number of warm-up calls across all operations.
+     * 
+     * @return number of warm-up calls
+     */
+    public long getWarmUpCalls() {
+        return warmUpCalls;
+    }
+
+    /**
+     * Gets the wall-clock duration of the warm-up stage.
+     * 
+     * @return elapsed time in milliseconds
+     */
+    public double getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * Gets the mean latency of the first calls per operation code.
+     * 
+     * @return map of operation code to mean latency in nanoseconds
+     */
+    public Map<Integer, Double> getColdLatencyNanos() {
+        return coldLatencyNanos;
+    }
+
+    /**
+     * Gets the mean latency after warm-up per operation code.
+     * 
+     * @return map of operation code to mean latency in nanoseconds
+     */
+    public Map<Integer, Double> getWarmLatencyNanos() {
+        return warmLatencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Warm-up: %d calls in %.1f ms over %d operations",
+                warmUpCalls, elapsedMs, coldLatencyNanos.size());
+    }
+}
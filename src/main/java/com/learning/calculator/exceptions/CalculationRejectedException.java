@@ -0,0 +1,57 @@
+package com.learning.calculator.exceptions;
+
+/**
+ * Exception thrown when admission control sheds a calculation instead of
+ * executing it. Rejections are part of normal operation under overload, so
+ * the exception carries no stack trace and is cheap to throw.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class CalculationRejectedException extends CalculatorException {
+
+    /**
+     * Why a calculation was rejected.
+     */
+    public enum Reason {
+        /** The concurrency limit was reached and the wait queue was full. */
+        QUEUE_FULL,
+        /** The calculation waited in the queue longer than the queue timeout. */
+        TIMEOUT,
+        /** The calling thread was interrupted while waiting in the queue. */
+        INTERRUPTED
+    }
+
+    private final Reason reason;
+
+    /**
+     * Constructs a new rejection with the specified reason and detail message.
+     * 
+     * @param reason  why the calculation was rejected
+     * @param message the detail message
+     */
+    public CalculationRejectedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    /**
+     * Gets the reason of the rejection.
+     * 
+     * @return the rejection reason
+     */
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Skips stack trace capture, which would dominate the cost of a rejection.
+     * 
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,89 @@
+package com.learning.calculator.history;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Big-endian bit stream reader used by the record batch codec.
+ * The encoded bytes are converted once into 64-bit words, so every read is
+ * two word loads and shifts without per-byte work or branches.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+final class BitInput {
+    private final long[] words;
+    private long position;
+
+    /**
+     * Creates a reader.
+     * 
+     * @param words     the data as big-endian words, see {@link #toWords}
+     * @param byteStart offset of the first bit, in bytes
+     */
+    BitInput(long[] words, int byteStart) {
+        this.words = words;
+        this.position = (long) byteStart << 3;
+    }
+
+    /**
+     * Converts bytes into big-endian words, followed by one zero word so
+     * that reads near the end need no bounds handling.
+     * 
+     * @param data the bytes
+     * @return the words
+     */
+    static long[] toWords(byte[] data) {
+        long[] words = new long[data.length / 8 + 2];
+        ByteBuffer.wrap(data).asLongBuffer().get(words, 0, data.length / 8);
+        for (int i = data.length & ~7; i < data.length; i++) {
+            words[i >>> 3] |= (data[i] & 0xFFL) << (56 - 8 * (i & 7));
+        }
+        return words;
+    }
+
+    /**
+     * Reads the next bits as an unsigned value.
+     * 
+     * @param bits number of bits, between 1 and 64
+     * @return the value
+     */
+    long readBits(int bits) {
+        long value = peekBits(bits);
+        position += bits;
+        return value;
+    }
+
+    /**
+     * Returns the next bits as an unsigned value without consuming them.
+     * 
+     * @param bits number of bits, between 1 and 64
+     * @return the value
+     */
+    long peekBits(int bits) {
+        int index = (int) (position >>> 6);
+        int shift = (int) position & 63;
+        long value = (words[index] << shift) | ((words[index + 1] >>> 1) >>> (63 - shift));
+        return value >>> (64 - bits);
+    }
+
+    /**
+     * Consumes bits that were examined with {@link #peekBits(int)}.
+     * 
+     * @param bits number of bits
+     */
+    void skip(int bits) {
+        position += bits;
+    }
+
+    /**
+     * Reads a single bit.
+     * 
+     * @return true for one
+     */
+    boolean readBit() {
+        boolean bit = words[(int) (position >>> 6)] << (position & 63) < 0;
+        position++;
+        return bit;
+    }
+}
@@ -0,0 +1,85 @@
+package com.learning.calculator.history;
+
+import java.util.Arrays;
+
+/**
+ * Growable big-endian bit stream used by the record batch codec.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+final class BitOutput {
+    private byte[] buffer = new byte[256];
+    private int size;
+    private long accumulator;
+    private int accumulatorBits;
+
+    /**
+     * Appends the low {@code bits} bits of a value, most significant first.
+     * 
+     * @param value the value
+     * @param bits  number of bits, between 0 and 64
+     */
+    void writeBits(long value, int bits) {
+        if (bits == 0) {
+            return;
+        }
+        if (bits < 64) {
+            value &= (1L << bits) - 1;
+        }
+        int free = 64 - accumulatorBits;
+        if (bits <= free) {
+            accumulator |= value << (free - bits);
+            accumulatorBits += bits;
+            if (accumulatorBits == 64) {
+                flushAccumulator();
+            }
+        } else {
+            int rest = bits - free;
+            accumulator |= value >>> rest;
+            accumulatorBits = 64;
+            flushAccumulator();
+            accumulator = value << (64 - rest);
+            accumulatorBits = rest;
+        }
+    }
+
+    /**
+     * Appends a single bit.
+     * 
+     * @param bit true for one
+     */
+    void writeBit(boolean bit) {
+        writeBits(bit ? 1 : 0, 1);
+    }
+
+    /**
+     * Pads the stream to a whole byte and returns its contents.
+     * 
+     * @return the bytes written
+     */
+    byte[] toByteArray() {
+        int pendingBytes = (accumulatorBits + 7) >>> 3;
+        ensureCapacity(pendingBytes);
+        for (int i = 0; i < pendingBytes; i++) {
+            buffer[size + i] = (byte) (accumulator >>> (56 - 8 * i));
+        }
+        return Arrays.copyOf(buffer, size + pendingBytes);
+    }
+
+    private void flushAccumulator() {
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            buffer[size++] = (byte) (accumulator >>> (56 - 8 * i));
+        }
+        accumulator = 0;
+        accumulatorBits = 0;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
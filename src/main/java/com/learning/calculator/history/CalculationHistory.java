@@ -3,25 +3,77 @@ package com.learning.calculator.history;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Manages the history of all calculations performed.
  * Provides thread-safe operations for storing and retrieving calculation
  * records.
  * 
+ * Recent records are kept in an in-memory ring of up to {@code maxSize}
+ * records, which starts small and grows as records are added.
+ * Without a cold tier, older records are discarded. With a
+ * {@link HistorySegmentStore} they are spilled to disk in the background and
+ * reads merge both tiers, so retention is unbounded while the heap stays
+ * bounded.
+ * 
+ * The in-memory tier can be restored from a lazily read list, such as the
+ * records of a memory-mapped checkpoint: restoring is O(1), and a record is
+ * only read from the list when it is first requested or evicted.
+ * 
+ * Consumers that need every new record as it is added subscribe to the
+ * history's {@link HistoryFeed} instead of polling {@link #getRecords()}.
+ * 
+ * The in-memory tier can be sized by a byte budget instead of a record
+ * count, see {@link #withByteBudget(long, HistorySegmentStore)}. Registered
+ * with a {@link HeapPressureMonitor} through
+ * {@link #setMemoryPressure(boolean)}, it shrinks to a quarter of its size
+ * while the heap is under pressure, spilling to the cold tier if there is
+ * one, and grows back once the pressure eases.
+ * 
  * @author Learning Java Developer
  * @version 1.0
  * @since 2026-01-28
  */
-public class CalculationHistory {
+public class CalculationHistory implements Closeable {
     private static final Logger logger = LoggerFactory.getLogger(CalculationHistory.class);
     private static final int DEFAULT_MAX_SIZE = 100;
 
-    private final List<CalculationRecord> records;
+    /**
+     * Estimated heap footprint of one in-memory record, in bytes: the record
+     * and its timestamp objects with compressed references, plus its ring
+     * slot. Operation symbols and names are shared constants and not counted.
+     */
+    public static final int ESTIMATED_RECORD_BYTES = 128;
+
+    /** Ring slots allocated up front; the ring doubles from there up to maxSize. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Factor by which the in-memory tier shrinks under heap pressure. */
+    private static final int PRESSURE_SHRINK_FACTOR = 4;
+
+    private CalculationRecord[] ring;
     private final int maxSize;
+    private final HistorySegmentStore coldTier;
+    private int head;
+    private int count;
+
+    /** Current maximum of in-memory records, below maxSize under heap pressure. */
+    private int limit;
+    private long pressureEvents;
+
+    /** Records behind slots that were restored and not yet overwritten, or null. */
+    private List<CalculationRecord> restored;
+    private int restoredOffset;
+
+    /** Created on first use, so histories without subscribers publish nothing. */
+    private volatile HistoryFeed feed;
 
     /**
      * Constructs a new calculation history with default maximum size.
@@ -37,17 +89,57 @@ public class CalculationHistory {
      * @throws IllegalArgumentException if maxSize is less than 1
      */
     public CalculationHistory(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Constructs a tiered calculation history.
+     * 
+     * @param maxSize  maximum number of records kept in memory
+     * @param coldTier store for records evicted from memory, or null to
+     *                 discard them
+     * @throws IllegalArgumentException if maxSize is less than 1
+     */
+    public CalculationHistory(int maxSize, HistorySegmentStore coldTier) {
         if (maxSize < 1) {
             throw new IllegalArgumentException("Max size must be at least 1");
         }
         this.maxSize = maxSize;
-        this.records = new ArrayList<>();
-        logger.info("Calculation history initialized with max size: {}", maxSize);
+        this.limit = maxSize;
+        this.ring = new CalculationRecord[Math.min(maxSize, INITIAL_CAPACITY)];
+        this.coldTier = coldTier;
+        logger.info("Calculation history initialized with max size: {}{}", maxSize,
+                coldTier == null ? "" : " and on-disk cold tier");
+    }
+
+    /**
+     * Creates a history whose in-memory tier holds as many records as fit in
+     * the given number of bytes, estimated at {@value #ESTIMATED_RECORD_BYTES}
+     * bytes per record. The budget is converted into a record count once, so
+     * it is approximate: records are not measured as they are added, and the
+     * few whose operation name is formatted per record, such as chains, take
+     * somewhat more than the estimate. The ring is not allocated for the
+     * whole budget up front, but grows with the records.
+     * 
+     * @param maxBytes byte budget of the in-memory tier
+     * @param coldTier store for records evicted from memory, or null to
+     *                 discard them
+     * @return the history
+     * @throws IllegalArgumentException if the budget does not fit one record
+     */
+    public static CalculationHistory withByteBudget(long maxBytes, HistorySegmentStore coldTier) {
+        if (maxBytes < ESTIMATED_RECORD_BYTES) {
+            throw new IllegalArgumentException(
+                    String.format("Byte budget must be at least %d bytes", ESTIMATED_RECORD_BYTES));
+        }
+        return new CalculationHistory((int) Math.min(Integer.MAX_VALUE - 8, maxBytes / ESTIMATED_RECORD_BYTES),
+                coldTier);
     }
 
     /**
      * Adds a calculation record to the history.
-     * If the history exceeds maximum size, the oldest record is removed.
+     * If the in-memory tier is full, the oldest record is moved to the cold
+     * tier, or removed if there is none.
      * 
      * @param record the calculation record to add
      * @throws NullPointerException if record is null
@@ -57,52 +149,262 @@ public class CalculationHistory {
             throw new NullPointerException("Cannot add null record to history");
         }
 
-        records.add(record);
+        if (count >= limit) {
+            CalculationRecord evicted = slot(head);
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+            count--;
+            if (coldTier != null) {
+                coldTier.append(evicted);
+            } else {
+                logger.debug("Removed oldest record due to size limit: {}", evicted);
+            }
+        }
+        ensureCapacity(count + 1);
+        ring[(head + count) % ring.length] = record;
+        count++;
+        HistoryFeed activeFeed = feed;
+        if (activeFeed != null) {
+            activeFeed.publish(record);
+        }
         logger.debug("Added record to history: {}", record);
+    }
+
+    /**
+     * Adds a batch of calculation records, oldest first, as one step:
+     * readers see either none or all of the batch. Space is made once for
+     * the whole batch, so the overflow moves to the cold tier, or is
+     * removed, in one run, and records of a batch larger than the in-memory
+     * tier go straight to the cold tier.
+     * 
+     * @param records the records to add
+     * @throws NullPointerException if records or any record is null; nothing
+     *                              is added
+     */
+    public void addAll(List<CalculationRecord> records) {
+        CalculationRecord[] batch = records.toArray(new CalculationRecord[0]);
+        for (CalculationRecord record : batch) {
+            if (record == null) {
+                throw new NullPointerException("Cannot add null record to history");
+            }
+        }
+        append(batch, batch.length);
+    }
+
+    /**
+     * Adds a batch of calculations given as columns, as
+     * {@link #addAll(List)}. All records of the batch share one timestamp.
+     * 
+     * @param count      number of calculations
+     * @param operands1  first operand of each calculation
+     * @param operands2  second operand of each calculation
+     * @param symbols    operation symbol of each calculation
+     * @param names      operation name of each calculation
+     * @param results    result of each calculation
+     * @throws IllegalArgumentException if count is negative or exceeds a
+     *                                  column's length
+     * @throws NullPointerException     if a symbol or name is null; nothing
+     *                                  is added
+     */
+    public void addAll(int count, double[] operands1, double[] operands2,
+            String[] symbols, String[] names, double[] results) {
+        if (count < 0 || count > operands1.length || count > operands2.length
+                || count > symbols.length || count > names.length || count > results.length) {
+            throw new IllegalArgumentException("Count must be between 0 and the length of every column");
+        }
+        LocalDateTime timestamp = LocalDateTime.now();
+        CalculationRecord[] batch = new CalculationRecord[count];
+        for (int i = 0; i < count; i++) {
+            batch[i] = new CalculationRecord(operands1[i], operands2[i], symbols[i], names[i], results[i], timestamp);
+        }
+        append(batch, count);
+    }
+
+    private synchronized void append(CalculationRecord[] batch, int n) {
+        if (n == 0) {
+            return;
+        }
+        int kept = Math.min(n, limit);
+        evictOldest(Math.max(0, count + kept - limit), Arrays.asList(batch).subList(0, n - kept));
+
+        ensureCapacity(count + kept);
+        int tail = (head + count) % ring.length;
+        int untilWrap = Math.min(kept, ring.length - tail);
+        System.arraycopy(batch, n - kept, ring, tail, untilWrap);
+        System.arraycopy(batch, n - kept + untilWrap, ring, 0, kept - untilWrap);
+        count += kept;
+        HistoryFeed activeFeed = feed;
+        if (activeFeed != null) {
+            activeFeed.publishAll(batch, n);
+        }
+        logger.debug("Added {} record(s) to history", n);
+    }
+
+    /**
+     * Removes the oldest in-memory records, moving them to the cold tier
+     * together with records that bypass the in-memory tier, or discarding
+     * both if there is no cold tier.
+     */
+    private void evictOldest(int evicted, List<CalculationRecord> bypassing) {
+        int discarded = evicted + bypassing.size();
+        if (discarded == 0) {
+            return;
+        }
+        List<CalculationRecord> spilled = coldTier == null ? null : new ArrayList<>(discarded);
+        for (int i = 0; i < evicted; i++) {
+            int index = (head + i) % ring.length;
+            if (spilled != null) {
+                spilled.add(slot(index));
+            }
+            ring[index] = null;
+        }
+        head = (head + evicted) % ring.length;
+        count -= evicted;
+        if (spilled != null) {
+            spilled.addAll(bypassing);
+            coldTier.appendAll(spilled);
+        } else {
+            logger.debug("Removed {} oldest record(s) due to size limit", discarded);
+        }
+    }
+
+    /**
+     * Shrinks the in-memory tier while the heap is under pressure, and grows
+     * it back afterwards. Shrinking evicts the oldest records at once;
+     * growing only raises the limit, and the tier refills with new records.
+     * Suitable as a {@link HeapPressureMonitor.Listener}.
+     * 
+     * @param underPressure true when pressure starts, false when it ends
+     */
+    public synchronized void setMemoryPressure(boolean underPressure) {
+        int newLimit = underPressure ? Math.max(1, maxSize / PRESSURE_SHRINK_FACTOR) : maxSize;
+        if (newLimit == limit) {
+            return;
+        }
+        limit = newLimit;
+        if (underPressure) {
+            pressureEvents++;
+            int evicted = Math.max(0, count - limit);
+            evictOldest(evicted, List.of());
+            logger.warn("Heap under pressure: history shrunk to {} record(s), {} evicted", limit, evicted);
+        } else {
+            logger.info("Heap pressure eased: history may grow back to {} record(s)", limit);
+        }
+    }
 
-        // Remove oldest if exceeded max size
-        while (records.size() > maxSize) {
-            CalculationRecord removed = records.remove(0);
-            logger.debug("Removed oldest record due to size limit: {}", removed);
+    /**
+     * Gets the change feed that publishes every record added from now on.
+     * Records restored or already in the history are not published.
+     * 
+     * @return the history's feed
+     */
+    public HistoryFeed getFeed() {
+        HistoryFeed current = feed;
+        if (current == null) {
+            synchronized (this) {
+                current = feed;
+                if (current == null) {
+                    current = new HistoryFeed(HistoryFeed.DEFAULT_CAPACITY);
+                    feed = current;
+                }
+            }
         }
+        return current;
     }
 
     /**
-     * Returns an unmodifiable view of all calculation records.
+     * Returns an unmodifiable view of all calculation records, oldest first.
      * 
      * @return unmodifiable list of calculation records
      */
-    public synchronized List<CalculationRecord> getRecords() {
-        return Collections.unmodifiableList(new ArrayList<>(records));
+    public List<CalculationRecord> getRecords() {
+        return getRecentRecords(Integer.MAX_VALUE);
     }
 
     /**
-     * Returns the most recent N calculation records.
+     * Returns the most recent N calculation records, oldest first.
+     * The cold tier is only read when the in-memory tier holds fewer records.
      * 
      * @param count number of recent records to return
      * @return list of recent records
      */
-    public synchronized List<CalculationRecord> getRecentRecords(int count) {
-        int fromIndex = Math.max(0, records.size() - count);
-        return Collections.unmodifiableList(new ArrayList<>(records.subList(fromIndex, records.size())));
+    public List<CalculationRecord> getRecentRecords(int count) {
+        List<CalculationRecord> hot;
+        long coldPosition;
+        synchronized (this) {
+            hot = copyRecent(Math.min(count, this.count));
+            if (coldTier == null || count <= hot.size()) {
+                return Collections.unmodifiableList(hot);
+            }
+            coldPosition = coldTier.getAppendedCount();
+        }
+        // The cold tier is locked outside the monitor, so that adding records
+        // never waits for a reader; records evicted since the copy are skipped.
+        try (HistorySegmentStore.Snapshot snapshot = coldTier.snapshot()) {
+            List<CalculationRecord> records = snapshot.readRecent(count - hot.size(), coldPosition);
+            records.addAll(hot);
+            return Collections.unmodifiableList(records);
+        }
+    }
+
+    /**
+     * Returns the records of the in-memory tier, oldest first, without
+     * reading the cold tier.
+     * 
+     * @return list of in-memory records
+     */
+    public synchronized List<CalculationRecord> getInMemoryRecords() {
+        return Collections.unmodifiableList(copyRecent(count));
     }
 
     /**
-     * Clears all calculation records from history.
+     * Restores the in-memory tier from the most recent {@code maxSize}
+     * records of the given list. The list is not copied: a record is read
+     * from it when it is first requested or evicted, so the list must stay
+     * unchanged and support fast random access.
+     * 
+     * @param records records to restore, oldest first
+     * @throws NullPointerException  if records is null
+     * @throws IllegalStateException if the in-memory tier is not empty
+     */
+    public synchronized void restore(List<CalculationRecord> records) {
+        Objects.requireNonNull(records, "Records cannot be null");
+        if (count > 0) {
+            throw new IllegalStateException("Cannot restore into a history with in-memory records");
+        }
+        head = 0;
+        count = Math.min(records.size(), limit);
+        if (count > ring.length) {
+            ring = new CalculationRecord[count];
+        }
+        restored = count == 0 ? null : records;
+        restoredOffset = records.size() - count;
+        logger.info("Restored {} record(s) into calculation history", count);
+    }
+
+    /**
+     * Clears all calculation records from history, including the cold tier.
      */
     public synchronized void clear() {
-        int previousSize = records.size();
-        records.clear();
+        long previousSize = size();
+        ring = new CalculationRecord[Math.min(maxSize, INITIAL_CAPACITY)];
+        head = 0;
+        count = 0;
+        restored = null;
+        if (coldTier != null) {
+            coldTier.clear();
+        }
         logger.info("Cleared calculation history. Removed {} records", previousSize);
     }
 
     /**
-     * Returns the number of records in history.
+     * Returns the number of records in history, across both tiers.
      * 
      * @return number of records
      */
     public synchronized int size() {
-        return records.size();
+        long total = count + (coldTier == null ? 0 : coldTier.getRecordCount());
+        return (int) Math.min(Integer.MAX_VALUE, total);
     }
 
     /**
@@ -111,15 +413,101 @@ public class CalculationHistory {
      * @return true if history has no records
      */
     public synchronized boolean isEmpty() {
-        return records.isEmpty();
+        return count == 0 && (coldTier == null || coldTier.getRecordCount() == 0);
     }
 
     /**
-     * Gets the maximum size of this history.
+     * Gets the maximum size of the in-memory tier.
      * 
      * @return maximum size
      */
     public int getMaxSize() {
         return maxSize;
     }
+
+    /**
+     * Gets the current maximum size of the in-memory tier, which is below
+     * {@link #getMaxSize()} while the heap is under pressure.
+     * 
+     * @return current maximum size
+     */
+    public synchronized int getCurrentMaxSize() {
+        return limit;
+    }
+
+    /**
+     * Gets the estimated heap footprint of the in-memory tier,
+     * {@value #ESTIMATED_RECORD_BYTES} bytes per record, restored or added.
+     * This is the same estimate a byte budget is converted with, so a full
+     * tier reports at most its budget.
+     * 
+     * @return estimated bytes
+     */
+    public synchronized long getEstimatedBytes() {
+        return (long) count * ESTIMATED_RECORD_BYTES;
+    }
+
+    /**
+     * Gets the number of times the in-memory tier shrank under heap pressure.
+     * 
+     * @return number of pressure events
+     */
+    public synchronized long getPressureEvents() {
+        return pressureEvents;
+    }
+
+    /**
+     * Moves the in-memory records to the cold tier and closes it, so the
+     * whole history is available to the next session. Does nothing without
+     * a cold tier.
+     */
+    @Override
+    public synchronized void close() {
+        if (coldTier == null) {
+            return;
+        }
+        for (CalculationRecord record : copyRecent(count)) {
+            coldTier.append(record);
+        }
+        ring = new CalculationRecord[Math.min(maxSize, INITIAL_CAPACITY)];
+        head = 0;
+        count = 0;
+        restored = null;
+        coldTier.close();
+    }
+
+    private List<CalculationRecord> copyRecent(int n) {
+        List<CalculationRecord> copy = new ArrayList<>(n);
+        for (int i = count - n; i < count; i++) {
+            copy.add(slot((head + i) % ring.length));
+        }
+        return copy;
+    }
+
+    /**
+     * Grows the ring, doubling it up to maxSize, to hold the given number of
+     * records, moving the oldest record to the first slot.
+     */
+    private void ensureCapacity(int needed) {
+        if (needed <= ring.length) {
+            return;
+        }
+        CalculationRecord[] grown = new CalculationRecord[(int) Math.min(maxSize, Math.max(needed, 2L * ring.length))];
+        int untilWrap = Math.min(count, ring.length - head);
+        System.arraycopy(ring, head, grown, 0, untilWrap);
+        System.arraycopy(ring, 0, grown, untilWrap, count - untilWrap);
+        // Restored slots never wrap, so they keep mapping to consecutive list entries
+        restoredOffset += head;
+        ring = grown;
+        head = 0;
+    }
+
+    /**
+     * Reads a ring slot. Restored slots stay empty until they are
+     * overwritten, and are read from the restored list instead.
+     */
+    private CalculationRecord slot(int index) {
+        CalculationRecord record = ring[index];
+        return record != null ? record : restored.get(restoredOffset + index);
+    }
 }
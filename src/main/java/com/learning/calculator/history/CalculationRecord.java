@@ -33,12 +33,29 @@ public final class CalculationRecord {
      */
     public CalculationRecord(double operand1, double operand2,
             String operationSymbol, String operationName, double result) {
+        this(operand1, operand2, operationSymbol, operationName, result, LocalDateTime.now());
+    }
+
+    /**
+     * Constructs a calculation record with a given timestamp, used when
+     * records are restored from storage such as history segments or engine
+     * checkpoints.
+     * 
+     * @param operand1        first operand
+     * @param operand2        second operand
+     * @param operationSymbol symbol of the operation
+     * @param operationName   name of the operation
+     * @param result          result of the calculation
+     * @param timestamp       time of the calculation
+     */
+    public CalculationRecord(double operand1, double operand2,
+            String operationSymbol, String operationName, double result, LocalDateTime timestamp) {
         this.operand1 = operand1;
         this.operand2 = operand2;
         this.operationSymbol = Objects.requireNonNull(operationSymbol, "Operation symbol cannot be null");
         this.operationName = Objects.requireNonNull(operationName, "Operation name cannot be null");
         this.result = result;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = Objects.requireNonNull(timestamp, "Timestamp cannot be null");
     }
 
     // Getters
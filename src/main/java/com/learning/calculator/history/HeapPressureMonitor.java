@@ -0,0 +1,232 @@
+package com.learning.calculator.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports heap pressure to listeners such as a byte-budgeted
+ * {@link CalculationHistory}, so that caches can shrink before the heap
+ * runs out rather than after.
+ * 
+ * Pressure starts when a heap pool is still above the high watermark after
+ * a garbage collection, as reported by the JVM's collection usage
+ * threshold notification for that pool. The JVM does not report the
+ * opposite, so while under pressure the pools are polled, and pressure
+ * ends once every pool is back below the low watermark after a collection.
+ * 
+ * Collection usage thresholds are JVM-wide settings: only one monitor
+ * should be open at a time, and closing it clears the thresholds.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class HeapPressureMonitor implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(HeapPressureMonitor.class);
+
+    /** Default fraction of a pool's maximum above which pressure starts. */
+    public static final double DEFAULT_HIGH_WATERMARK = 0.85;
+
+    /** Default fraction of a pool's maximum below which pressure ends. */
+    public static final double DEFAULT_LOW_WATERMARK = 0.70;
+
+    private static final long RELIEF_POLL_MILLIS = 500;
+
+    /**
+     * Receives heap pressure changes. Called on a monitor thread, so
+     * implementations must be thread-safe and return quickly.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called when heap pressure starts or ends.
+         * 
+         * @param underPressure true when pressure starts, false when it ends
+         */
+        void pressureChanged(boolean underPressure);
+    }
+
+    private final double lowWatermark;
+    private final List<MemoryPoolMXBean> pools;
+    private final NotificationEmitter emitter;
+    private final NotificationListener notificationListener =
+            (notification, handback) -> onNotification(notification);
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService poller;
+    private final AtomicLong pressureEvents = new AtomicLong();
+    private boolean underPressure;
+    private ScheduledFuture<?> reliefCheck;
+
+    /**
+     * Starts a monitor with the default watermarks.
+     */
+    public HeapPressureMonitor() {
+        this(DEFAULT_HIGH_WATERMARK, DEFAULT_LOW_WATERMARK);
+    }
+
+    /**
+     * Starts a monitor.
+     * 
+     * @param highWatermark fraction of a heap pool's maximum above which
+     *                      pressure starts
+     * @param lowWatermark  fraction of every heap pool's maximum below which
+     *                      pressure ends
+     * @throws IllegalArgumentException unless 0 &lt; lowWatermark &lt;
+     *                                  highWatermark &lt; 1
+     */
+    public HeapPressureMonitor(double highWatermark, double lowWatermark) {
+        if (!(lowWatermark > 0 && lowWatermark < highWatermark && highWatermark < 1)) {
+            throw new IllegalArgumentException("Watermarks must satisfy 0 < low < high < 1");
+        }
+        this.lowWatermark = lowWatermark;
+        this.pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported())
+                .filter(pool -> pool.getUsage().getMax() > 0)
+                .toList();
+        for (MemoryPoolMXBean pool : pools) {
+            pool.setCollectionUsageThreshold((long) (pool.getUsage().getMax() * highWatermark));
+        }
+        this.emitter = (NotificationEmitter) ManagementFactory.getMemoryMXBean();
+        this.emitter.addNotificationListener(notificationListener, notification ->
+                MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType()), null);
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "heap-pressure");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Heap pressure monitor watching {} pool(s) between {}% and {}% of their maximum",
+                pools.size(), Math.round(lowWatermark * 100), Math.round(highWatermark * 100));
+    }
+
+    /**
+     * Registers a listener. A listener added while the heap is under
+     * pressure is told so immediately.
+     * 
+     * @param listener the listener
+     */
+    public void addListener(Listener listener) {
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        listeners.add(listener);
+        if (isUnderPressure()) {
+            listener.pressureChanged(true);
+        }
+    }
+
+    /**
+     * Unregisters a listener.
+     * 
+     * @param listener the listener
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Checks if the heap is currently under pressure.
+     * 
+     * @return true between the start and end of a pressure event
+     */
+    public synchronized boolean isUnderPressure() {
+        return underPressure;
+    }
+
+    /**
+     * Gets the number of pressure events since the monitor started.
+     * 
+     * @return number of pressure events
+     */
+    public long getPressureEvents() {
+        return pressureEvents.get();
+    }
+
+    /**
+     * Stops monitoring and clears the pools' collection usage thresholds.
+     * Listeners are not told that pressure ended.
+     */
+    @Override
+    public void close() {
+        try {
+            emitter.removeNotificationListener(notificationListener);
+        } catch (ListenerNotFoundException e) {
+            logger.debug("Heap pressure listener was already removed");
+        }
+        for (MemoryPoolMXBean pool : pools) {
+            pool.setCollectionUsageThreshold(0);
+        }
+        poller.shutdownNow();
+    }
+
+    private void onNotification(Notification notification) {
+        logger.warn("Heap pool above collection usage threshold: {}", notification.getMessage());
+        startPressure();
+    }
+
+    /**
+     * Starts a pressure event, unless one is in progress, and starts polling
+     * for its end.
+     */
+    void startPressure() {
+        synchronized (this) {
+            if (underPressure) {
+                return;
+            }
+            underPressure = true;
+            pressureEvents.incrementAndGet();
+            reliefCheck = poller.scheduleWithFixedDelay(this::checkRelief,
+                    RELIEF_POLL_MILLIS, RELIEF_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        fire(true);
+    }
+
+    /**
+     * Ends the pressure event in progress if every pool is back below the
+     * low watermark after its last collection.
+     */
+    void checkRelief() {
+        for (MemoryPoolMXBean pool : pools) {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (usage != null && usage.getMax() > 0 && usage.getUsed() > usage.getMax() * lowWatermark) {
+                return;
+            }
+        }
+        synchronized (this) {
+            if (!underPressure) {
+                return;
+            }
+            underPressure = false;
+            reliefCheck.cancel(false);
+            reliefCheck = null;
+        }
+        logger.info("Heap pressure eased");
+        fire(false);
+    }
+
+    private void fire(boolean pressure) {
+        for (Listener listener : listeners) {
+            try {
+                listener.pressureChanged(pressure);
+            } catch (RuntimeException e) {
+                logger.error("Heap pressure listener failed", e);
+            }
+        }
+    }
+}
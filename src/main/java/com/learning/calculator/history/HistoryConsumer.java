@@ -0,0 +1,35 @@
+package com.learning.calculator.history;
+
+import java.util.List;
+
+/**
+ * Receives the records appended to a {@link CalculationHistory} through its
+ * {@link HistoryFeed}. Callbacks for one consumer are made from a single
+ * dispatch thread, in sequence order.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public interface HistoryConsumer {
+
+    /**
+     * Receives a batch of consecutive records.
+     * 
+     * @param firstSequence feed sequence number of the first record
+     * @param records       the records, only valid for the duration of the
+     *                      call
+     */
+    void onRecords(long firstSequence, List<CalculationRecord> records);
+
+    /**
+     * Called when the consumer fell so far behind that records were
+     * overwritten in the feed before it could read them. What happens next
+     * depends on the subscription's {@link HistoryFeed.GapPolicy}.
+     * 
+     * @param missedFrom sequence number of the first missed record
+     * @param resumeAt   sequence number the consumer continues from
+     */
+    default void onGap(long missedFrom, long resumeAt) {
+    }
+}
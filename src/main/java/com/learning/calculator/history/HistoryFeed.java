@@ -0,0 +1,344 @@
+package com.learning.calculator.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Change feed of a {@link CalculationHistory}: every appended record is
+ * published into a preallocated ring buffer, from which each subscribed
+ * {@link HistoryConsumer} reads on its own dispatch thread, in batches, at
+ * its own pace.
+ * 
+ * Publishing never waits for consumers. Each slot carries the sequence
+ * number of its record, and a consumer that finds its next record
+ * overwritten has fallen more than the ring's capacity behind; it is told
+ * so through {@link HistoryConsumer#onGap(long, long)} and continues
+ * according to its {@link GapPolicy}. A consumer that is waiting for
+ * records is parked and woken by the publisher, which costs the publisher
+ * one volatile read while no consumer waits.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class HistoryFeed {
+    private static final Logger logger = LoggerFactory.getLogger(HistoryFeed.class);
+
+    /** Default number of records the ring holds. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** Default maximum number of records per consumer callback. */
+    public static final int DEFAULT_MAX_BATCH = 256;
+
+    /** Upper bound of a consumer's park, in case a wake-up is missed. */
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    /**
+     * What a consumer does after it has fallen behind and missed records.
+     */
+    public enum GapPolicy {
+        /** Continue from the oldest record still in the ring. */
+        SKIP_TO_OLDEST,
+        /** Continue from the next record to be published. */
+        SKIP_TO_LATEST,
+        /** Close the subscription. */
+        CANCEL
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<CalculationRecord> records;
+    private final AtomicLongArray sequences;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger parkedConsumers = new AtomicInteger();
+    private volatile long published;
+
+    /**
+     * Creates a feed.
+     * 
+     * @param capacity number of records the ring holds, a power of two
+     * @throws IllegalArgumentException if capacity is not a positive power of two
+     */
+    HistoryFeed(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Feed capacity must be a positive power of two");
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.records = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, -1);
+        }
+    }
+
+    /**
+     * Publishes a record. Must only be called by one thread at a time; the
+     * history calls it under its monitor.
+     * 
+     * @param record the appended record
+     */
+    void publish(CalculationRecord record) {
+        long sequence = published;
+        int slot = (int) sequence & mask;
+        // Seqlock: a reader that sees the record being replaced sees a sequence mismatch
+        sequences.set(slot, -1);
+        records.set(slot, record);
+        sequences.set(slot, sequence);
+        published = sequence + 1;
+        wakeParkedConsumers();
+    }
+
+    /**
+     * Publishes the first {@code count} records of a batch, making them
+     * visible to consumers at once. Of a batch larger than the ring only the
+     * last {@code capacity} records are written; consumers see the rest as
+     * a gap. Must only be called by one thread at a time.
+     * 
+     * @param batch the appended records, oldest first
+     * @param count number of records to publish
+     */
+    void publishAll(CalculationRecord[] batch, int count) {
+        long first = published;
+        for (int i = Math.max(0, count - capacity); i < count; i++) {
+            long sequence = first + i;
+            int slot = (int) sequence & mask;
+            sequences.set(slot, -1);
+            records.set(slot, batch[i]);
+            sequences.set(slot, sequence);
+        }
+        published = first + count;
+        wakeParkedConsumers();
+    }
+
+    private void wakeParkedConsumers() {
+        if (parkedConsumers.get() > 0) {
+            for (Subscription subscription : subscriptions) {
+                subscription.wakeUp();
+            }
+        }
+    }
+
+    /**
+     * Subscribes a consumer to records appended from now on, skipping to the
+     * oldest available record after a gap and delivering up to
+     * {@value #DEFAULT_MAX_BATCH} records per callback.
+     * 
+     * @param consumer the consumer
+     * @return the subscription
+     */
+    public Subscription subscribe(HistoryConsumer consumer) {
+        return subscribe(consumer, GapPolicy.SKIP_TO_OLDEST, DEFAULT_MAX_BATCH);
+    }
+
+    /**
+     * Subscribes a consumer to records appended from now on.
+     * 
+     * @param consumer  the consumer
+     * @param gapPolicy what to do after missing records
+     * @param maxBatch  maximum number of records per callback
+     * @return the subscription
+     * @throws IllegalArgumentException if maxBatch is less than 1
+     */
+    public Subscription subscribe(HistoryConsumer consumer, GapPolicy gapPolicy, int maxBatch) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        Objects.requireNonNull(gapPolicy, "Gap policy cannot be null");
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("Max batch must be at least 1");
+        }
+        Subscription subscription = new Subscription(consumer, gapPolicy, maxBatch, published);
+        subscriptions.add(subscription);
+        subscription.thread.start();
+        logger.info("History feed consumer subscribed: {}", subscription.thread.getName());
+        return subscription;
+    }
+
+    /**
+     * Gets the number of records the ring holds.
+     * 
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of records published so far, which is also the
+     * sequence number of the next record.
+     * 
+     * @return number of published records
+     */
+    public long getPublishedCount() {
+        return published;
+    }
+
+    /**
+     * A consumer's position in the feed and its dispatch thread.
+     */
+    public final class Subscription implements Closeable {
+        private final HistoryConsumer consumer;
+        private final GapPolicy gapPolicy;
+        private final int maxBatch;
+        private final Thread thread;
+        private volatile long next;
+        private volatile long missed;
+        private volatile boolean parked;
+        private volatile boolean closed;
+
+        private Subscription(HistoryConsumer consumer, GapPolicy gapPolicy, int maxBatch, long start) {
+            this.consumer = consumer;
+            this.gapPolicy = gapPolicy;
+            this.maxBatch = maxBatch;
+            this.next = start;
+            this.thread = new Thread(this::dispatch, "history-feed-" + THREAD_IDS.incrementAndGet());
+            this.thread.setDaemon(true);
+        }
+
+        /**
+         * Gets the sequence number of the next record this consumer receives.
+         * 
+         * @return the next sequence number
+         */
+        public long getSequence() {
+            return next;
+        }
+
+        /**
+         * Gets the number of published records the consumer has not
+         * received yet.
+         * 
+         * @return the lag in records
+         */
+        public long getLag() {
+            return Math.max(0, published - next);
+        }
+
+        /**
+         * Gets the number of records the consumer missed because it fell
+         * behind.
+         * 
+         * @return number of missed records
+         */
+        public long getMissedCount() {
+            return missed;
+        }
+
+        /**
+         * Checks if the subscription is closed.
+         * 
+         * @return true if closed
+         */
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Stops delivery and waits for an ongoing callback to return, unless
+         * called from a callback.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            subscriptions.remove(this);
+            LockSupport.unpark(thread);
+            if (Thread.currentThread() != thread) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private void wakeUp() {
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void dispatch() {
+            List<CalculationRecord> batch = new ArrayList<>(maxBatch);
+            List<CalculationRecord> view = Collections.unmodifiableList(batch);
+            while (!closed) {
+                long available = published;
+                if (next == available) {
+                    park(available);
+                    continue;
+                }
+                if (next < available - capacity) {
+                    handleGap(available);
+                    continue;
+                }
+                long first = next;
+                long end = Math.min(available, first + maxBatch);
+                batch.clear();
+                for (long sequence = first; sequence < end; sequence++) {
+                    int slot = (int) sequence & mask;
+                    CalculationRecord record = records.get(slot);
+                    if (sequences.get(slot) != sequence) {
+                        // Overwritten while reading; the gap is handled on the next pass
+                        break;
+                    }
+                    batch.add(record);
+                }
+                if (batch.isEmpty()) {
+                    handleGap(published);
+                    continue;
+                }
+                try {
+                    consumer.onRecords(first, view);
+                } catch (RuntimeException e) {
+                    logger.error("History feed consumer failed: {}", e.getMessage(), e);
+                }
+                next = first + batch.size();
+            }
+            logger.info("History feed consumer stopped: {}", thread.getName());
+        }
+
+        private void park(long available) {
+            parked = true;
+            parkedConsumers.incrementAndGet();
+            try {
+                if (published == available && !closed) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+            } finally {
+                parked = false;
+                parkedConsumers.decrementAndGet();
+            }
+        }
+
+        private void handleGap(long available) {
+            long missedFrom = next;
+            long resumeAt = gapPolicy == GapPolicy.SKIP_TO_LATEST ? available
+                    : Math.max(missedFrom, available - capacity);
+            missed += resumeAt - missedFrom;
+            next = resumeAt;
+            logger.warn("History feed consumer {} fell behind: missed records {} to {}",
+                    thread.getName(), missedFrom, resumeAt - 1);
+            try {
+                consumer.onGap(missedFrom, resumeAt);
+            } catch (RuntimeException e) {
+                logger.error("History feed consumer failed: {}", e.getMessage(), e);
+            }
+            if (gapPolicy == GapPolicy.CANCEL) {
+                closed = true;
+                subscriptions.remove(this);
+            }
+        }
+    }
+}
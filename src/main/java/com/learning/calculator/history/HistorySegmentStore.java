@@ -0,0 +1,668 @@
+package com.learning.calculator.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Cold tier of the calculation history: records evicted from the in-memory
+ * tier are collected into batches and written by a background thread to
+ * immutable segment files, so appending never waits for disk I/O.
+ * 
+ * Segment files are written to a temporary file and atomically moved into
+ * place, so a crash never leaves a partial segment visible. Small segments
+ * are compacted into larger ones, and whole segments are deleted once their
+ * newest record exceeds the maximum age or the store exceeds its byte budget.
+ * 
+ * Sealed batches are written in order by draining the queue from its head.
+ * A batch whose write fails stays at the head, in memory and visible to
+ * reads, and is retried before any later batch by the next drain, which is
+ * scheduled when another batch is sealed or the store is flushed.
+ * 
+ * Segment format (big-endian): magic, version, record count, newest
+ * timestamp (epoch second and nano), then the length of the records encoded
+ * with {@link RecordBatchCodec} and the encoded records. Version 1 segments,
+ * which stored each record field by field, are still readable.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class HistorySegmentStore implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(HistorySegmentStore.class);
+
+    private static final int MAGIC = 0x48534547;
+    private static final int VERSION = 2;
+    private static final int UNCOMPRESSED_VERSION = 1;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".hseg";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** Records per spilled batch. */
+    private static final int SPILL_BATCH_SIZE = 256;
+
+    /** Segments with fewer records than this are candidates for compaction. */
+    private static final int COMPACTION_TARGET_RECORDS = 4096;
+
+    /** Number of consecutive small segments that triggers a compaction. */
+    private static final int MIN_COMPACTION_SEGMENTS = 8;
+
+    private final Path directory;
+    private final Duration maxAge;
+    private final long maxBytes;
+    private final ExecutorService writer;
+
+    /** Guards the segment files: readers share it, deletion and replacement are exclusive. */
+    private final ReadWriteLock segmentLock = new ReentrantReadWriteLock();
+    private final List<Segment> segments = new ArrayList<>();
+    private long nextSequence;
+
+    /** Guards the batches that are not yet on disk. */
+    private final Object pendingLock = new Object();
+    private final ArrayDeque<List<CalculationRecord>> sealedBatches = new ArrayDeque<>();
+    private List<CalculationRecord> openBatch = new ArrayList<>();
+
+    /** Grows with every appended record, see getAppendedCount(); written under pendingLock. */
+    private volatile long appendedRecords;
+
+    /** Records in segments and pending batches, read without locking. */
+    private final AtomicLong recordCount = new AtomicLong();
+
+    /**
+     * Opens a store without retention limits.
+     * 
+     * @param directory directory for the segment files, created if missing
+     * @throws IOException if the directory cannot be created or read
+     */
+    public HistorySegmentStore(Path directory) throws IOException {
+        this(directory, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Opens a store, picking up segments left by a previous session.
+     * 
+     * @param directory directory for the segment files, created if missing
+     * @param maxAge    segments whose newest record is older are deleted, or
+     *                  null to keep records regardless of age
+     * @param maxBytes  oldest segments are deleted while the store is larger
+     * @throws IOException if the directory cannot be created or read
+     * @throws IllegalArgumentException if maxBytes is not positive
+     */
+    public HistorySegmentStore(Path directory, Duration maxAge, long maxBytes) throws IOException {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max bytes must be positive");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxAge = maxAge;
+        this.maxBytes = maxBytes;
+        loadSegments();
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "history-spill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("History segment store opened at {} with {} segment(s), {} record(s)", directory,
+                segments.size(), getRecordCount());
+    }
+
+    /**
+     * Appends an evicted record. The record is written in the background
+     * once its batch is full; until then it is served from memory.
+     * 
+     * @param record the record
+     */
+    public void append(CalculationRecord record) {
+        synchronized (pendingLock) {
+            openBatch.add(record);
+            appendedRecords++;
+            recordCount.incrementAndGet();
+            if (openBatch.size() >= SPILL_BATCH_SIZE) {
+                sealOpenBatch();
+            }
+        }
+    }
+
+    /**
+     * Appends a run of evicted records, oldest first, taking the store's
+     * lock once for the whole run.
+     * 
+     * @param records the records
+     */
+    public void appendAll(List<CalculationRecord> records) {
+        synchronized (pendingLock) {
+            for (CalculationRecord record : records) {
+                openBatch.add(record);
+                if (openBatch.size() >= SPILL_BATCH_SIZE) {
+                    sealOpenBatch();
+                }
+            }
+            appendedRecords += records.size();
+            recordCount.addAndGet(records.size());
+        }
+    }
+
+    /**
+     * Writes all appended records to disk, retrying batches whose earlier
+     * write failed, and waits for completion.
+     */
+    public void flush() {
+        synchronized (pendingLock) {
+            if (!openBatch.isEmpty()) {
+                sealOpenBatch();
+            }
+        }
+        awaitWriter(this::drain);
+    }
+
+    /**
+     * Takes a consistent view of the store for reading. Segments in the view
+     * are not deleted or replaced until the view is closed, which must
+     * happen on the same thread.
+     * 
+     * @return the view
+     */
+    public Snapshot snapshot() {
+        segmentLock.readLock().lock();
+        List<Segment> segmentView = new ArrayList<>(segments);
+        List<CalculationRecord> pending = new ArrayList<>();
+        long appended;
+        synchronized (pendingLock) {
+            sealedBatches.forEach(pending::addAll);
+            pending.addAll(openBatch);
+            appended = appendedRecords;
+        }
+        return new Snapshot(segmentView, pending, appended);
+    }
+
+    /**
+     * Gets the number of stored records, including those not yet written,
+     * without locking.
+     * 
+     * @return number of records
+     */
+    public long getRecordCount() {
+        return recordCount.get();
+    }
+
+    /**
+     * Gets a counter that grows by one with every appended record, without
+     * locking. Records appended later are always newer, so the value marks a
+     * position in the store, see {@link Snapshot#readRecent(long, long)}.
+     * 
+     * @return the counter
+     */
+    public long getAppendedCount() {
+        return appendedRecords;
+    }
+
+    /**
+     * Gets the size of the segment files.
+     * 
+     * @return bytes on disk
+     */
+    public long getTotalBytes() {
+        segmentLock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Segment segment : segments) {
+                bytes += segment.bytes;
+            }
+            return bytes;
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of segment files.
+     * 
+     * @return number of segments
+     */
+    public int getSegmentCount() {
+        segmentLock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes all stored records and waits for completion.
+     */
+    public void clear() {
+        synchronized (pendingLock) {
+            long pending = openBatch.size();
+            for (List<CalculationRecord> batch : sealedBatches) {
+                pending += batch.size();
+            }
+            sealedBatches.clear();
+            openBatch = new ArrayList<>();
+            recordCount.addAndGet(-pending);
+        }
+        awaitWriter(() -> {
+            segmentLock.writeLock().lock();
+            try {
+                for (Segment segment : segments) {
+                    deleteQuietly(segment.path);
+                    recordCount.addAndGet(-segment.count);
+                }
+                segments.clear();
+            } finally {
+                segmentLock.writeLock().unlock();
+            }
+        });
+        logger.info("Cleared history segment store at {}", directory);
+    }
+
+    /**
+     * Flushes pending records and stops the background writer.
+     */
+    @Override
+    public void close() {
+        flush();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sealOpenBatch() {
+        List<CalculationRecord> batch = openBatch;
+        openBatch = new ArrayList<>(SPILL_BATCH_SIZE);
+        sealedBatches.add(batch);
+        writer.execute(this::drain);
+    }
+
+    private void awaitWriter(Runnable task) {
+        try {
+            writer.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("History segment store task failed", e.getCause());
+        }
+    }
+
+    /**
+     * Spills the sealed batches in order, stopping at the first failure so
+     * that the failed batch is retried, ahead of the later ones, by the next
+     * drain. Runs on the writer thread, which is the only thread that
+     * modifies the segment list, so it may read the list without locking.
+     */
+    private void drain() {
+        while (true) {
+            List<CalculationRecord> batch;
+            synchronized (pendingLock) {
+                batch = sealedBatches.peekFirst();
+            }
+            if (batch == null || !spill(batch)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes one sealed batch to a new segment.
+     * 
+     * @return whether the batch was written
+     */
+    private boolean spill(List<CalculationRecord> batch) {
+        try {
+            Segment segment = writeSegment(nextSequence, batch);
+            segmentLock.writeLock().lock();
+            try {
+                Files.move(segment.path.resolveSibling(segment.path.getFileName() + TEMP_SUFFIX), segment.path,
+                        StandardCopyOption.ATOMIC_MOVE);
+                segments.add(segment);
+                nextSequence += batch.size();
+                synchronized (pendingLock) {
+                    // by identity: clear() may have dropped the batch meanwhile
+                    if (!removeSealed(batch)) {
+                        // clear() uncounted the batch as pending; its task, which
+                        // runs next on this thread, deletes and uncounts the segment
+                        recordCount.addAndGet(batch.size());
+                    }
+                }
+            } finally {
+                segmentLock.writeLock().unlock();
+            }
+            logger.debug("Spilled {} history record(s) to {}", batch.size(), segment.path.getFileName());
+        } catch (IOException e) {
+            // the batch stays in memory and is still served by reads
+            logger.error("Failed to spill history records to {}", directory, e);
+            return false;
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.warn("Failed to compact history segments in {}", directory, e);
+        }
+        applyRetention();
+        return true;
+    }
+
+    private boolean removeSealed(List<CalculationRecord> batch) {
+        for (Iterator<List<CalculationRecord>> it = sealedBatches.iterator(); it.hasNext();) {
+            if (it.next() == batch) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void applyRetention() {
+        LocalDateTime cutoff = maxAge == null ? null : LocalDateTime.now().minus(maxAge);
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.bytes;
+        }
+        int expired = 0;
+        while (expired < segments.size()
+                && ((cutoff != null && segments.get(expired).newest.isBefore(cutoff)) || bytes > maxBytes)) {
+            bytes -= segments.get(expired).bytes;
+            expired++;
+        }
+        if (expired == 0) {
+            return;
+        }
+        segmentLock.writeLock().lock();
+        try {
+            List<Segment> removed = segments.subList(0, expired);
+            for (Segment segment : removed) {
+                deleteQuietly(segment.path);
+                recordCount.addAndGet(-segment.count);
+            }
+            removed.clear();
+        } finally {
+            segmentLock.writeLock().unlock();
+        }
+        logger.info("Deleted {} expired history segment(s)", expired);
+    }
+
+    /**
+     * Merges the trailing run of small segments into one segment once it is
+     * long enough. The merged file replaces the first segment of the run.
+     */
+    private void compact() throws IOException {
+        int end = segments.size();
+        int start = end;
+        while (start > 0 && segments.get(start - 1).count < COMPACTION_TARGET_RECORDS) {
+            start--;
+        }
+        if (end - start < MIN_COMPACTION_SEGMENTS) {
+            return;
+        }
+        List<Segment> run = new ArrayList<>(segments.subList(start, end));
+        List<CalculationRecord> records = new ArrayList<>();
+        for (Segment segment : run) {
+            readSegment(segment.path, records);
+        }
+        Segment merged = writeSegment(run.get(0).firstSequence, records);
+
+        segmentLock.writeLock().lock();
+        try {
+            Files.move(merged.path.resolveSibling(merged.path.getFileName() + TEMP_SUFFIX), merged.path,
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            for (Segment segment : run.subList(1, run.size())) {
+                deleteQuietly(segment.path);
+            }
+            segments.subList(start, end).clear();
+            segments.add(merged);
+        } finally {
+            segmentLock.writeLock().unlock();
+        }
+        logger.debug("Compacted {} history segment(s) into {}", run.size(), merged.path.getFileName());
+    }
+
+    /**
+     * Writes the records to the temporary file of a new segment.
+     * 
+     * @return the segment, with the path it will have once moved into place
+     */
+    private Segment writeSegment(long firstSequence, List<CalculationRecord> records) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        LocalDateTime newest = records.get(records.size() - 1).getTimestamp();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(records.size());
+            writeTimestamp(out, newest);
+            byte[] encoded = RecordBatchCodec.encode(records);
+            out.writeInt(encoded.length);
+            out.write(encoded);
+        }
+        return new Segment(path, firstSequence, records.size(), Files.size(temp), newest);
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime timestamp) throws IOException {
+        out.writeLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(timestamp.getNano());
+    }
+
+    private static LocalDateTime readTimestamp(DataInputStream in) throws IOException {
+        long epochSecond = in.readLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static void readSegment(Path path, List<CalculationRecord> target) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int version = readVersion(in, path);
+            int count = in.readInt();
+            readTimestamp(in);
+            if (version == VERSION) {
+                byte[] encoded = new byte[in.readInt()];
+                in.readFully(encoded);
+                try {
+                    RecordBatchDecoder decoder = new RecordBatchDecoder(encoded);
+                    while (decoder.next()) {
+                        target.add(decoder.toRecord());
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Corrupt history segment: " + path, e);
+                }
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                LocalDateTime timestamp = readTimestamp(in);
+                double operand1 = in.readDouble();
+                double operand2 = in.readDouble();
+                double result = in.readDouble();
+                String symbol = in.readUTF();
+                String name = in.readUTF();
+                target.add(new CalculationRecord(operand1, operand2, symbol, name, result, timestamp));
+            }
+        }
+    }
+
+    private static int readVersion(DataInputStream in, Path path) throws IOException {
+        int version = in.readInt() == MAGIC ? in.readInt() : -1;
+        if (version != VERSION && version != UNCOMPRESSED_VERSION) {
+            throw new IOException("Not a history segment: " + path);
+        }
+        return version;
+    }
+
+    private void loadSegments() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    deleteQuietly(path);
+                } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                    paths.add(path);
+                }
+            }
+        }
+        Collections.sort(paths);
+        for (Path path : paths) {
+            String name = path.getFileName().toString();
+            long firstSequence = Long.parseLong(
+                    name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                readVersion(in, path);
+                int count = in.readInt();
+                segments.add(new Segment(path, firstSequence, count, Files.size(path), readTimestamp(in)));
+                nextSequence = firstSequence + count;
+                recordCount.addAndGet(count);
+            }
+        }
+        appendedRecords = nextSequence;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete history segment {}", path, e);
+        }
+    }
+
+    /**
+     * Consistent read view of the cold tier, see {@link #snapshot()}.
+     */
+    public final class Snapshot implements Closeable {
+        private final List<Segment> segmentView;
+        private final List<CalculationRecord> pending;
+        private final long appended;
+        private boolean closed;
+
+        private Snapshot(List<Segment> segmentView, List<CalculationRecord> pending, long appended) {
+            this.segmentView = segmentView;
+            this.pending = pending;
+            this.appended = appended;
+        }
+
+        /**
+         * Gets the number of records in the view.
+         * 
+         * @return number of records
+         */
+        public long size() {
+            long count = pending.size();
+            for (Segment segment : segmentView) {
+                count += segment.count;
+            }
+            return count;
+        }
+
+        /**
+         * Reads the records in the view, oldest first.
+         * 
+         * @return the records
+         * @throws UncheckedIOException if a segment cannot be read
+         */
+        public List<CalculationRecord> readAll() {
+            return readRecent(Long.MAX_VALUE);
+        }
+
+        /**
+         * Reads the most recent records in the view, oldest first, touching
+         * only the segments needed.
+         * 
+         * @param count maximum number of records
+         * @return the records
+         * @throws UncheckedIOException if a segment cannot be read
+         */
+        public List<CalculationRecord> readRecent(long count) {
+            long needed = Math.max(0, count - pending.size());
+            int first = segmentView.size();
+            long available = 0;
+            while (first > 0 && available < needed) {
+                first--;
+                available += segmentView.get(first).count;
+            }
+            List<CalculationRecord> records = new ArrayList<>();
+            try {
+                for (Segment segment : segmentView.subList(first, segmentView.size())) {
+                    readSegment(segment.path, records);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read history segments in " + directory, e);
+            }
+            records.addAll(pending);
+            int from = (int) Math.max(0, records.size() - count);
+            return from == 0 ? records : new ArrayList<>(records.subList(from, records.size()));
+        }
+
+        /**
+         * Reads the most recent records in the view that were appended
+         * before the given position, oldest first. Used to take the view
+         * after the position was marked, skipping the records appended in
+         * between.
+         * 
+         * @param count          maximum number of records
+         * @param appendedBefore value of {@link #getAppendedCount()} that
+         *                       marks the position
+         * @return the records
+         * @throws UncheckedIOException if a segment cannot be read
+         */
+        public List<CalculationRecord> readRecent(long count, long appendedBefore) {
+            int skipped = (int) Math.min(Integer.MAX_VALUE, Math.max(0, appended - appendedBefore));
+            if (skipped == 0) {
+                return readRecent(count);
+            }
+            List<CalculationRecord> records = readRecent(count > Long.MAX_VALUE - skipped ? count : count + skipped);
+            int end = Math.max(0, records.size() - skipped);
+            return new ArrayList<>(records.subList((int) Math.max(0, end - count), end));
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                segmentLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Metadata of one segment file.
+     */
+    private static final class Segment {
+        private final Path path;
+        private final long firstSequence;
+        private final int count;
+        private final long bytes;
+        private final LocalDateTime newest;
+
+        Segment(Path path, long firstSequence, int count, long bytes, LocalDateTime newest) {
+            this.path = path;
+            this.firstSequence = firstSequence;
+            this.count = count;
+            this.bytes = bytes;
+            this.newest = newest;
+        }
+    }
+}
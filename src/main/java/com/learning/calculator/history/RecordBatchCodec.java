@@ -0,0 +1,405 @@
+package com.learning.calculator.history;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar codec for batches of calculation records, after the Gorilla
+ * time-series format: timestamps are stored as delta-of-delta, operands and
+ * results as the XOR with the previous value of the same column, and the
+ * operation symbol and name as an index into a per-batch dictionary.
+ * 
+ * Calculator operands are mostly short decimals typed by a user or chained
+ * from the previous result, whose XOR with the previous value still spans
+ * the whole mantissa. The value coding therefore adds two cheaper cases in
+ * front of the XOR: a reference to the previous result and a scaled-integer
+ * form for values with few decimal places. Results of the basic arithmetic
+ * operations are not stored at all when they can be recomputed exactly
+ * from the operands.
+ * 
+ * Layout (big-endian): record count, timestamp unit, dictionary size and
+ * entries (length-prefixed UTF-8 symbol and name), the byte length of each
+ * of the five columns, and the columns.
+ * Each column is an independent bit stream, so {@link RecordBatchDecoder}
+ * decodes record by record without materializing the batch.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class RecordBatchCodec {
+
+    static final int COLUMN_COUNT = 5;
+    static final int TIMESTAMP_COLUMN = 0;
+    static final int OPERAND1_COLUMN = 1;
+    static final int OPERAND2_COLUMN = 2;
+    static final int RESULT_COLUMN = 3;
+    static final int OPERATION_COLUMN = 4;
+
+    static final int NOT_DERIVED = 0;
+    private static final int DERIVED_ADD = 1;
+    private static final int DERIVED_SUBTRACT = 2;
+    private static final int DERIVED_MULTIPLY = 3;
+    private static final int DERIVED_DIVIDE = 4;
+    private static final int DERIVED_SQUARE_ROOT = 5;
+
+    /** Largest number of decimal places of the short-decimal value mode. */
+    static final int MAX_DECIMAL_SCALE = 7;
+
+    static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7 };
+
+    private static final double MAX_EXACT_INTEGER = 0x1.0p53;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private RecordBatchCodec() {
+    }
+
+    /**
+     * Encodes a batch of records.
+     * 
+     * @param records the records, typically in chronological order
+     * @return the encoded batch
+     */
+    public static byte[] encode(List<CalculationRecord> records) {
+        int count = records.size();
+        long[] timestamps = new long[count];
+        long unit = 1_000_000;
+        for (int i = 0; i < count; i++) {
+            timestamps[i] = toEpochNanos(records.get(i).getTimestamp());
+            while (unit > 1 && timestamps[i] % unit != 0) {
+                unit /= 1000;
+            }
+        }
+
+        Map<String, Map<String, Integer>> dictionaryIndex = new HashMap<>();
+        List<CalculationRecord> dictionary = new ArrayList<>();
+        int[] operationIds = new int[count];
+        CalculationRecord previous = null;
+        for (int i = 0; i < count; i++) {
+            CalculationRecord record = records.get(i);
+            if (previous != null && record.getOperationSymbol().equals(previous.getOperationSymbol())
+                    && record.getOperationName().equals(previous.getOperationName())) {
+                operationIds[i] = operationIds[i - 1];
+                continue;
+            }
+            Map<String, Integer> names = dictionaryIndex.computeIfAbsent(record.getOperationSymbol(),
+                    symbol -> new HashMap<>());
+            Integer id = names.get(record.getOperationName());
+            if (id == null) {
+                id = dictionary.size();
+                names.put(record.getOperationName(), id);
+                dictionary.add(record);
+            }
+            operationIds[i] = id;
+            previous = record;
+        }
+
+        byte[][] columns = new byte[COLUMN_COUNT][];
+        columns[TIMESTAMP_COLUMN] = encodeTimestamps(timestamps, unit);
+        int[] derivations = new int[count];
+        for (int i = 0; i < count; i++) {
+            derivations[i] = derivation(dictionary.get(operationIds[i]).getOperationSymbol());
+        }
+        columns[OPERAND1_COLUMN] = encodeDoubles(records, OPERAND1_COLUMN, null);
+        columns[OPERAND2_COLUMN] = encodeDoubles(records, OPERAND2_COLUMN, null);
+        columns[RESULT_COLUMN] = encodeDoubles(records, RESULT_COLUMN, derivations);
+        columns[OPERATION_COLUMN] = encodeOperationIds(operationIds, idBits(dictionary.size()));
+
+        List<byte[]> dictionaryBytes = new ArrayList<>();
+        int headerSize = 4 + 8 + 2 + 4 * COLUMN_COUNT;
+        for (CalculationRecord entry : dictionary) {
+            byte[] symbol = entry.getOperationSymbol().getBytes(StandardCharsets.UTF_8);
+            byte[] name = entry.getOperationName().getBytes(StandardCharsets.UTF_8);
+            dictionaryBytes.add(symbol);
+            dictionaryBytes.add(name);
+            headerSize += 4 + symbol.length + name.length;
+        }
+        int dataSize = 0;
+        for (byte[] column : columns) {
+            dataSize += column.length;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(headerSize + dataSize);
+        out.putInt(count);
+        out.putLong(unit);
+        out.putShort((short) dictionary.size());
+        for (byte[] text : dictionaryBytes) {
+            out.putShort((short) text.length);
+            out.put(text);
+        }
+        for (byte[] column : columns) {
+            out.putInt(column.length);
+        }
+        for (byte[] column : columns) {
+            out.put(column);
+        }
+        return out.array();
+    }
+
+    /**
+     * Decodes a whole batch.
+     * 
+     * @param data the encoded batch
+     * @return the records in their original order
+     */
+    public static List<CalculationRecord> decode(byte[] data) {
+        RecordBatchDecoder decoder = new RecordBatchDecoder(data);
+        List<CalculationRecord> records = new ArrayList<>(decoder.size());
+        while (decoder.next()) {
+            records.add(decoder.toRecord());
+        }
+        return records;
+    }
+
+    static long toEpochNanos(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + timestamp.getNano();
+    }
+
+    static LocalDateTime fromEpochNanos(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    static int idBits(int dictionarySize) {
+        return dictionarySize <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(dictionarySize - 1);
+    }
+
+    /**
+     * First value in full, first delta and then every delta-of-delta as a
+     * zigzag value in a prefix-coded bucket: '0' for no change, '10' for
+     * 7 bits, '110' for 12 bits, '1110' for 20 bits, '11110' for 32 bits and
+     * '11111' for 64 bits.
+     */
+    private static byte[] encodeTimestamps(long[] timestamps, long unit) {
+        BitOutput out = new BitOutput();
+        long previous = 0;
+        long previousDelta = 0;
+        for (int i = 0; i < timestamps.length; i++) {
+            long value = timestamps[i] / unit;
+            if (i == 0) {
+                out.writeBits(value, 64);
+            } else {
+                long delta = value - previous;
+                long zigzag = ((delta - previousDelta) << 1) ^ ((delta - previousDelta) >> 63);
+                if (zigzag == 0) {
+                    out.writeBits(0b0, 1);
+                } else if (zigzag >>> 7 == 0) {
+                    out.writeBits(0b10, 2);
+                    out.writeBits(zigzag, 7);
+                } else if (zigzag >>> 12 == 0) {
+                    out.writeBits(0b110, 3);
+                    out.writeBits(zigzag, 12);
+                } else if (zigzag >>> 20 == 0) {
+                    out.writeBits(0b1110, 4);
+                    out.writeBits(zigzag, 20);
+                } else if (zigzag >>> 32 == 0) {
+                    out.writeBits(0b11110, 5);
+                    out.writeBits(zigzag, 32);
+                } else {
+                    out.writeBits(0b11111, 5);
+                    out.writeBits(zigzag, 64);
+                }
+                previousDelta = delta;
+            }
+            previous = value;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Each value is coded against the previous value of its column:
+     * '0' when equal; '10' in operand columns when equal to the previous
+     * record's result, which covers chained calculations, and in the result
+     * column when the result is the correctly rounded IEEE 754 result of
+     * the record's operation, see {@link #derive}; '110' for a
+     * short decimal, followed by 3 bits of decimal scale and the scaled
+     * value as a bucketed zigzag integer; otherwise '111' and the Gorilla XOR
+     * with the previous value: '0' plus the meaningful bits when they fit the
+     * previous leading/trailing zero window, else '1', 5 bits of leading
+     * zeros, 6 bits of meaningful length (0 meaning 64) and the meaningful
+     * bits. The first value uses the same scheme against zero.
+     */
+    private static byte[] encodeDoubles(List<CalculationRecord> records, int column, int[] derivations) {
+        BitOutput out = new BitOutput();
+        long previous = 0;
+        long previousResult = 0;
+        int previousLeading = -1;
+        int previousTrailing = 0;
+        boolean operandColumn = column != RESULT_COLUMN;
+        for (int i = 0; i < records.size(); i++) {
+            CalculationRecord record = records.get(i);
+            double value = columnValue(record, column);
+            long bits = Double.doubleToRawLongBits(value);
+            long reference = previousResult;
+            previousResult = Double.doubleToRawLongBits(record.getResult());
+            if (i > 0 && bits == previous) {
+                out.writeBits(0b0, 1);
+                continue;
+            }
+            long xor = bits ^ previous;
+            previous = bits;
+            if (operandColumn ? i > 0 && bits == reference
+                    : derivations[i] != NOT_DERIVED && Double.doubleToRawLongBits(
+                            derive(derivations[i], record.getOperand1(), record.getOperand2())) == bits) {
+                out.writeBits(0b10, 2);
+                continue;
+            }
+            int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int trailing = Long.numberOfTrailingZeros(xor);
+            boolean fitsWindow = previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing;
+            int xorBits = xor == 0 ? Integer.MAX_VALUE
+                    : fitsWindow ? 1 + 64 - previousLeading - previousTrailing : 12 + 64 - leading - trailing;
+            int scale = decimalScale(value);
+            if (scale >= 0) {
+                long scaled = (long) (value * POWERS_OF_TEN[scale]);
+                long zigzag = (scaled << 1) ^ (scaled >> 63);
+                if (3 + bucketedBits(zigzag) <= xorBits) {
+                    out.writeBits(0b110, 3);
+                    out.writeBits(scale, 3);
+                    writeBucketed(out, zigzag);
+                    continue;
+                }
+            }
+            out.writeBits(0b111, 3);
+            if (fitsWindow) {
+                out.writeBit(false);
+                out.writeBits(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+            } else {
+                int meaningful = 64 - leading - trailing;
+                out.writeBit(true);
+                out.writeBits(leading, 5);
+                out.writeBits(meaningful & 63, 6);
+                out.writeBits(xor >>> trailing, meaningful);
+                previousLeading = leading;
+                previousTrailing = trailing;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Maps an operation symbol to the arithmetic that reproduces its results
+     * exactly. Only operations that IEEE 754 requires to be correctly
+     * rounded qualify, so the result is the same on every platform; results
+     * that do not match (fast-math, decimal mode, chains) are stored as values.
+     */
+    static int derivation(String symbol) {
+        switch (symbol) {
+            case "+":
+                return DERIVED_ADD;
+            case "-":
+                return DERIVED_SUBTRACT;
+            case "*":
+                return DERIVED_MULTIPLY;
+            case "/":
+                return DERIVED_DIVIDE;
+            case "√":
+                return DERIVED_SQUARE_ROOT;
+            default:
+                return NOT_DERIVED;
+        }
+    }
+
+    static double derive(int derivation, double a, double b) {
+        switch (derivation) {
+            case DERIVED_ADD:
+                return a + b;
+            case DERIVED_SUBTRACT:
+                return a - b;
+            case DERIVED_MULTIPLY:
+                return a * b;
+            case DERIVED_DIVIDE:
+                return a / b;
+            default:
+                return Math.sqrt(a);
+        }
+    }
+
+    /**
+     * Finds the smallest number of decimal places d for which the value is
+     * exactly {@code n / 10^d} for an integer n below 2^53, or -1 if there is
+     * none up to {@link #MAX_DECIMAL_SCALE}.
+     */
+    static int decimalScale(double value) {
+        for (int scale = 0; scale <= MAX_DECIMAL_SCALE; scale++) {
+            double scaled = value * POWERS_OF_TEN[scale];
+            if (Math.abs(scaled) < MAX_EXACT_INTEGER && scaled == Math.rint(scaled)) {
+                long n = (long) scaled;
+                if (Double.doubleToRawLongBits(n / POWERS_OF_TEN[scale]) == Double.doubleToRawLongBits(value)) {
+                    return scale;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int bucketedBits(long value) {
+        if (value >>> 7 == 0) {
+            return 8;
+        } else if (value >>> 14 == 0) {
+            return 16;
+        } else if (value >>> 24 == 0) {
+            return 27;
+        }
+        return 67;
+    }
+
+    /**
+     * Writes an unsigned value as '0' plus 7 bits, '10' plus 14 bits, '110'
+     * plus 24 bits or '111' plus 64 bits.
+     */
+    private static void writeBucketed(BitOutput out, long value) {
+        if (value >>> 7 == 0) {
+            out.writeBits(0b0, 1);
+            out.writeBits(value, 7);
+        } else if (value >>> 14 == 0) {
+            out.writeBits(0b10, 2);
+            out.writeBits(value, 14);
+        } else if (value >>> 24 == 0) {
+            out.writeBits(0b110, 3);
+            out.writeBits(value, 24);
+        } else {
+            out.writeBits(0b111, 3);
+            out.writeBits(value, 64);
+        }
+    }
+
+    /**
+     * '0' when the operation repeats, otherwise '1' and the fixed-width id.
+     * Nothing is written for a single-entry dictionary.
+     */
+    private static byte[] encodeOperationIds(int[] ids, int bits) {
+        BitOutput out = new BitOutput();
+        if (bits == 0) {
+            return out.toByteArray();
+        }
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0) {
+                out.writeBits(ids[i], bits);
+            } else if (ids[i] == ids[i - 1]) {
+                out.writeBit(false);
+            } else {
+                out.writeBit(true);
+                out.writeBits(ids[i], bits);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static double columnValue(CalculationRecord record, int column) {
+        switch (column) {
+            case OPERAND1_COLUMN:
+                return record.getOperand1();
+            case OPERAND2_COLUMN:
+                return record.getOperand2();
+            default:
+                return record.getResult();
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.learning.calculator.history;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Streaming decoder for batches written by {@link RecordBatchCodec}.
+ * Works as a cursor: each {@link #next()} decodes one record from the
+ * column streams into primitive fields, so scanning a batch allocates
+ * nothing unless {@link #toRecord()} or {@link #getTimestamp()} is called.
+ * 
+ * <pre>
+ * RecordBatchDecoder decoder = new RecordBatchDecoder(data);
+ * while (decoder.next()) {
+ *     sum += decoder.getResult();
+ * }
+ * </pre>
+ * 
+ * Not thread-safe.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class RecordBatchDecoder {
+
+    /** Payload bits of the delta-of-delta buckets, by number of leading ones in the prefix. */
+    private static final int[] DELTA_OF_DELTA_BITS = { 0, 7, 12, 20, 32, 64 };
+
+    /** Payload bits of the scaled-decimal buckets, by number of leading ones in the prefix. */
+    private static final int[] DECIMAL_BITS = { 7, 14, 24, 64 };
+
+    private final int count;
+    private final long unit;
+    private final String[] symbols;
+    private final String[] names;
+    private final int[] derivations;
+    private final int idBits;
+    private final long idMask;
+    private final BitInput timestamps;
+    private final BitInput operands1;
+    private final BitInput operands2;
+    private final BitInput results;
+    private final BitInput operations;
+    private final DoubleColumn operand1Column = new DoubleColumn();
+    private final DoubleColumn operand2Column = new DoubleColumn();
+    private final DoubleColumn resultColumn = new DoubleColumn();
+
+    private int index;
+    private long timestamp;
+    private long delta;
+    private int operationId;
+
+    /**
+     * Creates a decoder positioned before the first record.
+     * 
+     * @param data the encoded batch
+     * @throws IllegalArgumentException if the data is not an encoded batch
+     */
+    public RecordBatchDecoder(byte[] data) {
+        try {
+            ByteBuffer in = ByteBuffer.wrap(data);
+            this.count = in.getInt();
+            this.unit = in.getLong();
+            int dictionarySize = Short.toUnsignedInt(in.getShort());
+            this.symbols = new String[dictionarySize];
+            this.names = new String[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                symbols[i] = readText(in);
+                names[i] = readText(in);
+            }
+            this.derivations = new int[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                derivations[i] = RecordBatchCodec.derivation(symbols[i]);
+            }
+            this.idBits = RecordBatchCodec.idBits(dictionarySize);
+            this.idMask = (1L << idBits) - 1;
+            int[] starts = new int[RecordBatchCodec.COLUMN_COUNT];
+            int offset = in.position() + 4 * RecordBatchCodec.COLUMN_COUNT;
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = offset;
+                offset += in.getInt();
+            }
+            if (count < 0 || unit <= 0 || offset > data.length
+                    || (count > 0 && dictionarySize == 0)) {
+                throw new IllegalArgumentException("Corrupt record batch");
+            }
+            long[] words = BitInput.toWords(data);
+            this.timestamps = new BitInput(words, starts[RecordBatchCodec.TIMESTAMP_COLUMN]);
+            this.operands1 = new BitInput(words, starts[RecordBatchCodec.OPERAND1_COLUMN]);
+            this.operands2 = new BitInput(words, starts[RecordBatchCodec.OPERAND2_COLUMN]);
+            this.results = new BitInput(words, starts[RecordBatchCodec.RESULT_COLUMN]);
+            this.operations = new BitInput(words, starts[RecordBatchCodec.OPERATION_COLUMN]);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Corrupt record batch", e);
+        }
+    }
+
+    /**
+     * Gets the number of records in the batch.
+     * 
+     * @return number of records
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Advances to the next record.
+     * 
+     * @return false when the batch is exhausted
+     */
+    public boolean next() {
+        if (index == count) {
+            return false;
+        }
+        if (index == 0) {
+            timestamp = timestamps.readBits(64);
+            operand1Column.next(operands1);
+            operand2Column.next(operands2);
+            operationId = idBits == 0 ? 0 : (int) operations.readBits(idBits);
+            if (resultColumn.next(results)) {
+                resultColumn.bits = derivedResult();
+            }
+        } else {
+            delta += readDeltaOfDelta();
+            timestamp += delta;
+            long previousResult = resultColumn.bits;
+            if (operand1Column.next(operands1)) {
+                operand1Column.bits = previousResult;
+            }
+            if (operand2Column.next(operands2)) {
+                operand2Column.bits = previousResult;
+            }
+            if (idBits > 0) {
+                long word = operations.peekBits(idBits + 1);
+                boolean changed = word >>> idBits != 0;
+                operationId = changed ? (int) (word & idMask) : operationId;
+                operations.skip(changed ? idBits + 1 : 1);
+            }
+            if (resultColumn.next(results)) {
+                resultColumn.bits = derivedResult();
+            }
+        }
+        index++;
+        return true;
+    }
+
+    /**
+     * Gets the timestamp of the current record.
+     * 
+     * @return nanoseconds since the epoch, in the record's local time
+     */
+    public long getTimestampNanos() {
+        return timestamp * unit;
+    }
+
+    /**
+     * Gets the timestamp of the current record.
+     * 
+     * @return the timestamp
+     */
+    public LocalDateTime getTimestamp() {
+        return RecordBatchCodec.fromEpochNanos(getTimestampNanos());
+    }
+
+    // Fields of the current record
+    public double getOperand1() {
+        return operand1Column.value();
+    }
+
+    public double getOperand2() {
+        return operand2Column.value();
+    }
+
+    public double getResult() {
+        return resultColumn.value();
+    }
+
+    public String getOperationSymbol() {
+        return symbols[operationId];
+    }
+
+    public String getOperationName() {
+        return names[operationId];
+    }
+
+    /**
+     * Materializes the current record.
+     * 
+     * @return the record
+     */
+    public CalculationRecord toRecord() {
+        return new CalculationRecord(getOperand1(), getOperand2(), getOperationSymbol(), getOperationName(),
+                getResult(), getTimestamp());
+    }
+
+    /**
+     * Computes the result of the current operation from the decoded operands,
+     * for results the encoder marked as derived.
+     */
+    private long derivedResult() {
+        return Double.doubleToRawLongBits(
+                RecordBatchCodec.derive(derivations[operationId], operand1Column.value(), operand2Column.value()));
+    }
+
+    /**
+     * Decodes prefix and payload from one 64-bit peek without branching on
+     * the bucket; only the 64-bit bucket, which does not fit a single peek,
+     * takes a separate path.
+     */
+    private long readDeltaOfDelta() {
+        long word = timestamps.peekBits(64);
+        int ones = leadingOnes(word >>> 59, 5);
+        if (ones == 5) {
+            timestamps.skip(5);
+            long zigzag = timestamps.readBits(64);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+        int payloadBits = DELTA_OF_DELTA_BITS[ones];
+        long zigzag = ((word << (ones + 1)) >>> 1) >>> (63 - payloadBits);
+        timestamps.skip(ones + 1 + payloadBits);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /**
+     * Counts the leading one bits of a prefix.
+     * 
+     * @param prefix the prefix in the low bits
+     * @param bits   length of the prefix
+     * @return number of leading ones, at most bits
+     */
+    static int leadingOnes(long prefix, int bits) {
+        return Math.min(Long.numberOfLeadingZeros(~prefix << (64 - bits)), bits);
+    }
+
+    private static String readText(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decoding state of one double column, see the value coding described
+     * in {@link RecordBatchCodec}.
+     */
+    private static final class DoubleColumn {
+        private long bits;
+        private int leading = -1;
+        private int trailing;
+
+        /**
+         * Decodes the next value.
+         * 
+         * @return true for the '10' code, after which the caller sets the
+         *         referenced value: the previous result for operands, the
+         *         derived result for results
+         */
+        boolean next(BitInput in) {
+            long word = in.peekBits(64);
+            if (word >= 0) {
+                in.skip(1);
+                return false;
+            }
+            if (word << 1 >= 0) {
+                in.skip(2);
+                return true;
+            }
+            if (word << 2 >= 0) {
+                int scale = (int) (word << 3 >>> 61);
+                int bucket = leadingOnes(word << 6 >>> 61, 3);
+                long zigzag;
+                if (bucket < 3) {
+                    int prefix = 7 + bucket;
+                    int payloadBits = DECIMAL_BITS[bucket];
+                    zigzag = word << prefix >>> (64 - payloadBits);
+                    in.skip(prefix + payloadBits);
+                } else {
+                    in.skip(9);
+                    zigzag = in.readBits(64);
+                }
+                long scaled = (zigzag >>> 1) ^ -(zigzag & 1);
+                bits = Double.doubleToRawLongBits(scaled / RecordBatchCodec.POWERS_OF_TEN[scale]);
+                return false;
+            }
+            if (word << 3 < 0) {
+                int header = (int) (word << 4 >>> 53);
+                leading = header >>> 6;
+                int meaningful = header & 63;
+                trailing = 64 - leading - (meaningful == 0 ? 64 : meaningful);
+                in.skip(15);
+            } else {
+                in.skip(4);
+            }
+            bits ^= in.readBits(64 - leading - trailing) << trailing;
+            return false;
+        }
+
+        double value() {
+            return Double.longBitsToDouble(bits);
+        }
+    }
+}
@@ -18,6 +18,22 @@ public interface Operation {
      * @throws ArithmeticException if the operation is mathematically invalid
      */
     double execute(double a, double b);
+
+    /**
+     * Evaluates the operation without logging.
+     * Used by fused evaluation paths such as calculation chains, where
+     * per-call logging would dominate the cost. Validation and exceptions
+     * are the same as for {@link #execute(double, double)}, which
+     * implementations typically build on this method.
+     * 
+     * @param a First operand
+     * @param b Second operand
+     * @return Result of the operation
+     * @throws ArithmeticException if the operation is mathematically invalid
+     */
+    default double evaluate(double a, double b) {
+        return execute(a, b);
+    }
     
     /**
      * Gets the symbol representing this operation.
@@ -33,6 +49,48 @@ public interface Operation {
      */
     String getName();
     
+    /**
+     * Gets the number of operands this operation uses. Unary operations
+     * ignore their second operand.
+     * 
+     * @return 1 for unary operations, 2 for binary operations
+     */
+    default int getArity() {
+        return 2;
+    }
+
+    /**
+     * Checks if the result depends only on the operands, so that results
+     * may be cached and calls deduplicated or reordered.
+     * 
+     * @return true if the operation is deterministic and free of side effects
+     */
+    default boolean isPure() {
+        return true;
+    }
+
+    /**
+     * Checks if {@code (a op b) op c} equals {@code a op (b op c)}, up to
+     * floating-point rounding, so that a run of operands may be reduced in
+     * any grouping.
+     * 
+     * @return true if the operation may be used for n-ary reductions
+     */
+    default boolean isAssociative() {
+        return false;
+    }
+
+    /**
+     * Gets a relative estimate of the cost of one evaluation, in units of one
+     * double addition. Used by schedulers to keep cheap work inline and move
+     * expensive work off the calling thread.
+     * 
+     * @return relative cost, at least 1
+     */
+    default int getCost() {
+        return 1;
+    }
+
     /**
      * Gets a description of what this operation does.
      * 
@@ -0,0 +1,71 @@
+package com.learning.calculator.operations.advanced;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+
+/**
+ * Binomial coefficient operation implementation.
+ * Calculates the number of ways to choose b of a items: a! / (b! (a-b)!)
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class BinomialCoefficient implements CombinatorialOperation {
+    private static final Logger logger = LoggerFactory.getLogger(BinomialCoefficient.class);
+
+    /** Natural logarithm of the largest finite double. */
+    private static final double LOG_MAX_DOUBLE = Math.log(Double.MAX_VALUE);
+
+    @Override
+    public double execute(double a, double b) {
+        logger.debug("Executing binomial coefficient: C({}, {})", a, b);
+        double result = evaluate(a, b);
+        if (Double.isInfinite(result)) {
+            logger.warn("Binomial coefficient exceeds the double range: C({}, {})", a, b);
+        }
+        logger.debug("Binomial coefficient result: {}", result);
+        return result;
+    }
+
+    @Override
+    public double evaluate(double a, double b) {
+        int n = CombinatoricsMath.toArgument(getName(), a, CombinatoricsMath.MAX_ARGUMENT);
+        int k = CombinatoricsMath.toArgument(getName(), b, n);
+        // C(n, k) >= (n/k)^k, so this only computes results with k below
+        // about a thousand exactly and rounds them.
+        int smaller = Math.min(k, n - k);
+        if (smaller > 0 && smaller * Math.log((double) n / smaller) > LOG_MAX_DOUBLE) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return CombinatoricsMath.binomial(n, k).doubleValue();
+    }
+
+    @Override
+    public BigInteger executeExact(int a, int b) {
+        logger.debug("Executing exact binomial coefficient: C({}, {})", a, b);
+        return CombinatoricsMath.binomial(a, b);
+    }
+
+    @Override
+    public String getSymbol() {
+        return "C";
+    }
+
+    @Override
+    public String getName() {
+        return "Binomial Coefficient";
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format("%s (a choose b)", getName());
+    }
+
+    @Override
+    public int getCost() {
+        return 50;
+    }
+}
@@ -0,0 +1,31 @@
+package com.learning.calculator.operations.advanced;
+
+import com.learning.calculator.operations.Operation;
+
+import java.math.BigInteger;
+
+/**
+ * Interface for operations on whole numbers whose exact results quickly
+ * outgrow a double, such as factorials. {@link #execute(double, double)}
+ * returns the nearest double, or infinity once the result is too large;
+ * {@link #executeExact(int, int)} returns every digit.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public interface CombinatorialOperation extends Operation {
+    /**
+     * Executes the operation exactly. Unary operations ignore their second
+     * operand.
+     * 
+     * @param a First operand
+     * @param b Second operand
+     * @return Exact result of the operation
+     * @throws com.learning.calculator.exceptions.InvalidInputException if an
+     *                                                                  operand
+     *                                                                  is out
+     *                                                                  of range
+     */
+    BigInteger executeExact(int a, int b);
+}
@@ -0,0 +1,250 @@
+package com.learning.calculator.operations.advanced;
+
+import com.learning.calculator.exceptions.InvalidInputException;
+
+import java.math.BigInteger;
+
+/**
+ * Exact factorials, binomial coefficients, permutation counts and
+ * Fibonacci numbers for the combinatorial operations.
+ * 
+ * Results that fit in a long are looked up in tables built once. Larger
+ * results are computed with algorithms whose cost is dominated by a few
+ * multiplications of large, similar-sized numbers, which {@link ProductTree}
+ * spreads across the common fork/join pool:
+ * - factorials multiply only odd numbers, as products of ranges, and shift
+ * in the power of two at the end (Luschny's split-recursive algorithm)
+ * - binomial coefficients multiply the prime powers of their
+ * factorization, found with Kummer's theorem, rather than divide
+ * - Fibonacci numbers use fast doubling, three squarings per bit of the
+ * index
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class CombinatoricsMath {
+
+    /** Largest argument accepted for factorials, binomial coefficients and permutations. */
+    public static final int MAX_ARGUMENT = 1_000_000;
+
+    /** Largest Fibonacci index accepted. */
+    public static final int MAX_FIBONACCI_INDEX = 10_000_000;
+
+    /** Binomial coefficients with a smaller k are computed as n!/(n-k)! / k! rather than factorized. */
+    private static final int FACTORIZE_MIN_K = 64;
+
+    /** n! for every n whose factorial fits in a long. */
+    private static final long[] FACTORIALS = new long[21];
+
+    /** F(n) for every n whose Fibonacci number fits in a long. */
+    private static final long[] FIBONACCI = new long[93];
+
+    /** Rows of Pascal's triangle whose every entry fits in a long, up to the middle of each row. */
+    private static final long[][] BINOMIALS = new long[67][];
+
+    static {
+        FACTORIALS[0] = 1;
+        for (int n = 1; n < FACTORIALS.length; n++) {
+            FACTORIALS[n] = FACTORIALS[n - 1] * n;
+        }
+        FIBONACCI[1] = 1;
+        for (int n = 2; n < FIBONACCI.length; n++) {
+            FIBONACCI[n] = FIBONACCI[n - 1] + FIBONACCI[n - 2];
+        }
+        BINOMIALS[0] = new long[] { 1 };
+        for (int n = 1; n < BINOMIALS.length; n++) {
+            long[] row = new long[n / 2 + 1];
+            row[0] = 1;
+            for (int k = 1; k < row.length; k++) {
+                row[k] = BINOMIALS[n - 1][k - 1] + BINOMIALS[n - 1][Math.min(k, n - 1 - k)];
+            }
+            BINOMIALS[n] = row;
+        }
+    }
+
+    private CombinatoricsMath() {
+    }
+
+    /**
+     * Computes n!.
+     * 
+     * @param n the argument, between 0 and {@link #MAX_ARGUMENT}
+     * @return n!
+     * @throws InvalidInputException if n is out of range
+     */
+    public static BigInteger factorial(int n) {
+        checkArgument("Factorial", n, MAX_ARGUMENT);
+        if (n < FACTORIALS.length) {
+            return BigInteger.valueOf(FACTORIALS[n]);
+        }
+        // The odd part of n! is the product of the odd factorials
+        // (products of all odd numbers up to m) of n, n/2, n/4, ..., each of
+        // which extends the next with the odd numbers in (m/2, m].
+        BigInteger oddFactorial = BigInteger.ONE;
+        BigInteger oddPart = BigInteger.ONE;
+        for (int shift = 31 - Integer.numberOfLeadingZeros(n); shift >= 0; shift--) {
+            oddFactorial = ProductTree.multiply(oddFactorial, oddProduct(n >> (shift + 1), n >> shift));
+            oddPart = ProductTree.multiply(oddPart, oddFactorial);
+        }
+        return oddPart.shiftLeft(n - Integer.bitCount(n));
+    }
+
+    /**
+     * Computes the number of ways to choose k of n items, n! / (k! (n-k)!).
+     * 
+     * @param n the number of items, between 0 and {@link #MAX_ARGUMENT}
+     * @param k the number chosen, between 0 and n
+     * @return the binomial coefficient
+     * @throws InvalidInputException if n or k is out of range
+     */
+    public static BigInteger binomial(int n, int k) {
+        checkArgument("Binomial coefficient", n, MAX_ARGUMENT);
+        checkArgument("Binomial coefficient", k, n);
+        k = Math.min(k, n - k);
+        if (n < BINOMIALS.length) {
+            return BigInteger.valueOf(BINOMIALS[n][k]);
+        }
+        if (k < FACTORIZE_MIN_K) {
+            return permutations(n, k).divide(factorial(k));
+        }
+        // By Kummer's theorem, the exponent of a prime p in the result is
+        // the number of borrows when subtracting k from n in base p, so
+        // p^exponent never exceeds n. There are fewer than 1.26 n / ln n
+        // primes up to n.
+        boolean[] composite = sieve(n);
+        int[] primePowers = new int[(int) (1.26 * n / Math.log(n)) + 1];
+        int count = 0;
+        for (int p = 2; p <= n; p = p == 2 ? 3 : p + 2) {
+            if (p > 2 && composite[p >> 1]) {
+                continue;
+            }
+            int power = 1;
+            int borrow = 0;
+            for (int m = n, j = k; m > 0; m /= p, j /= p) {
+                borrow = j % p + borrow > m % p ? 1 : 0;
+                power *= borrow == 0 ? 1 : p;
+            }
+            if (power > 1) {
+                primePowers[count++] = power;
+            }
+        }
+        return ProductTree.product(i -> primePowers[i], 0, count);
+    }
+
+    /**
+     * Computes the number of ordered arrangements of k of n items, n! / (n-k)!.
+     * 
+     * @param n the number of items, between 0 and {@link #MAX_ARGUMENT}
+     * @param k the number arranged, between 0 and n
+     * @return the permutation count
+     * @throws InvalidInputException if n or k is out of range
+     */
+    public static BigInteger permutations(int n, int k) {
+        checkArgument("Permutations", n, MAX_ARGUMENT);
+        checkArgument("Permutations", k, n);
+        if (n < FACTORIALS.length) {
+            return BigInteger.valueOf(FACTORIALS[n] / FACTORIALS[n - k]);
+        }
+        if (n - k <= 1) {
+            return factorial(n);
+        }
+        long first = n - k + 1L;
+        return ProductTree.product(i -> first + i, 0, k);
+    }
+
+    /**
+     * Computes the Fibonacci number F(n), with F(0) = 0 and F(1) = 1.
+     * 
+     * @param n the index, between 0 and {@link #MAX_FIBONACCI_INDEX}
+     * @return F(n)
+     * @throws InvalidInputException if n is out of range
+     */
+    public static BigInteger fibonacci(int n) {
+        checkArgument("Fibonacci", n, MAX_FIBONACCI_INDEX);
+        if (n < FIBONACCI.length) {
+            return BigInteger.valueOf(FIBONACCI[n]);
+        }
+        // Start from the longest prefix m of n's bits with F(m + 1) in the
+        // table, then extend m by one bit at a time with
+        // F(2m) = F(m+1)^2 - (F(m+1) - F(m))^2 and F(2m+1) = F(m)^2 + F(m+1)^2.
+        int shift = 0;
+        while ((n >> shift) + 1 >= FIBONACCI.length) {
+            shift++;
+        }
+        BigInteger a = BigInteger.valueOf(FIBONACCI[n >> shift]);
+        BigInteger b = BigInteger.valueOf(FIBONACCI[(n >> shift) + 1]);
+        for (shift--; shift > 0; shift--) {
+            BigInteger difference = b.subtract(a);
+            BigInteger aSquared = ProductTree.multiply(a, a);
+            BigInteger bSquared = ProductTree.multiply(b, b);
+            BigInteger even = bSquared.subtract(ProductTree.multiply(difference, difference));
+            BigInteger odd = aSquared.add(bSquared);
+            if (((n >> shift) & 1) == 0) {
+                a = even;
+                b = odd;
+            } else {
+                a = odd;
+                b = even.add(odd);
+            }
+        }
+        // The last step only needs one of the two results.
+        BigInteger bSquared = ProductTree.multiply(b, b);
+        if ((n & 1) == 0) {
+            BigInteger difference = b.subtract(a);
+            return bSquared.subtract(ProductTree.multiply(difference, difference));
+        }
+        return ProductTree.multiply(a, a).add(bSquared);
+    }
+
+    /**
+     * Converts a double operand to an integer argument.
+     * 
+     * @param operation name of the operation, for the error message
+     * @param value     the operand
+     * @param max       largest accepted argument
+     * @return the argument
+     * @throws InvalidInputException unless the operand is a whole number
+     *                               between 0 and max
+     */
+    static int toArgument(String operation, double value, int max) {
+        if (!(value >= 0 && value <= max) || value != Math.rint(value)) {
+            throw new InvalidInputException(String.format(
+                    "%s requires a whole number between 0 and %d: %s", operation, max, value));
+        }
+        return (int) value;
+    }
+
+    private static void checkArgument(String operation, int value, int max) {
+        if (value < 0 || value > max) {
+            throw new InvalidInputException(String.format(
+                    "%s requires a whole number between 0 and %d: %d", operation, max, value));
+        }
+    }
+
+    /**
+     * Multiplies the odd numbers in (low, high].
+     */
+    private static BigInteger oddProduct(int low, int high) {
+        int first = (low + 1) | 1;
+        int count = (high + 1) / 2 - (low + 1) / 2;
+        return ProductTree.product(i -> first + 2L * i, 0, count);
+    }
+
+    /**
+     * Sieves the odd numbers up to n.
+     * 
+     * @return flags indexed by m / 2, set for odd composite m
+     */
+    private static boolean[] sieve(int n) {
+        boolean[] composite = new boolean[n / 2 + 1];
+        for (long p = 3; p * p <= n; p += 2) {
+            if (!composite[(int) (p >> 1)]) {
+                for (long multiple = p * p; multiple <= n; multiple += 2 * p) {
+                    composite[(int) (multiple >> 1)] = true;
+                }
+            }
+        }
+        return composite;
+    }
+}
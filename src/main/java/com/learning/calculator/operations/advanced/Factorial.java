@@ -0,0 +1,74 @@
+package com.learning.calculator.operations.advanced;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+
+/**
+ * Factorial operation implementation.
+ * Calculates the product of the whole numbers from 1 to a: a!
+ * Note: The second parameter 'b' is ignored in this operation.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class Factorial implements CombinatorialOperation {
+    private static final Logger logger = LoggerFactory.getLogger(Factorial.class);
+
+    /** Largest argument whose factorial is finite as a double. */
+    private static final int MAX_DOUBLE_ARGUMENT = 170;
+
+    /** n! rounded to the nearest double, for every n up to {@link #MAX_DOUBLE_ARGUMENT}. */
+    private static final double[] FACTORIALS = new double[MAX_DOUBLE_ARGUMENT + 1];
+
+    static {
+        for (int n = 0; n < FACTORIALS.length; n++) {
+            FACTORIALS[n] = CombinatoricsMath.factorial(n).doubleValue();
+        }
+    }
+
+    @Override
+    public double execute(double a, double b) {
+        logger.debug("Executing factorial: {}!", a);
+        double result = evaluate(a, b);
+        if (Double.isInfinite(result)) {
+            logger.warn("Factorial exceeds the double range: {}!", a);
+        }
+        logger.debug("Factorial result: {}", result);
+        return result;
+    }
+
+    @Override
+    public double evaluate(double a, double b) {
+        int n = CombinatoricsMath.toArgument(getName(), a, CombinatoricsMath.MAX_ARGUMENT);
+        return n <= MAX_DOUBLE_ARGUMENT ? FACTORIALS[n] : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public BigInteger executeExact(int a, int b) {
+        logger.debug("Executing exact factorial: {}!", a);
+        return CombinatoricsMath.factorial(a);
+    }
+
+    @Override
+    public String getSymbol() {
+        return "!";
+    }
+
+    @Override
+    public String getName() {
+        return "Factorial";
+    }
+
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getCost() {
+        return 3;
+    }
+}
@@ -0,0 +1,65 @@
+package com.learning.calculator.operations.advanced;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+
+/**
+ * Fibonacci operation implementation.
+ * Calculates the a-th Fibonacci number: F(a), with F(0) = 0 and F(1) = 1
+ * Note: The second parameter 'b' is ignored in this operation.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class Fibonacci implements CombinatorialOperation {
+    private static final Logger logger = LoggerFactory.getLogger(Fibonacci.class);
+
+    /** Largest index whose Fibonacci number is finite as a double. */
+    private static final int MAX_DOUBLE_INDEX = 1476;
+
+    @Override
+    public double execute(double a, double b) {
+        logger.debug("Executing Fibonacci: F({})", a);
+        double result = evaluate(a, b);
+        if (Double.isInfinite(result)) {
+            logger.warn("Fibonacci number exceeds the double range: F({})", a);
+        }
+        logger.debug("Fibonacci result: {}", result);
+        return result;
+    }
+
+    @Override
+    public double evaluate(double a, double b) {
+        int n = CombinatoricsMath.toArgument(getName(), a, CombinatoricsMath.MAX_FIBONACCI_INDEX);
+        return n <= MAX_DOUBLE_INDEX ? CombinatoricsMath.fibonacci(n).doubleValue() : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public BigInteger executeExact(int a, int b) {
+        logger.debug("Executing exact Fibonacci: F({})", a);
+        return CombinatoricsMath.fibonacci(a);
+    }
+
+    @Override
+    public String getSymbol() {
+        return "F";
+    }
+
+    @Override
+    public String getName() {
+        return "Fibonacci";
+    }
+
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getCost() {
+        return 20;
+    }
+}
@@ -21,15 +21,25 @@ public class Modulus implements Operation {
     public double execute(double a, double b) {
         logger.debug("Executing modulus: {} % {}", a, b);
 
-        if (Math.abs(b) < EPSILON) {
+        double result;
+        try {
+            result = evaluate(a, b);
+        } catch (DivisionByZeroException e) {
             logger.error("Modulus by zero attempted: {} % {}", a, b);
+            throw e;
+        }
+        logger.debug("Modulus result: {}", result);
+        return result;
+    }
+
+    @Override
+    public double evaluate(double a, double b) {
+        if (Math.abs(b) < EPSILON) {
             throw new DivisionByZeroException(
                     String.format("Cannot calculate modulus with divisor zero: %.2f %% 0", a));
         }
 
-        double result = a % b;
-        logger.debug("Modulus result: {}", result);
-        return result;
+        return a % b;
     }
 
     @Override
@@ -41,4 +51,9 @@ public class Modulus implements Operation {
     public String getName() {
         return "Modulus";
     }
+
+    @Override
+    public int getCost() {
+        return 6;
+    }
 }
@@ -19,11 +19,16 @@ public class Percentage implements Operation {
     @Override
     public double execute(double a, double b) {
         logger.debug("Executing percentage: {}% of {}", b, a);
-        double result = (a * b) / 100.0;
+        double result = evaluate(a, b);
         logger.debug("Percentage result: {}", result);
         return result;
     }
 
+    @Override
+    public double evaluate(double a, double b) {
+        return (a * b) / 100.0;
+    }
+
     @Override
     public String getSymbol() {
         return "%";
@@ -38,4 +43,9 @@ public class Percentage implements Operation {
     public String getDescription() {
         return String.format("%s (b%% of a)", getName());
     }
+
+    @Override
+    public int getCost() {
+        return 2;
+    }
 }
@@ -0,0 +1,73 @@
+package com.learning.calculator.operations.advanced;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+
+/**
+ * Permutations operation implementation.
+ * Calculates the number of ordered arrangements of b of a items: a! / (a-b)!
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class Permutations implements CombinatorialOperation {
+    private static final Logger logger = LoggerFactory.getLogger(Permutations.class);
+
+    /** Natural logarithm of the largest finite double. */
+    private static final double LOG_MAX_DOUBLE = Math.log(Double.MAX_VALUE);
+
+    /** Largest k whose k! is finite as a double. */
+    private static final int MAX_DOUBLE_FACTORS = 170;
+
+    @Override
+    public double execute(double a, double b) {
+        logger.debug("Executing permutations: P({}, {})", a, b);
+        double result = evaluate(a, b);
+        if (Double.isInfinite(result)) {
+            logger.warn("Permutations exceed the double range: P({}, {})", a, b);
+        }
+        logger.debug("Permutations result: {}", result);
+        return result;
+    }
+
+    @Override
+    public double evaluate(double a, double b) {
+        int n = CombinatoricsMath.toArgument(getName(), a, CombinatoricsMath.MAX_ARGUMENT);
+        int k = CombinatoricsMath.toArgument(getName(), b, n);
+        // P(n, k) is at least k! and at least (n-k+1)^k, so this only
+        // computes products of at most 170 factors exactly and rounds them.
+        if (k > MAX_DOUBLE_FACTORS || k * Math.log(n - k + 1.0) > LOG_MAX_DOUBLE) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return CombinatoricsMath.permutations(n, k).doubleValue();
+    }
+
+    @Override
+    public BigInteger executeExact(int a, int b) {
+        logger.debug("Executing exact permutations: P({}, {})", a, b);
+        return CombinatoricsMath.permutations(a, b);
+    }
+
+    @Override
+    public String getSymbol() {
+        return "P";
+    }
+
+    @Override
+    public String getName() {
+        return "Permutations";
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format("%s (b of a in order)", getName());
+    }
+
+    @Override
+    public int getCost() {
+        return 20;
+    }
+}
@@ -18,7 +18,7 @@ public class Power implements Operation {
     @Override
     public double execute(double a, double b) {
         logger.debug("Executing power: {} ^ {}", a, b);
-        double result = Math.pow(a, b);
+        double result = evaluate(a, b);
 
         if (Double.isInfinite(result)) {
             logger.warn("Power operation resulted in infinity: {} ^ {}", a, b);
@@ -30,6 +30,11 @@ public class Power implements Operation {
         return result;
     }
 
+    @Override
+    public double evaluate(double a, double b) {
+        return Math.pow(a, b);
+    }
+
     @Override
     public String getSymbol() {
         return "^";
@@ -39,4 +44,9 @@ public class Power implements Operation {
     public String getName() {
         return "Power";
     }
+
+    @Override
+    public int getCost() {
+        return 6;
+    }
 }
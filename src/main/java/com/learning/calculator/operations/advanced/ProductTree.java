@@ -0,0 +1,197 @@
+package com.learning.calculator.operations.advanced;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Products of many integers, and of two large integers, on the common
+ * fork/join pool.
+ * 
+ * Factors are multiplied as a balanced tree, so that the operands of every
+ * multiplication have about the same size and BigInteger can use its
+ * sub-quadratic algorithms; a left-to-right product multiplies an ever
+ * larger number by a small one, which is quadratic overall. Short runs of
+ * factors are first packed into a long. Above {@link #PARALLEL_FACTORS}
+ * factors the two halves of the tree are computed in parallel, and
+ * multiplications of operands above {@link #PARALLEL_MULTIPLY_BITS} are
+ * split Karatsuba-style into three half-size products that run in
+ * parallel, which keeps the cores busy during the final multiplications at
+ * the root of the tree.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+final class ProductTree extends RecursiveTask<BigInteger> {
+    /** Factor count above which a product is split across the pool. */
+    static final int PARALLEL_FACTORS = 1 << 12;
+
+    /** Bit length both operands need for a multiplication to be split across the pool. */
+    static final int PARALLEL_MULTIPLY_BITS = 1 << 18;
+
+    /** Factor count multiplied left to right at the leaves of the tree. */
+    private static final int LEAF_FACTORS = 16;
+
+    private final IntToLongFunction factor;
+    private final int from;
+    private final int to;
+    private final int threads;
+
+    private ProductTree(IntToLongFunction factor, int from, int to, int threads) {
+        this.factor = factor;
+        this.from = from;
+        this.to = to;
+        this.threads = threads;
+    }
+
+    /**
+     * Multiplies the factors {@code factor(from)} to {@code factor(to - 1)},
+     * in parallel if the common pool has more than one thread.
+     * 
+     * @param factor the factors, each at least 1
+     * @param from   index of the first factor
+     * @param to     index after the last factor
+     * @return the product, 1 if the range is empty
+     */
+    static BigInteger product(IntToLongFunction factor, int from, int to) {
+        if (to - from <= PARALLEL_FACTORS || !isParallel()) {
+            return sequentialProduct(factor, from, to);
+        }
+        return product(ForkJoinPool.commonPool(), factor, from, to);
+    }
+
+    /**
+     * Multiplies a range of factors on the given pool.
+     * 
+     * @param pool   the pool
+     * @param factor the factors, each at least 1
+     * @param from   index of the first factor
+     * @param to     index after the last factor
+     * @return the product, 1 if the range is empty
+     */
+    static BigInteger product(ForkJoinPool pool, IntToLongFunction factor, int from, int to) {
+        return pool.invoke(new ProductTree(factor, from, to, pool.getParallelism()));
+    }
+
+    /**
+     * Multiplies two integers, in parallel if both are large and the common
+     * pool has more than one thread. Passing the same instance twice squares
+     * it, which BigInteger does faster than a general multiplication.
+     * 
+     * @param a first factor
+     * @param b second factor
+     * @return a * b
+     */
+    static BigInteger multiply(BigInteger a, BigInteger b) {
+        if (!splits(a, b)) {
+            return a.multiply(b);
+        }
+        if (ForkJoinTask.inForkJoinPool()) {
+            return SplitMultiplication.task(a, b, getPool().getParallelism()).invoke();
+        }
+        if (!isParallel()) {
+            return a.multiply(b);
+        }
+        return multiply(ForkJoinPool.commonPool(), a, b);
+    }
+
+    /**
+     * Multiplies two integers on the given pool.
+     * 
+     * @param pool the pool
+     * @param a    first factor
+     * @param b    second factor
+     * @return a * b
+     */
+    static BigInteger multiply(ForkJoinPool pool, BigInteger a, BigInteger b) {
+        int threads = pool.getParallelism();
+        return threads > 1 && splits(a, b) ? pool.invoke(new SplitMultiplication(a, b, threads)) : a.multiply(b);
+    }
+
+    private static boolean isParallel() {
+        return ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    private static boolean splits(BigInteger a, BigInteger b) {
+        return a.bitLength() >= PARALLEL_MULTIPLY_BITS && b.bitLength() >= PARALLEL_MULTIPLY_BITS;
+    }
+
+    private static BigInteger sequentialProduct(IntToLongFunction factor, int from, int to) {
+        if (to - from > LEAF_FACTORS) {
+            int middle = (from + to) >>> 1;
+            return sequentialProduct(factor, from, middle).multiply(sequentialProduct(factor, middle, to));
+        }
+        BigInteger product = BigInteger.ONE;
+        long packed = 1;
+        for (int i = from; i < to; i++) {
+            long value = factor.applyAsLong(i);
+            long low = packed * value;
+            if (Math.multiplyHigh(packed, value) != 0 || low < 0) {
+                product = product.multiply(BigInteger.valueOf(packed));
+                packed = value;
+            } else {
+                packed = low;
+            }
+        }
+        return packed == 1 ? product : product.multiply(BigInteger.valueOf(packed));
+    }
+
+    @Override
+    protected BigInteger compute() {
+        if (to - from <= PARALLEL_FACTORS) {
+            return sequentialProduct(factor, from, to);
+        }
+        int middle = (from + to) >>> 1;
+        ProductTree left = new ProductTree(factor, from, middle, threads);
+        left.fork();
+        BigInteger right = new ProductTree(factor, middle, to, threads).compute();
+        return SplitMultiplication.task(left.join(), right, threads).invoke();
+    }
+
+    /**
+     * One Karatsuba step: with x = x1 * 2^h + x0 and y = y1 * 2^h + y0,
+     * x * y = x1y1 * 2^2h + ((x0 + x1)(y0 + y1) - x1y1 - x0y0) * 2^h + x0y0,
+     * where the three half-size products run in parallel. Their total cost
+     * is about a tenth above that of the undivided multiplication, so the
+     * products are only split further while there are threads to run them.
+     */
+    private static final class SplitMultiplication extends RecursiveTask<BigInteger> {
+        private final BigInteger x;
+        private final BigInteger y;
+        private final int threads;
+
+        SplitMultiplication(BigInteger x, BigInteger y, int threads) {
+            this.x = x;
+            this.y = y;
+            this.threads = threads;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            int half = (Math.max(x.bitLength(), y.bitLength()) / 2) & -32;
+            BigInteger x1 = x.shiftRight(half);
+            BigInteger x0 = x.subtract(x1.shiftLeft(half));
+            BigInteger y1 = x == y ? x1 : y.shiftRight(half);
+            BigInteger y0 = x == y ? x0 : y.subtract(y1.shiftLeft(half));
+            BigInteger xSum = x0.add(x1);
+            BigInteger ySum = x == y ? xSum : y0.add(y1);
+
+            int share = threads / 3;
+            ForkJoinTask<BigInteger> high = task(x1, y1, share).fork();
+            ForkJoinTask<BigInteger> middle = task(xSum, ySum, share).fork();
+            BigInteger low = task(x0, y0, share).invoke();
+            BigInteger highProduct = high.join();
+            BigInteger cross = middle.join().subtract(highProduct).subtract(low);
+            return highProduct.shiftLeft(2 * half).add(cross.shiftLeft(half)).add(low);
+        }
+
+        private static ForkJoinTask<BigInteger> task(BigInteger a, BigInteger b, int threads) {
+            return threads > 1 && splits(a, b)
+                    ? new SplitMultiplication(a, b, threads)
+                    : ForkJoinTask.adapt(() -> a.multiply(b));
+        }
+    }
+}
@@ -21,15 +21,25 @@ public class SquareRoot implements Operation {
     public double execute(double a, double b) {
         logger.debug("Executing square root: √{}", a);
 
-        if (a < 0) {
+        double result;
+        try {
+            result = evaluate(a, b);
+        } catch (NegativeSquareRootException e) {
             logger.error("Negative square root attempted: √{}", a);
+            throw e;
+        }
+        logger.debug("Square root result: {}", result);
+        return result;
+    }
+
+    @Override
+    public double evaluate(double a, double b) {
+        if (a < 0) {
             throw new NegativeSquareRootException(
                     String.format("Cannot calculate square root of negative number: %.2f", a));
         }
 
-        double result = Math.sqrt(a);
-        logger.debug("Square root result: {}", result);
-        return result;
+        return Math.sqrt(a);
     }
 
     @Override
@@ -41,4 +51,14 @@ public class SquareRoot implements Operation {
     public String getName() {
         return "Square Root";
     }
+
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getCost() {
+        return 4;
+    }
 }
@@ -18,11 +18,16 @@ public class Addition implements Operation {
     @Override
     public double execute(double a, double b) {
         logger.debug("Executing addition: {} + {}", a, b);
-        double result = a + b;
+        double result = evaluate(a, b);
         logger.debug("Addition result: {}", result);
         return result;
     }
 
+    @Override
+    public double evaluate(double a, double b) {
+        return a + b;
+    }
+
     @Override
     public String getSymbol() {
         return "+";
@@ -32,4 +37,9 @@ public class Addition implements Operation {
     public String getName() {
         return "Addition";
     }
+
+    @Override
+    public boolean isAssociative() {
+        return true;
+    }
 }
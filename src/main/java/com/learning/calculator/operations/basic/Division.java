@@ -22,15 +22,25 @@ public class Division implements Operation {
     public double execute(double a, double b) {
         logger.debug("Executing division: {} / {}", a, b);
 
-        if (Math.abs(b) < EPSILON) {
+        double result;
+        try {
+            result = evaluate(a, b);
+        } catch (DivisionByZeroException e) {
             logger.error("Division by zero attempted: {} / {}", a, b);
+            throw e;
+        }
+        logger.debug("Division result: {}", result);
+        return result;
+    }
+
+    @Override
+    public double evaluate(double a, double b) {
+        if (Math.abs(b) < EPSILON) {
             throw new DivisionByZeroException(
                     String.format("Cannot divide %.2f by zero", a));
         }
 
-        double result = a / b;
-        logger.debug("Division result: {}", result);
-        return result;
+        return a / b;
     }
 
     @Override
@@ -42,4 +52,9 @@ public class Division implements Operation {
     public String getName() {
         return "Division";
     }
+
+    @Override
+    public int getCost() {
+        return 2;
+    }
 }
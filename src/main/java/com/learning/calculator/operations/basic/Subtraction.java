@@ -18,11 +18,16 @@ public class Subtraction implements Operation {
     @Override
     public double execute(double a, double b) {
         logger.debug("Executing subtraction: {} - {}", a, b);
-        double result = a - b;
+        double result = evaluate(a, b);
         logger.debug("Subtraction result: {}", result);
         return result;
     }
 
+    @Override
+    public double evaluate(double a, double b) {
+        return a - b;
+    }
+
     @Override
     public String getSymbol() {
         return "-";
@@ -0,0 +1,56 @@
+package com.learning.calculator.operations.decimal;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidInputException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Decimal division: a / b, rounded to the math context.
+ * Only an exact zero divisor is rejected; unlike the double operation there is
+ * no epsilon because decimal operands are exact.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class DecimalDivision implements DecimalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(DecimalDivision.class);
+
+    @Override
+    public BigDecimal execute(BigDecimal a, BigDecimal b, MathContext mathContext) {
+        logger.debug("Executing decimal division: {} / {}", a, b);
+        if (b.signum() == 0) {
+            logger.error("Division by zero attempted: {} / {}", a, b);
+            throw new DivisionByZeroException(
+                    String.format("Cannot divide %s by zero", a.toPlainString()));
+        }
+        BigDecimal result;
+        try {
+            result = a.divide(b, mathContext);
+        } catch (ArithmeticException e) {
+            throw new InvalidInputException(String.format(
+                    "%s / %s has no exact decimal result; set a precision", a.toPlainString(), b.toPlainString()));
+        }
+        logger.debug("Decimal division result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "/";
+    }
+
+    @Override
+    public String getName() {
+        return "Division";
+    }
+
+    @Override
+    public int getCost() {
+        return 60;
+    }
+}
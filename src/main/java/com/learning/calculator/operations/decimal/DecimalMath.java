@@ -0,0 +1,87 @@
+package com.learning.calculator.operations.decimal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared constants and helpers for the decimal operation family.
+ * Caches math contexts by precision and provides the long fast paths used
+ * when both operands are integers that fit in a long.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class DecimalMath {
+
+    /** Constant 100 used by percentage calculations. */
+    public static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    /** Integers with at most this many digits always fit in a long. */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final Map<Integer, MathContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    static {
+        CONTEXTS.put(MathContext.DECIMAL32.getPrecision(), MathContext.DECIMAL32);
+        CONTEXTS.put(MathContext.DECIMAL64.getPrecision(), MathContext.DECIMAL64);
+        CONTEXTS.put(MathContext.DECIMAL128.getPrecision(), MathContext.DECIMAL128);
+        CONTEXTS.put(0, MathContext.UNLIMITED);
+    }
+
+    private DecimalMath() {
+    }
+
+    /**
+     * Gets a cached math context with the given precision and banker's rounding.
+     * 
+     * @param precision number of significant digits, 0 for unlimited
+     * @return the cached math context
+     * @throws IllegalArgumentException if precision is negative
+     */
+    public static MathContext context(int precision) {
+        if (precision < 0) {
+            throw new IllegalArgumentException("Precision cannot be negative");
+        }
+        return CONTEXTS.computeIfAbsent(precision, p -> new MathContext(p, RoundingMode.HALF_EVEN));
+    }
+
+    /**
+     * Converts a double to its shortest decimal representation, i.e. the
+     * value the user typed rather than its exact binary expansion.
+     * 
+     * @param value the double value
+     * @return the decimal value
+     * @throws NumberFormatException if value is NaN or infinite
+     */
+    public static BigDecimal toDecimal(double value) {
+        if (value == (long) value && Math.abs(value) < 1e18) {
+            return BigDecimal.valueOf((long) value);
+        }
+        return BigDecimal.valueOf(value);
+    }
+
+    /**
+     * Checks if a value is an integer that fits in a long.
+     * 
+     * @param value the value to check
+     * @return true if the long fast path can be used
+     */
+    static boolean fitsInLong(BigDecimal value) {
+        return value.scale() == 0 && value.precision() <= MAX_LONG_DIGITS;
+    }
+
+    /**
+     * Rounds an exact long result to the math context.
+     * 
+     * @param value       the exact result
+     * @param mathContext the math context
+     * @return the rounded decimal value
+     */
+    static BigDecimal round(long value, MathContext mathContext) {
+        return BigDecimal.valueOf(value).round(mathContext);
+    }
+}
@@ -0,0 +1,58 @@
+package com.learning.calculator.operations.decimal;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidInputException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Decimal modulus: remainder of a divided by b.
+ * Uses long arithmetic when both operands are integers that fit in a long.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class DecimalModulus implements DecimalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(DecimalModulus.class);
+
+    @Override
+    public BigDecimal execute(BigDecimal a, BigDecimal b, MathContext mathContext) {
+        logger.debug("Executing decimal modulus: {} % {}", a, b);
+        if (b.signum() == 0) {
+            logger.error("Modulus by zero attempted: {} % {}", a, b);
+            throw new DivisionByZeroException(
+                    String.format("Cannot calculate modulus with divisor zero: %s %% 0", a.toPlainString()));
+        }
+        if (DecimalMath.fitsInLong(a) && DecimalMath.fitsInLong(b)) {
+            return DecimalMath.round(a.longValue() % b.longValue(), mathContext);
+        }
+        BigDecimal result;
+        try {
+            result = a.remainder(b, mathContext);
+        } catch (ArithmeticException e) {
+            throw new InvalidInputException(String.format(
+                    "%s %% %s needs a quotient longer than the precision", a.toPlainString(), b.toPlainString()));
+        }
+        logger.debug("Decimal modulus result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "%";
+    }
+
+    @Override
+    public String getName() {
+        return "Modulus";
+    }
+
+    @Override
+    public int getCost() {
+        return 75;
+    }
+}
@@ -0,0 +1,47 @@
+package com.learning.calculator.operations.decimal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Decimal multiplication: a * b.
+ * Uses exact long arithmetic when the product of two long-sized integers does
+ * not overflow.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class DecimalMultiplication implements DecimalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(DecimalMultiplication.class);
+
+    @Override
+    public BigDecimal execute(BigDecimal a, BigDecimal b, MathContext mathContext) {
+        logger.debug("Executing decimal multiplication: {} * {}", a, b);
+        if (DecimalMath.fitsInLong(a) && DecimalMath.fitsInLong(b)) {
+            long x = a.longValue();
+            long y = b.longValue();
+            long high = Math.multiplyHigh(x, y);
+            long low = x * y;
+            if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+                return DecimalMath.round(low, mathContext);
+            }
+        }
+        BigDecimal result = a.multiply(b, mathContext);
+        logger.debug("Decimal multiplication result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "*";
+    }
+
+    @Override
+    public String getName() {
+        return "Multiplication";
+    }
+}
@@ -0,0 +1,71 @@
+package com.learning.calculator.operations.decimal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Interface for arbitrary-precision calculator operations.
+ * Parallel to {@link com.learning.calculator.operations.Operation} but works
+ * on {@link BigDecimal} values rounded by a caller-supplied {@link MathContext}.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public interface DecimalOperation {
+    /**
+     * Executes the mathematical operation on two operands.
+     * 
+     * @param a           First operand
+     * @param b           Second operand
+     * @param mathContext precision and rounding mode of the result
+     * @return Result of the operation, rounded to the math context
+     * @throws ArithmeticException if the operation is mathematically invalid
+     */
+    BigDecimal execute(BigDecimal a, BigDecimal b, MathContext mathContext);
+
+    /**
+     * Gets the symbol representing this operation.
+     * 
+     * @return Operation symbol (e.g., "+", "-", "*", "/")
+     */
+    String getSymbol();
+
+    /**
+     * Gets the human-readable name of this operation.
+     * 
+     * @return Operation name (e.g., "Addition", "Subtraction")
+     */
+    String getName();
+
+    /**
+     * Gets the number of operands this operation uses. Unary operations
+     * ignore their second operand.
+     * 
+     * @return 1 for unary operations, 2 for binary operations
+     */
+    default int getArity() {
+        return 2;
+    }
+
+    /**
+     * Checks if the result depends only on the operands and the math context.
+     * 
+     * @return true if the operation is deterministic and free of side effects
+     */
+    default boolean isPure() {
+        return true;
+    }
+
+    /**
+     * Gets a relative estimate of the cost of one evaluation at
+     * {@link MathContext#DECIMAL64} precision, in units of one double
+     * addition (see {@link com.learning.calculator.operations.Operation#getCost()}).
+     * Higher precisions cost more.
+     * 
+     * @return relative cost
+     */
+    default int getCost() {
+        return 40;
+    }
+}
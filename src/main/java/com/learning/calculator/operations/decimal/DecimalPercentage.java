@@ -0,0 +1,37 @@
+package com.learning.calculator.operations.decimal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Decimal percentage: b percent of a, (a * b) / 100.
+ * The division by 100 is an exact decimal point shift.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class DecimalPercentage implements DecimalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(DecimalPercentage.class);
+
+    @Override
+    public BigDecimal execute(BigDecimal a, BigDecimal b, MathContext mathContext) {
+        logger.debug("Executing decimal percentage: {}% of {}", b, a);
+        BigDecimal result = a.multiply(b).movePointLeft(2).round(mathContext);
+        logger.debug("Decimal percentage result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "%";
+    }
+
+    @Override
+    public String getName() {
+        return "Percentage";
+    }
+}
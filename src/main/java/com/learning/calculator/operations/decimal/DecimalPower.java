@@ -0,0 +1,64 @@
+package com.learning.calculator.operations.decimal;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidInputException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Decimal power: a^b for integer exponents.
+ * Non-integer exponents have no exact decimal result and are rejected.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class DecimalPower implements DecimalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(DecimalPower.class);
+
+    @Override
+    public BigDecimal execute(BigDecimal a, BigDecimal b, MathContext mathContext) {
+        logger.debug("Executing decimal power: {} ^ {}", a, b);
+        int exponent;
+        try {
+            exponent = b.intValueExact();
+        } catch (ArithmeticException e) {
+            throw new InvalidInputException(
+                    String.format("Decimal power requires an integer exponent: %s", b.toPlainString()));
+        }
+        if (a.signum() == 0 && exponent < 0) {
+            throw new DivisionByZeroException("Cannot raise zero to a negative power");
+        }
+        BigDecimal result;
+        try {
+            // pow rejects negative exponents at unlimited precision, even
+            // where the result terminates, such as 2^-1
+            result = exponent < 0 && mathContext.getPrecision() == 0
+                    ? BigDecimal.ONE.divide(a.pow(-exponent))
+                    : a.pow(exponent, mathContext);
+        } catch (ArithmeticException e) {
+            throw new InvalidInputException(String.format(
+                    "%s ^ %d has no exact decimal result; set a precision", a.toPlainString(), exponent));
+        }
+        logger.debug("Decimal power result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "^";
+    }
+
+    @Override
+    public String getName() {
+        return "Power";
+    }
+
+    @Override
+    public int getCost() {
+        return 130;
+    }
+}
@@ -0,0 +1,60 @@
+package com.learning.calculator.operations.decimal;
+
+import com.learning.calculator.exceptions.InvalidInputException;
+import com.learning.calculator.exceptions.NegativeSquareRootException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Decimal square root: √a, rounded to the math context.
+ * Note: The second parameter 'b' is ignored in this operation.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class DecimalSquareRoot implements DecimalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(DecimalSquareRoot.class);
+
+    @Override
+    public BigDecimal execute(BigDecimal a, BigDecimal b, MathContext mathContext) {
+        logger.debug("Executing decimal square root: √{}", a);
+        if (a.signum() < 0) {
+            logger.error("Negative square root attempted: √{}", a);
+            throw new NegativeSquareRootException(
+                    String.format("Cannot calculate square root of negative number: %s", a.toPlainString()));
+        }
+        BigDecimal result;
+        try {
+            result = a.sqrt(mathContext);
+        } catch (ArithmeticException e) {
+            throw new InvalidInputException(String.format(
+                    "√%s has no exact decimal result; set a precision", a.toPlainString()));
+        }
+        logger.debug("Decimal square root result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "√";
+    }
+
+    @Override
+    public String getName() {
+        return "Square Root";
+    }
+
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getCost() {
+        return 750;
+    }
+}
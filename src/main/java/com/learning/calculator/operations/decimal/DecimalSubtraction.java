@@ -0,0 +1,40 @@
+package com.learning.calculator.operations.decimal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Decimal subtraction: a - b.
+ * Uses exact long arithmetic when both operands are integers that fit in a long.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class DecimalSubtraction implements DecimalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(DecimalSubtraction.class);
+
+    @Override
+    public BigDecimal execute(BigDecimal a, BigDecimal b, MathContext mathContext) {
+        logger.debug("Executing decimal subtraction: {} - {}", a, b);
+        if (DecimalMath.fitsInLong(a) && DecimalMath.fitsInLong(b)) {
+            return DecimalMath.round(a.longValue() - b.longValue(), mathContext);
+        }
+        BigDecimal result = a.subtract(b, mathContext);
+        logger.debug("Decimal subtraction result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "-";
+    }
+
+    @Override
+    public String getName() {
+        return "Subtraction";
+    }
+}
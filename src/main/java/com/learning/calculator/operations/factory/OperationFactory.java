@@ -4,7 +4,10 @@ import com.learning.calculator.exceptions.InvalidOperationException;
 import com.learning.calculator.operations.Operation;
 import com.learning.calculator.operations.advanced.*;
 import com.learning.calculator.operations.basic.*;
+import com.learning.calculator.operations.decimal.*;
+import com.learning.calculator.operations.rational.*;
 import com.learning.calculator.operations.scientific.*;
+import com.learning.calculator.operations.statistics.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,18 +28,36 @@ public class OperationFactory {
     private static final Logger logger = LoggerFactory.getLogger(OperationFactory.class);
     private static OperationFactory instance;
 
-    private final Map<Integer, Operation> basicOperations;
-    private final Map<Integer, Operation> scientificOperations;
+    private static final Set<Integer> BASIC_CODES = Set.of(1, 2, 3, 4, 5, 6, 7, 8);
+    private static final Set<Integer> SCIENTIFIC_CODES = Set.of(11, 12, 13, 14);
+    private static final Set<Integer> COMBINATORIAL_CODES = Set.of(15, 16, 17, 18);
+    private static final Set<Integer> RATIONAL_CODES = Set.of(1, 2, 3, 4, 5, 7, 8);
+    private static final int MAX_CODE = 18;
+    private static final Set<Integer> AGGREGATE_CODES = Set.of(31, 32, 33, 34, 35, 36, 37);
+    private static final int MIN_AGGREGATE_CODE = 31;
+    private static final int MAX_AGGREGATE_CODE = 37;
+
+    /*
+     * Operations are registered by code and instantiated on first use, so a
+     * short-lived process only loads the classes (and loggers) it needs.
+     * Operations are immutable, so a racy double instantiation is harmless.
+     */
+    private final Operation[] operations;
+    private final DecimalOperation[] decimalOperations;
+    private final RationalOperation[] rationalOperations;
+    private final AggregateOperation[] aggregateOperations;
 
     /**
      * Private constructor to enforce Singleton pattern.
      */
     private OperationFactory() {
-        basicOperations = new HashMap<>();
-        scientificOperations = new HashMap<>();
-        initializeOperations();
-        logger.info("OperationFactory initialized with {} basic and {} scientific operations",
-                basicOperations.size(), scientificOperations.size());
+        operations = new Operation[MAX_CODE + 1];
+        decimalOperations = new DecimalOperation[MAX_CODE + 1];
+        rationalOperations = new RationalOperation[MAX_CODE + 1];
+        aggregateOperations = new AggregateOperation[MAX_AGGREGATE_CODE - MIN_AGGREGATE_CODE + 1];
+        logger.info("OperationFactory initialized with {} basic, {} scientific, {} combinatorial and {} aggregate "
+                + "operations", BASIC_CODES.size(), SCIENTIFIC_CODES.size(), COMBINATORIAL_CODES.size(),
+                AGGREGATE_CODES.size());
     }
 
     /**
@@ -52,26 +73,155 @@ public class OperationFactory {
     }
 
     /**
-     * Initializes all available operations.
+     * Instantiates the operation registered under a code.
+     * 
+     * @param operationCode the operation code
+     * @return a new operation, or null if the code is not registered
      */
-    private void initializeOperations() {
-        // Basic operations
-        basicOperations.put(1, new Addition());
-        basicOperations.put(2, new Subtraction());
-        basicOperations.put(3, new Multiplication());
-        basicOperations.put(4, new Division());
+    private static Operation instantiate(int operationCode) {
+        switch (operationCode) {
+            // Basic operations
+            case 1:
+                return new Addition();
+            case 2:
+                return new Subtraction();
+            case 3:
+                return new Multiplication();
+            case 4:
+                return new Division();
+            // Advanced operations
+            case 5:
+                return new Power();
+            case 6:
+                return new SquareRoot();
+            case 7:
+                return new Modulus();
+            case 8:
+                return new Percentage();
+            // Scientific operations
+            case 11:
+                return new Sine();
+            case 12:
+                return new Cosine();
+            case 13:
+                return new Tangent();
+            case 14:
+                return new NaturalLog();
+            // Combinatorial operations
+            case 15:
+                return new Factorial();
+            case 16:
+                return new BinomialCoefficient();
+            case 17:
+                return new Permutations();
+            case 18:
+                return new Fibonacci();
+            default:
+                return null;
+        }
+    }
 
-        // Advanced operations
-        basicOperations.put(5, new Power());
-        basicOperations.put(6, new SquareRoot());
-        basicOperations.put(7, new Modulus());
-        basicOperations.put(8, new Percentage());
+    /**
+     * Instantiates the arbitrary-precision counterpart of a basic or advanced
+     * operation.
+     * 
+     * @param operationCode the operation code
+     * @return a new decimal operation, or null if there is none
+     */
+    private static DecimalOperation instantiateDecimal(int operationCode) {
+        switch (operationCode) {
+            case 1:
+                return new DecimalAddition();
+            case 2:
+                return new DecimalSubtraction();
+            case 3:
+                return new DecimalMultiplication();
+            case 4:
+                return new DecimalDivision();
+            case 5:
+                return new DecimalPower();
+            case 6:
+                return new DecimalSquareRoot();
+            case 7:
+                return new DecimalModulus();
+            case 8:
+                return new DecimalPercentage();
+            default:
+                return null;
+        }
+    }
 
-        // Scientific operations
-        scientificOperations.put(11, new Sine());
-        scientificOperations.put(12, new Cosine());
-        scientificOperations.put(13, new Tangent());
-        scientificOperations.put(14, new NaturalLog());
+    /**
+     * Instantiates the exact rational counterpart of a basic or advanced
+     * operation.
+     * 
+     * @param operationCode the operation code
+     * @return a new rational operation, or null if there is none
+     */
+    private static RationalOperation instantiateRational(int operationCode) {
+        switch (operationCode) {
+            case 1:
+                return new RationalAddition();
+            case 2:
+                return new RationalSubtraction();
+            case 3:
+                return new RationalMultiplication();
+            case 4:
+                return new RationalDivision();
+            case 5:
+                return new RationalPower();
+            case 7:
+                return new RationalModulus();
+            case 8:
+                return new RationalPercentage();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Instantiates the statistical aggregate registered under a code.
+     * 
+     * @param operationCode the operation code
+     * @return a new aggregate operation, or null if the code is not registered
+     */
+    private static AggregateOperation instantiateAggregate(int operationCode) {
+        switch (operationCode) {
+            case 31:
+                return new Sum();
+            case 32:
+                return new Mean();
+            case 33:
+                return new Variance();
+            case 34:
+                return new StandardDeviation();
+            case 35:
+                return new Minimum();
+            case 36:
+                return new Maximum();
+            case 37:
+                return new Percentile();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Looks up, and on first use instantiates, the operation for a code.
+     * 
+     * @param operationCode the operation code
+     * @return the operation, or null if the code is not registered
+     */
+    private Operation lookup(int operationCode) {
+        if (operationCode < 0 || operationCode > MAX_CODE) {
+            return null;
+        }
+        Operation operation = operations[operationCode];
+        if (operation == null) {
+            operation = instantiate(operationCode);
+            operations[operationCode] = operation;
+        }
+        return operation;
     }
 
     /**
@@ -82,11 +232,7 @@ public class OperationFactory {
      * @throws InvalidOperationException if the operation code is invalid
      */
     public Operation createOperation(int operationCode) {
-        Operation operation = basicOperations.get(operationCode);
-
-        if (operation == null) {
-            operation = scientificOperations.get(operationCode);
-        }
+        Operation operation = lookup(operationCode);
 
         if (operation == null) {
             logger.error("Invalid operation code: {}", operationCode);
@@ -98,13 +244,155 @@ public class OperationFactory {
         return operation;
     }
 
+    /**
+     * Creates an arbitrary-precision operation based on the operation code.
+     * 
+     * @param operationCode the code identifying the operation
+     * @return the DecimalOperation instance
+     * @throws InvalidOperationException if the code is invalid or has no
+     *                                   decimal counterpart
+     */
+    public DecimalOperation createDecimalOperation(int operationCode) {
+        DecimalOperation operation = null;
+        if (BASIC_CODES.contains(operationCode)) {
+            operation = decimalOperations[operationCode];
+            if (operation == null) {
+                operation = instantiateDecimal(operationCode);
+                decimalOperations[operationCode] = operation;
+            }
+        }
+
+        if (operation == null) {
+            logger.error("No decimal operation for code: {}", operationCode);
+            throw new InvalidOperationException(
+                    isValidOperationCode(operationCode)
+                            ? String.format("Operation %d is not available in decimal mode", operationCode)
+                            : String.format("Invalid operation code: %d", operationCode));
+        }
+
+        logger.debug("Created decimal operation: {} (code: {})", operation.getName(), operationCode);
+        return operation;
+    }
+
+    /**
+     * Checks if an operation code has an arbitrary-precision counterpart.
+     * 
+     * @param operationCode the operation code
+     * @return true if {@link #createDecimalOperation(int)} accepts the code
+     */
+    public boolean hasDecimalOperation(int operationCode) {
+        return BASIC_CODES.contains(operationCode);
+    }
+
+    /**
+     * Creates an exact rational operation based on the operation code.
+     * 
+     * @param operationCode the code identifying the operation
+     * @return the RationalOperation instance
+     * @throws InvalidOperationException if the code is invalid or has no
+     *                                   rational counterpart
+     */
+    public RationalOperation createRationalOperation(int operationCode) {
+        RationalOperation operation = null;
+        if (RATIONAL_CODES.contains(operationCode)) {
+            operation = rationalOperations[operationCode];
+            if (operation == null) {
+                operation = instantiateRational(operationCode);
+                rationalOperations[operationCode] = operation;
+            }
+        }
+
+        if (operation == null) {
+            logger.error("No rational operation for code: {}", operationCode);
+            throw new InvalidOperationException(
+                    isValidOperationCode(operationCode)
+                            ? String.format("Operation %d is not available in rational mode", operationCode)
+                            : String.format("Invalid operation code: %d", operationCode));
+        }
+
+        logger.debug("Created rational operation: {} (code: {})", operation.getName(), operationCode);
+        return operation;
+    }
+
+    /**
+     * Creates an operation with exact whole-number results based on the
+     * operation code.
+     * 
+     * @param operationCode the code identifying the operation
+     * @return the CombinatorialOperation instance
+     * @throws InvalidOperationException if the code is not a combinatorial code
+     */
+    public CombinatorialOperation createCombinatorialOperation(int operationCode) {
+        Operation operation = COMBINATORIAL_CODES.contains(operationCode) ? lookup(operationCode) : null;
+
+        if (!(operation instanceof CombinatorialOperation)) {
+            logger.error("No combinatorial operation for code: {}", operationCode);
+            throw new InvalidOperationException(
+                    isValidOperationCode(operationCode)
+                            ? String.format("Operation %d has no exact integer result", operationCode)
+                            : String.format("Invalid operation code: %d", operationCode));
+        }
+
+        logger.debug("Created combinatorial operation: {} (code: {})", operation.getName(), operationCode);
+        return (CombinatorialOperation) operation;
+    }
+
+    /**
+     * Creates a statistical aggregate operation based on the operation code.
+     * 
+     * @param operationCode the code identifying the aggregate
+     * @return the AggregateOperation instance
+     * @throws InvalidOperationException if the code is not an aggregate code
+     */
+    public AggregateOperation createAggregateOperation(int operationCode) {
+        AggregateOperation operation = null;
+        if (AGGREGATE_CODES.contains(operationCode)) {
+            int index = operationCode - MIN_AGGREGATE_CODE;
+            operation = aggregateOperations[index];
+            if (operation == null) {
+                operation = instantiateAggregate(operationCode);
+                aggregateOperations[index] = operation;
+            }
+        }
+
+        if (operation == null) {
+            logger.error("Invalid aggregate operation code: {}", operationCode);
+            throw new InvalidOperationException(
+                    String.format("Invalid aggregate operation code: %d", operationCode));
+        }
+
+        logger.debug("Created aggregate operation: {} (code: {})", operation.getName(), operationCode);
+        return operation;
+    }
+
+    /**
+     * Creates the scientific operations backed by a fast-math tier.
+     * The returned operations are not registered in this factory; callers
+     * that opt in keep them alongside the shared default instances.
+     * 
+     * @param fastMath the fast-math tier to use
+     * @return map of scientific operation codes to fast-math operations
+     */
+    public Map<Integer, Operation> createFastMathOperations(FastScientificMath fastMath) {
+        if (fastMath == null) {
+            throw new NullPointerException("Fast-math tier cannot be null");
+        }
+        Map<Integer, Operation> fastMathOperations = new HashMap<>();
+        fastMathOperations.put(11, new Sine(fastMath));
+        fastMathOperations.put(12, new Cosine(fastMath));
+        fastMathOperations.put(13, new Tangent(fastMath));
+        fastMathOperations.put(14, new NaturalLog(fastMath));
+        logger.debug("Created fast-math operations with max ULP error: {}", fastMath.getMaxUlpError());
+        return fastMathOperations;
+    }
+
     /**
      * Gets all basic operation codes.
      * 
      * @return set of basic operation codes
      */
     public Set<Integer> getBasicOperationCodes() {
-        return basicOperations.keySet();
+        return BASIC_CODES;
     }
 
     /**
@@ -113,7 +401,34 @@ public class OperationFactory {
      * @return set of scientific operation codes
      */
     public Set<Integer> getScientificOperationCodes() {
-        return scientificOperations.keySet();
+        return SCIENTIFIC_CODES;
+    }
+
+    /**
+     * Gets all combinatorial operation codes.
+     * 
+     * @return set of combinatorial operation codes
+     */
+    public Set<Integer> getCombinatorialOperationCodes() {
+        return COMBINATORIAL_CODES;
+    }
+
+    /**
+     * Gets all operation codes with an exact rational counterpart.
+     * 
+     * @return set of rational operation codes
+     */
+    public Set<Integer> getRationalOperationCodes() {
+        return RATIONAL_CODES;
+    }
+
+    /**
+     * Gets all statistical aggregate operation codes.
+     * 
+     * @return set of aggregate operation codes
+     */
+    public Set<Integer> getAggregateOperationCodes() {
+        return AGGREGATE_CODES;
     }
 
     /**
@@ -123,8 +438,9 @@ public class OperationFactory {
      * @return true if the operation code is valid
      */
     public boolean isValidOperationCode(int operationCode) {
-        return basicOperations.containsKey(operationCode) ||
-                scientificOperations.containsKey(operationCode);
+        return BASIC_CODES.contains(operationCode) ||
+                SCIENTIFIC_CODES.contains(operationCode) ||
+                COMBINATORIAL_CODES.contains(operationCode);
     }
 
     /**
@@ -134,10 +450,7 @@ public class OperationFactory {
      * @return the operation name, or "Unknown" if code is invalid
      */
     public String getOperationName(int operationCode) {
-        Operation operation = basicOperations.get(operationCode);
-        if (operation == null) {
-            operation = scientificOperations.get(operationCode);
-        }
+        Operation operation = lookup(operationCode);
         return operation != null ? operation.getName() : "Unknown";
     }
 }
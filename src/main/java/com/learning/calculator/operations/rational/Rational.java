@@ -0,0 +1,579 @@
+package com.learning.calculator.operations.rational;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidInputException;
+import com.learning.calculator.operations.decimal.DecimalMath;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * Immutable exact fraction, the value type of the rational operation family.
+ * 
+ * Numerator and denominator are held as longs while they fit, and
+ * arithmetic uses overflow-checked long operations. A result that
+ * overflows is promoted to {@link BigInteger}, and demoted back once it
+ * fits again. The denominator is always positive.
+ * 
+ * Normalization is lazy: results of arithmetic are not reduced to lowest
+ * terms, so a run of chained operations pays for no gcd while its terms
+ * stay short. Terms are reduced, with a binary gcd, once they outgrow 32
+ * bits or a long operation would overflow, and when the value is observed through
+ * {@link #toString()}, {@link #equals(Object)} or the numerator and
+ * denominator getters; {@link #reduce()} reduces explicitly.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class Rational implements Comparable<Rational> {
+
+    /** The value 0. */
+    public static final Rational ZERO = new Rational(0, 1, true);
+
+    /** The value 1. */
+    public static final Rational ONE = new Rational(1, 1, true);
+
+    /** Longs up to this magnitude convert to double exactly. */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    /**
+     * Result of overflowing long arithmetic. Long.MIN_VALUE is never a long
+     * term, as it has no positive counterpart, so it is free to be a marker.
+     */
+    private static final long OVERFLOW = Long.MIN_VALUE;
+
+    /**
+     * Unreduced terms are left as they are below this magnitude. Reducing
+     * larger terms early, rather than at overflow, keeps the binary gcd,
+     * whose cost grows with the bit length, on short terms.
+     */
+    private static final long LAZY_TERM_LIMIT = 1L << 32;
+
+    /** Promoted values with fewer bits than this are demoted to longs. */
+    private static final int MAX_LONG_BITS = 62;
+
+    private final long numerator;
+    private final long denominator;
+    /** Non-null once promoted; the long fields are then unused. */
+    private final BigInteger bigNumerator;
+    private final BigInteger bigDenominator;
+    private final boolean reduced;
+
+    private Rational(long numerator, long denominator, boolean reduced) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.bigNumerator = null;
+        this.bigDenominator = null;
+        this.reduced = reduced;
+    }
+
+    private Rational(BigInteger numerator, BigInteger denominator) {
+        this.numerator = 0;
+        this.denominator = 1;
+        this.bigNumerator = numerator;
+        this.bigDenominator = denominator;
+        this.reduced = true;
+    }
+
+    /**
+     * Creates the fraction numerator / denominator, in lowest terms.
+     * 
+     * @param numerator   the numerator
+     * @param denominator the denominator
+     * @return the fraction
+     * @throws DivisionByZeroException if denominator is zero
+     */
+    public static Rational of(long numerator, long denominator) {
+        if (denominator == 0) {
+            throw new DivisionByZeroException(String.format("Cannot divide %d by zero", numerator));
+        }
+        return create(numerator, denominator, false).reduce();
+    }
+
+    /**
+     * Creates the integer value.
+     * 
+     * @param value the value
+     * @return the fraction value / 1
+     */
+    public static Rational of(long value) {
+        return create(value, 1, true);
+    }
+
+    /**
+     * Creates the fraction numerator / denominator, in lowest terms.
+     * 
+     * @param numerator   the numerator
+     * @param denominator the denominator
+     * @return the fraction
+     * @throws DivisionByZeroException if denominator is zero
+     */
+    public static Rational of(BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() == 0) {
+            throw new DivisionByZeroException(String.format("Cannot divide %s by zero", numerator));
+        }
+        return promoted(numerator, denominator);
+    }
+
+    /**
+     * Creates the exact value of a decimal number, such as 5/4 for 1.25.
+     * 
+     * @param value the decimal value
+     * @return the fraction
+     */
+    public static Rational of(BigDecimal value) {
+        if (value.scale() <= 0) {
+            return promoted(value.toBigIntegerExact(), BigInteger.ONE);
+        }
+        return promoted(value.unscaledValue(), BigInteger.TEN.pow(value.scale()));
+    }
+
+    /**
+     * Converts a double to the fraction of its shortest decimal
+     * representation, the value the user typed: 0.1 becomes 1/10 rather than
+     * the exact value of the nearest double.
+     * 
+     * @param value the value
+     * @return the fraction
+     * @throws InvalidInputException if value is NaN or infinite
+     */
+    public static Rational valueOf(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new InvalidInputException(String.format("Rational mode requires finite operands: %s", value));
+        }
+        if (value == (long) value && Math.abs(value) < MAX_EXACT_DOUBLE) {
+            return of((long) value);
+        }
+        return of(DecimalMath.toDecimal(value));
+    }
+
+    /**
+     * Parses a fraction written as {@code n/d}, an integer or a decimal
+     * number such as {@code 1.25} or {@code 2e-3}.
+     * 
+     * @param text the text
+     * @return the fraction, in lowest terms
+     * @throws InvalidInputException   if the text is not a number
+     * @throws DivisionByZeroException if the denominator is zero
+     */
+    public static Rational parse(String text) {
+        try {
+            int slash = text.indexOf('/');
+            if (slash < 0) {
+                return of(new BigDecimal(text.trim()));
+            }
+            return of(new BigInteger(text.substring(0, slash).trim()),
+                    new BigInteger(text.substring(slash + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(String.format("Not a rational number: %s", text));
+        }
+    }
+
+    /**
+     * Creates a long fraction with a non-zero denominator, fixing the signs
+     * and promoting values the invariants do not allow as longs.
+     */
+    private static Rational create(long numerator, long denominator, boolean reduced) {
+        if (numerator == 0) {
+            return ZERO;
+        }
+        if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+            return promoted(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        }
+        if (denominator < 0) {
+            numerator = -numerator;
+            denominator = -denominator;
+        }
+        if (!reduced && denominator != 1 && (Math.abs(numerator) | denominator) >= LAZY_TERM_LIMIT) {
+            long gcd = gcd(Math.abs(numerator), denominator);
+            return new Rational(numerator / gcd, denominator / gcd, true);
+        }
+        return new Rational(numerator, denominator, reduced || denominator == 1);
+    }
+
+    /**
+     * Creates a fraction from big terms with a non-zero denominator, in
+     * lowest terms, demoted to longs if it fits.
+     */
+    private static Rational promoted(BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        BigInteger gcd = numerator.gcd(denominator);
+        if (!gcd.equals(BigInteger.ONE)) {
+            numerator = numerator.divide(gcd);
+            denominator = denominator.divide(gcd);
+        }
+        if (numerator.bitLength() < MAX_LONG_BITS && denominator.bitLength() < MAX_LONG_BITS) {
+            return numerator.signum() == 0 ? ZERO : new Rational(numerator.longValue(), denominator.longValue(), true);
+        }
+        return new Rational(numerator, denominator);
+    }
+
+    /**
+     * Greatest common divisor of two non-negative longs, by Stein's binary
+     * algorithm: shifts and subtractions instead of divisions.
+     * 
+     * @param a first value, not negative
+     * @param b second value, not negative
+     * @return the gcd, or the other value if one is zero
+     */
+    static long gcd(long a, long b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long t = a;
+                a = b;
+                b = t;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << shift;
+    }
+
+    /**
+     * Multiplies two long terms without throwing on overflow, unlike
+     * {@link Math#multiplyExact(long, long)}: overflow is frequent on the
+     * lazy path and an exception per overflow would dominate its cost.
+     * 
+     * @return the product, or {@link #OVERFLOW} if it does not fit
+     */
+    private static long times(long a, long b) {
+        long product = a * b;
+        return Math.multiplyHigh(a, b) == (product >> 63) ? product : OVERFLOW;
+    }
+
+    /**
+     * Adds two long terms, either of which may be {@link #OVERFLOW}, without
+     * throwing on overflow.
+     * 
+     * @return the sum, or {@link #OVERFLOW} if it does not fit
+     */
+    private static long plus(long a, long b) {
+        long sum = a + b;
+        if (a == OVERFLOW || b == OVERFLOW || ((a ^ sum) & (b ^ sum)) < 0) {
+            return OVERFLOW;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns this fraction in lowest terms.
+     * 
+     * @return the reduced fraction, this if already reduced
+     */
+    public Rational reduce() {
+        if (reduced) {
+            return this;
+        }
+        long gcd = gcd(Math.abs(numerator), denominator);
+        return new Rational(numerator / gcd, denominator / gcd, true);
+    }
+
+    /**
+     * Returns this + other.
+     * 
+     * @param other the addend
+     * @return the sum, not necessarily reduced
+     */
+    public Rational add(Rational other) {
+        if (bigNumerator == null && other.bigNumerator == null) {
+            long sum;
+            long product;
+            if (denominator == other.denominator) {
+                sum = plus(numerator, other.numerator);
+                product = denominator;
+            } else {
+                sum = plus(times(numerator, other.denominator), times(other.numerator, denominator));
+                product = times(denominator, other.denominator);
+            }
+            if (sum != OVERFLOW && product != OVERFLOW) {
+                return create(sum, product, false);
+            }
+            // Retry with reduced terms over the least common denominator
+            Rational a = reduce();
+            Rational b = other.reduce();
+            long gcd = gcd(a.denominator, b.denominator);
+            sum = plus(times(a.numerator, b.denominator / gcd), times(b.numerator, a.denominator / gcd));
+            product = times(a.denominator, b.denominator / gcd);
+            if (sum != OVERFLOW && product != OVERFLOW) {
+                return create(sum, product, false);
+            }
+        }
+        return promoted(bigNumerator().multiply(other.bigDenominator())
+                .add(other.bigNumerator().multiply(bigDenominator())),
+                bigDenominator().multiply(other.bigDenominator()));
+    }
+
+    /**
+     * Returns this - other.
+     * 
+     * @param other the subtrahend
+     * @return the difference, not necessarily reduced
+     */
+    public Rational subtract(Rational other) {
+        return add(other.negate());
+    }
+
+    /**
+     * Returns this * other.
+     * 
+     * @param other the multiplicand
+     * @return the product, not necessarily reduced
+     */
+    public Rational multiply(Rational other) {
+        if (bigNumerator == null && other.bigNumerator == null) {
+            long top = times(numerator, other.numerator);
+            long bottom = times(denominator, other.denominator);
+            if (top != OVERFLOW && bottom != OVERFLOW) {
+                return create(top, bottom, false);
+            }
+            // Retry with cross-reduced terms
+            long gcd1 = gcd(Math.abs(numerator), other.denominator);
+            long gcd2 = gcd(Math.abs(other.numerator), denominator);
+            top = times(numerator / gcd1, other.numerator / gcd2);
+            bottom = times(denominator / gcd2, other.denominator / gcd1);
+            if (top != OVERFLOW && bottom != OVERFLOW) {
+                return create(top, bottom, reduced && other.reduced);
+            }
+        }
+        return promoted(bigNumerator().multiply(other.bigNumerator()),
+                bigDenominator().multiply(other.bigDenominator()));
+    }
+
+    /**
+     * Returns this / other.
+     * 
+     * @param other the divisor
+     * @return the quotient, not necessarily reduced
+     * @throws DivisionByZeroException if other is zero
+     */
+    public Rational divide(Rational other) {
+        if (bigNumerator == null && other.bigNumerator == null && other.numerator != 0) {
+            long top = times(numerator, other.denominator);
+            long bottom = times(denominator, other.numerator);
+            if (top != OVERFLOW && bottom != OVERFLOW) {
+                return create(top, bottom, false);
+            }
+        }
+        return multiply(other.reciprocal());
+    }
+
+    /**
+     * Returns the remainder of this / other with the quotient truncated
+     * toward zero, so the result has the sign of this, like {@code %}.
+     * 
+     * @param other the divisor
+     * @return the remainder, not necessarily reduced
+     * @throws DivisionByZeroException if other is zero
+     */
+    public Rational remainder(Rational other) {
+        if (other.signum() == 0) {
+            throw new DivisionByZeroException(String.format("Cannot divide %s by zero", this));
+        }
+        if (bigNumerator == null && other.bigNumerator == null) {
+            // a/b rem c/d = (a*d rem c*b) / (b*d)
+            long dividend = times(numerator, other.denominator);
+            long divisor = times(other.numerator, denominator);
+            long product = times(denominator, other.denominator);
+            if (dividend != OVERFLOW && divisor != OVERFLOW && product != OVERFLOW) {
+                return create(dividend % divisor, product, false);
+            }
+        }
+        return promoted(bigNumerator().multiply(other.bigDenominator())
+                .remainder(other.bigNumerator().multiply(bigDenominator())),
+                bigDenominator().multiply(other.bigDenominator()));
+    }
+
+    /**
+     * Returns this raised to an integer power, by repeated squaring.
+     * 
+     * @param exponent the exponent
+     * @return the power
+     * @throws DivisionByZeroException if this is zero and exponent negative
+     */
+    public Rational pow(int exponent) {
+        Rational base = exponent < 0 ? reciprocal() : this;
+        long remaining = Math.abs((long) exponent);
+        Rational result = ONE;
+        while (remaining > 0) {
+            if ((remaining & 1) != 0) {
+                result = result.multiply(base);
+            }
+            remaining >>= 1;
+            if (remaining > 0) {
+                base = base.multiply(base);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns -this.
+     * 
+     * @return the negated value
+     */
+    public Rational negate() {
+        if (bigNumerator != null) {
+            return new Rational(bigNumerator.negate(), bigDenominator);
+        }
+        return new Rational(-numerator, denominator, reduced);
+    }
+
+    /**
+     * Returns |this|.
+     * 
+     * @return the absolute value
+     */
+    public Rational abs() {
+        return signum() < 0 ? negate() : this;
+    }
+
+    /**
+     * Returns 1 / this.
+     * 
+     * @return the reciprocal
+     * @throws DivisionByZeroException if this is zero
+     */
+    public Rational reciprocal() {
+        if (signum() == 0) {
+            throw new DivisionByZeroException("Cannot divide 1 by zero");
+        }
+        if (bigNumerator != null) {
+            return promoted(bigDenominator, bigNumerator);
+        }
+        return create(denominator, numerator, reduced);
+    }
+
+    /**
+     * Gets the sign of this fraction.
+     * 
+     * @return -1, 0 or 1
+     */
+    public int signum() {
+        return bigNumerator != null ? bigNumerator.signum() : Long.signum(numerator);
+    }
+
+    /**
+     * Checks if this fraction is an integer.
+     * 
+     * @return true if the reduced denominator is 1
+     */
+    public boolean isInteger() {
+        Rational value = reduce();
+        return value.bigNumerator == null ? value.denominator == 1 : value.bigDenominator.equals(BigInteger.ONE);
+    }
+
+    /**
+     * Checks if the terms are held as longs, the fast path of all
+     * arithmetic.
+     * 
+     * @return true unless the value was promoted to big terms
+     */
+    public boolean isLongValued() {
+        return bigNumerator == null;
+    }
+
+    /**
+     * Gets the numerator in lowest terms; its sign is the fraction's sign.
+     * 
+     * @return the numerator
+     */
+    public BigInteger getNumerator() {
+        return reduce().bigNumerator();
+    }
+
+    /**
+     * Gets the denominator in lowest terms, always positive.
+     * 
+     * @return the denominator
+     */
+    public BigInteger getDenominator() {
+        return reduce().bigDenominator();
+    }
+
+    /**
+     * Converts to the nearest double. Terms up to 2^53 are divided in double
+     * arithmetic, which rounds correctly as both are exact; larger terms are
+     * divided to 34 significant digits first.
+     * 
+     * @return the value as a double
+     */
+    public double doubleValue() {
+        if (bigNumerator == null && Math.abs(numerator) <= MAX_EXACT_DOUBLE && denominator <= MAX_EXACT_DOUBLE) {
+            return (double) numerator / denominator;
+        }
+        return new BigDecimal(bigNumerator()).divide(new BigDecimal(bigDenominator()), MathContext.DECIMAL128)
+                .doubleValue();
+    }
+
+    @Override
+    public int compareTo(Rational other) {
+        if (bigNumerator == null && other.bigNumerator == null) {
+            long left = times(numerator, other.denominator);
+            long right = times(other.numerator, denominator);
+            if (left != OVERFLOW && right != OVERFLOW) {
+                return Long.compare(left, right);
+            }
+        }
+        return bigNumerator().multiply(other.bigDenominator())
+                .compareTo(other.bigNumerator().multiply(bigDenominator()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Rational)) {
+            return false;
+        }
+        Rational a = reduce();
+        Rational b = ((Rational) o).reduce();
+        if (a.bigNumerator == null && b.bigNumerator == null) {
+            return a.numerator == b.numerator && a.denominator == b.denominator;
+        }
+        return a.bigNumerator().equals(b.bigNumerator()) && a.bigDenominator().equals(b.bigDenominator());
+    }
+
+    @Override
+    public int hashCode() {
+        Rational value = reduce();
+        return 31 * value.bigNumerator().hashCode() + value.bigDenominator().hashCode();
+    }
+
+    /**
+     * Formats the fraction in lowest terms as {@code n/d}, or {@code n} for
+     * an integer.
+     * 
+     * @return the formatted fraction
+     */
+    @Override
+    public String toString() {
+        Rational value = reduce();
+        if (value.bigNumerator == null) {
+            return value.denominator == 1 ? Long.toString(value.numerator)
+                    : value.numerator + "/" + value.denominator;
+        }
+        return value.bigNumerator + "/" + value.bigDenominator;
+    }
+
+    private BigInteger bigNumerator() {
+        return bigNumerator != null ? bigNumerator : BigInteger.valueOf(numerator);
+    }
+
+    private BigInteger bigDenominator() {
+        return bigDenominator != null ? bigDenominator : BigInteger.valueOf(denominator);
+    }
+}
@@ -0,0 +1,33 @@
+package com.learning.calculator.operations.rational;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rational addition: a + b, exact.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class RationalAddition implements RationalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(RationalAddition.class);
+
+    @Override
+    public Rational execute(Rational a, Rational b) {
+        logger.debug("Executing rational addition: {} + {}", a, b);
+        Rational result = a.add(b);
+        logger.debug("Rational addition result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "+";
+    }
+
+    @Override
+    public String getName() {
+        return "Addition";
+    }
+}
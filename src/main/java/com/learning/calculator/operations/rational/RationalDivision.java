@@ -0,0 +1,44 @@
+package com.learning.calculator.operations.rational;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rational division: a / b, exact, so 1 / 3 is one third rather than its
+ * nearest double. Only an exact zero divisor is rejected.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class RationalDivision implements RationalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(RationalDivision.class);
+
+    @Override
+    public Rational execute(Rational a, Rational b) {
+        logger.debug("Executing rational division: {} / {}", a, b);
+        if (b.signum() == 0) {
+            logger.error("Division by zero attempted: {} / {}", a, b);
+            throw new DivisionByZeroException(String.format("Cannot divide %s by zero", a));
+        }
+        Rational result = a.divide(b);
+        logger.debug("Rational division result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "/";
+    }
+
+    @Override
+    public String getName() {
+        return "Division";
+    }
+
+    @Override
+    public int getCost() {
+        return 12;
+    }
+}
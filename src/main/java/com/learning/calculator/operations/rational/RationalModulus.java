@@ -0,0 +1,45 @@
+package com.learning.calculator.operations.rational;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rational modulus: remainder of a divided by b, with the sign of a like the
+ * double operation, exact for fractional operands too.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class RationalModulus implements RationalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(RationalModulus.class);
+
+    @Override
+    public Rational execute(Rational a, Rational b) {
+        logger.debug("Executing rational modulus: {} % {}", a, b);
+        if (b.signum() == 0) {
+            logger.error("Modulus by zero attempted: {} % {}", a, b);
+            throw new DivisionByZeroException(
+                    String.format("Cannot calculate modulus with divisor zero: %s %% 0", a));
+        }
+        Rational result = a.remainder(b);
+        logger.debug("Rational modulus result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "%";
+    }
+
+    @Override
+    public String getName() {
+        return "Modulus";
+    }
+
+    @Override
+    public int getCost() {
+        return 15;
+    }
+}
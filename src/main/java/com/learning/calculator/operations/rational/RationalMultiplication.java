@@ -0,0 +1,33 @@
+package com.learning.calculator.operations.rational;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rational multiplication: a * b, exact.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class RationalMultiplication implements RationalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(RationalMultiplication.class);
+
+    @Override
+    public Rational execute(Rational a, Rational b) {
+        logger.debug("Executing rational multiplication: {} * {}", a, b);
+        Rational result = a.multiply(b);
+        logger.debug("Rational multiplication result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "*";
+    }
+
+    @Override
+    public String getName() {
+        return "Multiplication";
+    }
+}
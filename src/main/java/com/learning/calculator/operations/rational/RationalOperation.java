@@ -0,0 +1,50 @@
+package com.learning.calculator.operations.rational;
+
+/**
+ * Interface for exact rational calculator operations.
+ * Parallel to {@link com.learning.calculator.operations.Operation} but works
+ * on {@link Rational} values, so results such as 1/3 carry no rounding
+ * error. Results are not necessarily reduced to lowest terms; see
+ * {@link Rational} for its lazy normalization.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public interface RationalOperation {
+    /**
+     * Executes the mathematical operation on two operands.
+     * 
+     * @param a First operand
+     * @param b Second operand
+     * @return Exact result of the operation
+     * @throws ArithmeticException if the operation is mathematically invalid
+     */
+    Rational execute(Rational a, Rational b);
+
+    /**
+     * Gets the symbol representing this operation.
+     * 
+     * @return Operation symbol (e.g., "+", "-", "*", "/")
+     */
+    String getSymbol();
+
+    /**
+     * Gets the human-readable name of this operation.
+     * 
+     * @return Operation name (e.g., "Addition", "Subtraction")
+     */
+    String getName();
+
+    /**
+     * Gets a relative estimate of the cost of one evaluation while the
+     * operands' terms fit in a long, in units of one double addition (see
+     * {@link com.learning.calculator.operations.Operation#getCost()}).
+     * Promoted operands cost more.
+     * 
+     * @return relative cost
+     */
+    default int getCost() {
+        return 10;
+    }
+}
@@ -0,0 +1,34 @@
+package com.learning.calculator.operations.rational;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rational percentage: b percent of a, (a * b) / 100, exact.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class RationalPercentage implements RationalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(RationalPercentage.class);
+    private static final Rational ONE_HUNDREDTH = Rational.of(1, 100);
+
+    @Override
+    public Rational execute(Rational a, Rational b) {
+        logger.debug("Executing rational percentage: {}% of {}", b, a);
+        Rational result = a.multiply(b).multiply(ONE_HUNDREDTH);
+        logger.debug("Rational percentage result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "%";
+    }
+
+    @Override
+    public String getName() {
+        return "Percentage";
+    }
+}
@@ -0,0 +1,53 @@
+package com.learning.calculator.operations.rational;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidInputException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rational power: a^b for integer exponents.
+ * Non-integer exponents generally have no rational result and are rejected,
+ * as are exponents whose exact result would be unreasonably large.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class RationalPower implements RationalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(RationalPower.class);
+
+    /** Largest exponent magnitude accepted. */
+    public static final int MAX_EXPONENT = 10_000;
+
+    @Override
+    public Rational execute(Rational a, Rational b) {
+        logger.debug("Executing rational power: {} ^ {}", a, b);
+        if (!b.isInteger() || b.abs().compareTo(Rational.of(MAX_EXPONENT)) > 0) {
+            throw new InvalidInputException(String.format(
+                    "Rational power requires an integer exponent of at most %d: %s", MAX_EXPONENT, b));
+        }
+        int exponent = b.getNumerator().intValue();
+        if (a.signum() == 0 && exponent < 0) {
+            throw new DivisionByZeroException("Cannot raise zero to a negative power");
+        }
+        Rational result = a.pow(exponent);
+        logger.debug("Rational power result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "^";
+    }
+
+    @Override
+    public String getName() {
+        return "Power";
+    }
+
+    @Override
+    public int getCost() {
+        return 60;
+    }
+}
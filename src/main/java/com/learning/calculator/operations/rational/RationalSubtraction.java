@@ -0,0 +1,33 @@
+package com.learning.calculator.operations.rational;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rational subtraction: a - b, exact.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class RationalSubtraction implements RationalOperation {
+    private static final Logger logger = LoggerFactory.getLogger(RationalSubtraction.class);
+
+    @Override
+    public Rational execute(Rational a, Rational b) {
+        logger.debug("Executing rational subtraction: {} - {}", a, b);
+        Rational result = a.subtract(b);
+        logger.debug("Rational subtraction result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "-";
+    }
+
+    @Override
+    public String getName() {
+        return "Subtraction";
+    }
+}
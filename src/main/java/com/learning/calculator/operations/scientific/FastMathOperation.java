@@ -0,0 +1,45 @@
+package com.learning.calculator.operations.scientific;
+
+import com.learning.calculator.operations.Operation;
+
+/**
+ * Base class for the scientific operations that can run on the opt-in
+ * fast-math tier. Holds the optional {@link FastScientificMath} instance;
+ * subclasses evaluate with it when it is present and with the JDK math
+ * library otherwise.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public abstract class FastMathOperation implements Operation {
+
+    private final FastScientificMath fastMath;
+
+    /**
+     * Creates the operation backed by the given fast-math tier.
+     * 
+     * @param fastMath fast-math tier to use, or null for the JDK math library
+     */
+    protected FastMathOperation(FastScientificMath fastMath) {
+        this.fastMath = fastMath;
+    }
+
+    /**
+     * Gets the fast-math tier.
+     * 
+     * @return the configured fast-math tier, or null for the JDK math library
+     */
+    protected final FastScientificMath getFastMath() {
+        return fastMath;
+    }
+
+    /**
+     * Checks if this operation uses the fast-math tier.
+     * 
+     * @return true if a fast-math tier is configured
+     */
+    public final boolean isFastMath() {
+        return fastMath != null;
+    }
+}
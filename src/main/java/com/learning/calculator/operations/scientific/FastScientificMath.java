@@ -0,0 +1,381 @@
+package com.learning.calculator.operations.scientific;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Opt-in fast-math tier for the scientific operations.
+ * Evaluates sine, cosine and tangent of angles in degrees and the natural
+ * logarithm from precomputed tables and short fixed-degree polynomials
+ * instead of the JDK intrinsics.
+ *
+ * Degree arguments are reduced with a multiply and {@link Math#rint} onto the
+ * nearest of 1024 table angles; the remainder is computed with a fused
+ * multiply-add and is exact, so large angles keep their full accuracy. Angles
+ * of 2^40 degrees and beyond are first reduced with the exact {@code x % 360}.
+ * The table covers the full circle, so no quadrant branches are needed: the
+ * result is the table value rotated by the small remainder.
+ *
+ * The logarithm splits x into 2^k * z, looks up 1/c and ln(c) for the
+ * subinterval of z and evaluates ln(z / c) with a degree 7 polynomial. The
+ * subinterval around 1 uses c = 1, so results near x = 1 keep their relative
+ * accuracy.
+ *
+ * The kernels are fixed-degree and stay within {@link #MIN_ULP_ERROR}, so
+ * every accepted budget holds:
+ * - sine, cosine and natural logarithm: at most {@code maxUlpError} ULPs
+ * - tangent: at most {@code 2 * maxUlpError + 1} ULPs
+ *
+ * Instances are immutable and thread-safe; the tables are shared by all
+ * instances. The bulk variants check their arrays once and apply the scalar
+ * kernels in a loop without allocation. Only NaN, infinite, non-positive and
+ * subnormal logarithm arguments and angles of 2^40 degrees and beyond leave
+ * the straight-line path, so the loops unroll without data-dependent branches.
+ *
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class FastScientificMath {
+
+    /** Smallest supported error budget; leaves room for evaluation rounding. */
+    public static final int MIN_ULP_ERROR = 2;
+
+    /** Default error budget used when none is configured. */
+    public static final int DEFAULT_ULP_ERROR = 4;
+
+    /** Number of entries in the sine table, a power of two covering 360 degrees. */
+    private static final int SIN_TABLE_SIZE = 1024;
+    private static final int SIN_TABLE_MASK = SIN_TABLE_SIZE - 1;
+
+    /** Offset of the cosine within the sine table: 90 degrees. */
+    private static final int QUARTER_TURN = SIN_TABLE_SIZE / 4;
+
+    /** Table steps per degree, only used to pick the nearest step. */
+    private static final double STEPS_PER_DEGREE = SIN_TABLE_SIZE / 360.0;
+
+    /** Angle between two table entries, 45/128 degrees; exactly representable. */
+    private static final double DEGREES_PER_STEP = 360.0 / SIN_TABLE_SIZE;
+
+    /** Angles from here on are reduced with the remainder before the table lookup. */
+    private static final double REMAINDER_REDUCTION_LIMIT = 0x1.0p40;
+
+    /** sin(table angle), indexed by step; multiples of 90 degrees are exact. */
+    private static final double[] SIN_TABLE = new double[SIN_TABLE_SIZE];
+
+    /** Taylor coefficients of sin(b) and cos(b) - 1 for |b| up to half a step. */
+    private static final double S3 = -1.0 / 6;
+    private static final double S5 = 1.0 / 120;
+    private static final double C2 = -0.5;
+    private static final double C4 = 1.0 / 24;
+
+    /** log2 of the number of logarithm subintervals. */
+    private static final int LOG_TABLE_BITS = 7;
+    private static final int LOG_TABLE_SIZE = 1 << LOG_TABLE_BITS;
+
+    /**
+     * Bits of the lowest z in [z0, 2 * z0); shifted by half a subinterval so
+     * that 1.0 lies in the middle of a subinterval.
+     */
+    private static final long LOG_OFFSET = 0x3fe6000000000000L - (1L << (51 - LOG_TABLE_BITS));
+
+    /** Subinterval containing 1.0; its center is taken as exactly 1. */
+    private static final int LOG_UNIT_INDEX = (int) ((0x3ff0000000000000L - LOG_OFFSET) >>> (52 - LOG_TABLE_BITS));
+
+    /** 1/c for each subinterval center c. */
+    private static final double[] LOG_INV_C = new double[LOG_TABLE_SIZE];
+
+    /** ln(c) = -ln(1/c) split into a head and a tail. */
+    private static final double[] LOG_C_HI = new double[LOG_TABLE_SIZE];
+    private static final double[] LOG_C_LO = new double[LOG_TABLE_SIZE];
+
+    /** Taylor coefficients of ln(1 + r) - r for |r| up to 2^-8. */
+    private static final double A2 = -0.5;
+    private static final double A3 = 1.0 / 3;
+    private static final double A4 = -0.25;
+    private static final double A5 = 0.2;
+    private static final double A6 = -1.0 / 6;
+    private static final double A7 = 1.0 / 7;
+
+    private static final double LN2_HI = 6.93147180369123816490e-01;
+    private static final double LN2_LO = 1.90821492927058770002e-10;
+    private static final double TWO_POW_54 = 0x1.0p54;
+    private static final long MIN_NORMAL_BITS = 0x0010000000000000L;
+    private static final long INFINITY_BITS = 0x7ff0000000000000L;
+    private static final long EXPONENT_FIELD = 0xfffL << 52;
+
+    /** Digits used to build the tables; well beyond double precision. */
+    private static final MathContext TABLE_PRECISION = new MathContext(40);
+    private static final BigDecimal PI =
+            new BigDecimal("3.14159265358979323846264338327950288419716939937510");
+
+    static {
+        fillSinTable();
+        fillLogTables();
+    }
+
+    private final int maxUlpError;
+
+    /**
+     * Creates a fast-math tier with the default error budget.
+     */
+    public FastScientificMath() {
+        this(DEFAULT_ULP_ERROR);
+    }
+
+    /**
+     * Creates a fast-math tier with the given error budget.
+     *
+     * @param maxUlpError maximum error of sine, cosine and logarithm in ULPs
+     * @throws IllegalArgumentException if maxUlpError is below {@link #MIN_ULP_ERROR}
+     */
+    public FastScientificMath(int maxUlpError) {
+        if (maxUlpError < MIN_ULP_ERROR) {
+            throw new IllegalArgumentException(
+                    String.format("Max ULP error must be at least %d", MIN_ULP_ERROR));
+        }
+        this.maxUlpError = maxUlpError;
+    }
+
+    /**
+     * Gets the configured error budget.
+     *
+     * @return maximum error of sine, cosine and logarithm in ULPs
+     */
+    public int getMaxUlpError() {
+        return maxUlpError;
+    }
+
+    /**
+     * Calculates the sine of an angle in degrees.
+     *
+     * @param degrees angle in degrees
+     * @return sine of the angle, NaN for infinite or NaN input
+     */
+    public double sinDegrees(double degrees) {
+        double x = Math.abs(degrees) < REMAINDER_REDUCTION_LIMIT ? degrees : degrees % 360.0;
+        double step = Math.rint(x * STEPS_PER_DEGREE);
+        double b = Math.toRadians(Math.fma(-step, DEGREES_PER_STEP, x));
+        int i = (int) (long) step;
+        double sa = SIN_TABLE[i & SIN_TABLE_MASK];
+        double ca = SIN_TABLE[(i + QUARTER_TURN) & SIN_TABLE_MASK];
+        double b2 = b * b;
+        double sinB = b + b * (b2 * (S3 + b2 * S5));
+        double cosBm1 = b2 * (C2 + b2 * C4);
+        return sa + (sa * cosBm1 + ca * sinB);
+    }
+
+    /**
+     * Calculates the cosine of an angle in degrees.
+     *
+     * @param degrees angle in degrees
+     * @return cosine of the angle, NaN for infinite or NaN input
+     */
+    public double cosDegrees(double degrees) {
+        double x = Math.abs(degrees) < REMAINDER_REDUCTION_LIMIT ? degrees : degrees % 360.0;
+        double step = Math.rint(x * STEPS_PER_DEGREE);
+        double b = Math.toRadians(Math.fma(-step, DEGREES_PER_STEP, x));
+        int i = (int) (long) step;
+        double sa = SIN_TABLE[i & SIN_TABLE_MASK];
+        double ca = SIN_TABLE[(i + QUARTER_TURN) & SIN_TABLE_MASK];
+        double b2 = b * b;
+        double sinB = b + b * (b2 * (S3 + b2 * S5));
+        double cosBm1 = b2 * (C2 + b2 * C4);
+        return ca + (ca * cosBm1 - sa * sinB);
+    }
+
+    /**
+     * Calculates the tangent of an angle in degrees.
+     * Odd multiples of 90 degrees yield an infinite result with the sign of
+     * the sine: positive infinity at 90 degrees, negative infinity at 270.
+     *
+     * @param degrees angle in degrees
+     * @return tangent of the angle, NaN for infinite or NaN input
+     */
+    public double tanDegrees(double degrees) {
+        double x = Math.abs(degrees) < REMAINDER_REDUCTION_LIMIT ? degrees : degrees % 360.0;
+        double step = Math.rint(x * STEPS_PER_DEGREE);
+        double b = Math.toRadians(Math.fma(-step, DEGREES_PER_STEP, x));
+        int i = (int) (long) step;
+        double sa = SIN_TABLE[i & SIN_TABLE_MASK];
+        double ca = SIN_TABLE[(i + QUARTER_TURN) & SIN_TABLE_MASK];
+        double b2 = b * b;
+        double sinB = b + b * (b2 * (S3 + b2 * S5));
+        double cosBm1 = b2 * (C2 + b2 * C4);
+        return (sa + (sa * cosBm1 + ca * sinB)) / (ca + (ca * cosBm1 - sa * sinB));
+    }
+
+    /**
+     * Calculates the natural logarithm.
+     *
+     * @param x the value
+     * @return ln(x); NaN for negative or NaN input, negative infinity for zero
+     */
+    public double log(double x) {
+        long bits = Double.doubleToRawLongBits(x);
+        if (Long.compareUnsigned(bits - MIN_NORMAL_BITS, INFINITY_BITS - MIN_NORMAL_BITS) >= 0) {
+            return logSpecial(x);
+        }
+        return logNormal(bits, 0);
+    }
+
+    /**
+     * Calculates the sine of each angle in degrees.
+     *
+     * @param degrees source angles in degrees
+     * @param results destination array, at least as long as degrees
+     */
+    public void sinDegrees(double[] degrees, double[] results) {
+        checkBulkArguments(degrees, results);
+        for (int i = 0; i < degrees.length; i++) {
+            results[i] = sinDegrees(degrees[i]);
+        }
+    }
+
+    /**
+     * Calculates the cosine of each angle in degrees.
+     *
+     * @param degrees source angles in degrees
+     * @param results destination array, at least as long as degrees
+     */
+    public void cosDegrees(double[] degrees, double[] results) {
+        checkBulkArguments(degrees, results);
+        for (int i = 0; i < degrees.length; i++) {
+            results[i] = cosDegrees(degrees[i]);
+        }
+    }
+
+    /**
+     * Calculates the tangent of each angle in degrees.
+     *
+     * @param degrees source angles in degrees
+     * @param results destination array, at least as long as degrees
+     */
+    public void tanDegrees(double[] degrees, double[] results) {
+        checkBulkArguments(degrees, results);
+        for (int i = 0; i < degrees.length; i++) {
+            results[i] = tanDegrees(degrees[i]);
+        }
+    }
+
+    /**
+     * Calculates the natural logarithm of each value.
+     *
+     * @param values  source values
+     * @param results destination array, at least as long as values
+     */
+    public void log(double[] values, double[] results) {
+        checkBulkArguments(values, results);
+        for (int i = 0; i < values.length; i++) {
+            results[i] = log(values[i]);
+        }
+    }
+
+    /**
+     * Handles the arguments outside the positive normal range: NaN, negative
+     * values, zeros, infinity and subnormals.
+     */
+    private static double logSpecial(double x) {
+        if (Double.isNaN(x) || x < 0) {
+            return Double.NaN;
+        }
+        if (x == 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return x;
+        }
+        return logNormal(Double.doubleToRawLongBits(x * TWO_POW_54), -54);
+    }
+
+    /**
+     * ln(x) = k ln(2) + ln(c) + ln(1 + r) with x = 2^k * z and r = z/c - 1.
+     */
+    private static double logNormal(long bits, int exponentAdjust) {
+        long tmp = bits - LOG_OFFSET;
+        int i = (int) (tmp >>> (52 - LOG_TABLE_BITS)) & (LOG_TABLE_SIZE - 1);
+        double k = (tmp >> 52) + exponentAdjust;
+        double z = Double.longBitsToDouble(bits - (tmp & EXPONENT_FIELD));
+        double r = Math.fma(z, LOG_INV_C[i], -1.0);
+        double r2 = r * r;
+        double p = r2 * (A2 + r * A3 + r2 * (A4 + r * A5) + r2 * r2 * (A6 + r * A7));
+        double w = k * LN2_HI + LOG_C_HI[i];
+        double hi = w + r;
+        double lo = (w - hi) + r;
+        return hi + (lo + (p + (k * LN2_LO + LOG_C_LO[i])));
+    }
+
+    private static void checkBulkArguments(double[] source, double[] results) {
+        if (source == null || results == null) {
+            throw new NullPointerException("Source and result arrays cannot be null");
+        }
+        if (results.length < source.length) {
+            throw new IllegalArgumentException("Result array is shorter than source array");
+        }
+    }
+
+    /**
+     * Fills the sine table from a high-precision series over the first
+     * quadrant and mirrors it into the other three.
+     */
+    private static void fillSinTable() {
+        int quarter = QUARTER_TURN;
+        double[] firstQuadrant = new double[quarter + 1];
+        for (int m = 0; m <= quarter; m++) {
+            BigDecimal angle = PI.multiply(BigDecimal.valueOf(m))
+                    .divide(BigDecimal.valueOf(SIN_TABLE_SIZE / 2), TABLE_PRECISION);
+            firstQuadrant[m] = sinSeries(angle).doubleValue();
+        }
+        firstQuadrant[quarter] = 1.0;
+        for (int k = 0; k < SIN_TABLE_SIZE; k++) {
+            int m = k % quarter;
+            int quadrant = k / quarter;
+            double value = (quadrant & 1) == 0 ? firstQuadrant[m] : firstQuadrant[quarter - m];
+            // 0.0 - value keeps sin(180) at +0.0
+            SIN_TABLE[k] = quadrant < 2 ? value : 0.0 - value;
+        }
+    }
+
+    /**
+     * Fills the logarithm tables: each subinterval of [z0, 2 * z0) gets the
+     * reciprocal of its center and the high-precision logarithm of that center.
+     */
+    private static void fillLogTables() {
+        for (int i = 0; i < LOG_TABLE_SIZE; i++) {
+            double low = Double.longBitsToDouble(LOG_OFFSET + ((long) i << (52 - LOG_TABLE_BITS)));
+            double high = Double.longBitsToDouble(LOG_OFFSET + ((long) (i + 1) << (52 - LOG_TABLE_BITS)));
+            double invC = i == LOG_UNIT_INDEX ? 1.0 : 1.0 / (0.5 * (low + high));
+            BigDecimal logC = lnSeries(new BigDecimal(invC)).negate();
+            double logCHi = logC.doubleValue();
+            LOG_INV_C[i] = invC;
+            LOG_C_HI[i] = logCHi;
+            LOG_C_LO[i] = logC.subtract(new BigDecimal(logCHi)).doubleValue();
+        }
+    }
+
+    /** sin(x) = x - x^3/3! + ... for 0 <= x <= pi/2. */
+    private static BigDecimal sinSeries(BigDecimal x) {
+        BigDecimal x2 = x.multiply(x, TABLE_PRECISION);
+        BigDecimal term = x;
+        BigDecimal sum = x;
+        for (int n = 1; term.signum() != 0 && term.abs().compareTo(BigDecimal.ONE.movePointLeft(45)) > 0; n++) {
+            term = term.multiply(x2, TABLE_PRECISION)
+                    .divide(BigDecimal.valueOf(-(2L * n) * (2L * n + 1)), TABLE_PRECISION);
+            sum = sum.add(term, TABLE_PRECISION);
+        }
+        return sum;
+    }
+
+    /** ln(y) = 2 atanh(s) = 2(s + s^3/3 + s^5/5 + ...) with s = (y - 1) / (y + 1). */
+    private static BigDecimal lnSeries(BigDecimal y) {
+        BigDecimal s = y.subtract(BigDecimal.ONE).divide(y.add(BigDecimal.ONE), TABLE_PRECISION);
+        BigDecimal s2 = s.multiply(s, TABLE_PRECISION);
+        BigDecimal power = s;
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int n = 0; power.signum() != 0 && power.abs().compareTo(BigDecimal.ONE.movePointLeft(45)) > 0; n++) {
+            sum = sum.add(power.divide(BigDecimal.valueOf(2L * n + 1), TABLE_PRECISION), TABLE_PRECISION);
+            power = power.multiply(s2, TABLE_PRECISION);
+        }
+        return sum.add(sum);
+    }
+}
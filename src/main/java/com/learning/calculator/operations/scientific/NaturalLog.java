@@ -1,7 +1,6 @@
 package com.learning.calculator.operations.scientific;
 
 import com.learning.calculator.exceptions.InvalidInputException;
-import com.learning.calculator.operations.Operation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,22 +13,49 @@ import org.slf4j.LoggerFactory;
  * @version 1.0
  * @since 2026-01-28
  */
-public class NaturalLog implements Operation {
+public class NaturalLog extends FastMathOperation {
     private static final Logger logger = LoggerFactory.getLogger(NaturalLog.class);
 
+    /**
+     * Creates the operation backed by the JDK math library.
+     */
+    public NaturalLog() {
+        this(null);
+    }
+
+    /**
+     * Creates the operation backed by the given fast-math tier.
+     * 
+     * @param fastMath fast-math tier to use, or null for the JDK math library
+     */
+    public NaturalLog(FastScientificMath fastMath) {
+        super(fastMath);
+    }
+
     @Override
     public double execute(double a, double b) {
         logger.debug("Executing natural logarithm: ln({})", a);
 
-        if (a <= 0) {
+        double result;
+        try {
+            result = evaluate(a, b);
+        } catch (InvalidInputException e) {
             logger.error("Invalid logarithm input: ln({})", a);
+            throw e;
+        }
+        logger.debug("Natural logarithm result: {}", result);
+        return result;
+    }
+
+    @Override
+    public double evaluate(double a, double b) {
+        if (a <= 0) {
             throw new InvalidInputException(
                     String.format("Cannot calculate logarithm of non-positive number: %.2f", a));
         }
 
-        double result = Math.log(a);
-        logger.debug("Natural logarithm result: {}", result);
-        return result;
+        FastScientificMath fastMath = getFastMath();
+        return fastMath != null ? fastMath.log(a) : Math.log(a);
     }
 
     @Override
@@ -41,4 +67,14 @@ public class NaturalLog implements Operation {
     public String getName() {
         return "Natural Logarithm";
     }
+
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getCost() {
+        return 4;
+    }
 }
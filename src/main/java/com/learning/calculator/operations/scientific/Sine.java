@@ -1,6 +1,5 @@
 package com.learning.calculator.operations.scientific;
 
-import com.learning.calculator.operations.Operation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,18 +12,39 @@ import org.slf4j.LoggerFactory;
  * @version 1.0
  * @since 2026-01-28
  */
-public class Sine implements Operation {
+public class Sine extends FastMathOperation {
     private static final Logger logger = LoggerFactory.getLogger(Sine.class);
 
+    /**
+     * Creates the operation backed by the JDK math library.
+     */
+    public Sine() {
+        this(null);
+    }
+
+    /**
+     * Creates the operation backed by the given fast-math tier.
+     * 
+     * @param fastMath fast-math tier to use, or null for the JDK math library
+     */
+    public Sine(FastScientificMath fastMath) {
+        super(fastMath);
+    }
+
     @Override
     public double execute(double a, double b) {
         logger.debug("Executing sine: sin({}°)", a);
-        double radians = Math.toRadians(a);
-        double result = Math.sin(radians);
+        double result = evaluate(a, b);
         logger.debug("Sine result: {}", result);
         return result;
     }
 
+    @Override
+    public double evaluate(double a, double b) {
+        FastScientificMath fastMath = getFastMath();
+        return fastMath != null ? fastMath.sinDegrees(a) : Math.sin(Math.toRadians(a));
+    }
+
     @Override
     public String getSymbol() {
         return "sin";
@@ -34,4 +54,14 @@ public class Sine implements Operation {
     public String getName() {
         return "Sine";
     }
+
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getCost() {
+        return 5;
+    }
 }
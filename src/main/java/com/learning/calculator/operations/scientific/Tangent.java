@@ -1,6 +1,5 @@
 package com.learning.calculator.operations.scientific;
 
-import com.learning.calculator.operations.Operation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,14 +12,29 @@ import org.slf4j.LoggerFactory;
  * @version 1.0
  * @since 2026-01-28
  */
-public class Tangent implements Operation {
+public class Tangent extends FastMathOperation {
     private static final Logger logger = LoggerFactory.getLogger(Tangent.class);
 
+    /**
+     * Creates the operation backed by the JDK math library.
+     */
+    public Tangent() {
+        this(null);
+    }
+
+    /**
+     * Creates the operation backed by the given fast-math tier.
+     * 
+     * @param fastMath fast-math tier to use, or null for the JDK math library
+     */
+    public Tangent(FastScientificMath fastMath) {
+        super(fastMath);
+    }
+
     @Override
     public double execute(double a, double b) {
         logger.debug("Executing tangent: tan({}°)", a);
-        double radians = Math.toRadians(a);
-        double result = Math.tan(radians);
+        double result = evaluate(a, b);
 
         if (Double.isInfinite(result)) {
             logger.warn("Tangent operation resulted in infinity for angle: {}°", a);
@@ -30,6 +44,12 @@ public class Tangent implements Operation {
         return result;
     }
 
+    @Override
+    public double evaluate(double a, double b) {
+        FastScientificMath fastMath = getFastMath();
+        return fastMath != null ? fastMath.tanDegrees(a) : Math.tan(Math.toRadians(a));
+    }
+
     @Override
     public String getSymbol() {
         return "tan";
@@ -39,4 +59,14 @@ public class Tangent implements Operation {
     public String getName() {
         return "Tangent";
     }
+
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getCost() {
+        return 5;
+    }
 }
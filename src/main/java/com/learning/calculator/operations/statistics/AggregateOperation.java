@@ -0,0 +1,55 @@
+package com.learning.calculator.operations.statistics;
+
+/**
+ * Interface for statistical aggregate operations, which reduce a whole
+ * dataset to one value. Parallel to
+ * {@link com.learning.calculator.operations.Operation}, and registered in
+ * the same {@link com.learning.calculator.operations.factory.OperationFactory}
+ * under their own codes.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public interface AggregateOperation {
+    /**
+     * Aggregates a dataset. The values are not modified.
+     * 
+     * @param values    the dataset
+     * @param parameter the operation's parameter, such as the percentile;
+     *                  ignored by operations without one
+     * @return the aggregate
+     * @throws com.learning.calculator.exceptions.InvalidInputException if the
+     *                                                                  dataset
+     *                                                                  is too
+     *                                                                  small or
+     *                                                                  the
+     *                                                                  parameter
+     *                                                                  is out of
+     *                                                                  range
+     */
+    double aggregate(double[] values, double parameter);
+
+    /**
+     * Gets the symbol representing this operation.
+     * 
+     * @return Operation symbol (e.g., "Σ", "x̄")
+     */
+    String getSymbol();
+
+    /**
+     * Gets the human-readable name of this operation.
+     * 
+     * @return Operation name (e.g., "Sum", "Mean")
+     */
+    String getName();
+
+    /**
+     * Checks if the operation takes a parameter besides the dataset.
+     * 
+     * @return true if the parameter is used
+     */
+    default boolean hasParameter() {
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+package com.learning.calculator.operations.statistics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Loads datasets for the aggregate operations from text: numbers separated
+ * by whitespace, commas or semicolons, with {@code #} starting a comment
+ * that runs to the end of the line.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class Dataset {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private Dataset() {
+    }
+
+    /**
+     * Reads a dataset file.
+     * 
+     * @param file path of the file
+     * @return the values in file order
+     * @throws IOException if the file cannot be read or holds something
+     *                     other than numbers
+     */
+    public static double[] read(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    /**
+     * Reads a dataset from a stream, for example standard input.
+     * 
+     * @param in the UTF-8 encoded input, not closed
+     * @return the values in input order
+     * @throws IOException if the input cannot be read or holds something
+     *                     other than numbers
+     */
+    public static double[] read(InputStream in) throws IOException {
+        return read(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    private static double[] read(Reader reader) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        double[] values = new double[INITIAL_CAPACITY];
+        int count = 0;
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            int end = comment >= 0 ? comment : line.length();
+            int i = 0;
+            while (i < end) {
+                while (i < end && isSeparator(line.charAt(i))) {
+                    i++;
+                }
+                int start = i;
+                while (i < end && !isSeparator(line.charAt(i))) {
+                    i++;
+                }
+                if (start == i) {
+                    continue;
+                }
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                try {
+                    values[count++] = Double.parseDouble(line.substring(start, i));
+                } catch (NumberFormatException e) {
+                    throw new IOException(String.format("Not a number on line %d: %s",
+                            lineNumber, line.substring(start, i)), e);
+                }
+            }
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || c == ',' || c == ';';
+    }
+}
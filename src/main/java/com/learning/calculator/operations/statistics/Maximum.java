@@ -0,0 +1,34 @@
+package com.learning.calculator.operations.statistics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maximum aggregate implementation.
+ * Finds the largest value; NaN if any value is NaN.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class Maximum implements AggregateOperation {
+    private static final Logger logger = LoggerFactory.getLogger(Maximum.class);
+
+    @Override
+    public double aggregate(double[] values, double parameter) {
+        logger.debug("Executing maximum over {} values", values.length);
+        double result = StatisticsAccumulator.of(values).getMax();
+        logger.debug("Maximum result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "max";
+    }
+
+    @Override
+    public String getName() {
+        return "Maximum";
+    }
+}
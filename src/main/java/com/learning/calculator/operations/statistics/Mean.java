@@ -0,0 +1,34 @@
+package com.learning.calculator.operations.statistics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mean aggregate implementation.
+ * Calculates the arithmetic mean of the values from their compensated sum.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class Mean implements AggregateOperation {
+    private static final Logger logger = LoggerFactory.getLogger(Mean.class);
+
+    @Override
+    public double aggregate(double[] values, double parameter) {
+        logger.debug("Executing mean over {} values", values.length);
+        double result = StatisticsAccumulator.of(values).getMean();
+        logger.debug("Mean result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "x̄";
+    }
+
+    @Override
+    public String getName() {
+        return "Mean";
+    }
+}
@@ -0,0 +1,34 @@
+package com.learning.calculator.operations.statistics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Minimum aggregate implementation.
+ * Finds the smallest value; NaN if any value is NaN.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class Minimum implements AggregateOperation {
+    private static final Logger logger = LoggerFactory.getLogger(Minimum.class);
+
+    @Override
+    public double aggregate(double[] values, double parameter) {
+        logger.debug("Executing minimum over {} values", values.length);
+        double result = StatisticsAccumulator.of(values).getMin();
+        logger.debug("Minimum result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "min";
+    }
+
+    @Override
+    public String getName() {
+        return "Minimum";
+    }
+}
@@ -0,0 +1,117 @@
+package com.learning.calculator.operations.statistics;
+
+import com.learning.calculator.exceptions.InvalidInputException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Percentile aggregate implementation.
+ * Calculates the p-th percentile (0 to 100) of the values, interpolating
+ * linearly between the two nearest ranks like spreadsheet
+ * {@code PERCENTILE.INC}, so the 50th percentile is the median.
+ * 
+ * The ranks are found by quickselect on a copy of the values, in expected
+ * linear time instead of sorting. NaN ranks above every other value.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class Percentile implements AggregateOperation {
+    private static final Logger logger = LoggerFactory.getLogger(Percentile.class);
+
+    @Override
+    public double aggregate(double[] values, double parameter) {
+        logger.debug("Executing percentile {} over {} values", parameter, values.length);
+        if (values.length == 0) {
+            throw new InvalidInputException("Dataset is empty");
+        }
+        if (!(parameter >= 0 && parameter <= 100)) {
+            throw new InvalidInputException(
+                    String.format("Percentile must be between 0 and 100: %.2f", parameter));
+        }
+
+        double[] copy = values.clone();
+        double rank = (copy.length - 1) * parameter / 100;
+        int lower = (int) rank;
+        double lowerValue = select(copy, lower);
+        double result = lowerValue;
+        if (rank > lower) {
+            // After selection every value right of the lower rank is at least as large
+            double upperValue = copy[lower + 1];
+            for (int i = lower + 2; i < copy.length; i++) {
+                if (Double.compare(copy[i], upperValue) < 0) {
+                    upperValue = copy[i];
+                }
+            }
+            result = lowerValue + (rank - lower) * (upperValue - lowerValue);
+        }
+        logger.debug("Percentile result: {}", result);
+        return result;
+    }
+
+    /**
+     * Rearranges the values so the k-th smallest is at index k, with smaller
+     * values to its left and larger ones to its right.
+     */
+    private static double select(double[] values, int k) {
+        int left = 0;
+        int right = values.length - 1;
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            // Median of three as pivot keeps sorted input linear
+            if (Double.compare(values[middle], values[left]) < 0) {
+                swap(values, middle, left);
+            }
+            if (Double.compare(values[right], values[left]) < 0) {
+                swap(values, right, left);
+            }
+            if (Double.compare(values[right], values[middle]) < 0) {
+                swap(values, right, middle);
+            }
+            double pivot = values[middle];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (Double.compare(values[i], pivot) < 0) {
+                    i++;
+                }
+                while (Double.compare(values[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+        return values[k];
+    }
+
+    private static void swap(double[] values, int i, int j) {
+        double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "P";
+    }
+
+    @Override
+    public String getName() {
+        return "Percentile";
+    }
+
+    @Override
+    public boolean hasParameter() {
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.learning.calculator.operations.statistics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Standard Deviation aggregate implementation.
+ * Calculates the sample standard deviation, the square root of
+ * {@link Variance}.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class StandardDeviation implements AggregateOperation {
+    private static final Logger logger = LoggerFactory.getLogger(StandardDeviation.class);
+
+    @Override
+    public double aggregate(double[] values, double parameter) {
+        logger.debug("Executing standard deviation over {} values", values.length);
+        double result = StatisticsAccumulator.of(values).getStandardDeviation();
+        logger.debug("Standard Deviation result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "s";
+    }
+
+    @Override
+    public String getName() {
+        return "Standard Deviation";
+    }
+}
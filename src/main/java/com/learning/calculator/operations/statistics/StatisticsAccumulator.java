@@ -0,0 +1,235 @@
+package com.learning.calculator.operations.statistics;
+
+import com.learning.calculator.exceptions.InvalidInputException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Single-pass, mergeable summary of a dataset: count, sum, mean, variance,
+ * minimum and maximum.
+ * 
+ * The sum is kept with Neumaier's compensated summation and the variance
+ * with Welford's update, so neither loses precision to cancellation on long
+ * or badly scaled inputs. Two accumulators over disjoint parts of a dataset
+ * merge exactly as if one had seen both parts (Chan et al.), which is how
+ * {@link #of(double[])} reduces large arrays in parallel on the common
+ * fork/join pool.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class StatisticsAccumulator {
+    /** Arrays up to this length are reduced on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private long count;
+    private double sum;
+    private double compensation;
+    private double mean;
+    private double squaredDeviations;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Summarizes an array, in parallel if it is large.
+     * 
+     * @param values the dataset
+     * @return a new accumulator holding the summary
+     */
+    public static StatisticsAccumulator of(double[] values) {
+        if (values.length <= PARALLEL_THRESHOLD) {
+            return new StatisticsAccumulator().addAll(values, 0, values.length);
+        }
+        return ForkJoinPool.commonPool().invoke(new Reduction(values, 0, values.length));
+    }
+
+    /**
+     * Adds one value.
+     * 
+     * @param value the value
+     * @return this accumulator
+     */
+    public StatisticsAccumulator add(double value) {
+        count++;
+        addToSum(value);
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        return this;
+    }
+
+    /**
+     * Adds a range of an array on the calling thread.
+     * 
+     * @param values the dataset
+     * @param from   first index, inclusive
+     * @param to     last index, exclusive
+     * @return this accumulator
+     */
+    public StatisticsAccumulator addAll(double[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            add(values[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Merges the summary of another, disjoint part of the dataset.
+     * 
+     * @param other the other accumulator, not modified
+     * @return this accumulator
+     */
+    public StatisticsAccumulator merge(StatisticsAccumulator other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            count = other.count;
+            sum = other.sum;
+            compensation = other.compensation;
+            mean = other.mean;
+            squaredDeviations = other.squaredDeviations;
+            min = other.min;
+            max = other.max;
+            return this;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        squaredDeviations += other.squaredDeviations + delta * delta * ((double) count * other.count / total);
+        addToSum(other.sum);
+        addToSum(other.compensation);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Gets the number of values.
+     * 
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the compensated sum of the values.
+     * 
+     * @return the sum, 0 for an empty dataset
+     */
+    public double getSum() {
+        return sum + compensation;
+    }
+
+    /**
+     * Gets the arithmetic mean.
+     * 
+     * @return the mean
+     * @throws InvalidInputException if the dataset is empty
+     */
+    public double getMean() {
+        requireCount(1);
+        return getSum() / count;
+    }
+
+    /**
+     * Gets the sample variance, with Bessel's correction.
+     * 
+     * @return the variance
+     * @throws InvalidInputException if the dataset has fewer than two values
+     */
+    public double getVariance() {
+        requireCount(2);
+        return squaredDeviations / (count - 1);
+    }
+
+    /**
+     * Gets the sample standard deviation.
+     * 
+     * @return the standard deviation
+     * @throws InvalidInputException if the dataset has fewer than two values
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Gets the smallest value.
+     * 
+     * @return the minimum
+     * @throws InvalidInputException if the dataset is empty
+     */
+    public double getMin() {
+        requireCount(1);
+        return min;
+    }
+
+    /**
+     * Gets the largest value.
+     * 
+     * @return the maximum
+     * @throws InvalidInputException if the dataset is empty
+     */
+    public double getMax() {
+        requireCount(1);
+        return max;
+    }
+
+    private void addToSum(double value) {
+        double total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - total) + value;
+        } else {
+            compensation += (value - total) + sum;
+        }
+        sum = total;
+    }
+
+    private void requireCount(int required) {
+        if (count < required) {
+            throw new InvalidInputException(required == 1 ? "Dataset is empty"
+                    : String.format("Dataset needs at least %d values, has %d", required, count));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Statistics[n=%d, sum=%s, mean=%s, min=%s, max=%s]",
+                count, getSum(), count > 0 ? getSum() / count : Double.NaN,
+                count > 0 ? min : Double.NaN, count > 0 ? max : Double.NaN);
+    }
+
+    /**
+     * Splits the array in halves down to the threshold and merges the
+     * partial summaries on the way back up.
+     */
+    private static final class Reduction extends RecursiveTask<StatisticsAccumulator> {
+        private final double[] values;
+        private final int from;
+        private final int to;
+
+        Reduction(double[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected StatisticsAccumulator compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return new StatisticsAccumulator().addAll(values, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            Reduction left = new Reduction(values, from, middle);
+            left.fork();
+            StatisticsAccumulator right = new Reduction(values, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
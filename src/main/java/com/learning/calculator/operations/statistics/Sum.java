@@ -0,0 +1,36 @@
+package com.learning.calculator.operations.statistics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sum aggregate implementation.
+ * Adds all values with compensated summation, so the result does not
+ * depend on the order or scale of the values as a naive loop would.
+ * An empty dataset sums to 0.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class Sum implements AggregateOperation {
+    private static final Logger logger = LoggerFactory.getLogger(Sum.class);
+
+    @Override
+    public double aggregate(double[] values, double parameter) {
+        logger.debug("Executing sum over {} values", values.length);
+        double result = StatisticsAccumulator.of(values).getSum();
+        logger.debug("Sum result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "Σ";
+    }
+
+    @Override
+    public String getName() {
+        return "Sum";
+    }
+}
@@ -0,0 +1,35 @@
+package com.learning.calculator.operations.statistics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Variance aggregate implementation.
+ * Calculates the sample variance (divided by n - 1) in a single pass with
+ * Welford's update.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class Variance implements AggregateOperation {
+    private static final Logger logger = LoggerFactory.getLogger(Variance.class);
+
+    @Override
+    public double aggregate(double[] values, double parameter) {
+        logger.debug("Executing variance over {} values", values.length);
+        double result = StatisticsAccumulator.of(values).getVariance();
+        logger.debug("Variance result: {}", result);
+        return result;
+    }
+
+    @Override
+    public String getSymbol() {
+        return "s²";
+    }
+
+    @Override
+    public String getName() {
+        return "Variance";
+    }
+}
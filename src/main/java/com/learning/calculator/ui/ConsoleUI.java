@@ -1,6 +1,8 @@
 package com.learning.calculator.ui;
 
+import com.learning.calculator.core.CalculationChain;
 import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.exceptions.CalculatorException;
 import com.learning.calculator.history.CalculationRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +22,9 @@ import java.util.Scanner;
 public class ConsoleUI {
     private static final Logger logger = LoggerFactory.getLogger(ConsoleUI.class);
 
+    /** Maximum number of recent records shown by the history view. */
+    private static final int HISTORY_DISPLAY_LIMIT = 100;
+
     private final Scanner scanner;
     private final CalculatorEngine engine;
     private boolean running;
@@ -96,9 +101,16 @@ public class ConsoleUI {
         System.out.println("║   13. 📊 Tangent (tan)                                    ║");
         System.out.println("║   14. 📊 Natural Logarithm (ln)                           ║");
         System.out.println("║" + " ".repeat(58) + "║");
+        System.out.println("║  COMBINATORICS" + " ".repeat(43) + "║");
+        System.out.println("║   15. !  Factorial (a!)                                  ║");
+        System.out.println("║   16. C  Binomial Coefficient (a choose b)               ║");
+        System.out.println("║   17. P  Permutations (b of a in order)                  ║");
+        System.out.println("║   18. F  Fibonacci (F(a))                                ║");
+        System.out.println("║" + " ".repeat(58) + "║");
         System.out.println("║  UTILITIES" + " ".repeat(47) + "║");
         System.out.println("║   20. 📝 View History                                     ║");
         System.out.println("║   21. 🗑️  Clear History                                   ║");
+        System.out.println("║   22. ⛓️  Chain Mode (running result)                     ║");
         System.out.println("║    0. 🚪 Exit                                             ║");
         System.out.println("╚" + "═".repeat(58) + "╝");
     }
@@ -144,6 +156,11 @@ public class ConsoleUI {
             return;
         }
 
+        if (choice == 22) {
+            performChain();
+            return;
+        }
+
         // Handle calculation operations
         if (engine.isValidOperation(choice)) {
             performCalculation(choice);
@@ -166,7 +183,7 @@ public class ConsoleUI {
 
             double operand2 = 0;
             // Some operations don't need second operand
-            if (operationCode != 6 && operationCode < 11) {
+            if (requiresSecondOperand(operationCode)) {
                 System.out.print("📊 Enter second number: ");
                 operand2 = scanner.nextDouble();
                 scanner.nextLine(); // Clear buffer
@@ -187,6 +204,81 @@ public class ConsoleUI {
         }
     }
 
+    /**
+     * Runs chain mode: starts from the last answer (or a new number) and
+     * applies one operation after another to the running result. The chain
+     * is evaluated as a whole and stored as a single history entry.
+     */
+    private void performChain() {
+        try {
+            CalculationChain chain;
+            List<CalculationRecord> recent = engine.getHistory().getRecentRecords(1);
+            System.out.print("\n⛓️  Enter starting number"
+                    + (recent.isEmpty() ? "" : String.format(" (Enter = last answer %.4f)", recent.get(0).getResult()))
+                    + ": ");
+            String line = scanner.nextLine().trim();
+            if (line.isEmpty() && !recent.isEmpty()) {
+                chain = engine.chainFromLastResult();
+            } else {
+                chain = engine.chain(Double.parseDouble(line));
+            }
+
+            while (true) {
+                System.out.printf("⛓️  Current value: %.4f%n", chain.getCurrentValue());
+                System.out.print("👉 Next operation code (0 = finish): ");
+                int operationCode;
+                try {
+                    operationCode = Integer.parseInt(scanner.nextLine().trim());
+                } catch (NumberFormatException e) {
+                    System.out.println("❌ Invalid operation code! Please try again.");
+                    continue;
+                }
+                if (operationCode == 0) {
+                    break;
+                }
+                if (!engine.isValidOperation(operationCode)) {
+                    System.out.println("❌ Invalid operation code! Please try again.");
+                    continue;
+                }
+                // A bad step is rejected on its own; the steps before it are kept
+                try {
+                    double operand = 0;
+                    if (requiresSecondOperand(operationCode)) {
+                        System.out.print("📊 Enter operand: ");
+                        operand = Double.parseDouble(scanner.nextLine().trim());
+                    }
+                    chain.apply(operationCode, operand);
+                } catch (NumberFormatException e) {
+                    System.out.println("❌ Invalid number format! Step skipped.");
+                } catch (CalculatorException e) {
+                    System.out.println("❌ Calculation error: " + e.getMessage() + " Step skipped.");
+                }
+            }
+
+            if (chain.size() > 0) {
+                double result = chain.commit();
+                System.out.println("\n" + "─".repeat(60));
+                System.out.printf("✅ CHAIN RESULT (%d steps): %.4f%n", chain.size(), result);
+                System.out.println("─".repeat(60));
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("❌ Invalid number format! Chain discarded.");
+        } catch (Exception e) {
+            System.out.println("❌ Calculation error: " + e.getMessage() + " Chain discarded.");
+            logger.error("Chain calculation error", e);
+        }
+    }
+
+    /**
+     * Checks if an operation needs a second operand from the user.
+     * 
+     * @param operationCode the operation code
+     * @return true for binary operations
+     */
+    private boolean requiresSecondOperand(int operationCode) {
+        return engine.getOperation(operationCode).getArity() > 1;
+    }
+
     /**
      * Displays the calculation result.
      * 
@@ -204,7 +296,7 @@ public class ConsoleUI {
      * Displays the calculation history.
      */
     private void displayHistory() {
-        List<CalculationRecord> records = engine.getHistory().getRecords();
+        List<CalculationRecord> records = engine.getHistory().getRecentRecords(HISTORY_DISPLAY_LIMIT);
 
         if (records.isEmpty()) {
             System.out.println("\n📝 History is empty. No calculations yet.");
@@ -222,7 +314,8 @@ public class ConsoleUI {
         }
 
         System.out.println("═".repeat(80));
-        System.out.println(String.format("Total: %d calculation(s)", records.size()));
+        System.out.println(String.format("Showing %d of %d calculation(s)", records.size(),
+                engine.getHistory().size()));
         System.out.println("═".repeat(80));
     }
 
@@ -0,0 +1,248 @@
+package com.learning.calculator.ui;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Whitespace-separated token reader over a byte stream, the non-interactive
+ * replacement for {@link java.util.Scanner}. Tokens are read straight from a
+ * 64 KiB byte buffer without regular expressions or intermediate strings,
+ * and numbers are parsed by hand; text after {@code #} up to the end of the
+ * line is a comment.
+ * 
+ * Decimal numbers whose significant digits form an integer of at most 2^53
+ * and whose decimal exponent is at most 22 take an exact fast path; everything else, including
+ * {@code NaN} and {@code Infinity}, is handed to
+ * {@link Double#parseDouble(String)}, so results are always correctly
+ * rounded.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+final class InputTokenizer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /** Digits of the largest mantissa, 2^53; more are counted but not accumulated, so the mantissa cannot overflow. */
+    private static final int MAX_MANTISSA_DIGITS = 16;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream in;
+    private final Flushable beforeBlocking;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private byte[] token = new byte[32];
+    private int tokenLength;
+    private boolean tokenPending;
+
+    /**
+     * Creates a tokenizer.
+     * 
+     * @param in             the input
+     * @param beforeBlocking flushed before every read from the input, so
+     *                       output for the commands read so far is visible
+     *                       to a caller waiting for it
+     */
+    InputTokenizer(InputStream in, Flushable beforeBlocking) {
+        this.in = in;
+        this.beforeBlocking = beforeBlocking;
+    }
+
+    /**
+     * Checks if another token is available, reading ahead if needed.
+     * 
+     * @return true if another token is available
+     * @throws IOException if the input cannot be read
+     */
+    boolean hasNext() throws IOException {
+        if (!tokenPending) {
+            tokenPending = readToken();
+        }
+        return tokenPending;
+    }
+
+    /**
+     * Reads the next token as an int.
+     * 
+     * @return the value
+     * @throws InputMismatchException if the token is not an int; the token is
+     *                                consumed
+     * @throws NoSuchElementException if the input is exhausted
+     * @throws IOException            if the input cannot be read
+     */
+    int nextInt() throws IOException {
+        next();
+        int i = 0;
+        boolean negative = token[0] == '-';
+        if (negative || token[0] == '+') {
+            i++;
+        }
+        if (i == tokenLength) {
+            throw mismatch();
+        }
+        long value = 0;
+        for (; i < tokenLength; i++) {
+            int digit = token[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw mismatch();
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw mismatch();
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw mismatch();
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads the next token as a double.
+     * 
+     * @return the value
+     * @throws InputMismatchException if the token is not a number; the token
+     *                                is consumed
+     * @throws NoSuchElementException if the input is exhausted
+     * @throws IOException            if the input cannot be read
+     */
+    double nextDouble() throws IOException {
+        next();
+        int i = 0;
+        boolean negative = token[0] == '-';
+        if (negative || token[0] == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        for (; i < tokenLength && isDigit(token[i]); i++, digits++) {
+            if (significantDigits > 0 || token[i] != '0') {
+                if (++significantDigits <= MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + (token[i] - '0');
+                }
+            }
+        }
+        if (i < tokenLength && token[i] == '.') {
+            for (i++; i < tokenLength && isDigit(token[i]); i++, digits++) {
+                if (significantDigits > 0 || token[i] != '0') {
+                    if (++significantDigits <= MAX_MANTISSA_DIGITS) {
+                        mantissa = mantissa * 10 + (token[i] - '0');
+                    }
+                }
+                exponent--;
+            }
+        }
+        if (digits > 0 && i < tokenLength && (token[i] == 'e' || token[i] == 'E')) {
+            i++;
+            boolean negativeExponent = i < tokenLength && token[i] == '-';
+            if (i < tokenLength && (token[i] == '-' || token[i] == '+')) {
+                i++;
+            }
+            int exponentStart = i;
+            int explicit = 0;
+            for (; i < tokenLength && isDigit(token[i]) && explicit < 10_000; i++) {
+                explicit = explicit * 10 + (token[i] - '0');
+            }
+            if (i == exponentStart) {
+                return parseSlow();
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (digits == 0 || i != tokenLength || significantDigits > MAX_MANTISSA_DIGITS
+                || mantissa > MAX_EXACT_MANTISSA || Math.abs(exponent) >= POWERS_OF_TEN.length) {
+            return parseSlow();
+        }
+        // Both factors are exact doubles, so one multiplication or division rounds correctly
+        double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
+    }
+
+    private double parseSlow() {
+        try {
+            return Double.parseDouble(tokenText());
+        } catch (NumberFormatException e) {
+            throw mismatch();
+        }
+    }
+
+    private void next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("End of input");
+        }
+        tokenPending = false;
+    }
+
+    private InputMismatchException mismatch() {
+        return new InputMismatchException("Invalid input: " + tokenText());
+    }
+
+    private String tokenText() {
+        return new String(token, 0, tokenLength, StandardCharsets.UTF_8);
+    }
+
+    private boolean readToken() throws IOException {
+        int b;
+        while (true) {
+            b = read();
+            if (b == '#') {
+                while (b != -1 && b != '\n') {
+                    b = read();
+                }
+            }
+            if (b == -1) {
+                return false;
+            }
+            if (b > ' ') {
+                break;
+            }
+        }
+        tokenLength = 0;
+        while (b > ' ' && b != '#') {
+            if (tokenLength == token.length) {
+                token = Arrays.copyOf(token, token.length * 2);
+            }
+            token[tokenLength++] = (byte) b;
+            b = read();
+        }
+        if (b == '#') {
+            // Keep the comment marker for the next token
+            position--;
+        }
+        return true;
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            if (endOfInput) {
+                return -1;
+            }
+            beforeBlocking.flush();
+            int read = in.read(buffer, 0, buffer.length);
+            if (read <= 0) {
+                endOfInput = true;
+                return -1;
+            }
+            position = 0;
+            limit = read;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
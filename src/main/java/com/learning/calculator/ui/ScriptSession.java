@@ -0,0 +1,182 @@
+package com.learning.calculator.ui;
+
+import com.learning.calculator.core.CalculationChain;
+import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.exceptions.CalculatorException;
+import com.learning.calculator.history.CalculationRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Non-interactive counterpart of {@link ConsoleUI} for piped input. It reads
+ * the same commands as the menu, as whitespace-separated tokens, but draws
+ * no menus or prompts and writes only results, through one buffered writer:
+ * - {@code <code> <a> [b]}: prints the result of the operation, or
+ * {@code error: <message>}; the second operand is only read for binary
+ * operations
+ * - {@code 20}: prints the recent history, one record per line
+ * - {@code 21}: clears the history
+ * - {@code 22 <start> {<code> [operand]} 0}: evaluates a chain and prints
+ * its result
+ * - {@code 0}: ends the session, as does the end of the input
+ * 
+ * Text after {@code #} is a comment. Output is flushed whenever the session
+ * waits for more input and at the end.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class ScriptSession {
+    private static final Logger logger = LoggerFactory.getLogger(ScriptSession.class);
+
+    /** Maximum number of recent records printed by the history command. */
+    private static final int HISTORY_DISPLAY_LIMIT = 100;
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final CalculatorEngine engine;
+    private final Writer out;
+    private final InputTokenizer input;
+    private final StringBuilder line = new StringBuilder(64);
+
+    /**
+     * Constructs a session reading commands from the given input.
+     * 
+     * @param engine the calculator engine to use
+     * @param in     the command input
+     * @param out    receives the results, UTF-8 encoded
+     */
+    public ScriptSession(CalculatorEngine engine, InputStream in, OutputStream out) {
+        this.engine = engine;
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+        this.input = new InputTokenizer(in, this.out);
+    }
+
+    /**
+     * Runs commands until the exit command or the end of the input.
+     * 
+     * @return number of commands executed, including invalid ones
+     * @throws IOException if the input cannot be read or the output written
+     */
+    public long run() throws IOException {
+        long commands = 0;
+        try {
+            while (input.hasNext()) {
+                int choice;
+                try {
+                    choice = input.nextInt();
+                } catch (InputMismatchException e) {
+                    error(e.getMessage());
+                    commands++;
+                    continue;
+                }
+                commands++;
+                if (choice == 0) {
+                    break;
+                }
+                processChoice(choice);
+            }
+        } catch (NoSuchElementException e) {
+            error("Incomplete command at end of input");
+        } finally {
+            out.flush();
+        }
+        logger.info("Script session finished after {} command(s)", commands);
+        return commands;
+    }
+
+    private void processChoice(int choice) throws IOException {
+        if (choice == 20) {
+            printHistory();
+        } else if (choice == 21) {
+            engine.clearHistory();
+        } else if (choice == 22) {
+            performChain();
+        } else if (engine.isValidOperation(choice)) {
+            performCalculation(choice);
+        } else {
+            error("Invalid operation code: " + choice);
+        }
+    }
+
+    private void performCalculation(int operationCode) throws IOException {
+        try {
+            double operand1 = input.nextDouble();
+            double operand2 = requiresSecondOperand(operationCode) ? input.nextDouble() : 0;
+            double result = engine.calculate(operationCode, operand1, operand2);
+            line.setLength(0);
+            out.append(line.append(result).append('\n'));
+        } catch (InputMismatchException | CalculatorException e) {
+            error(e.getMessage());
+        }
+    }
+
+    private void performChain() throws IOException {
+        try {
+            CalculationChain chain = engine.chain(input.nextDouble());
+            int operationCode;
+            while ((operationCode = input.nextInt()) != 0) {
+                if (!engine.isValidOperation(operationCode)) {
+                    error("Invalid operation code: " + operationCode + ", chain discarded");
+                    skipChain();
+                    return;
+                }
+                chain.then(operationCode, requiresSecondOperand(operationCode) ? input.nextDouble() : 0);
+            }
+            double result = chain.size() > 0 ? chain.commit() : chain.evaluate();
+            line.setLength(0);
+            out.append(line.append(result).append('\n'));
+        } catch (InputMismatchException e) {
+            error(e.getMessage() + ", chain discarded");
+            skipChain();
+        } catch (CalculatorException e) {
+            error(e.getMessage() + ", chain discarded");
+        }
+    }
+
+    /**
+     * Skips the rest of a discarded chain up to its terminating 0. An
+     * operand written as 0 also ends the chain, as operand counts of
+     * unknown steps are not known.
+     */
+    private void skipChain() throws IOException {
+        while (true) {
+            try {
+                if (input.nextInt() == 0) {
+                    return;
+                }
+            } catch (InputMismatchException e) {
+                // Operands of the discarded steps
+            }
+        }
+    }
+
+    private void printHistory() throws IOException {
+        List<CalculationRecord> records = engine.getHistory().getRecentRecords(HISTORY_DISPLAY_LIMIT);
+        for (CalculationRecord record : records) {
+            out.write(record.toFormattedString());
+            out.write('\n');
+        }
+    }
+
+    private boolean requiresSecondOperand(int operationCode) {
+        return engine.getOperation(operationCode).getArity() > 1;
+    }
+
+    private void error(String message) throws IOException {
+        out.write("error: ");
+        out.write(message);
+        out.write('\n');
+    }
+}
@@ -0,0 +1,106 @@
+package com.learning.calculator.workload;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes a stream of calculation requests to a compact binary capture file.
+ * 
+ * Format (big-endian):
+ * - header: magic {@code 'CALC'} (int), version (short), capture start in
+ * epoch milliseconds (long)
+ * - one record per request: operation code (zig-zag varint), nanoseconds
+ * since the previous record (varint), first and second operand (raw
+ * doubles)
+ * 
+ * A typical record takes 19-22 bytes. Recording is thread-safe; concurrent
+ * requests are written in the order they acquire the writer.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class CaptureWriter implements Closeable {
+    static final int MAGIC = 0x43414C43;
+    static final short VERSION = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataOutputStream out;
+    private long lastNanos;
+    private long count;
+    private boolean closed;
+
+    /**
+     * Creates a capture file, replacing any existing file.
+     * 
+     * @param file path of the capture file
+     * @throws IOException if the file cannot be created
+     */
+    public CaptureWriter(Path file) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(System.currentTimeMillis());
+        this.lastNanos = System.nanoTime();
+    }
+
+    /**
+     * Appends one calculation request stamped with the current time.
+     * Requests that race with {@link #close()} are dropped.
+     * 
+     * @param operationCode code of the requested operation
+     * @param operand1      first operand
+     * @param operand2      second operand
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    public synchronized void record(int operationCode, double operand1, double operand2) {
+        if (closed) {
+            return;
+        }
+        long now = System.nanoTime();
+        try {
+            writeVarLong(Integer.toUnsignedLong((operationCode << 1) ^ (operationCode >> 31)));
+            writeVarLong(Math.max(0, now - lastNanos));
+            out.writeDouble(operand1);
+            out.writeDouble(operand2);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write capture record", e);
+        }
+        lastNanos = now;
+        count++;
+    }
+
+    /**
+     * Gets the number of records written so far.
+     * 
+     * @return number of records
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Flushes and closes the capture file.
+     * 
+     * @throws IOException if the file cannot be flushed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        out.close();
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
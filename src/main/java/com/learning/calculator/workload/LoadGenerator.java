@@ -0,0 +1,300 @@
+package com.learning.calculator.workload;
+
+import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.exceptions.CalculationRejectedException;
+import com.learning.calculator.exceptions.CalculatorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Synthetic load generator that drives a calculator engine in-process, so
+ * engine changes can be load-tested without a capture file or an external
+ * harness.
+ * 
+ * Every thread draws requests from the configured operation mix and operand
+ * distribution with its own seeded random source. A configured share of
+ * requests carries an operand the operation rejects (zero divisor, negative
+ * root, non-positive logarithm); operations without an invalid domain get
+ * an unknown operation code instead, so the error path is exercised for
+ * every mix.
+ * 
+ * Latency is corrected for coordinated omission: open-loop latency is
+ * measured from the scheduled start, so time spent queued behind slow
+ * requests is counted; closed-loop latency is back-filled with the requests
+ * a rate-limited client would have sent while waiting.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class LoadGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    /** Remaining wait below which a thread spins instead of parking. */
+    private static final long SPIN_THRESHOLD_NANOS = 50_000;
+
+    /** Operation code sent for invalid requests of operations without an invalid domain. */
+    private static final int UNKNOWN_OPERATION_CODE = 0;
+
+    private final LoadGeneratorConfig config;
+
+    /**
+     * Creates a load generator.
+     * 
+     * @param config the load settings
+     */
+    public LoadGenerator(LoadGeneratorConfig config) {
+        if (config.getPacing() == LoadGeneratorConfig.Pacing.OPEN && config.getRate() <= 0) {
+            throw new IllegalArgumentException("Open-loop pacing requires a positive rate");
+        }
+        this.config = config;
+    }
+
+    /**
+     * Runs the configured load against an engine and waits for completion.
+     * 
+     * @param engine the engine under test
+     * @return throughput and latency report
+     * @throws InterruptedException if interrupted while waiting for the load threads
+     */
+    public LoadReport run(CalculatorEngine engine) throws InterruptedException {
+        int threadCount = config.getThreads();
+        long durationNanos = config.getDuration().toNanos();
+        long intervalNanos = config.getInterval().toNanos();
+        int buckets = (int) ((durationNanos + intervalNanos - 1) / intervalNanos) + 1;
+        logger.info("Starting load: {}", config);
+
+        ThreadFactory threadFactory = config.isVirtualThreads() ? virtualThreadFactory() : Thread::new;
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch go = new CountDownLatch(1);
+        long[] startNanos = new long[1];
+        Worker[] workers = new Worker[threadCount];
+        Thread[] threads = new Thread[threadCount];
+        SplittableRandom seeds = new SplittableRandom(config.getSeed());
+        for (int i = 0; i < threadCount; i++) {
+            workers[i] = new Worker(engine, i, seeds.split(), buckets, intervalNanos);
+            Worker worker = workers[i];
+            threads[i] = threadFactory.newThread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                worker.run(startNanos[0], durationNanos);
+            });
+            threads[i].setName("loadgen-" + i);
+            threads[i].start();
+        }
+
+        ready.await();
+        startNanos[0] = System.nanoTime();
+        go.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - startNanos[0];
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        long[] completions = new long[buckets];
+        long requests = 0;
+        long errors = 0;
+        long rejected = 0;
+        long invalid = 0;
+        for (Worker worker : workers) {
+            if (worker.failure != null) {
+                throw new IllegalStateException("Load thread failed", worker.failure);
+            }
+            latencies.add(worker.latencies);
+            for (int b = 0; b < buckets; b++) {
+                completions[b] += worker.completions[b];
+            }
+            requests += worker.requests;
+            errors += worker.errors;
+            rejected += worker.rejected;
+            invalid += worker.invalid;
+        }
+        LoadReport report = new LoadReport(config.getPacing(), requests, errors, rejected, invalid, elapsed,
+                latencies, completions, intervalNanos);
+        logger.info("{}", report);
+        return report;
+    }
+
+    /**
+     * Creates a virtual thread factory through reflection, so the code base
+     * keeps compiling for Java 17 while Java 21 runtimes can use virtual threads.
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads require Java 21 or newer, running on " + System.getProperty("java.version"));
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create virtual thread factory", e);
+        }
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * One load thread: its own random source, histogram and counters, merged
+     * after the run so the measured loop shares no mutable state.
+     */
+    private final class Worker {
+        private final CalculatorEngine engine;
+        private final int index;
+        private final SplittableRandom random;
+        private final long intervalNanos;
+        private final int[] codes;
+        private final int[] cumulativeWeights;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final long[] completions;
+        private long requests;
+        private long errors;
+        private long rejected;
+        private long invalid;
+        private Throwable failure;
+
+        Worker(CalculatorEngine engine, int index, SplittableRandom random, int buckets, long intervalNanos) {
+            this.engine = engine;
+            this.index = index;
+            this.random = random;
+            this.intervalNanos = intervalNanos;
+            this.completions = new long[buckets];
+            Map<Integer, Integer> mix = config.getMix();
+            this.codes = new int[mix.size()];
+            this.cumulativeWeights = new int[mix.size()];
+            int i = 0;
+            int total = 0;
+            for (Map.Entry<Integer, Integer> entry : mix.entrySet()) {
+                total += entry.getValue();
+                codes[i] = entry.getKey();
+                cumulativeWeights[i] = total;
+                i++;
+            }
+        }
+
+        void run(long start, long durationNanos) {
+            try {
+                if (config.getPacing() == LoadGeneratorConfig.Pacing.OPEN) {
+                    runOpenLoop(start, start + durationNanos);
+                } else {
+                    runClosedLoop(start, start + durationNanos);
+                }
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            }
+        }
+
+        /**
+         * Requests are scheduled at fixed slots of the total rate, interleaved
+         * across threads; a thread that falls behind sends immediately and
+         * the lag is part of the measured latency.
+         */
+        private void runOpenLoop(long start, long end) {
+            double slotNanos = 1_000_000_000.0 / config.getRate();
+            int threads = config.getThreads();
+            for (long k = 0;; k++) {
+                long intended = start + (long) ((index + k * threads) * slotNanos);
+                if (intended - end >= 0) {
+                    return;
+                }
+                waitUntil(intended);
+                issue(start, intended, 0);
+            }
+        }
+
+        /**
+         * Each thread sends its next request after the previous one completed,
+         * no sooner than its share of the expected rate allows.
+         */
+        private void runClosedLoop(long start, long end) {
+            double rate = config.getRate();
+            long expectedInterval = rate > 0 ? (long) (config.getThreads() * 1_000_000_000.0 / rate) : 0;
+            long next = start;
+            while (System.nanoTime() - end < 0) {
+                if (expectedInterval > 0) {
+                    waitUntil(next);
+                }
+                long sent = System.nanoTime();
+                issue(start, sent, expectedInterval);
+                next = sent + expectedInterval;
+            }
+        }
+
+        private void issue(long start, long intended, long expectedInterval) {
+            int code = nextCode();
+            double a = nextOperand();
+            double b = nextOperand();
+            if (config.getInvalidPercent() > 0 && random.nextDouble() * 100 < config.getInvalidPercent()) {
+                invalid++;
+                switch (code) {
+                    case 4:
+                    case 7:
+                        b = 0;
+                        break;
+                    case 6:
+                        a = -Math.abs(a) - 1;
+                        break;
+                    case 14:
+                        a = -Math.abs(a);
+                        break;
+                    default:
+                        code = UNKNOWN_OPERATION_CODE;
+                        break;
+                }
+            }
+            try {
+                engine.calculate(code, a, b);
+            } catch (CalculationRejectedException e) {
+                errors++;
+                rejected++;
+            } catch (CalculatorException e) {
+                errors++;
+            }
+            long done = System.nanoTime();
+            latencies.recordWithExpectedInterval(done - intended, expectedInterval);
+            completions[(int) Math.min(completions.length - 1, (done - start) / intervalNanos)]++;
+            requests++;
+        }
+
+        private int nextCode() {
+            int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int i = 0;
+            while (pick >= cumulativeWeights[i]) {
+                i++;
+            }
+            return codes[i];
+        }
+
+        private double nextOperand() {
+            switch (config.getDistribution()) {
+                case NORMAL:
+                    return config.getParameter1() + config.getParameter2() * random.nextGaussian();
+                case EXPONENTIAL:
+                    return -config.getParameter1() * Math.log(1.0 - random.nextDouble());
+                default:
+                    return random.nextDouble(config.getParameter1(), config.getParameter2());
+            }
+        }
+    }
+}
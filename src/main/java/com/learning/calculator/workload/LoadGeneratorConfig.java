@@ -0,0 +1,356 @@
+package com.learning.calculator.workload;
+
+import com.learning.calculator.operations.factory.OperationFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of a synthetic load run: operation mix, operand distribution,
+ * share of invalid inputs, concurrency and pacing.
+ * 
+ * Settings can be chained in code or parsed from {@code key=value}
+ * command line arguments:
+ * - {@code mix=1:40,3:30,4:20,11:10}: operation codes with relative weights
+ * - {@code operands=uniform:<min>:<max>}, {@code normal:<mean>:<stddev>} or
+ * {@code exponential:<mean>}
+ * - {@code invalid=<percent>}: share of requests sent with an operand that
+ * the operation rejects (zero divisor, negative root, non-positive logarithm)
+ * - {@code threads=<n>} and {@code virtual=true|false}
+ * - {@code pacing=closed|open} and {@code rate=<requests per second>}
+ * - {@code duration=<seconds>} and {@code interval=<milliseconds>} for the
+ * throughput-over-time buckets
+ * - {@code seed=<n>}
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class LoadGeneratorConfig {
+
+    /**
+     * Shape of the generated operands.
+     */
+    public enum Distribution {
+        UNIFORM, NORMAL, EXPONENTIAL
+    }
+
+    /**
+     * How requests are issued.
+     * Closed loop: each thread sends the next request when the previous one
+     * completes. Open loop: requests follow a fixed schedule at the target
+     * rate whether or not earlier requests have finished.
+     */
+    public enum Pacing {
+        CLOSED, OPEN
+    }
+
+    private final Map<Integer, Integer> mix = new LinkedHashMap<>();
+    private boolean defaultMix = true;
+    private Distribution distribution = Distribution.UNIFORM;
+    private double parameter1 = 1;
+    private double parameter2 = 1000;
+    private double invalidPercent;
+    private int threads = 1;
+    private boolean virtualThreads;
+    private Pacing pacing = Pacing.CLOSED;
+    private double rate;
+    private Duration duration = Duration.ofSeconds(10);
+    private Duration interval = Duration.ofSeconds(1);
+    private long seed = System.nanoTime();
+
+    /**
+     * Creates a configuration with the default mix over the basic operations.
+     */
+    public LoadGeneratorConfig() {
+        for (int code : new int[] { 1, 2, 3, 4 }) {
+            mix.put(code, 1);
+        }
+    }
+
+    /**
+     * Parses {@code key=value} arguments, see class documentation.
+     * 
+     * @param args the arguments
+     * @return the configuration
+     * @throws IllegalArgumentException if an argument is unknown or malformed
+     */
+    public static LoadGeneratorConfig parse(String[] args) {
+        LoadGeneratorConfig config = new LoadGeneratorConfig();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            String key = arg.substring(0, separator);
+            String value = arg.substring(separator + 1);
+            try {
+                config.apply(key, value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number in " + arg, e);
+            }
+        }
+        return config;
+    }
+
+    private void apply(String key, String value) {
+        switch (key) {
+            case "mix":
+                mix.clear();
+                defaultMix = false;
+                for (String entry : value.split(",")) {
+                    String[] parts = entry.split(":");
+                    withOperation(Integer.parseInt(parts[0].trim()),
+                            parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1);
+                }
+                break;
+            case "operands":
+                String[] parts = value.split(":");
+                Distribution shape = Distribution.valueOf(parts[0].trim().toUpperCase());
+                double first = parts.length > 1 ? Double.parseDouble(parts[1]) : parameter1;
+                double second = parts.length > 2 ? Double.parseDouble(parts[2]) : parameter2;
+                withOperands(shape, first, second);
+                break;
+            case "invalid":
+                withInvalidPercent(Double.parseDouble(value));
+                break;
+            case "threads":
+                withThreads(Integer.parseInt(value));
+                break;
+            case "virtual":
+                withVirtualThreads(Boolean.parseBoolean(value));
+                break;
+            case "pacing":
+                withPacing(Pacing.valueOf(value.trim().toUpperCase()), rate);
+                break;
+            case "rate":
+                withPacing(pacing, Double.parseDouble(value));
+                break;
+            case "duration":
+                withDuration(Duration.ofMillis((long) (Double.parseDouble(value) * 1000)));
+                break;
+            case "interval":
+                withInterval(Duration.ofMillis(Long.parseLong(value)));
+                break;
+            case "seed":
+                withSeed(Long.parseLong(value));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown load generator setting: " + key);
+        }
+    }
+
+    /**
+     * Adds an operation to the mix, replacing the default mix on first use.
+     * 
+     * @param operationCode operation code known to the factory
+     * @param weight        relative weight, positive
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withOperation(int operationCode, int weight) {
+        if (!OperationFactory.getInstance().isValidOperationCode(operationCode)) {
+            throw new IllegalArgumentException("Unknown operation code: " + operationCode);
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Operation weight must be positive");
+        }
+        if (defaultMix) {
+            mix.clear();
+            defaultMix = false;
+        }
+        mix.put(operationCode, weight);
+        return this;
+    }
+
+    /**
+     * Replaces the operation mix.
+     * 
+     * @param weights operation codes mapped to relative weights
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withMix(Map<Integer, Integer> weights) {
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix cannot be empty");
+        }
+        mix.clear();
+        defaultMix = false;
+        weights.forEach(this::withOperation);
+        return this;
+    }
+
+    /**
+     * Sets the operand distribution.
+     * 
+     * @param distribution the shape
+     * @param parameter1   minimum (uniform) or mean (normal, exponential)
+     * @param parameter2   maximum (uniform) or standard deviation (normal);
+     *                     ignored for exponential
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withOperands(Distribution distribution, double parameter1, double parameter2) {
+        if (distribution == Distribution.UNIFORM && !(parameter1 < parameter2)) {
+            throw new IllegalArgumentException("Uniform operand range must have min < max");
+        }
+        if (distribution == Distribution.EXPONENTIAL && !(parameter1 > 0)) {
+            throw new IllegalArgumentException("Exponential operand mean must be positive");
+        }
+        this.distribution = distribution;
+        this.parameter1 = parameter1;
+        this.parameter2 = parameter2;
+        return this;
+    }
+
+    /**
+     * Sets the share of requests sent with invalid input.
+     * 
+     * @param percent percentage between 0 and 100
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withInvalidPercent(double percent) {
+        if (!(percent >= 0 && percent <= 100)) {
+            throw new IllegalArgumentException("Invalid input percentage must be between 0 and 100");
+        }
+        this.invalidPercent = percent;
+        return this;
+    }
+
+    /**
+     * Sets the number of load threads.
+     * 
+     * @param threads number of threads, positive
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withThreads(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Runs the load threads as virtual threads. Requires a Java 21 or newer
+     * runtime; the run fails fast on older runtimes.
+     * 
+     * @param virtualThreads true for virtual threads
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * Sets the pacing.
+     * 
+     * @param pacing the pacing mode
+     * @param rate   total target requests per second; required for open
+     *               loop, for closed loop a positive rate is the expected
+     *               request rate used for coordinated-omission correction
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withPacing(Pacing pacing, double rate) {
+        if (rate < 0 || Double.isNaN(rate)) {
+            throw new IllegalArgumentException("Rate cannot be negative");
+        }
+        this.pacing = pacing;
+        this.rate = rate;
+        return this;
+    }
+
+    /**
+     * Sets the run duration.
+     * 
+     * @param duration measured run time, positive
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withDuration(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * Sets the width of the throughput-over-time buckets.
+     * 
+     * @param interval bucket width, positive
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withInterval(Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        this.interval = interval;
+        return this;
+    }
+
+    /**
+     * Sets the random seed, for reproducible request sequences.
+     * 
+     * @param seed the seed
+     * @return this configuration
+     */
+    public LoadGeneratorConfig withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    Map<Integer, Integer> getMix() {
+        return mix;
+    }
+
+    Distribution getDistribution() {
+        return distribution;
+    }
+
+    double getParameter1() {
+        return parameter1;
+    }
+
+    double getParameter2() {
+        return parameter2;
+    }
+
+    double getInvalidPercent() {
+        return invalidPercent;
+    }
+
+    int getThreads() {
+        return threads;
+    }
+
+    boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    Pacing getPacing() {
+        return pacing;
+    }
+
+    double getRate() {
+        return rate;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    Duration getInterval() {
+        return interval;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("mix=%s operands=%s(%s, %s) invalid=%.1f%% threads=%d%s pacing=%s rate=%s duration=%s",
+                mix, distribution.name().toLowerCase(), parameter1, parameter2, invalidPercent, threads,
+                virtualThreads ? " (virtual)" : "", pacing.name().toLowerCase(),
+                rate > 0 ? String.format("%.0f/s", rate) : "unbounded", duration);
+    }
+}
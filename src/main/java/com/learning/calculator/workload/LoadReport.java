@@ -0,0 +1,131 @@
+package com.learning.calculator.workload;
+
+/**
+ * Result of a synthetic load run: request and error counts, latency
+ * percentiles corrected for coordinated omission, and throughput over time.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class LoadReport {
+    private final LoadGeneratorConfig.Pacing pacing;
+    private final long requests;
+    private final long errors;
+    private final long rejected;
+    private final long invalidRequests;
+    private final long elapsedNanos;
+    private final LatencyHistogram latencies;
+    private final long[] completionsPerInterval;
+    private final long intervalNanos;
+
+    LoadReport(LoadGeneratorConfig.Pacing pacing, long requests, long errors, long rejected,
+            long invalidRequests, long elapsedNanos, LatencyHistogram latencies, long[] completionsPerInterval, long intervalNanos) {
+        this.pacing = pacing;
+        this.requests = requests;
+        this.errors = errors;
+        this.rejected = rejected;
+        this.invalidRequests = invalidRequests;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+        this.completionsPerInterval = completionsPerInterval;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Gets the number of completed requests.
+     * 
+     * @return number of requests
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Gets the number of requests that failed with a calculator exception,
+     * including the deliberately invalid ones.
+     * 
+     * @return number of failed requests
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the number of requests shed by the engine's admission control.
+     * Rejections are included in {@link #getErrors()}.
+     * 
+     * @return number of rejected requests
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Gets the number of requests sent with deliberately invalid input.
+     * 
+     * @return number of invalid requests
+     */
+    public long getInvalidRequests() {
+        return invalidRequests;
+    }
+
+    /**
+     * Gets the wall-clock duration of the run, including draining.
+     * 
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the average throughput over the run.
+     * 
+     * @return requests per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : requests * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Gets the throughput of each reporting interval, by completion time.
+     * The last interval collects requests completing after the run ended.
+     * 
+     * @return requests per second for each interval
+     */
+    public double[] getThroughputOverTime() {
+        double[] throughput = new double[completionsPerInterval.length];
+        for (int i = 0; i < throughput.length; i++) {
+            throughput[i] = completionsPerInterval[i] * 1_000_000_000.0 / intervalNanos;
+        }
+        return throughput;
+    }
+
+    /**
+     * Gets a latency percentile, corrected for coordinated omission.
+     * 
+     * @param percentile percentile between 0 and 100
+     * @return latency in nanoseconds, or 0 if nothing was sent
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        return latencies.getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(String.format(
+                "%s-loop load: %d requests (%d errors, %d rejected, %d invalid sent) in %.1f ms, %.0f req/s, "
+                        + "latency us p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f",
+                pacing == LoadGeneratorConfig.Pacing.OPEN ? "Open" : "Closed", requests, errors, rejected,
+                invalidRequests, elapsedNanos / 1_000_000.0, getThroughput(),
+                getLatencyPercentileNanos(50) / 1_000.0, getLatencyPercentileNanos(90) / 1_000.0,
+                getLatencyPercentileNanos(99) / 1_000.0, getLatencyPercentileNanos(99.9) / 1_000.0,
+                latencies.getMaxValue() / 1_000.0));
+        double[] throughput = getThroughputOverTime();
+        for (int i = 0; i < throughput.length; i++) {
+            text.append(String.format("%n  %8.1f s  %10.0f req/s", (i + 1) * intervalNanos / 1e9, throughput[i]));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.learning.calculator.workload;
+
+import java.util.Arrays;
+
+/**
+ * Result of replaying a workload: throughput, error count and latency
+ * percentiles.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class ReplayReport {
+    private final int requests;
+    private final int errors;
+    private final long elapsedNanos;
+    private final long[] sortedLatencyNanos;
+    private final boolean paced;
+
+    ReplayReport(int requests, int errors, long elapsedNanos, long[] latencyNanos, boolean paced) {
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.sortedLatencyNanos = latencyNanos.clone();
+        Arrays.sort(this.sortedLatencyNanos);
+        this.paced = paced;
+    }
+
+    /**
+     * Gets the number of replayed requests.
+     * 
+     * @return number of requests
+     */
+    public int getRequests() {
+        return requests;
+    }
+
+    /**
+     * Gets the number of requests that failed with a calculator exception.
+     * 
+     * @return number of failed requests
+     */
+    public int getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the wall-clock duration of the replay.
+     * 
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the achieved throughput.
+     * 
+     * @return requests per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : requests * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Gets a latency percentile. For paced replays latency is measured from
+     * the intended start time, so queueing behind slow requests is included.
+     * 
+     * @param percentile percentile between 0 and 100
+     * @return latency in nanoseconds, or 0 if nothing was replayed
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (sortedLatencyNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencyNanos.length) - 1;
+        return sortedLatencyNanos[Math.max(0, index)];
+    }
+
+    /**
+     * Checks if the replay followed the recorded pacing.
+     * 
+     * @return true for a paced replay, false for full speed
+     */
+    public boolean isPaced() {
+        return paced;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s replay: %d requests (%d errors) in %.1f ms, %.0f req/s, "
+                + "latency us p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f",
+                paced ? "Paced" : "Full-speed", requests, errors, elapsedNanos / 1_000_000.0, getThroughput(),
+                getLatencyPercentileNanos(50) / 1_000.0, getLatencyPercentileNanos(90) / 1_000.0,
+                getLatencyPercentileNanos(99) / 1_000.0, getLatencyPercentileNanos(99.9) / 1_000.0,
+                getLatencyPercentileNanos(100) / 1_000.0);
+    }
+}
@@ -0,0 +1,149 @@
+package com.learning.calculator.workload;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A captured calculation workload loaded into primitive columns, ready to
+ * be replayed without I/O or per-request allocation.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class Workload {
+    private final long startEpochMillis;
+    private final int[] operationCodes;
+    private final long[] offsetNanos;
+    private final double[] operands1;
+    private final double[] operands2;
+
+    Workload(long startEpochMillis, int[] operationCodes, long[] offsetNanos,
+            double[] operands1, double[] operands2) {
+        this.startEpochMillis = startEpochMillis;
+        this.operationCodes = operationCodes;
+        this.offsetNanos = offsetNanos;
+        this.operands1 = operands1;
+        this.operands2 = operands2;
+    }
+
+    /**
+     * Reads a capture file written by {@link CaptureWriter}.
+     * A truncated final record, e.g. from a process that was killed while
+     * capturing, is ignored.
+     * 
+     * @param file path of the capture file
+     * @return the loaded workload
+     * @throws IOException if the file cannot be read or is not a capture file
+     */
+    public static Workload read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != CaptureWriter.MAGIC) {
+                throw new IOException("Not a calculator capture file: " + file);
+            }
+            short version = in.readShort();
+            if (version != CaptureWriter.VERSION) {
+                throw new IOException("Unsupported capture version: " + version);
+            }
+            long startEpochMillis = in.readLong();
+
+            int capacity = 1024;
+            int[] codes = new int[capacity];
+            long[] offsets = new long[capacity];
+            double[] a = new double[capacity];
+            double[] b = new double[capacity];
+            int size = 0;
+            long offset = 0;
+            while (true) {
+                int code;
+                long delta;
+                double operand1;
+                double operand2;
+                try {
+                    long zigZag = readVarLong(in);
+                    code = (int) ((zigZag >>> 1) ^ -(zigZag & 1));
+                    delta = readVarLong(in);
+                    operand1 = in.readDouble();
+                    operand2 = in.readDouble();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (size == capacity) {
+                    capacity *= 2;
+                    codes = Arrays.copyOf(codes, capacity);
+                    offsets = Arrays.copyOf(offsets, capacity);
+                    a = Arrays.copyOf(a, capacity);
+                    b = Arrays.copyOf(b, capacity);
+                }
+                offset += delta;
+                codes[size] = code;
+                offsets[size] = offset;
+                a[size] = operand1;
+                b[size] = operand2;
+                size++;
+            }
+            return new Workload(startEpochMillis, Arrays.copyOf(codes, size), Arrays.copyOf(offsets, size),
+                    Arrays.copyOf(a, size), Arrays.copyOf(b, size));
+        }
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in capture file");
+    }
+
+    /**
+     * Gets the wall-clock start of the capture.
+     * 
+     * @return capture start in epoch milliseconds
+     */
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * Gets the number of captured requests.
+     * 
+     * @return number of requests
+     */
+    public int size() {
+        return operationCodes.length;
+    }
+
+    /**
+     * Gets the recorded duration from the first to the last request.
+     * 
+     * @return duration in nanoseconds
+     */
+    public long getDurationNanos() {
+        return operationCodes.length == 0 ? 0 : offsetNanos[offsetNanos.length - 1] - offsetNanos[0];
+    }
+
+    int operationCode(int index) {
+        return operationCodes[index];
+    }
+
+    long offsetNanos(int index) {
+        return offsetNanos[index];
+    }
+
+    double operand1(int index) {
+        return operands1[index];
+    }
+
+    double operand2(int index) {
+        return operands2[index];
+    }
+}
@@ -0,0 +1,69 @@
+package com.learning.calculator.workload;
+
+import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.exceptions.CalculatorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a captured workload against a calculator engine, either as fast
+ * as possible or following the recorded inter-arrival times, so that engine
+ * configurations can be compared on real traffic.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public class WorkloadReplayer {
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadReplayer.class);
+
+    /** Remaining wait below which the replayer spins instead of parking. */
+    private static final long SPIN_THRESHOLD_NANOS = 50_000;
+
+    /**
+     * Replays a workload on the calling thread.
+     * 
+     * @param workload the workload to replay
+     * @param engine   the engine configuration under test
+     * @param paced    true to follow the recorded pacing, false for full speed
+     * @return throughput and latency report
+     */
+    public ReplayReport replay(Workload workload, CalculatorEngine engine, boolean paced) {
+        int size = workload.size();
+        long[] latencies = new long[size];
+        int errors = 0;
+        long base = size == 0 ? 0 : workload.offsetNanos(0);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            long intendedStart = paced ? start + (workload.offsetNanos(i) - base) : System.nanoTime();
+            if (paced) {
+                waitUntil(intendedStart);
+            }
+            try {
+                engine.calculate(workload.operationCode(i), workload.operand1(i), workload.operand2(i));
+            } catch (CalculatorException e) {
+                errors++;
+            }
+            latencies[i] = System.nanoTime() - intendedStart;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        ReplayReport report = new ReplayReport(size, errors, elapsed, latencies, paced);
+        logger.info("{}", report);
+        return report;
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
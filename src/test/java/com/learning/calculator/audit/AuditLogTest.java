@@ -0,0 +1,99 @@
+package com.learning.calculator.audit;
+
+import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.exceptions.CalculatorException;
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the binary audit log and its decoder.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Audit Log Tests")
+class AuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should write every entry from concurrent callers through a small ring")
+    void testConcurrentWrites() throws Exception {
+        Path file = directory.resolve("audit.bin");
+        AuditLog audit = new AuditLog(file, 8);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int code = t + 1;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    audit.record(code, i, 1.0, i + 1.0);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        audit.close();
+
+        assertThat(audit.getCount()).isEqualTo(20_000);
+        assertThat(audit.getDroppedCount()).isZero();
+        assertThat(Files.size(file)).isEqualTo(AuditLog.HEADER_SIZE + 20_000L * AuditLog.RECORD_SIZE);
+        StringBuilder text = new StringBuilder();
+        assertThat(AuditLogDecoder.decode(file, text)).isEqualTo(20_000);
+        assertThat(text.toString()).contains(" code=3 4999.0 1.0 = 5000.0");
+    }
+
+    @Test
+    @DisplayName("Should audit engine calculations with their failures")
+    void testEngineAudit() throws IOException {
+        Path file = directory.resolve("engine.bin");
+        CalculatorEngine engine = new CalculatorEngine();
+        engine.setLogSampling(0);
+        engine.startAudit(file);
+
+        assertThat(engine.calculate(4, 10, 2)).isEqualTo(5.0);
+        assertThatThrownBy(() -> engine.calculate(4, 10, 0)).isInstanceOf(DivisionByZeroException.class);
+        assertThat(engine.calculateAggregate(32, new double[] { 1, 2, 3 }, 0)).isEqualTo(2.0);
+        assertThatThrownBy(() -> engine.calculateAggregate(33, new double[] { 1 }, 0))
+                .isInstanceOf(CalculatorException.class);
+        assertThat(engine.reduce(1, 1.0, 2.0, 3.0)).isEqualTo(6.0);
+        assertThatThrownBy(() -> engine.reduce(2, 1.0, 2.0)).isInstanceOf(CalculatorException.class);
+        assertThat(engine.stopAudit()).isEqualTo(6);
+        assertThat(engine.getHistory().size()).isEqualTo(3);
+
+        StringBuilder text = new StringBuilder();
+        assertThat(AuditLogDecoder.decode(file, text)).isEqualTo(6);
+        String[] lines = text.toString().split(System.lineSeparator());
+        assertThat(lines[0]).endsWith(" code=4 10.0 2.0 = 5.0");
+        assertThat(lines[1]).endsWith(" code=4 10.0 0.0 ! DIVISION_BY_ZERO");
+        assertThat(lines[2]).endsWith(" code=32 3.0 0.0 = 2.0");
+        assertThat(lines[3]).contains(" code=33 1.0 0.0 ! ");
+        assertThat(lines[4]).endsWith(" code=1 1.0 3.0 = 6.0");
+        assertThat(lines[5]).contains(" code=2 1.0 2.0 ! ");
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not audit logs")
+    void testInvalidFile() throws IOException {
+        Path file = Files.write(directory.resolve("other.bin"), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> AuditLogDecoder.decode(file, new StringBuilder()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not an audit log");
+    }
+}
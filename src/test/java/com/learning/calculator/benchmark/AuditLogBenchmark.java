@@ -0,0 +1,96 @@
+package com.learning.calculator.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.learning.calculator.core.CalculatorEngine;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the throughput of {@link CalculatorEngine#calculate} with every
+ * calculation logged synchronously to the console and the rolling file of
+ * {@code logback.xml}, at DEBUG (the former application level) and at INFO,
+ * with the binary audit log combined with sampled or disabled
+ * human-readable logging.
+ * 
+ * Unlike the other benchmarks, logging goes to the configured appenders.
+ * Redirect the console when running it, or the terminal becomes the
+ * bottleneck being measured.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class AuditLogBenchmark {
+
+    private static final int OPERATIONS = 20_000;
+    private static final int[] CODES = { 1, 2, 3, 4 };
+
+    private AuditLogBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] codes = new int[OPERATIONS];
+        double[] a = new double[OPERATIONS];
+        double[] b = new double[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            codes[i] = CODES[random.nextInt(CODES.length)];
+            a[i] = random.nextDouble(1, 1_000);
+            b[i] = random.nextDouble(1, 1_000);
+        }
+        Path directory = Files.createTempDirectory("audit-benchmark");
+
+        ch.qos.logback.classic.Logger applicationLogger =
+                (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.learning.calculator");
+        applicationLogger.setLevel(Level.DEBUG);
+        double debugNanos = measure(new CalculatorEngine(), codes, a, b);
+        applicationLogger.setLevel(Level.INFO);
+        double loggedNanos = measure(new CalculatorEngine(), codes, a, b);
+
+        CalculatorEngine sampled = new CalculatorEngine();
+        sampled.setLogSampling(1_000);
+        sampled.startAudit(directory.resolve("sampled.audit"));
+        double sampledNanos = measure(sampled, codes, a, b);
+        sampled.stopAudit();
+
+        CalculatorEngine audited = new CalculatorEngine();
+        audited.setLogSampling(0);
+        audited.startAudit(directory.resolve("audited.audit"));
+        double auditedNanos = measure(audited, codes, a, b);
+        audited.stopAudit();
+
+        System.out.printf("%-28s %10.1f ns/op %8s%n", "DEBUG, every call", debugNanos, "1.0x");
+        System.out.printf("%-28s %10.1f ns/op %7.1fx%n", "INFO, every call", loggedNanos,
+                debugNanos / loggedNanos);
+        System.out.printf("%-28s %10.1f ns/op %7.1fx%n", "audit + 1 in 1000 logged", sampledNanos,
+                debugNanos / sampledNanos);
+        System.out.printf("%-28s %10.1f ns/op %7.1fx%n", "audit only", auditedNanos,
+                debugNanos / auditedNanos);
+        try (var files = Files.list(directory)) {
+            files.forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        Files.delete(directory);
+    }
+
+    private static double measure(CalculatorEngine engine, int[] codes, double[] a, double[] b) {
+        return BenchmarkSupport.nanosPerOperation(OPERATIONS, round -> {
+            engine.clearHistory();
+            long checksum = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                checksum += Double.doubleToRawLongBits(engine.calculate(codes[i], a[i], b[i]));
+            }
+            return checksum;
+        });
+    }
+}
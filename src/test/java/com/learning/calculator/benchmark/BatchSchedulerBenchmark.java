@@ -0,0 +1,116 @@
+package com.learning.calculator.benchmark;
+
+import com.learning.calculator.core.BatchReport;
+import com.learning.calculator.core.BatchScheduler;
+import com.learning.calculator.core.CalculationBatch;
+import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.operations.decimal.DecimalMath;
+
+import java.math.MathContext;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Compares the throughput of mixed calculation batches executed inline,
+ * on the common fork-join pool and by the cost-aware {@link BatchScheduler},
+ * in double mode (basic arithmetic mixed with scientific functions) and in
+ * decimal mode at 34 digits.
+ * 
+ * Rows are deduplicated within a batch in every variant. Like a recurring
+ * batch job over shared reference data, two thirds of the rows draw their
+ * operands from a hot set, so the scheduler's result cache also hits across
+ * batches. Offloading needs more than one processor; with a single one the
+ * default scheduler runs everything on the calling thread.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class BatchSchedulerBenchmark {
+
+    private static final int BATCHES = 20;
+    private static final int BATCH_SIZE = 2_000;
+    private static final int HOT_OPERANDS = 512;
+    private static final int[] DOUBLE_CODES = { 1, 1, 2, 2, 3, 3, 4, 8, 5, 6, 11, 12, 13, 14 };
+    private static final int[] DECIMAL_CODES = { 1, 1, 2, 2, 3, 3, 4, 8, 5, 6, 7 };
+
+    private BatchSchedulerBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        BenchmarkSupport.quietLogging();
+        CalculatorEngine engine = new CalculatorEngine(1_000);
+        try (BatchScheduler scheduler = new BatchScheduler(engine)) {
+            System.out.printf("%d processor(s), %d batches of %d rows%n",
+                    Runtime.getRuntime().availableProcessors(), BATCHES, BATCH_SIZE);
+
+            System.out.println("double mode (arithmetic + scientific):");
+            run(engine, scheduler, generate(DOUBLE_CODES, 42));
+
+            engine.setDecimalMode(DecimalMath.context(34));
+            System.out.println("decimal mode (34 digits):");
+            run(engine, scheduler, generate(DECIMAL_CODES, 43));
+            engine.setDecimalMode((MathContext) null);
+
+            System.out.println(scheduler);
+        }
+    }
+
+    private static void run(CalculatorEngine engine, BatchScheduler scheduler, double[][][] workload) {
+        // One discarded pass over all variants, so none is measured on a colder JIT
+        measure(engine, workload, CalculationBatch::execute);
+        measure(engine, workload, CalculationBatch::executeParallel);
+        measure(engine, workload, batch -> batch.execute(scheduler));
+
+        double inline = measure(engine, workload, CalculationBatch::execute);
+        double parallel = measure(engine, workload, CalculationBatch::executeParallel);
+        double scheduled = measure(engine, workload, batch -> batch.execute(scheduler));
+        System.out.printf("  %-10s %10.1f ns/row %8.0f rows/s %7s%n", "inline", inline, 1e9 / inline, "1.00x");
+        System.out.printf("  %-10s %10.1f ns/row %8.0f rows/s %6.2fx%n", "fork-join", parallel,
+                1e9 / parallel, inline / parallel);
+        System.out.printf("  %-10s %10.1f ns/row %8.0f rows/s %6.2fx%n", "scheduler", scheduled,
+                1e9 / scheduled, inline / scheduled);
+    }
+
+    private static double measure(CalculatorEngine engine, double[][][] workload,
+            Function<CalculationBatch, BatchReport> execution) {
+        return BenchmarkSupport.nanosPerOperation(BATCHES * BATCH_SIZE, round -> {
+            long checksum = 0;
+            for (double[][] rows : workload) {
+                CalculationBatch batch = engine.batch();
+                for (double[] row : rows) {
+                    batch.add((int) row[0], row[1], row[2]);
+                }
+                checksum += execution.apply(batch).getUniqueNodes();
+            }
+            return checksum;
+        });
+    }
+
+    /**
+     * Generates batches of rows {code, operand1, operand2}.
+     */
+    private static double[][][] generate(int[] codes, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[][] hot = new double[HOT_OPERANDS][];
+        for (int i = 0; i < HOT_OPERANDS; i++) {
+            hot[i] = new double[] { operand(random), operand(random) };
+        }
+        double[][][] workload = new double[BATCHES][BATCH_SIZE][];
+        for (double[][] rows : workload) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                int code = codes[random.nextInt(codes.length)];
+                double[] operands = random.nextInt(3) > 0
+                        ? hot[random.nextInt(HOT_OPERANDS)]
+                        : new double[] { operand(random), operand(random) };
+                double operand2 = code == 5 ? 1 + Math.floorMod((long) operands[1], 4) : operands[1];
+                rows[i] = new double[] { code, operands[0], operand2 };
+            }
+        }
+        return workload;
+    }
+
+    private static double operand(SplittableRandom random) {
+        return Math.round(random.nextDouble(1, 10_000) * 100) / 100.0;
+    }
+}
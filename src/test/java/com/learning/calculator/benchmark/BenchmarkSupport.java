@@ -0,0 +1,62 @@
+package com.learning.calculator.benchmark;
+
+import ch.qos.logback.classic.Level;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Minimal timing harness shared by the benchmark programs.
+ * Benchmarks are plain main classes under this package; they are not picked
+ * up by Surefire and are run through the {@code benchmark} Maven profile:
+ * 
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dbenchmark=&lt;simple class name&gt;
+ * </pre>
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+final class BenchmarkSupport {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /** Sink that keeps the JIT from eliminating benchmarked work. */
+    static volatile long sink;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Raises the application log level so that per-call DEBUG and INFO logging
+     * does not dominate the measurements.
+     */
+    static void quietLogging() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.learning.calculator"))
+                .setLevel(Level.WARN);
+    }
+
+    /**
+     * Measures the average cost of one operation.
+     * The body receives the round number and returns a checksum of its work.
+     * 
+     * @param operationsPerRound number of operations the body performs per call
+     * @param body               the benchmarked work
+     * @return the best observed time per operation in nanoseconds
+     */
+    static double nanosPerOperation(int operationsPerRound, IntToLongFunction body) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += body.applyAsLong(round);
+        }
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink += body.applyAsLong(round);
+            long elapsed = System.nanoTime() - start;
+            best = Math.min(best, (double) elapsed / operationsPerRound);
+        }
+        return best;
+    }
+}
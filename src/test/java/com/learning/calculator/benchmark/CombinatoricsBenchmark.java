@@ -0,0 +1,106 @@
+package com.learning.calculator.benchmark;
+
+import com.learning.calculator.operations.advanced.CombinatoricsMath;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the exact combinatorial algorithms with the textbook loops they
+ * replace, in milliseconds per call:
+ * - n! by {@link CombinatoricsMath#factorial(int)} and by multiplying 1 to n
+ * left to right
+ * - C(n, n/2) by {@link CombinatoricsMath#binomial(int, int)} and by the
+ * multiplicative formula, one multiplication and one division per step
+ * - F(n) by {@link CombinatoricsMath#fibonacci(int)} and by repeated addition
+ * The textbook loops are skipped for inputs where they would take minutes.
+ * Finally the largest accepted inputs are timed once each. The parallel
+ * speedup depends on the size of the common fork/join pool, which is
+ * printed first.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class CombinatoricsBenchmark {
+
+    private static final int[] FACTORIAL_SIZES = { 1_000, 10_000, 100_000 };
+    private static final int[] BINOMIAL_SIZES = { 1_000, 10_000, 100_000 };
+    private static final int[] FIBONACCI_SIZES = { 10_000, 100_000, 1_000_000 };
+    private static final int MAX_NAIVE_FIBONACCI = 100_000;
+
+    private CombinatoricsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        BenchmarkSupport.quietLogging();
+        System.out.printf("common pool parallelism: %d%n", ForkJoinPool.getCommonPoolParallelism());
+        System.out.printf("%-12s %10s %14s %14s %9s%n", "input", "n", "product tree", "naive", "speedup");
+        for (int n : FACTORIAL_SIZES) {
+            compare("n!", n, CombinatoricsMath::factorial, CombinatoricsBenchmark::naiveFactorial);
+        }
+        for (int n : BINOMIAL_SIZES) {
+            compare("C(n, n/2)", n, m -> CombinatoricsMath.binomial(m, m / 2),
+                    CombinatoricsBenchmark::naiveBinomial);
+        }
+        for (int n : FIBONACCI_SIZES) {
+            compare("F(n)", n, CombinatoricsMath::fibonacci,
+                    n <= MAX_NAIVE_FIBONACCI ? CombinatoricsBenchmark::naiveFibonacci : null);
+        }
+
+        once("n!", CombinatoricsMath.MAX_ARGUMENT, CombinatoricsMath::factorial);
+        once("C(n, n/2)", CombinatoricsMath.MAX_ARGUMENT, m -> CombinatoricsMath.binomial(m, m / 2));
+        once("F(n)", CombinatoricsMath.MAX_FIBONACCI_INDEX, CombinatoricsMath::fibonacci);
+    }
+
+    private static void compare(String input, int n, IntFunction<BigInteger> fast, IntFunction<BigInteger> naive) {
+        BigInteger expected = fast.apply(n);
+        if (naive != null && !naive.apply(n).equals(expected)) {
+            throw new IllegalStateException("Results differ for " + input + " with n = " + n);
+        }
+        double fastMillis = BenchmarkSupport.nanosPerOperation(1, round -> fast.apply(n).bitLength()) / 1e6;
+        if (naive == null) {
+            System.out.printf("%-12s %10d %11.2f ms %14s %9s%n", input, n, fastMillis, "-", "-");
+            return;
+        }
+        double naiveMillis = BenchmarkSupport.nanosPerOperation(1, round -> naive.apply(n).bitLength()) / 1e6;
+        System.out.printf("%-12s %10d %11.2f ms %11.2f ms %8.1fx%n", input, n, fastMillis, naiveMillis,
+                naiveMillis / fastMillis);
+    }
+
+    private static void once(String input, int n, IntFunction<BigInteger> fast) {
+        long start = System.nanoTime();
+        int bits = fast.apply(n).bitLength();
+        System.out.printf("%-12s %10d %11.2f ms  (single run, %d bits)%n", input, n,
+                (System.nanoTime() - start) / 1e6, bits);
+    }
+
+    private static BigInteger naiveFactorial(int n) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    private static BigInteger naiveBinomial(int n) {
+        int k = n / 2;
+        BigInteger result = BigInteger.ONE;
+        for (int i = 1; i <= k; i++) {
+            result = result.multiply(BigInteger.valueOf(n - k + i)).divide(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    private static BigInteger naiveFibonacci(int n) {
+        BigInteger previous = BigInteger.ONE;
+        BigInteger current = BigInteger.ZERO;
+        for (int i = 0; i < n; i++) {
+            BigInteger next = previous.add(current);
+            previous = current;
+            current = next;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,76 @@
+package com.learning.calculator.benchmark;
+
+import com.learning.calculator.operations.Operation;
+import com.learning.calculator.operations.decimal.DecimalMath;
+import com.learning.calculator.operations.decimal.DecimalOperation;
+import com.learning.calculator.operations.factory.OperationFactory;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the decimal operation family with the double operations at 16,
+ * 34 and 100 significant digits over a mix of the eight basic and advanced
+ * operations on operands with up to six decimal places.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class DecimalEngineBenchmark {
+
+    private static final int OPERATIONS = 200_000;
+    private static final int[] CODES = { 1, 2, 3, 4, 5, 6, 7, 8 };
+    private static final int[] PRECISIONS = { 16, 34, 100 };
+
+    private DecimalEngineBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        BenchmarkSupport.quietLogging();
+        OperationFactory factory = OperationFactory.getInstance();
+        SplittableRandom random = new SplittableRandom(42);
+
+        int[] codes = new int[OPERATIONS];
+        double[] a = new double[OPERATIONS];
+        double[] b = new double[OPERATIONS];
+        BigDecimal[] decimalA = new BigDecimal[OPERATIONS];
+        BigDecimal[] decimalB = new BigDecimal[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            codes[i] = CODES[random.nextInt(CODES.length)];
+            a[i] = Math.round(random.nextDouble(1, 1_000_000) * 1e6) / 1e6;
+            b[i] = codes[i] == 5 ? random.nextInt(1, 8) : Math.round(random.nextDouble(1, 1_000) * 1e6) / 1e6;
+            decimalA[i] = DecimalMath.toDecimal(a[i]);
+            decimalB[i] = DecimalMath.toDecimal(b[i]);
+        }
+        Operation[] operations = new Operation[OPERATIONS];
+        DecimalOperation[] decimalOperations = new DecimalOperation[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            operations[i] = factory.createOperation(codes[i]);
+            decimalOperations[i] = factory.createDecimalOperation(codes[i]);
+        }
+
+        double doubleNanos = BenchmarkSupport.nanosPerOperation(OPERATIONS, round -> {
+            long checksum = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                checksum += Double.doubleToRawLongBits(operations[i].execute(a[i], b[i]));
+            }
+            return checksum;
+        });
+        System.out.printf("%-10s %10.1f ns/op %8s%n", "double", doubleNanos, "1.0x");
+
+        for (int precision : PRECISIONS) {
+            MathContext mathContext = DecimalMath.context(precision);
+            double decimalNanos = BenchmarkSupport.nanosPerOperation(OPERATIONS, round -> {
+                long checksum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    checksum += decimalOperations[i].execute(decimalA[i], decimalB[i], mathContext).scale();
+                }
+                return checksum;
+            });
+            System.out.printf("%-10s %10.1f ns/op %7.1fx%n",
+                    precision + " digits", decimalNanos, decimalNanos / doubleNanos);
+        }
+    }
+}
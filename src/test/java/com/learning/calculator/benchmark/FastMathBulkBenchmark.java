@@ -0,0 +1,83 @@
+package com.learning.calculator.benchmark;
+
+import com.learning.calculator.operations.scientific.FastScientificMath;
+
+import java.util.SplittableRandom;
+
+/**
+ * Compares the bulk variants of {@link FastScientificMath} with a loop over
+ * the scalar methods, and both with the JDK's {@link Math#sin(double)} and
+ * {@link Math#log(double)}, on 100k random arguments.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class FastMathBulkBenchmark {
+
+    private static final int VALUES = 100_000;
+
+    /**
+     * Bulk calls made before measuring. One bulk call is one benchmark round,
+     * so the shared warm-up alone leaves the bulk loops running on-stack
+     * replacement code instead of a full compilation.
+     */
+    private static final int BULK_WARMUP_CALLS = 50;
+
+    private FastMathBulkBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        BenchmarkSupport.quietLogging();
+        FastScientificMath fastMath = new FastScientificMath();
+        SplittableRandom random = new SplittableRandom(42);
+        double[] degrees = new double[VALUES];
+        double[] values = new double[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            degrees[i] = random.nextDouble(-720, 720);
+            values[i] = random.nextDouble(1e-3, 1e6);
+        }
+        double[] results = new double[VALUES];
+        for (int call = 0; call < BULK_WARMUP_CALLS; call++) {
+            fastMath.sinDegrees(degrees, results);
+            fastMath.log(values, results);
+        }
+
+        double sinBulk = BenchmarkSupport.nanosPerOperation(VALUES, round -> {
+            fastMath.sinDegrees(degrees, results);
+            return Double.doubleToRawLongBits(results[round]);
+        });
+        double sinScalar = BenchmarkSupport.nanosPerOperation(VALUES, round -> {
+            for (int i = 0; i < VALUES; i++) {
+                results[i] = fastMath.sinDegrees(degrees[i]);
+            }
+            return Double.doubleToRawLongBits(results[round]);
+        });
+        double sinJdk = BenchmarkSupport.nanosPerOperation(VALUES, round -> {
+            for (int i = 0; i < VALUES; i++) {
+                results[i] = Math.sin(Math.toRadians(degrees[i]));
+            }
+            return Double.doubleToRawLongBits(results[round]);
+        });
+        double logBulk = BenchmarkSupport.nanosPerOperation(VALUES, round -> {
+            fastMath.log(values, results);
+            return Double.doubleToRawLongBits(results[round]);
+        });
+        double logScalar = BenchmarkSupport.nanosPerOperation(VALUES, round -> {
+            for (int i = 0; i < VALUES; i++) {
+                results[i] = fastMath.log(values[i]);
+            }
+            return Double.doubleToRawLongBits(results[round]);
+        });
+        double logJdk = BenchmarkSupport.nanosPerOperation(VALUES, round -> {
+            for (int i = 0; i < VALUES; i++) {
+                results[i] = Math.log(values[i]);
+            }
+            return Double.doubleToRawLongBits(results[round]);
+        });
+
+        System.out.printf("%-6s %12s %12s %12s%n", "", "bulk", "scalar loop", "JDK");
+        System.out.printf("%-6s %9.2f ns %9.2f ns %9.2f ns%n", "sin", sinBulk, sinScalar, sinJdk);
+        System.out.printf("%-6s %9.2f ns %9.2f ns %9.2f ns%n", "log", logBulk, logScalar, logJdk);
+    }
+}
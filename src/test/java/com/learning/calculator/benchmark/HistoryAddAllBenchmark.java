@@ -0,0 +1,69 @@
+package com.learning.calculator.benchmark;
+
+import com.learning.calculator.history.CalculationHistory;
+import com.learning.calculator.history.CalculationRecord;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the cost per record of appending batches to a
+ * {@link CalculationHistory} one {@link CalculationHistory#addRecord} call
+ * at a time, with {@link CalculationHistory#addAll(List)}, and with the
+ * column variant, which also creates the records. Batches of 1k to 1M
+ * records go into a history of 10k records, so larger batches also measure
+ * eviction.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class HistoryAddAllBenchmark {
+
+    private static final int MAX_HISTORY_SIZE = 10_000;
+    private static final int[] BATCH_SIZES = { 1_000, 10_000, 100_000, 1_000_000 };
+
+    private HistoryAddAllBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        BenchmarkSupport.quietLogging();
+        System.out.printf("%10s %14s %14s %14s %9s%n", "batch", "addRecord", "addAll", "addAll cols", "speedup");
+        for (int size : BATCH_SIZES) {
+            double[] operands1 = new double[size];
+            double[] operands2 = new double[size];
+            double[] results = new double[size];
+            String[] symbols = new String[size];
+            String[] names = new String[size];
+            CalculationRecord[] records = new CalculationRecord[size];
+            for (int i = 0; i < size; i++) {
+                operands1[i] = i;
+                operands2[i] = 1.0;
+                results[i] = i + 1.0;
+                records[i] = new CalculationRecord(i, 1.0, "+", "Addition", i + 1.0);
+            }
+            Arrays.fill(symbols, "+");
+            Arrays.fill(names, "Addition");
+            List<CalculationRecord> batch = Arrays.asList(records);
+            CalculationHistory history = new CalculationHistory(MAX_HISTORY_SIZE);
+
+            double loopNanos = BenchmarkSupport.nanosPerOperation(size, round -> {
+                for (CalculationRecord record : records) {
+                    history.addRecord(record);
+                }
+                return history.size();
+            });
+            double batchNanos = BenchmarkSupport.nanosPerOperation(size, round -> {
+                history.addAll(batch);
+                return history.size();
+            });
+            double columnNanos = BenchmarkSupport.nanosPerOperation(size, round -> {
+                history.addAll(size, operands1, operands2, symbols, names, results);
+                return history.size();
+            });
+
+            System.out.printf("%10d %11.1f ns %11.1f ns %11.1f ns %8.1fx%n", size, loopNanos, batchNanos,
+                    columnNanos, loopNanos / batchNanos);
+        }
+    }
+}
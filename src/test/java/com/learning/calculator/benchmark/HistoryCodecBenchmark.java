@@ -0,0 +1,138 @@
+package com.learning.calculator.benchmark;
+
+import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.exceptions.CalculatorException;
+import com.learning.calculator.history.CalculationRecord;
+import com.learning.calculator.history.RecordBatchCodec;
+import com.learning.calculator.history.RecordBatchDecoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures the compression ratio and decode throughput of the columnar
+ * history codec on records produced by the engine itself: whole numbers,
+ * two-decimal amounts and chained results over a mix of basic, advanced and
+ * scientific operations. Sizes are compared with the field-by-field layout
+ * of version 1 history segments, which is also the logical record size for
+ * the throughput figures.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class HistoryCodecBenchmark {
+
+    private static final int RECORDS = 100_000;
+    private static final int BATCH_SIZE = 4_096;
+
+    /** Passes over the data per timed round, long enough for the JIT to settle. */
+    private static final int PASSES = 10;
+    private static final int[] CODES = { 1, 1, 1, 2, 2, 3, 3, 4, 4, 5, 6, 8, 11, 14 };
+
+    private HistoryCodecBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        BenchmarkSupport.quietLogging();
+        List<CalculationRecord> records = generateHistory();
+        int count = records.size();
+
+        long logicalBytes = 0;
+        for (CalculationRecord record : records) {
+            logicalBytes += 12 + 3 * 8 + 2 + record.getOperationSymbol().getBytes(StandardCharsets.UTF_8).length
+                    + 2 + record.getOperationName().getBytes(StandardCharsets.UTF_8).length;
+        }
+        int batches = (count + BATCH_SIZE - 1) / BATCH_SIZE;
+        byte[][] encoded = new byte[batches][];
+        long encodedBytes = 0;
+        for (int i = 0; i < batches; i++) {
+            encoded[i] = RecordBatchCodec.encode(
+                    records.subList(i * BATCH_SIZE, Math.min(count, (i + 1) * BATCH_SIZE)));
+            encodedBytes += encoded[i].length;
+        }
+
+        double encodeNanos = BenchmarkSupport.nanosPerOperation(count * PASSES, round -> {
+            long checksum = 0;
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (int i = 0; i < batches; i++) {
+                    checksum += RecordBatchCodec.encode(
+                            records.subList(i * BATCH_SIZE, Math.min(count, (i + 1) * BATCH_SIZE))).length;
+                }
+            }
+            return checksum;
+        });
+        double scanNanos = BenchmarkSupport.nanosPerOperation(count * PASSES, round -> {
+            long checksum = 0;
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (byte[] batch : encoded) {
+                    RecordBatchDecoder decoder = new RecordBatchDecoder(batch);
+                    while (decoder.next()) {
+                        checksum += decoder.getTimestampNanos() + Double.doubleToRawLongBits(decoder.getOperand1())
+                                + Double.doubleToRawLongBits(decoder.getOperand2())
+                                + Double.doubleToRawLongBits(decoder.getResult())
+                                + decoder.getOperationSymbol().length();
+                    }
+                }
+            }
+            return checksum;
+        });
+        double materializeNanos = BenchmarkSupport.nanosPerOperation(count * PASSES, round -> {
+            long checksum = 0;
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (byte[] batch : encoded) {
+                    RecordBatchDecoder decoder = new RecordBatchDecoder(batch);
+                    while (decoder.next()) {
+                        checksum += decoder.toRecord().hashCode();
+                    }
+                }
+            }
+            return checksum;
+        });
+
+        double bytesPerRecord = (double) logicalBytes / count;
+        System.out.printf("Records: %d in batches of %d, logical size %.1f bytes/record%n", count, BATCH_SIZE,
+                bytesPerRecord);
+        System.out.printf("Encoded: %.2f bytes/record, ratio %.1fx%n", (double) encodedBytes / count,
+                (double) logicalBytes / encodedBytes);
+        System.out.printf("Encode:            %6.1f ns/record%n", encodeNanos);
+        System.out.printf("Decode (cursor):   %6.1f ns/record, %6.2f GB/s logical%n", scanNanos,
+                bytesPerRecord / scanNanos);
+        System.out.printf("Decode (records):  %6.1f ns/record, %6.2f GB/s logical%n", materializeNanos,
+                bytesPerRecord / materializeNanos);
+    }
+
+    private static List<CalculationRecord> generateHistory() {
+        CalculatorEngine engine = new CalculatorEngine(RECORDS);
+        SplittableRandom random = new SplittableRandom(42);
+        double last = 0;
+        for (int i = 0; i < RECORDS; i++) {
+            int code = CODES[random.nextInt(CODES.length)];
+            double a = operand(random, last);
+            double b = code == 5 ? random.nextInt(0, 4) : operand(random, last);
+            if (code == 4 && b == 0) {
+                b = 1;
+            }
+            if (code == 6 || code == 14) {
+                a = Math.abs(a) + 1;
+            }
+            try {
+                last = engine.calculate(code, a, b);
+            } catch (CalculatorException e) {
+                last = 0;
+            }
+        }
+        return engine.getHistory().getRecords();
+    }
+
+    private static double operand(SplittableRandom random, double last) {
+        int kind = random.nextInt(10);
+        if (kind < 5) {
+            return random.nextInt(0, 100);
+        } else if (kind < 8) {
+            return random.nextInt(0, 100_000) / 100.0;
+        }
+        return last;
+    }
+}
@@ -0,0 +1,114 @@
+package com.learning.calculator.benchmark;
+
+import com.learning.calculator.operations.rational.Rational;
+
+import java.util.SplittableRandom;
+
+/**
+ * Compares exact {@link Rational} arithmetic with double arithmetic on the
+ * same values:
+ * - independent operations (cycling +, -, *, /) on fractions with terms
+ * below 1000, all on the long fast path
+ * - a running sum of fractions with denominators up to 12, whose terms
+ * only stay in a long because they are reduced from time to time; with
+ * lazy normalization and with an explicit reduction after every step
+ * - the same independent operations on fractions promoted to BigInteger
+ * terms, for scale
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class RationalBenchmark {
+
+    private static final int OPERATIONS = 100_000;
+
+    private RationalBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        BenchmarkSupport.quietLogging();
+        SplittableRandom random = new SplittableRandom(42);
+        Rational[] x = new Rational[OPERATIONS];
+        Rational[] y = new Rational[OPERATIONS];
+        Rational[] terms = new Rational[OPERATIONS];
+        Rational[] bigX = new Rational[OPERATIONS];
+        Rational[] bigY = new Rational[OPERATIONS];
+        double[] dx = new double[OPERATIONS];
+        double[] dy = new double[OPERATIONS];
+        double[] dterms = new double[OPERATIONS];
+        Rational huge = Rational.of(Long.MAX_VALUE).multiply(Rational.of(Long.MAX_VALUE));
+        for (int i = 0; i < OPERATIONS; i++) {
+            x[i] = Rational.of(random.nextLong(1, 1_000), random.nextLong(1, 1_000));
+            y[i] = Rational.of(random.nextLong(1, 1_000), random.nextLong(1, 1_000));
+            terms[i] = Rational.of(random.nextLong(-12, 13), random.nextLong(1, 13));
+            bigX[i] = x[i].add(huge);
+            bigY[i] = y[i].add(huge);
+            dx[i] = x[i].doubleValue();
+            dy[i] = y[i].doubleValue();
+            dterms[i] = terms[i].doubleValue();
+        }
+
+        double doubleNanos = BenchmarkSupport.nanosPerOperation(OPERATIONS, round -> {
+            double checksum = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                checksum += switch (i & 3) {
+                    case 0 -> dx[i] + dy[i];
+                    case 1 -> dx[i] - dy[i];
+                    case 2 -> dx[i] * dy[i];
+                    default -> dx[i] / dy[i];
+                };
+            }
+            return Double.doubleToRawLongBits(checksum);
+        });
+        double rationalNanos = BenchmarkSupport.nanosPerOperation(OPERATIONS, round -> operate(x, y));
+        double bigNanos = BenchmarkSupport.nanosPerOperation(OPERATIONS, round -> operate(bigX, bigY));
+
+        double doubleSumNanos = BenchmarkSupport.nanosPerOperation(OPERATIONS, round -> {
+            double sum = 0;
+            for (double term : dterms) {
+                sum += term;
+            }
+            return Double.doubleToRawLongBits(sum);
+        });
+        double lazySumNanos = BenchmarkSupport.nanosPerOperation(OPERATIONS, round -> {
+            Rational sum = Rational.ZERO;
+            for (Rational term : terms) {
+                sum = sum.add(term);
+            }
+            return sum.hashCode();
+        });
+        double eagerSumNanos = BenchmarkSupport.nanosPerOperation(OPERATIONS, round -> {
+            Rational sum = Rational.ZERO;
+            for (Rational term : terms) {
+                sum = sum.add(term).reduce();
+            }
+            return sum.hashCode();
+        });
+
+        System.out.printf("%-32s %8.1f ns/op %8s%n", "double, mixed ops", doubleNanos, "1.0x");
+        System.out.printf("%-32s %8.1f ns/op %7.1fx%n", "rational long path, mixed ops", rationalNanos,
+                rationalNanos / doubleNanos);
+        System.out.printf("%-32s %8.1f ns/op %7.1fx%n", "rational BigInteger, mixed ops", bigNanos,
+                bigNanos / doubleNanos);
+        System.out.printf("%-32s %8.1f ns/op %8s%n", "double, running sum", doubleSumNanos, "1.0x");
+        System.out.printf("%-32s %8.1f ns/op %7.1fx%n", "rational lazy, running sum", lazySumNanos,
+                lazySumNanos / doubleSumNanos);
+        System.out.printf("%-32s %8.1f ns/op %7.1fx%n", "rational eager, running sum", eagerSumNanos,
+                eagerSumNanos / doubleSumNanos);
+    }
+
+    private static long operate(Rational[] x, Rational[] y) {
+        long checksum = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            Rational result = switch (i & 3) {
+                case 0 -> x[i].add(y[i]);
+                case 1 -> x[i].subtract(y[i]);
+                case 2 -> x[i].multiply(y[i]);
+                default -> x[i].divide(y[i]);
+            };
+            checksum += result.signum();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,78 @@
+package com.learning.calculator.benchmark;
+
+import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.ui.ConsoleUI;
+import com.learning.calculator.ui.ScriptSession;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the number of piped commands per second handled by the
+ * interactive {@link ConsoleUI} loop ({@link java.util.Scanner} input and a
+ * menu redraw per command) with the non-interactive {@link ScriptSession}.
+ * Output goes to a discarding stream in both cases, so terminal rendering
+ * is not included.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+public final class ScriptSessionBenchmark {
+
+    private static final int COMMANDS = 20_000;
+    private static final int[] CODES = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+    private ScriptSessionBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        BenchmarkSupport.quietLogging();
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < COMMANDS; i++) {
+            int code = CODES[random.nextInt(CODES.length)];
+            script.append(code).append('\n').append(random.nextInt(1, 10_000)).append('.')
+                    .append(random.nextInt(100)).append('\n');
+            if (code != 6) {
+                script.append(code == 5 ? random.nextInt(1, 5) : random.nextDouble(1, 100)).append('\n');
+            }
+        }
+        byte[] input = script.append("0\n").toString().getBytes(StandardCharsets.UTF_8);
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8);
+
+        InputStream originalIn = System.in;
+        PrintStream originalOut = System.out;
+        double menuNanos;
+        try {
+            System.setOut(discard);
+            menuNanos = BenchmarkSupport.nanosPerOperation(COMMANDS, round -> {
+                System.setIn(new ByteArrayInputStream(input));
+                CalculatorEngine engine = new CalculatorEngine();
+                new ConsoleUI(engine).start();
+                return engine.getHistory().size();
+            });
+        } finally {
+            System.setIn(originalIn);
+            System.setOut(originalOut);
+        }
+
+        double scriptNanos = BenchmarkSupport.nanosPerOperation(COMMANDS, round -> {
+            try {
+                return new ScriptSession(new CalculatorEngine(), new ByteArrayInputStream(input), discard).run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        System.out.printf("%-16s %12.0f commands/s %8s%n", "ConsoleUI", 1e9 / menuNanos, "1.0x");
+        System.out.printf("%-16s %12.0f commands/s %7.1fx%n", "ScriptSession", 1e9 / scriptNanos,
+                menuNanos / scriptNanos);
+    }
+}
@@ -0,0 +1,148 @@
+package com.learning.calculator.cluster;
+
+import com.learning.calculator.core.CalculatorEngine;
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidOperationException;
+import com.learning.calculator.history.CalculationRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Unit tests for WorkerPool, with worker processes spawned on this machine.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("WorkerPool Tests")
+class WorkerPoolTest {
+
+    private static final int ROWS = 5_000;
+
+    private CalculatorEngine engine;
+    private WorkerPool pool;
+    private int[] codes;
+    private double[] operands1;
+    private double[] operands2;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        engine = new CalculatorEngine(ROWS);
+        pool = WorkerPool.spawn(engine, 2, 256);
+        codes = new int[ROWS];
+        operands1 = new double[ROWS];
+        operands2 = new double[ROWS];
+        int[] available = { 1, 2, 3, 4, 5, 6, 11, 14, 99 };
+        for (int i = 0; i < ROWS; i++) {
+            codes[i] = available[i % available.length];
+            operands1[i] = 1 + i % 97;
+            operands2[i] = i % 5;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("Should match local evaluation and merge history in row order")
+    void testEvaluate() {
+        DistributedResult result = pool.evaluate(codes, operands1, operands2);
+
+        CalculatorEngine local = new CalculatorEngine(1);
+        int failed = 0;
+        for (int i = 0; i < ROWS; i++) {
+            try {
+                assertThat(result.getResult(i)).isEqualTo(local.calculate(codes[i], operands1[i], operands2[i]));
+            } catch (RuntimeException e) {
+                assertThat(result.getFailure(i)).isInstanceOf(e.getClass()).hasMessage(e.getMessage());
+                failed++;
+            }
+        }
+        assertThat(result.getFailure(8)).isInstanceOf(InvalidOperationException.class);
+        assertThat(result.getFailure(30)).isInstanceOf(DivisionByZeroException.class);
+        assertThat(result.getFailedRows()).isEqualTo(failed);
+        assertThat(Arrays.stream(result.getWorkerRows()).sum()).isGreaterThanOrEqualTo(ROWS);
+
+        List<CalculationRecord> history = engine.getHistory().getRecords();
+        assertThat(history).hasSize(ROWS - failed);
+        assertThat(history.get(0).getOperand1()).isEqualTo(operands1[0]);
+        assertThat(history.get(0).getResult()).isEqualTo(result.getResult(0));
+        assertThat(history.get(history.size() - 1).getResult()).isEqualTo(result.getResult(ROWS - 1));
+    }
+
+    @Test
+    @DisplayName("Should hand the chunks of a failed worker to the others")
+    void testWorkerFailure() throws InterruptedException {
+        Process victim = pool.getProcesses().get(0);
+        victim.destroyForcibly().waitFor();
+
+        DistributedResult result = pool.evaluate(codes, operands1, operands2);
+
+        assertThat(result.size()).isEqualTo(ROWS);
+        assertThat(result.getResult(0)).isEqualTo(operands1[0] + operands2[0]);
+        assertThat(pool.getLiveWorkers()).isEqualTo(1);
+        assertThat(pool.evaluate(codes, operands1, operands2).getFailedRows()).isEqualTo(result.getFailedRows());
+    }
+
+    @Test
+    @EnabledOnOs({ OS.LINUX, OS.MAC })
+    @DisplayName("Should close while a worker that stopped responding holds a chunk")
+    void testCloseWithStuckWorker() throws IOException, InterruptedException {
+        Process stuck = pool.getProcesses().get(0);
+        new ProcessBuilder("kill", "-STOP", Long.toString(stuck.pid())).start().waitFor();
+
+        // The stuck worker's chunk is reassigned, but its coordinator thread keeps waiting for the result
+        DistributedResult result = pool.evaluate(codes, operands1, operands2);
+        assertThat(result.size()).isEqualTo(ROWS);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), pool::close);
+        assertThat(stuck.waitFor(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should only accept a hello frame with the pool's token")
+    void testHandshake() throws IOException {
+        String token = WorkerProtocol.newToken();
+        assertThat(token).hasSize(32).isNotEqualTo(WorkerProtocol.newToken());
+
+        ByteArrayOutputStream hello = new ByteArrayOutputStream();
+        WorkerProtocol.writeHello(new DataOutputStream(hello), token);
+        assertThat(WorkerProtocol.readHello(input(hello.toByteArray()), token)).isTrue();
+        assertThat(WorkerProtocol.readHello(input(hello.toByteArray()), WorkerProtocol.newToken())).isFalse();
+
+        ByteArrayOutputStream shutdown = new ByteArrayOutputStream();
+        shutdown.write(WorkerProtocol.SHUTDOWN);
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        WorkerProtocol.writeFrame(new DataOutputStream(frame), shutdown);
+        assertThat(WorkerProtocol.readHello(input(frame.toByteArray()), token)).isFalse();
+        assertThat(WorkerProtocol.readHello(input(new byte[] { 0x7F, 0, 0, 0 }), token)).isFalse();
+        assertThatThrownBy(() -> WorkerProtocol.readHello(input(new byte[] { 0, 0 }), token))
+                .isInstanceOf(EOFException.class);
+        assertThat(pool.getLiveWorkers()).isEqualTo(2);
+    }
+
+    private static DataInputStream input(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+}
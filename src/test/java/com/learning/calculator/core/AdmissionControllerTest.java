@@ -0,0 +1,132 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.exceptions.CalculationRejectedException;
+import com.learning.calculator.exceptions.CalculationRejectedException.Reason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for AdmissionController and its use by CalculatorEngine.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Admission Control Tests")
+class AdmissionControllerTest {
+
+    @Test
+    @DisplayName("Should reject immediately when the limit is reached and the queue is full")
+    void testQueueFullRejection() {
+        AdmissionController controller = new AdmissionController(2, 0, Duration.ofSeconds(1));
+        long first = controller.acquire();
+        long second = controller.acquire();
+
+        assertThatThrownBy(controller::acquire)
+                .isInstanceOf(CalculationRejectedException.class)
+                .extracting(e -> ((CalculationRejectedException) e).getReason())
+                .isEqualTo(Reason.QUEUE_FULL);
+        assertThat(controller.getInFlight()).isEqualTo(2);
+
+        controller.release(first);
+        controller.release(controller.acquire());
+        controller.release(second);
+
+        assertThat(controller.getInFlight()).isZero();
+        assertThat(controller.getAdmittedCount()).isEqualTo(3);
+        assertThat(controller.getRejectedCount()).isEqualTo(1);
+        assertThat(controller.getRejectedCount(Reason.QUEUE_FULL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should admit queued callers on release and time out the rest")
+    void testQueueing() throws Exception {
+        AdmissionController controller = new AdmissionController(1, 1, Duration.ofSeconds(10));
+        long held = controller.acquire();
+
+        CompletableFuture<Long> queued = CompletableFuture.supplyAsync(controller::acquire);
+        while (controller.getQueueLength() == 0) {
+            Thread.onSpinWait();
+        }
+        controller.release(held);
+        controller.release(queued.get(10, TimeUnit.SECONDS));
+
+        AdmissionController shortTimeout = new AdmissionController(1, 1, Duration.ofMillis(50));
+        long blocking = shortTimeout.acquire();
+        long start = System.nanoTime();
+        assertThatThrownBy(shortTimeout::acquire)
+                .isInstanceOf(CalculationRejectedException.class)
+                .extracting(e -> ((CalculationRejectedException) e).getReason())
+                .isEqualTo(Reason.TIMEOUT);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos());
+        shortTimeout.release(blocking);
+
+        assertThat(controller.getAdmittedCount()).isEqualTo(2);
+        assertThat(controller.getRejectedCount()).isZero();
+        assertThat(shortTimeout.getRejectedCount(Reason.TIMEOUT)).isEqualTo(1);
+        assertThat(shortTimeout.getQueueLength()).isZero();
+    }
+
+    @Test
+    @DisplayName("Adaptive limit should grow under stable latency and shrink when latency rises")
+    void testAdaptiveLimit() {
+        AdmissionController controller = AdmissionController.adaptive(10, 2, 100, 0, Duration.ZERO);
+
+        runWindows(controller, 20, 1_000);
+        int grown = controller.getLimit();
+        assertThat(grown).isGreaterThan(10);
+
+        runWindows(controller, 5, 100_000);
+        assertThat(controller.getLimit()).isLessThan(grown);
+        assertThat(controller.getLimit()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Engine should shed calculations over the limit without recording them")
+    void testEngineAdmission() {
+        CalculatorEngine engine = new CalculatorEngine();
+        AdmissionController controller = new AdmissionController(1, 0, Duration.ZERO);
+        engine.setAdmissionController(controller);
+
+        assertThat(engine.calculate(1, 2.0, 3.0)).isEqualTo(5.0);
+        long held = controller.acquire();
+        assertThatThrownBy(() -> engine.calculate(1, 2.0, 3.0))
+                .isInstanceOf(CalculationRejectedException.class);
+        controller.release(held);
+
+        assertThat(engine.getHistory().size()).isEqualTo(1);
+        assertThat(engine.getAdmissionController().getRejectedCount()).isEqualTo(1);
+        assertThat(controller.getInFlight()).isZero();
+
+        engine.setAdmissionController(null);
+        assertThat(engine.calculate(3, 2.0, 3.0)).isEqualTo(6.0);
+    }
+
+    /**
+     * Runs windows of requests that fill the current limit and complete with
+     * the given latency.
+     */
+    private static void runWindows(AdmissionController controller, int windows, long latencyNanos) {
+        for (int w = 0; w < windows; w++) {
+            int samples = Math.max(32, controller.getLimit());
+            int done = 0;
+            while (done < samples) {
+                int batch = Math.min(controller.getLimit(), samples - done);
+                for (int i = 0; i < batch; i++) {
+                    controller.acquire();
+                }
+                for (int i = 0; i < batch; i++) {
+                    controller.release(System.nanoTime() - latencyNanos);
+                }
+                done += batch;
+            }
+        }
+    }
+}
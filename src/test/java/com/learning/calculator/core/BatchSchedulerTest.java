@@ -0,0 +1,119 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidOperationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BatchScheduler and the operation metadata it relies on.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("BatchScheduler Tests")
+class BatchSchedulerTest {
+
+    private CalculatorEngine engine;
+    private BatchScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        engine = new CalculatorEngine(10_000);
+        scheduler = new BatchScheduler(engine, 2, BatchScheduler.DEFAULT_INLINE_COST_LIMIT, 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    @DisplayName("Operations should declare arity and relative cost")
+    void testOperationMetadata() {
+        assertThat(engine.getOperation(1).getArity()).isEqualTo(2);
+        assertThat(engine.getOperation(6).getArity()).isEqualTo(1);
+        assertThat(engine.getOperation(11).getArity()).isEqualTo(1);
+        assertThat(engine.getOperation(14).getArity()).isEqualTo(1);
+        assertThat(engine.getOperation(5).isPure()).isTrue();
+
+        assertThat(scheduler.getCost(1)).isLessThanOrEqualTo(BatchScheduler.DEFAULT_INLINE_COST_LIMIT);
+        assertThat(scheduler.getCost(11)).isGreaterThan(BatchScheduler.DEFAULT_INLINE_COST_LIMIT);
+        engine.setDecimalMode(MathContext.DECIMAL64);
+        int decimalCost = scheduler.getCost(1);
+        engine.setDecimalMode(new MathContext(64));
+        assertThat(decimalCost).isGreaterThan(BatchScheduler.DEFAULT_INLINE_COST_LIMIT);
+        assertThat(scheduler.getCost(1)).isGreaterThan(decimalCost);
+    }
+
+    @Test
+    @DisplayName("Should route cheap work inline and expensive work to the pool with the same results")
+    void testRouting() {
+        CalculationBatch scheduled = engine.batch();
+        CalculationBatch reference = engine.batch();
+        List<CalculationBatch.Row> scheduledRows = new ArrayList<>();
+        List<CalculationBatch.Row> referenceRows = new ArrayList<>();
+        int[] codes = { 1, 2, 3, 4, 5, 6, 11, 12, 13, 14, 99 };
+        int expensive = 0;
+        for (int i = 0; i < 500; i++) {
+            int code = codes[i % codes.length];
+            if (code == 5 || code == 11 || code == 12 || code == 13) {
+                expensive++;
+            }
+            double a = 1 + i;
+            double b = i % 7;
+            scheduledRows.add(scheduled.add(code, a, b));
+            referenceRows.add(reference.add(code, a, b));
+        }
+
+        scheduled.execute(scheduler);
+        reference.execute();
+
+        for (int i = 0; i < scheduledRows.size(); i++) {
+            CalculationBatch.Row row = scheduledRows.get(i);
+            CalculationBatch.Row expected = referenceRows.get(i);
+            if (expected.isFailed()) {
+                assertThat(row.getFailure()).isInstanceOf(expected.getFailure().getClass());
+            } else {
+                assertThat(row.getResult()).isEqualTo(expected.getResult());
+            }
+        }
+        assertThat(scheduledRows.get(codes.length - 1).getFailure()).isInstanceOf(InvalidOperationException.class);
+        assertThat(scheduledRows.get(14).getFailure()).isInstanceOf(DivisionByZeroException.class);
+        assertThat(scheduler.getOffloadedCount()).isEqualTo(expensive);
+        assertThat(scheduler.getInlineCount() + scheduler.getOffloadedCount()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Pure operations should be served from the cache across batches and modes")
+    void testCaching() {
+        CalculationBatch first = engine.batch();
+        CalculationBatch.Row sine = first.add(11, 30.0, 0);
+        first.execute(scheduler);
+        assertThat(scheduler.getCacheMisses()).isEqualTo(1);
+        int recorded = engine.getHistory().size();
+
+        CalculationBatch second = engine.batch();
+        CalculationBatch.Row cachedSine = second.add(11, 30.0, 0);
+        second.execute(scheduler);
+        assertThat(scheduler.getCacheHits()).isEqualTo(1);
+        assertThat(cachedSine.getResult()).isEqualTo(sine.getResult());
+        assertThat(engine.getHistory().size()).isEqualTo(recorded);
+
+        engine.enableFastMath(4096);
+        CalculationBatch fastMath = engine.batch();
+        CalculationBatch.Row fastSine = fastMath.add(11, 30.0, 0);
+        fastMath.execute(scheduler);
+        assertThat(scheduler.getCacheHits()).isEqualTo(1);
+        assertThat(fastSine.getResult()).isEqualTo(engine.getOperation(11).evaluate(30.0, 0));
+    }
+}
@@ -0,0 +1,103 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CalculationBatch.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("CalculationBatch Tests")
+class CalculationBatchTest {
+
+    private CalculatorEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new CalculatorEngine(10_000);
+    }
+
+    @Test
+    @DisplayName("Should evaluate identical rows once and share the result")
+    void testDeduplication() {
+        CalculationBatch batch = engine.batch();
+        List<CalculationBatch.Row> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(batch.add(3, i % 10, 2.0));
+        }
+        CalculationBatch.Row negativeZero = batch.add(4, 1.0, -0.0);
+        CalculationBatch.Row positiveZero = batch.add(4, 1.0, 0.0);
+
+        BatchReport report = batch.execute();
+
+        assertThat(report.getRows()).isEqualTo(102);
+        assertThat(report.getUniqueNodes()).isEqualTo(12);
+        assertThat(report.getDedupeRatio()).isEqualTo(102.0 / 12);
+        assertThat(report.getEstimatedTimeSavedNanos()).isGreaterThanOrEqualTo(0);
+        assertThat(engine.getHistory().size()).isEqualTo(10);
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(rows.get(i).getResult()).isEqualTo((i % 10) * 2.0);
+        }
+        assertThat(negativeZero.isFailed()).isTrue();
+        assertThat(positiveZero.getFailure()).isInstanceOf(DivisionByZeroException.class);
+        assertThat(report.getFailedRows()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should share sub-steps and propagate failures to dependent rows")
+    void testSharedSubSteps() {
+        CalculationBatch batch = engine.batch();
+        CalculationBatch.Row sum = batch.add(1, 3.0, 4.0);
+        CalculationBatch.Row sameSum = batch.add(1, 3.0, 4.0);
+        CalculationBatch.Row square = batch.add(3, sum, sameSum);
+        CalculationBatch.Row halved = batch.add(4, square, 2.0);
+        CalculationBatch.Row failed = batch.add(4, 1.0, batch.add(2, sum, 7.0));
+        CalculationBatch.Row dependent = batch.add(1, failed, 1.0);
+
+        BatchReport report = batch.execute();
+
+        assertThat(batch.getUniqueCount()).isEqualTo(6);
+        assertThat(report.getLevels()).isEqualTo(4);
+        assertThat(square.getResult()).isEqualTo(49.0);
+        assertThat(halved.getResult()).isEqualTo(24.5);
+        assertThat(dependent.getFailure()).isSameAs(failed.getFailure());
+        assertThatThrownBy(dependent::getResult).isInstanceOf(DivisionByZeroException.class);
+        assertThatThrownBy(() -> batch.add(1, 1.0, 1.0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> engine.batch().add(1, sum, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Parallel execution should match sequential execution")
+    void testParallelMatchesSequential() {
+        CalculationBatch sequential = engine.batch();
+        CalculationBatch parallel = engine.batch();
+        List<CalculationBatch.Row> sequentialRows = new ArrayList<>();
+        List<CalculationBatch.Row> parallelRows = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            int code = 1 + i % 6;
+            double a = i % 37;
+            double b = 1 + i % 11;
+            sequentialRows.add(sequential.add(code, sequential.add(1, a, b), b));
+            parallelRows.add(parallel.add(code, parallel.add(1, a, b), b));
+        }
+
+        sequential.execute();
+        BatchReport report = parallel.executeParallel();
+
+        assertThat(report.getUniqueNodes()).isEqualTo(sequential.getUniqueCount());
+        for (int i = 0; i < sequentialRows.size(); i++) {
+            assertThat(parallelRows.get(i).getResult()).isEqualTo(sequentialRows.get(i).getResult());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CalculationProcessor.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("CalculationProcessor Tests")
+class CalculationProcessorTest {
+
+    private CalculatorEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new CalculatorEngine(10_000);
+    }
+
+    @Test
+    @DisplayName("Should publish failures per element and complete the stream")
+    void testFailuresPerElement() {
+        CalculationProcessor processor = engine.processor(4);
+        RangeSource source = new RangeSource(10);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        source.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertThat(subscriber.outcomes).hasSize(10);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.error).isNull();
+        assertThat(subscriber.outcomes.get(0).getFailure()).isInstanceOf(DivisionByZeroException.class);
+        assertThat(subscriber.outcomes.get(6).getResult()).isEqualTo(1.0);
+        assertThat(subscriber.outcomes.get(9).getRequest().getOperand1()).isEqualTo(9.0);
+        assertThat(engine.getHistory().size()).isEqualTo(8);
+        assertThat(source.maxRequest).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should only pull from upstream what the subscriber requested")
+    void testBackpressure() {
+        CalculationProcessor processor = engine.processor(16);
+        RangeSource source = new RangeSource(1_000);
+        RecordingSubscriber subscriber = new RecordingSubscriber(5);
+        processor.subscribe(subscriber);
+        source.subscribe(processor);
+
+        assertThat(subscriber.outcomes).hasSize(5);
+        assertThat(source.emitted).isEqualTo(5);
+
+        subscriber.subscription.request(100);
+        assertThat(subscriber.outcomes).hasSize(105);
+        assertThat(source.emitted).isEqualTo(105);
+        assertThat(source.maxRequest).isLessThanOrEqualTo(32);
+
+        subscriber.subscription.cancel();
+        assertThat(source.cancelled).isTrue();
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should run decimal mode rows as one batch")
+    void testDecimalMode() {
+        engine.setDecimalPrecision(34);
+        CalculationProcessor processor = engine.processor(10);
+        RangeSource source = new RangeSource(10);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        source.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertThat(subscriber.outcomes).hasSize(10);
+        assertThat(subscriber.outcomes.get(7).getFailure()).isInstanceOf(DivisionByZeroException.class);
+        assertThat(subscriber.outcomes.get(9).getResult()).isEqualTo(4.5);
+        assertThat(engine.getHistory().size()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should reject a second subscriber and a non-positive request")
+    void testProtocolErrors() {
+        CalculationProcessor processor = engine.processor(4);
+        RecordingSubscriber first = new RecordingSubscriber(0);
+        RecordingSubscriber second = new RecordingSubscriber(0);
+        processor.subscribe(first);
+        processor.subscribe(second);
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+
+        RangeSource source = new RangeSource(10);
+        source.subscribe(processor);
+        first.subscription.request(0);
+        assertThat(first.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(source.cancelled).isTrue();
+    }
+
+    /**
+     * Synchronous source of division requests i / (i % 7).
+     */
+    private static final class RangeSource implements Flow.Publisher<CalculationRequest> {
+        private final int count;
+        private int emitted;
+        private long maxRequest;
+        private boolean cancelled;
+
+        RangeSource(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super CalculationRequest> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    maxRequest = Math.max(maxRequest, n);
+                    for (long i = 0; i < n && emitted < count && !cancelled; i++) {
+                        int value = emitted++;
+                        subscriber.onNext(new CalculationRequest(4, value, value % 7));
+                    }
+                    if (emitted == count && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<CalculationOutcome> {
+        private final long initialRequest;
+        private final List<CalculationOutcome> outcomes = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(CalculationOutcome item) {
+            outcomes.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
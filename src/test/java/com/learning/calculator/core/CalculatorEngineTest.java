@@ -1,13 +1,21 @@
 package com.learning.calculator.core;
 
 import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidInputException;
 import com.learning.calculator.exceptions.InvalidOperationException;
+import com.learning.calculator.operations.rational.Rational;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.stream.DoubleStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * Unit tests for CalculatorEngine.
@@ -137,4 +145,181 @@ class CalculatorEngineTest {
         double result = engine.calculate(6, 16.0, 0.0); // √16
         assertThat(result).isEqualTo(4.0);
     }
+
+    @Test
+    @DisplayName("Should switch scientific operations to the fast-math tier")
+    void testFastMathMode() {
+        double strict = engine.calculate(11, 30.0, 0.0);
+        assertThat(engine.isFastMathEnabled()).isFalse();
+
+        engine.enableFastMath(4);
+        assertThat(engine.isFastMathEnabled()).isTrue();
+        assertThat(engine.calculate(11, 30.0, 0.0)).isCloseTo(strict, within(1e-15));
+        assertThat(engine.calculate(1, 5.0, 3.0)).isEqualTo(8.0);
+
+        engine.disableFastMath();
+        assertThat(engine.isFastMathEnabled()).isFalse();
+        assertThat(engine.calculate(11, 30.0, 0.0)).isEqualTo(strict);
+    }
+
+    @Test
+    @DisplayName("Should calculate exactly in decimal mode")
+    void testDecimalMode() {
+        assertThat(engine.calculate(1, 0.1, 0.2)).isNotEqualTo(0.3);
+
+        engine.setDecimalPrecision(34);
+        assertThat(engine.isDecimalModeEnabled()).isTrue();
+        assertThat(engine.calculate(1, 0.1, 0.2)).isEqualTo(0.3);
+        assertThat(engine.calculate(11, 30.0, 0.0)).isCloseTo(0.5, within(1e-15));
+        assertThat(engine.calculateDecimal(4, BigDecimal.ONE, BigDecimal.valueOf(3)))
+                .isEqualTo(new BigDecimal("0.3333333333333333333333333333333333"));
+        assertThat(engine.calculateDecimal(8, new BigDecimal("150"), new BigDecimal("20")))
+                .isEqualByComparingTo("30");
+        assertThat(engine.getHistory().size()).isEqualTo(5);
+
+        engine.setDecimalMode(null);
+        assertThat(engine.isDecimalModeEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid input in decimal mode")
+    void testDecimalModeErrors() {
+        engine.setDecimalPrecision(16);
+
+        assertThatThrownBy(() -> engine.calculate(4, 10.0, 0.0))
+                .isInstanceOf(DivisionByZeroException.class);
+        assertThatThrownBy(() -> engine.calculateDecimal(11, BigDecimal.ONE, BigDecimal.ZERO))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> engine.calculate(1, Double.NaN, 1.0))
+                .isInstanceOf(InvalidInputException.class);
+
+        engine.setDecimalPrecision(0);
+        assertThat(engine.calculate(4, 1.0, 4.0)).isEqualTo(0.25);
+        assertThat(engine.calculate(5, 2.0, -1.0)).isEqualTo(0.5);
+        assertThatThrownBy(() -> engine.calculate(4, 1.0, 3.0))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("set a precision");
+        assertThatThrownBy(() -> engine.calculate(5, 3.0, -1.0))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> engine.calculate(6, 2.0, 0.0))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("Should warm up every operation without touching history")
+    void testWarmUp() {
+        WarmUpReport report = engine.warmUp(Duration.ofMillis(200));
+
+        assertThat(engine.isReady()).isTrue();
+        assertThat(report.getColdLatencyNanos()).containsOnlyKeys(1, 2, 3, 4, 5, 6, 7, 8, 11, 12, 13, 14);
+        assertThat(report.getWarmLatencyNanos()).hasSameSizeAs(report.getColdLatencyNanos());
+        assertThat(report.getWarmUpCalls()).isPositive();
+        assertThat(engine.getHistory().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should evaluate a chain and record a single history entry")
+    void testChain() {
+        engine.calculate(1, 2.0, 3.0);
+
+        double result = engine.chainFromLastResult()
+                .then(3, 2.0)
+                .then(1, 6.0)
+                .then(6)
+                .commit();
+
+        assertThat(result).isEqualTo(4.0);
+        assertThat(engine.getHistory().size()).isEqualTo(2);
+        assertThat(engine.getHistory().getRecentRecords(1).get(0).getOperationSymbol())
+                .isEqualTo(CalculationChain.SYMBOL);
+    }
+
+    @Test
+    @DisplayName("Should evaluate long chains and reject failing steps without recording")
+    void testLongChain() {
+        CalculationChain chain = engine.chain(0.0);
+        for (int i = 0; i < 10_000; i++) {
+            chain.then(1, 1.0);
+        }
+        assertThat(chain.commit()).isEqualTo(10_000.0);
+
+        CalculationChain failing = engine.chain(1.0).then(2, 1.0).then(4, 0.0);
+        assertThatThrownBy(failing::commit).isInstanceOf(DivisionByZeroException.class);
+        assertThatThrownBy(() -> engine.chain(1.0).then(999, 1.0))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThat(engine.getHistory().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should apply chain steps incrementally and reject only the failing step")
+    void testApplyChainSteps() {
+        CalculationChain chain = engine.chain(10.0);
+        assertThat(chain.apply(1, 5.0)).isEqualTo(15.0);
+        assertThat(chain.apply(3, 2.0)).isEqualTo(30.0);
+        assertThatThrownBy(() -> chain.apply(4, 0.0)).isInstanceOf(DivisionByZeroException.class);
+        assertThat(chain.size()).isEqualTo(2);
+        assertThat(chain.getCurrentValue()).isEqualTo(30.0);
+
+        chain.then(2, 6.0);
+        assertThat(chain.getCurrentValue()).isEqualTo(24.0);
+        assertThat(chain.apply(4, 4.0)).isEqualTo(6.0);
+        assertThat(chain.commit()).isEqualTo(6.0);
+        assertThat(engine.getHistory().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reduce many operands with one history entry")
+    void testReduce() {
+        assertThat(engine.reduce(1, 1.0, 2.0, 3.0, 4.0)).isEqualTo(10.0);
+        assertThat(engine.reduce(3, DoubleStream.of(2.0, 3.0, 4.0))).isEqualTo(24.0);
+        assertThat(engine.reduce(1, 7.0)).isEqualTo(7.0);
+        assertThat(engine.getHistory().size()).isEqualTo(3);
+        assertThat(engine.getHistory().getRecentRecords(3).get(0).getOperand2()).isEqualTo(4.0);
+        assertThat(engine.getHistory().getRecentRecords(3).get(0).getOperationName()).isEqualTo("Addition");
+
+        int count = TreeReduction.PARALLEL_THRESHOLD * 4 + 3;
+        assertThat(engine.reduce(1, DoubleStream.iterate(1.0, x -> x + 1.0).limit(count)))
+                .isEqualTo((double) count * (count + 1) / 2);
+
+        assertThatThrownBy(() -> engine.reduce(2, 1.0, 2.0, 3.0))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> engine.reduce(1))
+                .isInstanceOf(InvalidInputException.class);
+        assertThat(engine.getHistory().size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should calculate exact rational results and record their double value")
+    void testCalculateRational() {
+        Rational third = engine.calculateRational(4, Rational.ONE, Rational.of(3));
+        Rational one = engine.calculateRational(3, third, Rational.of(3));
+
+        assertThat(one).isEqualTo(Rational.ONE);
+        assertThat(engine.getHistory().getRecentRecords(1).get(0).getResult()).isEqualTo(1.0);
+        assertThatThrownBy(() -> engine.calculateRational(6, Rational.ONE, Rational.ZERO))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("rational mode");
+        assertThatThrownBy(() -> engine.calculateRational(4, Rational.ONE, Rational.ZERO))
+                .isInstanceOf(DivisionByZeroException.class);
+        assertThat(engine.getHistory().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should calculate combinatorial results exactly beyond the double range")
+    void testCalculateExact() {
+        BigInteger factorial = engine.calculateExact(15, 100_000, 0);
+
+        assertThat(factorial.toString()).hasSize(456_574)
+                .startsWith("28242294079603478742934215780245355184774949260912");
+        assertThat(factorial.getLowestSetBit()).isEqualTo(99_994);
+        assertThat(engine.calculate(15, 100_000, 0)).isInfinite();
+        assertThat(engine.calculateExact(16, 52, 5)).isEqualTo(BigInteger.valueOf(2_598_960));
+        assertThat(engine.getHistory().getRecentRecords(1).get(0).getResult()).isEqualTo(2_598_960.0);
+        assertThatThrownBy(() -> engine.calculateExact(4, 1, 2))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("exact integer");
+        assertThatThrownBy(() -> engine.calculateExact(16, 5, 6))
+                .isInstanceOf(InvalidInputException.class);
+        assertThat(engine.getHistory().size()).isEqualTo(3);
+    }
 }
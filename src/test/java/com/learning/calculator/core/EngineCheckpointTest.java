@@ -0,0 +1,98 @@
+package com.learning.calculator.core;
+
+import com.learning.calculator.history.CalculationRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for EngineCheckpoint.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("EngineCheckpoint Tests")
+class EngineCheckpointTest {
+
+    private static final int RECORDS = EngineCheckpoint.BLOCK_RECORDS * 2 + 10;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should restore engine modes and history from a checkpoint")
+    void testRestore() throws Exception {
+        CalculatorEngine engine = new CalculatorEngine(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            engine.calculate(1 + i % 4, i, 1 + i % 9);
+        }
+        engine.setScientificMode(true);
+        engine.enableFastMath(8);
+        engine.setDecimalMode(new MathContext(20, RoundingMode.HALF_UP));
+        Path file = directory.resolve("engine.ckpt");
+
+        assertThat(engine.checkpoint(file).get()).isEqualTo(RECORDS);
+
+        CalculatorEngine restored = new CalculatorEngine(RECORDS - 10);
+        EngineCheckpoint checkpoint = restored.restoreCheckpoint(file);
+        assertThat(checkpoint.getRecordCount()).isEqualTo(RECORDS);
+        assertThat(restored.isScientificModeEnabled()).isTrue();
+        assertThat(restored.getFastMathUlpError()).isEqualTo(8);
+        assertThat(restored.getDecimalMathContext()).isEqualTo(new MathContext(20, RoundingMode.HALF_UP));
+
+        List<CalculationRecord> expected = engine.getHistory().getRecords();
+        assertThat(restored.getHistory().getRecords()).isEqualTo(expected.subList(10, RECORDS));
+
+        restored.setDecimalMode((MathContext) null);
+        restored.calculate(3, 6, 7);
+        List<CalculationRecord> records = restored.getHistory().getRecords();
+        assertThat(records).hasSize(RECORDS - 10);
+        assertThat(records.get(0)).isEqualTo(expected.get(11));
+        assertThat(records.get(records.size() - 1).getResult()).isEqualTo(42.0);
+    }
+
+    @Test
+    @DisplayName("Should validate the header on open and record blocks lazily")
+    void testValidation() throws Exception {
+        CalculatorEngine engine = new CalculatorEngine(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            engine.calculate(1, i, i);
+        }
+        Path file = directory.resolve("engine.ckpt");
+        engine.checkpoint(file).get();
+
+        int secondBlock = EngineCheckpoint.BLOCK_RECORDS;
+        long crcTableSize = 3 * Integer.BYTES;
+        long secondBlockOffset = file.toFile().length() - crcTableSize
+                - (long) (RECORDS - secondBlock) * EngineCheckpoint.RECORD_SIZE;
+        overwrite(file, secondBlockOffset, 0x7F);
+
+        EngineCheckpoint corrupt = EngineCheckpoint.open(file);
+        assertThat(corrupt.getRecord(0).getResult()).isEqualTo(0.0);
+        assertThat(corrupt.getRecord(RECORDS - 1).getResult()).isEqualTo(2.0 * (RECORDS - 1));
+        assertThatThrownBy(() -> corrupt.getRecord(secondBlock + 5)).isInstanceOf(UncheckedIOException.class);
+
+        overwrite(file, 32, 0x7F);
+        assertThatThrownBy(() -> EngineCheckpoint.open(file)).isInstanceOf(IOException.class);
+    }
+
+    private static void overwrite(Path file, long position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { (byte) value }), position);
+        }
+    }
+}
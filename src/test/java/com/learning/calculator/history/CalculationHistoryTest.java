@@ -0,0 +1,258 @@
+package com.learning.calculator.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the in-memory and tiered calculation history.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Calculation History Tests")
+class CalculationHistoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should discard the oldest records without a cold tier")
+    void testBoundedHistory() {
+        CalculationHistory history = new CalculationHistory(3);
+        for (int i = 0; i < 5; i++) {
+            history.addRecord(record(i));
+        }
+
+        assertThat(history.size()).isEqualTo(3);
+        assertThat(operands(history.getRecords())).containsExactly(2.0, 3.0, 4.0);
+        assertThat(operands(history.getRecentRecords(2))).containsExactly(3.0, 4.0);
+    }
+
+    @Test
+    @DisplayName("Should merge spilled and in-memory records in order")
+    void testTieredReads() throws IOException {
+        CalculationHistory history = new CalculationHistory(10, new HistorySegmentStore(tempDir));
+        for (int i = 0; i < 5_000; i++) {
+            history.addRecord(record(i));
+        }
+
+        List<CalculationRecord> all = history.getRecords();
+        assertThat(history.size()).isEqualTo(5_000);
+        assertThat(all).hasSize(5_000);
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(all.get(i).getOperand1()).isEqualTo(i);
+        }
+        assertThat(operands(history.getRecentRecords(12))).startsWith(4_988.0).endsWith(4_999.0).hasSize(12);
+        history.close();
+    }
+
+    @Test
+    @DisplayName("Should read the cold tier up to a marked position")
+    void testColdPosition() throws IOException {
+        HistorySegmentStore store = new HistorySegmentStore(tempDir);
+        for (int i = 0; i < 300; i++) {
+            store.append(record(i));
+        }
+        long position = store.getAppendedCount();
+        for (int i = 300; i < 310; i++) {
+            store.append(record(i));
+        }
+        store.flush();
+        assertThat(store.getRecordCount()).isEqualTo(310);
+
+        try (HistorySegmentStore.Snapshot snapshot = store.snapshot()) {
+            assertThat(operands(snapshot.readRecent(3, position))).containsExactly(297.0, 298.0, 299.0);
+            assertThat(snapshot.readRecent(Long.MAX_VALUE, position)).hasSize(300);
+            assertThat(operands(snapshot.readRecent(2, store.getAppendedCount()))).containsExactly(308.0, 309.0);
+        }
+        store.clear();
+        assertThat(store.getRecordCount()).isZero();
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Should keep the history across sessions with its timestamps")
+    void testReopen() throws IOException {
+        CalculationHistory first = new CalculationHistory(4, new HistorySegmentStore(tempDir));
+        for (int i = 0; i < 10; i++) {
+            first.addRecord(record(i));
+        }
+        List<CalculationRecord> before = first.getRecords();
+        first.close();
+
+        CalculationHistory second = new CalculationHistory(4, new HistorySegmentStore(tempDir));
+        second.addRecord(record(10));
+
+        List<CalculationRecord> after = second.getRecords();
+        assertThat(after).hasSize(11);
+        assertThat(after.subList(0, 10)).isEqualTo(before);
+        second.clear();
+        assertThat(second.isEmpty()).isTrue();
+        second.close();
+    }
+
+    @Test
+    @DisplayName("Should compact small segments and delete the oldest beyond the byte budget")
+    void testCompactionAndRetention() throws IOException {
+        HistorySegmentStore store = new HistorySegmentStore(tempDir, Duration.ofDays(1), 20_000);
+        CalculationHistory history = new CalculationHistory(1, store);
+        for (int i = 0; i < 20_000; i++) {
+            history.addRecord(record(i));
+        }
+        store.flush();
+
+        assertThat(store.getTotalBytes()).isLessThanOrEqualTo(20_000);
+        assertThat(store.getSegmentCount()).isLessThan(20_000 / 256);
+        List<CalculationRecord> records = history.getRecords();
+        assertThat(records.get(records.size() - 1).getOperand1()).isEqualTo(19_999.0);
+        assertThat(records.size()).isEqualTo(history.size()).isLessThan(20_000);
+        history.close();
+    }
+
+    @Test
+    @DisplayName("Should add batches in one step, evicting the overflow")
+    void testAddAll() throws IOException {
+        CalculationHistory bounded = new CalculationHistory(5);
+        bounded.addRecord(record(0));
+        bounded.addAll(List.of(record(1), record(2), record(3)));
+        bounded.addAll(List.of(record(4), record(5), record(6)));
+        assertThat(operands(bounded.getRecords())).containsExactly(2.0, 3.0, 4.0, 5.0, 6.0);
+        bounded.addAll(IntStream.range(7, 20).mapToObj(CalculationHistoryTest::record).toList());
+        assertThat(operands(bounded.getRecords())).containsExactly(15.0, 16.0, 17.0, 18.0, 19.0);
+        assertThatThrownBy(() -> bounded.addAll(Arrays.asList(record(20), null)))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(bounded.size()).isEqualTo(5);
+
+        CalculationHistory tiered = new CalculationHistory(10, new HistorySegmentStore(tempDir));
+        double[] operands = IntStream.range(0, 1_000).asDoubleStream().toArray();
+        String[] symbols = new String[operands.length];
+        String[] names = new String[operands.length];
+        Arrays.fill(symbols, "+");
+        Arrays.fill(names, "Addition");
+        tiered.addRecord(record(-1));
+        tiered.addAll(operands.length, operands, operands, symbols, names, operands);
+        tiered.addAll(List.of(record(1_000)));
+
+        List<CalculationRecord> all = tiered.getRecords();
+        assertThat(all).hasSize(1_002);
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(all.get(i).getOperand1()).isEqualTo(i - 1);
+        }
+        assertThat(all.get(1).getTimestamp()).isEqualTo(all.get(1_000).getTimestamp());
+        tiered.close();
+    }
+
+    @Test
+    @DisplayName("Should size by byte budget and shrink under heap pressure")
+    void testMemoryPressure() throws IOException {
+        CalculationHistory history = CalculationHistory.withByteBudget(
+                100 * CalculationHistory.ESTIMATED_RECORD_BYTES, new HistorySegmentStore(tempDir));
+        assertThat(history.getMaxSize()).isEqualTo(100);
+        for (int i = 0; i < 150; i++) {
+            history.addRecord(record(i));
+        }
+        assertThat(history.getEstimatedBytes()).isEqualTo(100L * CalculationHistory.ESTIMATED_RECORD_BYTES);
+
+        history.setMemoryPressure(true);
+        assertThat(history.getCurrentMaxSize()).isEqualTo(25);
+        assertThat(history.getInMemoryRecords()).hasSize(25);
+        assertThat(history.getPressureEvents()).isEqualTo(1);
+        history.addAll(List.of(record(150), record(151)));
+        assertThat(operands(history.getInMemoryRecords())).startsWith(127.0).endsWith(151.0).hasSize(25);
+
+        history.setMemoryPressure(false);
+        for (int i = 152; i < 200; i++) {
+            history.addRecord(record(i));
+        }
+        assertThat(history.getInMemoryRecords()).hasSize(73);
+        List<CalculationRecord> all = history.getRecords();
+        assertThat(all).hasSize(200);
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(all.get(i).getOperand1()).isEqualTo(i);
+        }
+        history.close();
+    }
+
+    @Test
+    @DisplayName("Should grow the ring with the records")
+    void testRingGrowth() {
+        CalculationHistory budgeted = CalculationHistory.withByteBudget(1L << 40, null);
+        assertThat(budgeted.getMaxSize()).isEqualTo(Integer.MAX_VALUE - 8);
+        for (int i = 0; i < 1_000; i++) {
+            budgeted.addRecord(record(i));
+        }
+        assertThat(budgeted.getEstimatedBytes()).isEqualTo(1_000L * CalculationHistory.ESTIMATED_RECORD_BYTES);
+
+        // Restored slots survive a ring that wrapped before growing
+        CalculationHistory history = new CalculationHistory(1_000);
+        history.setMemoryPressure(true);
+        history.restore(IntStream.range(0, 1_000).mapToObj(CalculationHistoryTest::record).toList());
+        for (int i = 1_000; i < 1_010; i++) {
+            history.addRecord(record(i));
+        }
+        history.setMemoryPressure(false);
+        for (int i = 1_010; i < 1_500; i++) {
+            history.addRecord(record(i));
+        }
+        List<CalculationRecord> all = history.getRecords();
+        assertThat(all).hasSize(740);
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(all.get(i).getOperand1()).isEqualTo(760 + i);
+        }
+        assertThat(history.getEstimatedBytes()).isEqualTo(740L * CalculationHistory.ESTIMATED_RECORD_BYTES);
+    }
+
+    @Test
+    @DisplayName("Should keep failed spills in memory and retry them in order")
+    void testSpillFailure() throws IOException {
+        Path directory = tempDir.resolve("segments");
+        HistorySegmentStore store = new HistorySegmentStore(directory);
+        CalculationHistory history = new CalculationHistory(1, store);
+        // a plain file in place of the directory makes every segment write fail
+        Files.delete(directory);
+        Files.createFile(directory);
+        for (int i = 0; i < 600; i++) {
+            history.addRecord(record(i));
+        }
+        store.flush();
+        assertThat(store.getSegmentCount()).isZero();
+        assertThat(history.size()).isEqualTo(600);
+        assertThat(operands(history.getRecentRecords(2))).containsExactly(598.0, 599.0);
+
+        Files.delete(directory);
+        Files.createDirectory(directory);
+        history.addRecord(record(600));
+        store.flush();
+        assertThat(store.getSegmentCount()).isEqualTo(4);
+        history.close();
+
+        CalculationHistory reopened = new CalculationHistory(1, new HistorySegmentStore(directory));
+        List<CalculationRecord> all = reopened.getRecords();
+        assertThat(all).hasSize(601);
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(all.get(i).getOperand1()).isEqualTo(i);
+        }
+        reopened.close();
+    }
+
+    private static CalculationRecord record(int i) {
+        return new CalculationRecord(i, 1.0, "+", "Addition", i + 1.0);
+    }
+
+    private static List<Double> operands(List<CalculationRecord> records) {
+        return records.stream().map(CalculationRecord::getOperand1).toList();
+    }
+}
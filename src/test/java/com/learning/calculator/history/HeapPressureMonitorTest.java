@@ -0,0 +1,48 @@
+package com.learning.calculator.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the heap pressure monitor.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Heap Pressure Monitor Tests")
+class HeapPressureMonitorTest {
+
+    @Test
+    @DisplayName("Should report the start and end of a pressure event once")
+    void testPressureEvent() {
+        List<Boolean> changes = new CopyOnWriteArrayList<>();
+        CalculationHistory history = new CalculationHistory(8);
+        for (int i = 0; i < 8; i++) {
+            history.addRecord(new CalculationRecord(i, 1.0, "+", "Addition", i + 1.0));
+        }
+        try (HeapPressureMonitor monitor = new HeapPressureMonitor()) {
+            monitor.addListener(changes::add);
+            monitor.addListener(history::setMemoryPressure);
+
+            monitor.startPressure();
+            monitor.startPressure();
+            assertThat(monitor.isUnderPressure()).isTrue();
+            assertThat(history.getInMemoryRecords()).hasSize(2);
+
+            // The test heap is far below the low watermark
+            monitor.checkRelief();
+            assertThat(monitor.isUnderPressure()).isFalse();
+            assertThat(monitor.getPressureEvents()).isEqualTo(1);
+            assertThat(history.getCurrentMaxSize()).isEqualTo(8);
+        }
+        assertThat(changes).containsExactly(true, false);
+        assertThatThrownBy(() -> new HeapPressureMonitor(0.5, 0.9)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,150 @@
+package com.learning.calculator.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the history change feed.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("History Feed Tests")
+class HistoryFeedTest {
+
+    @Test
+    @DisplayName("Should deliver every added record in order")
+    void testDelivery() throws InterruptedException {
+        CalculationHistory history = new CalculationHistory(10);
+        List<Double> received = new CopyOnWriteArrayList<>();
+        List<Long> sequences = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        history.addRecord(record(-1));
+
+        HistoryFeed.Subscription subscription = history.getFeed().subscribe((first, records) -> {
+            sequences.add(first);
+            for (CalculationRecord record : records) {
+                received.add(record.getOperand1());
+            }
+            if (received.size() == 1_000) {
+                done.countDown();
+            }
+        }, HistoryFeed.GapPolicy.SKIP_TO_OLDEST, 64);
+        for (int i = 0; i < 1_000; i++) {
+            history.addRecord(record(i));
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        subscription.close();
+        assertThat(received).hasSize(1_000);
+        for (int i = 0; i < received.size(); i++) {
+            assertThat(received.get(i)).isEqualTo(i);
+        }
+        assertThat(sequences.get(0)).isZero();
+        assertThat(subscription.getMissedCount()).isZero();
+        assertThat(subscription.getSequence()).isEqualTo(1_000);
+        assertThat(subscription.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report a gap to a consumer that fell behind without blocking the history")
+    void testGapDetection() throws InterruptedException {
+        CalculationHistory history = new CalculationHistory(10);
+        HistoryFeed feed = history.getFeed();
+        int total = feed.getCapacity() * 3;
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch caughtUp = new CountDownLatch(1);
+        List<long[]> gaps = new CopyOnWriteArrayList<>();
+        List<Double> received = new CopyOnWriteArrayList<>();
+
+        HistoryFeed.Subscription subscription = feed.subscribe(new HistoryConsumer() {
+            @Override
+            public void onRecords(long firstSequence, List<CalculationRecord> records) {
+                blocked.countDown();
+                awaitQuietly(release);
+                for (CalculationRecord record : records) {
+                    received.add(record.getOperand1());
+                }
+                if (firstSequence + records.size() == total) {
+                    caughtUp.countDown();
+                }
+            }
+
+            @Override
+            public void onGap(long missedFrom, long resumeAt) {
+                gaps.add(new long[] {missedFrom, resumeAt});
+            }
+        }, HistoryFeed.GapPolicy.SKIP_TO_OLDEST, 16);
+
+        history.addRecord(record(0));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < total; i++) {
+            history.addRecord(record(i));
+        }
+        release.countDown();
+
+        assertThat(caughtUp.await(5, TimeUnit.SECONDS)).isTrue();
+        subscription.close();
+        assertThat(gaps).hasSize(1);
+        assertThat(gaps.get(0)[0]).isBetween(1L, 16L);
+        assertThat(gaps.get(0)[1]).isGreaterThanOrEqualTo(total - feed.getCapacity());
+        assertThat(subscription.getMissedCount()).isEqualTo(gaps.get(0)[1] - gaps.get(0)[0]);
+        assertThat(received.get(received.size() - 1)).isEqualTo(total - 1.0);
+    }
+
+    @Test
+    @DisplayName("Should close the subscription on a gap with the cancel policy")
+    void testCancelOnGap() throws InterruptedException {
+        CalculationHistory history = new CalculationHistory(10);
+        HistoryFeed feed = history.getFeed();
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch gap = new CountDownLatch(1);
+
+        HistoryFeed.Subscription subscription = feed.subscribe(new HistoryConsumer() {
+            @Override
+            public void onRecords(long firstSequence, List<CalculationRecord> records) {
+                blocked.countDown();
+                awaitQuietly(release);
+            }
+
+            @Override
+            public void onGap(long missedFrom, long resumeAt) {
+                gap.countDown();
+            }
+        }, HistoryFeed.GapPolicy.CANCEL, 1);
+
+        history.addRecord(record(0));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= feed.getCapacity() * 2; i++) {
+            history.addRecord(record(i));
+        }
+        release.countDown();
+
+        assertThat(gap.await(5, TimeUnit.SECONDS)).isTrue();
+        subscription.close();
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(subscription.getMissedCount()).isPositive();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CalculationRecord record(int i) {
+        return new CalculationRecord(i, 1.0, "+", "Addition", i + 1.0);
+    }
+}
@@ -0,0 +1,95 @@
+package com.learning.calculator.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round-trip tests for the columnar record batch codec.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Record Batch Codec Tests")
+class RecordBatchCodecTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 28, 9, 30);
+
+    @Test
+    @DisplayName("Should round-trip arbitrary doubles and irregular timestamps")
+    void testRoundTripRandom() {
+        SplittableRandom random = new SplittableRandom(7);
+        String[][] operations = { { "+", "Addition" }, { "÷", "Division" }, { "√", "Square Root" },
+                { "⛓", "Chain (3 steps)" } };
+        double[] specials = { Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.MIN_VALUE, Double.MAX_VALUE };
+        List<CalculationRecord> records = new ArrayList<>();
+        LocalDateTime timestamp = START;
+        for (int i = 0; i < 10_000; i++) {
+            timestamp = timestamp.plusNanos(random.nextLong(-1_000_000L, 10_000_000_000L));
+            double a = random.nextInt(4) == 0 ? specials[random.nextInt(specials.length)]
+                    : Double.longBitsToDouble(random.nextLong());
+            double b = random.nextBoolean() ? a : random.nextInt(100);
+            String[] operation = operations[random.nextInt(operations.length)];
+            records.add(new CalculationRecord(a, b, operation[0], operation[1], a + b, timestamp));
+        }
+
+        assertRoundTrip(records);
+    }
+
+    @Test
+    @DisplayName("Should compress regular calculator history well")
+    void testRoundTripRegular() {
+        List<CalculationRecord> records = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            records.add(new CalculationRecord(i, 2.0, "×", "Multiplication", i * 2.0, START.plusSeconds(i)));
+        }
+
+        byte[] encoded = RecordBatchCodec.encode(records);
+
+        assertRoundTrip(records);
+        assertThat(encoded.length).isLessThan(records.size() * 4);
+    }
+
+    @Test
+    @DisplayName("Should handle empty and single-record batches")
+    void testSmallBatches() {
+        assertRoundTrip(List.of());
+        assertRoundTrip(List.of(new CalculationRecord(1.5, 2.5, "+", "Addition", 4.0, START)));
+    }
+
+    @Test
+    @DisplayName("Should reject truncated data")
+    void testCorruptData() {
+        byte[] encoded = RecordBatchCodec.encode(
+                List.of(new CalculationRecord(1.5, 2.5, "+", "Addition", 4.0, START)));
+
+        assertThatThrownBy(() -> new RecordBatchDecoder(Arrays.copyOf(encoded, 20)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertRoundTrip(List<CalculationRecord> records) {
+        byte[] encoded = RecordBatchCodec.encode(records);
+        RecordBatchDecoder decoder = new RecordBatchDecoder(encoded);
+
+        assertThat(decoder.size()).isEqualTo(records.size());
+        for (CalculationRecord expected : records) {
+            assertThat(decoder.next()).isTrue();
+            CalculationRecord actual = decoder.toRecord();
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual.getOperationName()).isEqualTo(expected.getOperationName());
+            assertThat(Double.doubleToRawLongBits(actual.getOperand1()))
+                    .isEqualTo(Double.doubleToRawLongBits(expected.getOperand1()));
+        }
+        assertThat(decoder.next()).isFalse();
+    }
+}
@@ -0,0 +1,120 @@
+package com.learning.calculator.operations.advanced;
+
+import com.learning.calculator.exceptions.InvalidInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the combinatorial operations and their exact arithmetic.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Combinatorics Tests")
+class CombinatoricsMathTest {
+
+    @Test
+    @DisplayName("Should match naive products across the table and product-tree paths")
+    void testExactResults() {
+        BigInteger factorial = BigInteger.ONE;
+        for (int n = 0; n <= 2_000; n++) {
+            factorial = n == 0 ? factorial : factorial.multiply(BigInteger.valueOf(n));
+            assertThat(CombinatoricsMath.factorial(n)).isEqualTo(factorial);
+        }
+
+        BigInteger[] row = { BigInteger.ONE };
+        for (int n = 1; n <= 300; n++) {
+            BigInteger[] next = new BigInteger[n + 1];
+            next[0] = BigInteger.ONE;
+            next[n] = BigInteger.ONE;
+            for (int k = 1; k < n; k++) {
+                next[k] = row[k - 1].add(row[k]);
+            }
+            row = next;
+            for (int k = 0; k <= n; k++) {
+                assertThat(CombinatoricsMath.binomial(n, k)).isEqualTo(row[k]);
+            }
+        }
+        assertThat(CombinatoricsMath.binomial(20_000, 7_919)).isEqualTo(CombinatoricsMath.factorial(20_000)
+                .divide(CombinatoricsMath.factorial(7_919).multiply(CombinatoricsMath.factorial(12_081))));
+
+        assertThat(CombinatoricsMath.permutations(10, 3)).isEqualTo(BigInteger.valueOf(720));
+        assertThat(CombinatoricsMath.permutations(5_000, 0)).isEqualTo(BigInteger.ONE);
+        assertThat(CombinatoricsMath.permutations(5_000, 4_999)).isEqualTo(CombinatoricsMath.factorial(5_000));
+        assertThat(CombinatoricsMath.permutations(5_000, 1_234))
+                .isEqualTo(CombinatoricsMath.factorial(5_000).divide(CombinatoricsMath.factorial(3_766)));
+
+        BigInteger previous = BigInteger.ONE;
+        BigInteger fibonacci = BigInteger.ZERO;
+        for (int n = 0; n <= 5_000; n++) {
+            assertThat(CombinatoricsMath.fibonacci(n)).isEqualTo(fibonacci);
+            BigInteger next = previous.add(fibonacci);
+            previous = fibonacci;
+            fibonacci = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should compute the same products and squares in parallel")
+    void testParallelProducts() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int count = 5 * ProductTree.PARALLEL_FACTORS + 7;
+            assertThat(ProductTree.product(pool, i -> 1_000_003L + 2L * i, 0, count))
+                    .isEqualTo(naiveProduct(count));
+
+            Random random = new Random(42);
+            BigInteger a = new BigInteger(3 * ProductTree.PARALLEL_MULTIPLY_BITS, random);
+            BigInteger b = new BigInteger(ProductTree.PARALLEL_MULTIPLY_BITS + 5, random).negate();
+            assertThat(ProductTree.multiply(pool, a, b)).isEqualTo(a.multiply(b));
+            assertThat(ProductTree.multiply(pool, a, a)).isEqualTo(a.multiply(a));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should round to doubles and reject invalid arguments")
+    void testDoubleResults() {
+        Factorial factorial = new Factorial();
+        BinomialCoefficient binomial = new BinomialCoefficient();
+        Permutations permutations = new Permutations();
+        Fibonacci fibonacci = new Fibonacci();
+
+        assertThat(factorial.execute(5, 0)).isEqualTo(120.0);
+        assertThat(factorial.execute(170, 0)).isEqualTo(CombinatoricsMath.factorial(170).doubleValue()).isFinite();
+        assertThat(factorial.execute(171, 0)).isInfinite();
+        assertThat(binomial.execute(1_000, 500)).isEqualTo(CombinatoricsMath.binomial(1_000, 500).doubleValue());
+        assertThat(binomial.execute(2_000, 1_000)).isInfinite();
+        assertThat(binomial.execute(1_000_000, 2)).isEqualTo(499_999_500_000.0);
+        assertThat(permutations.execute(100, 50)).isEqualTo(CombinatoricsMath.permutations(100, 50).doubleValue());
+        assertThat(permutations.execute(1_000, 171)).isInfinite();
+        assertThat(fibonacci.execute(1_476, 0)).isFinite();
+        assertThat(fibonacci.execute(1_477, 0)).isInfinite();
+        assertThat(fibonacci.executeExact(100, 0)).isEqualTo(new BigInteger("354224848179261915075"));
+
+        assertThatThrownBy(() -> factorial.execute(2.5, 0)).isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> factorial.execute(-1, 0)).isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> binomial.execute(5, 6)).isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> permutations.execute(Double.NaN, 1)).isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> CombinatoricsMath.factorial(CombinatoricsMath.MAX_ARGUMENT + 1))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("between 0 and");
+    }
+
+    private static BigInteger naiveProduct(int count) {
+        BigInteger product = BigInteger.ONE;
+        for (int i = 0; i < count; i++) {
+            product = product.multiply(BigInteger.valueOf(1_000_003L + 2L * i));
+        }
+        return product;
+    }
+}
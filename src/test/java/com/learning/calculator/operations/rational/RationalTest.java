@@ -0,0 +1,94 @@
+package com.learning.calculator.operations.rational;
+
+import com.learning.calculator.exceptions.DivisionByZeroException;
+import com.learning.calculator.exceptions.InvalidInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for exact rational arithmetic.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Rational Tests")
+class RationalTest {
+
+    @Test
+    @DisplayName("Should calculate exact fractions where doubles round")
+    void testExactResults() {
+        assertThat(Rational.valueOf(0.1).add(Rational.valueOf(0.2))).isEqualTo(Rational.of(3, 10));
+        assertThat(Rational.of(1).divide(Rational.of(3)).multiply(Rational.of(3))).isEqualTo(Rational.ONE);
+        assertThat(Rational.of(1, 3).add(Rational.of(1, 6)).toString()).isEqualTo("1/2");
+        assertThat(Rational.parse("-6/-8")).isEqualTo(Rational.of(3, 4));
+        assertThat(Rational.parse("1.25").toString()).isEqualTo("5/4");
+        assertThat(Rational.parse("2e3").toString()).isEqualTo("2000");
+        assertThat(Rational.of(-7, 2).remainder(Rational.of(1, 1))).isEqualTo(Rational.of(-1, 2));
+        assertThat(Rational.of(2, 3).pow(-3)).isEqualTo(Rational.of(27, 8));
+        assertThat(Rational.of(1, 3).doubleValue()).isEqualTo(1.0 / 3);
+        assertThat(new RationalPercentage().execute(Rational.of(200), Rational.of(1, 3)))
+                .isEqualTo(Rational.of(2, 3));
+
+        Rational minimum = Rational.of(Long.MIN_VALUE, 1);
+        assertThat(minimum.isLongValued()).isFalse();
+        assertThat(minimum.negate().add(Rational.of(Long.MIN_VALUE)).signum()).isZero();
+        assertThat(Rational.of(Long.MAX_VALUE, 3).multiply(Rational.of(3, Long.MAX_VALUE))).isEqualTo(Rational.ONE);
+
+        assertThatThrownBy(() -> Rational.of(1, 0)).isInstanceOf(DivisionByZeroException.class);
+        assertThatThrownBy(() -> new RationalDivision().execute(Rational.ONE, Rational.ZERO))
+                .isInstanceOf(DivisionByZeroException.class);
+        assertThatThrownBy(() -> new RationalPower().execute(Rational.of(2), Rational.of(1, 2)))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> Rational.parse("1/x")).isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("Should match BigInteger arithmetic on the long and promoted paths")
+    void testAgainstBigInteger() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 20_000; i++) {
+            long bound = i % 2 == 0 ? 1_000 : Long.MAX_VALUE;
+            long a = random.nextLong(-bound, bound);
+            long b = random.nextLong(1, bound);
+            long c = random.nextLong(-bound, bound);
+            long d = random.nextLong(1, bound);
+            Rational x = Rational.of(a, b);
+            Rational y = Rational.of(c, d);
+            BigInteger bigA = BigInteger.valueOf(a);
+            BigInteger bigB = BigInteger.valueOf(b);
+            BigInteger bigC = BigInteger.valueOf(c);
+            BigInteger bigD = BigInteger.valueOf(d);
+
+            assertThat(Rational.gcd(Math.abs(a), b)).isEqualTo(bigA.gcd(bigB).longValueExact());
+            assertTerms(x.add(y), bigA.multiply(bigD).add(bigC.multiply(bigB)), bigB.multiply(bigD));
+            assertTerms(x.subtract(y), bigA.multiply(bigD).subtract(bigC.multiply(bigB)), bigB.multiply(bigD));
+            assertTerms(x.multiply(y), bigA.multiply(bigC), bigB.multiply(bigD));
+            if (c != 0) {
+                assertTerms(x.divide(y), bigA.multiply(bigD), bigB.multiply(bigC));
+                assertTerms(x.remainder(y), bigA.multiply(bigD).remainder(bigC.multiply(bigB)),
+                        bigB.multiply(bigD));
+            }
+            assertThat(Integer.signum(x.compareTo(y)))
+                    .isEqualTo(bigA.multiply(bigD).compareTo(bigC.multiply(bigB)));
+        }
+    }
+
+    private static void assertTerms(Rational actual, BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        BigInteger gcd = numerator.gcd(denominator);
+        assertThat(actual.getNumerator()).isEqualTo(numerator.divide(gcd));
+        assertThat(actual.getDenominator()).isEqualTo(denominator.divide(gcd));
+        assertThat(actual).isEqualTo(Rational.of(numerator, denominator));
+        assertThat(actual.hashCode()).isEqualTo(Rational.of(numerator, denominator).hashCode());
+    }
+}
@@ -0,0 +1,242 @@
+package com.learning.calculator.operations.scientific;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Differential tests for the fast-math tier.
+ * Every approximation is checked against StrictMath over the full input
+ * domain: dense sweeps of the common range, random bit patterns across all
+ * exponents and the special values. The tolerance is the configured ULP
+ * budget plus one ULP for the error of the StrictMath reference itself.
+ *
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Fast-Math Tier Tests")
+class FastScientificMathTest {
+
+    private static final int RANDOM_SAMPLES = 200_000;
+    private static final long SEED = 0x5EEDL;
+
+    @ParameterizedTest(name = "sin within {0} ULP")
+    @ValueSource(ints = { 2, 4, 64, 4096 })
+    @DisplayName("Sine should stay within the ULP budget")
+    void testSineAccuracy(int maxUlp) {
+        FastScientificMath fastMath = new FastScientificMath(maxUlp);
+        assertAngleDomain(fastMath::sinDegrees, FastScientificMathTest::referenceSin, maxUlp + 1);
+    }
+
+    @ParameterizedTest(name = "cos within {0} ULP")
+    @ValueSource(ints = { 2, 4, 64, 4096 })
+    @DisplayName("Cosine should stay within the ULP budget")
+    void testCosineAccuracy(int maxUlp) {
+        FastScientificMath fastMath = new FastScientificMath(maxUlp);
+        assertAngleDomain(fastMath::cosDegrees, FastScientificMathTest::referenceCos, maxUlp + 1);
+    }
+
+    @ParameterizedTest(name = "tan within 2 * {0} + 1 ULP")
+    @ValueSource(ints = { 2, 4, 64, 4096 })
+    @DisplayName("Tangent should stay within twice the ULP budget")
+    void testTangentAccuracy(int maxUlp) {
+        FastScientificMath fastMath = new FastScientificMath(maxUlp);
+        assertAngleDomain(fastMath::tanDegrees, FastScientificMathTest::referenceTan, 2 * maxUlp + 2);
+    }
+
+    @ParameterizedTest(name = "ln within {0} ULP")
+    @ValueSource(ints = { 2, 4, 64, 4096 })
+    @DisplayName("Natural logarithm should stay within the ULP budget")
+    void testLogAccuracy(int maxUlp) {
+        FastScientificMath fastMath = new FastScientificMath(maxUlp);
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (double x = 0.001; x < 10.0; x += 0.000977) {
+            assertWithinUlps(fastMath.log(x), StrictMath.log(x), maxUlp + 1, x);
+        }
+        for (int i = 0; i < RANDOM_SAMPLES; i++) {
+            double x = Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE);
+            if (Double.isFinite(x) && x > 0) {
+                assertWithinUlps(fastMath.log(x), StrictMath.log(x), maxUlp + 1, x);
+            }
+        }
+        assertWithinUlps(fastMath.log(Double.MIN_VALUE), StrictMath.log(Double.MIN_VALUE), maxUlp + 1,
+                Double.MIN_VALUE);
+        assertWithinUlps(fastMath.log(Double.MAX_VALUE), StrictMath.log(Double.MAX_VALUE), maxUlp + 1,
+                Double.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should return exact values at multiples of 90 degrees")
+    void testExactQuadrantValues() {
+        FastScientificMath fastMath = new FastScientificMath();
+
+        assertThat(fastMath.sinDegrees(90.0)).isEqualTo(1.0);
+        assertThat(fastMath.sinDegrees(180.0)).isEqualTo(0.0);
+        assertThat(fastMath.sinDegrees(-90.0)).isEqualTo(-1.0);
+        assertThat(fastMath.cosDegrees(0.0)).isEqualTo(1.0);
+        assertThat(fastMath.cosDegrees(180.0)).isEqualTo(-1.0);
+        assertThat(fastMath.cosDegrees(90.0)).isEqualTo(0.0);
+        assertThat(fastMath.log(1.0)).isEqualTo(0.0);
+        assertThat(fastMath.tanDegrees(90.0)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(fastMath.tanDegrees(-90.0)).isEqualTo(Double.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    @DisplayName("Should follow StrictMath for special values")
+    void testSpecialValues() {
+        FastScientificMath fastMath = new FastScientificMath();
+
+        assertThat(fastMath.sinDegrees(Double.NaN)).isNaN();
+        assertThat(fastMath.sinDegrees(Double.POSITIVE_INFINITY)).isNaN();
+        assertThat(fastMath.cosDegrees(Double.NEGATIVE_INFINITY)).isNaN();
+        assertThat(fastMath.tanDegrees(Double.NaN)).isNaN();
+        assertThat(fastMath.log(Double.NaN)).isNaN();
+        assertThat(fastMath.log(-1.0)).isNaN();
+        assertThat(fastMath.log(0.0)).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(fastMath.log(Double.POSITIVE_INFINITY)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    @DisplayName("Bulk variants should match the scalar kernels")
+    void testBulkMatchesScalar() {
+        FastScientificMath fastMath = new FastScientificMath();
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[] angles = new double[1_000];
+        double[] values = new double[1_000];
+        for (int i = 0; i < angles.length; i++) {
+            angles[i] = random.nextDouble(-1e6, 1e6);
+            values[i] = random.nextDouble(1e-300, 1e300);
+        }
+        double[] results = new double[1_000];
+
+        fastMath.sinDegrees(angles, results);
+        for (int i = 0; i < angles.length; i++) {
+            assertThat(results[i]).isEqualTo(fastMath.sinDegrees(angles[i]));
+        }
+        fastMath.cosDegrees(angles, results);
+        for (int i = 0; i < angles.length; i++) {
+            assertThat(results[i]).isEqualTo(fastMath.cosDegrees(angles[i]));
+        }
+        fastMath.tanDegrees(angles, results);
+        for (int i = 0; i < angles.length; i++) {
+            assertThat(results[i]).isEqualTo(fastMath.tanDegrees(angles[i]));
+        }
+        fastMath.log(values, results);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(results[i]).isEqualTo(fastMath.log(values[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a budget below the minimum and short result arrays")
+    void testInvalidArguments() {
+        assertThatThrownBy(() -> new FastScientificMath(1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FastScientificMath().sinDegrees(new double[4], new double[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Operations should delegate to the fast-math tier when configured")
+    void testOperationsUseFastMath() {
+        FastScientificMath fastMath = new FastScientificMath();
+
+        assertThat(new Sine(fastMath).execute(30.0, 0)).isEqualTo(fastMath.sinDegrees(30.0));
+        assertThat(new Cosine(fastMath).execute(60.0, 0)).isEqualTo(fastMath.cosDegrees(60.0));
+        assertThat(new Tangent(fastMath).execute(45.0, 0)).isEqualTo(fastMath.tanDegrees(45.0));
+        assertThat(new NaturalLog(fastMath).execute(10.0, 0)).isEqualTo(fastMath.log(10.0));
+        assertThat(new Sine().isFastMath()).isFalse();
+    }
+
+    /**
+     * Sweeps the common angle range densely and the full double range with
+     * random bit patterns.
+     */
+    private static void assertAngleDomain(DoubleUnaryOperator fast, DoubleUnaryOperator reference,
+            double toleranceUlps) {
+        for (double x = -720.0; x <= 720.0; x += 1.0 / 64) {
+            assertWithinUlps(fast.applyAsDouble(x), reference.applyAsDouble(x), toleranceUlps, x);
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < RANDOM_SAMPLES; i++) {
+            double x = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(x)) {
+                assertWithinUlps(fast.applyAsDouble(x), reference.applyAsDouble(x), toleranceUlps, x);
+            }
+        }
+    }
+
+    private static void assertWithinUlps(double actual, double expected, double toleranceUlps, double input) {
+        if (expected == 0.0 || Double.isInfinite(expected)) {
+            assertThat(actual == expected).as("input %s (expected %s, actual %s)", input, expected, actual)
+                    .isTrue();
+            return;
+        }
+        double ulps = Math.abs(actual - expected) / Math.ulp(expected);
+        assertThat(ulps).as("error in ULPs for input %s (expected %s, actual %s)", input, expected, actual)
+                .isLessThanOrEqualTo(toleranceUlps);
+    }
+
+    /*
+     * StrictMath.sin(Math.toRadians(x)) is not a usable reference for large
+     * or quadrant-aligned angles because toRadians rounds the argument first.
+     * The references below apply the exact degree reduction and evaluate
+     * StrictMath on the reduced angle, so the comparison isolates the
+     * approximation error of the fast tier.
+     */
+
+    private static double referenceSin(double degrees) {
+        double reduced = degrees % 360.0;
+        double quadrant = Math.rint(reduced / 90.0);
+        double r = Math.toRadians(reduced - quadrant * 90.0);
+        switch ((int) quadrant & 3) {
+            case 0:
+                return StrictMath.sin(r);
+            case 1:
+                return StrictMath.cos(r);
+            case 2:
+                return -StrictMath.sin(r);
+            default:
+                return -StrictMath.cos(r);
+        }
+    }
+
+    private static double referenceCos(double degrees) {
+        double reduced = degrees % 360.0;
+        double quadrant = Math.rint(reduced / 90.0);
+        double r = Math.toRadians(reduced - quadrant * 90.0);
+        switch ((int) quadrant & 3) {
+            case 0:
+                return StrictMath.cos(r);
+            case 1:
+                return -StrictMath.sin(r);
+            case 2:
+                return -StrictMath.cos(r);
+            default:
+                return StrictMath.sin(r);
+        }
+    }
+
+    private static double referenceTan(double degrees) {
+        double reduced = degrees % 360.0;
+        double quadrant = Math.rint(reduced / 90.0);
+        double r = Math.toRadians(reduced - quadrant * 90.0);
+        if (((int) quadrant & 1) == 0) {
+            return StrictMath.tan(r);
+        }
+        if (r == 0) {
+            // sin / cos at the pole: cos is +0.0, so the sign follows the sine
+            return ((int) quadrant & 3) == 1 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return -1.0 / StrictMath.tan(r);
+    }
+}
@@ -0,0 +1,63 @@
+package com.learning.calculator.operations.statistics;
+
+import com.learning.calculator.exceptions.InvalidInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the Percentile aggregate.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Percentile Aggregate Tests")
+class PercentileTest {
+
+    private final Percentile percentile = new Percentile();
+
+    @Test
+    @DisplayName("Should interpolate between the nearest ranks")
+    void testInterpolation() {
+        double[] values = {15, 20, 35, 40, 50};
+
+        assertThat(percentile.aggregate(values, 0)).isEqualTo(15.0);
+        assertThat(percentile.aggregate(values, 50)).isEqualTo(35.0);
+        assertThat(percentile.aggregate(values, 40)).isEqualTo(29.0);
+        assertThat(percentile.aggregate(values, 100)).isEqualTo(50.0);
+        assertThat(values).containsExactly(15, 20, 35, 40, 50);
+        assertThatThrownBy(() -> percentile.aggregate(values, 101))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> percentile.aggregate(new double[0], 50))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("Should match the ranks of the sorted dataset")
+    void testAgainstSorting() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int n : new int[] {1, 2, 3, 10, 1_001, 50_000}) {
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                // Many duplicates exercise the partitioning
+                values[i] = random.nextInt(n / 2 + 1);
+            }
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            for (double p : new double[] {0, 1, 25, 50, 90, 99.9, 100}) {
+                double rank = (n - 1) * p / 100;
+                int lower = (int) rank;
+                double expected = lower + 1 < n
+                        ? sorted[lower] + (rank - lower) * (sorted[lower + 1] - sorted[lower])
+                        : sorted[lower];
+                assertThat(percentile.aggregate(values, p)).as("n=%d p=%s", n, p).isEqualTo(expected);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.learning.calculator.operations.statistics;
+
+import com.learning.calculator.exceptions.InvalidInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for the single-pass, mergeable dataset summary.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Statistics Accumulator Tests")
+class StatisticsAccumulatorTest {
+
+    @Test
+    @DisplayName("Should summarize a small dataset")
+    void testSmallDataset() {
+        StatisticsAccumulator statistics = StatisticsAccumulator.of(new double[] {2, 4, 4, 4, 5, 5, 7, 9});
+
+        assertThat(statistics.getCount()).isEqualTo(8);
+        assertThat(statistics.getSum()).isEqualTo(40.0);
+        assertThat(statistics.getMean()).isEqualTo(5.0);
+        assertThat(statistics.getVariance()).isEqualTo(32.0 / 7);
+        assertThat(statistics.getStandardDeviation()).isEqualTo(Math.sqrt(32.0 / 7));
+        assertThat(statistics.getMin()).isEqualTo(2.0);
+        assertThat(statistics.getMax()).isEqualTo(9.0);
+        assertThatThrownBy(() -> StatisticsAccumulator.of(new double[0]).getMean())
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("empty");
+        assertThatThrownBy(() -> new StatisticsAccumulator().add(1).getVariance())
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("Should reduce in parallel to the exact sum and a stable variance")
+    void testParallelReduction() {
+        SplittableRandom random = new SplittableRandom(3);
+        double[] values = new double[1_000_003];
+        BigDecimal exactSum = BigDecimal.ZERO;
+        double naiveSum = 0;
+        for (int i = 0; i < values.length; i++) {
+            // Large offset and mixed magnitudes defeat naive summation and textbook variance
+            values[i] = 1e9 + random.nextDouble() * (i % 2 == 0 ? 1e-3 : 1e3);
+            exactSum = exactSum.add(new BigDecimal(values[i]));
+            naiveSum += values[i];
+        }
+        StatisticsAccumulator sequential = new StatisticsAccumulator().addAll(values, 0, values.length);
+
+        StatisticsAccumulator parallel = StatisticsAccumulator.of(values);
+
+        assertThat(values.length).isGreaterThan(StatisticsAccumulator.PARALLEL_THRESHOLD);
+        assertThat(parallel.getCount()).isEqualTo(values.length);
+        assertThat(parallel.getSum()).isEqualTo(exactSum.doubleValue());
+        assertThat(Math.abs(naiveSum - exactSum.doubleValue())).isGreaterThan(0.0);
+        assertThat(parallel.getVariance()).isCloseTo(sequential.getVariance(), within(1e-3));
+        // Uniform(0, 1000) on half the values, almost constant on the other half
+        assertThat(parallel.getVariance()).isCloseTo(104_167.0, within(1_000.0));
+        assertThat(parallel.getMin()).isEqualTo(sequential.getMin());
+        assertThat(parallel.getMax()).isEqualTo(sequential.getMax());
+    }
+}
@@ -0,0 +1,122 @@
+package com.learning.calculator.ui;
+
+import com.learning.calculator.core.CalculatorEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the non-interactive script session and its tokenizer.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Script Session Tests")
+class ScriptSessionTest {
+
+    @Test
+    @DisplayName("Should run piped menu commands and print only results")
+    void testScript() throws IOException {
+        CalculatorEngine engine = new CalculatorEngine();
+        String script = "1 2 3\n"
+                + "# comment line\n"
+                + "4 10 0   # division by zero\n"
+                + "6 16\n"
+                + "22 1 1 2 3 4 0\n"
+                + "99\n"
+                + "abc\n"
+                + "21\n"
+                + "2 -1.5e1 2.5\n"
+                + "0\n"
+                + "1 1 1\n";
+
+        String output = run(engine, script);
+
+        assertThat(output.split("\n")).containsExactly(
+                "5.0",
+                "error: Cannot divide 10.00 by zero",
+                "4.0",
+                "12.0",
+                "error: Invalid operation code: 99",
+                "error: Invalid input: abc",
+                "-17.5");
+        assertThat(engine.getHistory().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report a command cut off by the end of the input")
+    void testIncompleteCommand() throws IOException {
+        assertThat(run(new CalculatorEngine(), "1 2")).isEqualTo("error: Incomplete command at end of input\n");
+    }
+
+    @Test
+    @DisplayName("Should parse numbers exactly like Double.parseDouble")
+    void testNumberParsing() throws IOException {
+        SplittableRandom random = new SplittableRandom(7);
+        StringBuilder input = new StringBuilder();
+        String[] tokens = new String[10_000];
+        for (int i = 0; i < tokens.length; i++) {
+            switch (i % 5) {
+                case 0 -> tokens[i] = Double.toString(random.nextDouble(-1e6, 1e6));
+                case 1 -> tokens[i] = Double.toString(Double.longBitsToDouble(random.nextLong()));
+                case 2 -> tokens[i] = String.format(Locale.ROOT, "%.6f", random.nextDouble(0, 1_000));
+                case 3 -> tokens[i] = random.nextInt(-1_000_000, 1_000_000) + "e" + random.nextInt(-30, 30);
+                default -> tokens[i] = "0.000" + random.nextLong(1, Long.MAX_VALUE);
+            }
+            input.append(tokens[i]).append(i % 7 == 0 ? '\n' : ' ');
+        }
+        input.append("-0 .5 1. NaN -Infinity 0x1p3 12345678901234567890123");
+        InputTokenizer tokenizer = tokenizer(input.toString());
+
+        for (String token : tokens) {
+            assertThat(Double.doubleToLongBits(tokenizer.nextDouble())).as(token)
+                    .isEqualTo(Double.doubleToLongBits(Double.parseDouble(token)));
+        }
+        assertThat(Double.doubleToRawLongBits(tokenizer.nextDouble())).isEqualTo(Double.doubleToRawLongBits(-0.0));
+        assertThat(tokenizer.nextDouble()).isEqualTo(0.5);
+        assertThat(tokenizer.nextDouble()).isEqualTo(1.0);
+        assertThat(tokenizer.nextDouble()).isNaN();
+        assertThat(tokenizer.nextDouble()).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(tokenizer.nextDouble()).isEqualTo(8.0);
+        assertThat(tokenizer.nextDouble()).isEqualTo(1.2345678901234568e22);
+        assertThat(tokenizer.hasNext()).isFalse();
+
+        // Mantissas around the 16-digit and long limits
+        String[] longMantissas = { "9007199254740992", "9007199254740993", "9999999999999999",
+            "9999999999999999999", "-9223372036854775808", "-9223372036854775809", "18446744073709551617",
+            "0.9999999999999999999", "123456789012345678.9e-3", "-99999999999999999999e2" };
+        InputTokenizer limits = tokenizer(String.join(" ", longMantissas));
+        for (String token : longMantissas) {
+            assertThat(Double.doubleToLongBits(limits.nextDouble())).as(token)
+                    .isEqualTo(Double.doubleToLongBits(Double.parseDouble(token)));
+        }
+
+        InputTokenizer ints = tokenizer("2147483647 -2147483648 2147483648 1.5 -");
+        assertThat(ints.nextInt()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(ints.nextInt()).isEqualTo(Integer.MIN_VALUE);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(ints::nextInt).isInstanceOf(InputMismatchException.class);
+        }
+    }
+
+    private static String run(CalculatorEngine engine, String script) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ScriptSession(engine, new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), out).run();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static InputTokenizer tokenizer(String input) {
+        return new InputTokenizer(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), () -> { });
+    }
+}
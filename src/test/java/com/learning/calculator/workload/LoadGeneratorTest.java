@@ -0,0 +1,65 @@
+package com.learning.calculator.workload;
+
+import com.learning.calculator.core.CalculatorEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the synthetic load generator and its latency histogram.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Load Generator Tests")
+class LoadGeneratorTest {
+
+    @Test
+    @DisplayName("Should follow the open-loop schedule and send invalid requests")
+    void testOpenLoopRun() throws InterruptedException {
+        LoadGeneratorConfig config = LoadGeneratorConfig.parse(new String[] {
+                "mix=1:1,4:1,6:1,11:1", "invalid=50", "threads=2", "pacing=open", "rate=2000",
+                "duration=0.3", "interval=100", "seed=42" });
+
+        LoadReport report = new LoadGenerator(config).run(new CalculatorEngine());
+
+        assertThat(report.getRequests()).isEqualTo(600);
+        assertThat(report.getInvalidRequests()).isBetween(200L, 400L);
+        assertThat(report.getErrors()).isEqualTo(report.getInvalidRequests());
+        assertThat(report.getThroughputOverTime()).hasSize(4);
+        assertThat(report.getLatencyPercentileNanos(50)).isPositive()
+                .isLessThanOrEqualTo(report.getLatencyPercentileNanos(99));
+    }
+
+    @Test
+    @DisplayName("Should back-fill closed-loop latencies longer than the expected interval")
+    void testCoordinatedOmissionCorrection() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.recordWithExpectedInterval(1_000, 1_000);
+        histogram.recordWithExpectedInterval(10_000, 1_000);
+
+        assertThat(histogram.getTotalCount()).isEqualTo(11);
+        assertThat(histogram.getMaxValue()).isEqualTo(10_000);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(4_900L, 5_100L);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid settings")
+    void testInvalidSettings() {
+        assertThatThrownBy(() -> LoadGeneratorConfig.parse(new String[] { "mix=99:1" }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadGeneratorConfig.parse(new String[] { "threads" }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LoadGenerator(new LoadGeneratorConfig()
+                .withPacing(LoadGeneratorConfig.Pacing.OPEN, 0)
+                .withDuration(Duration.ofMillis(10))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.learning.calculator.workload;
+
+import com.learning.calculator.core.CalculatorEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for workload capture and replay.
+ * 
+ * @author Learning Java Developer
+ * @version 1.0
+ * @since 2026-01-28
+ */
+@DisplayName("Workload Capture and Replay Tests")
+class WorkloadReplayerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should capture engine requests and read them back")
+    void testCaptureRoundTrip() throws IOException {
+        Path file = tempDir.resolve("capture.bin");
+        CalculatorEngine engine = new CalculatorEngine();
+
+        engine.startCapture(file);
+        engine.calculate(1, 5.0, 3.0);
+        engine.calculate(6, 16.0, 0.0);
+        try {
+            engine.calculate(4, 1.0, 0.0);
+        } catch (RuntimeException expected) {
+            // failing requests are captured as well
+        }
+        assertThat(engine.stopCapture()).isEqualTo(3);
+
+        Workload workload = Workload.read(file);
+        assertThat(workload.size()).isEqualTo(3);
+        assertThat(workload.operationCode(0)).isEqualTo(1);
+        assertThat(workload.operand1(1)).isEqualTo(16.0);
+        assertThat(workload.operand2(2)).isEqualTo(0.0);
+        assertThat(workload.offsetNanos(2)).isGreaterThanOrEqualTo(workload.offsetNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should replay a capture at full speed and paced")
+    void testReplay() throws IOException {
+        Path file = tempDir.resolve("replay.bin");
+        try (CaptureWriter writer = new CaptureWriter(file)) {
+            for (int i = 0; i < 100; i++) {
+                writer.record(1 + i % 8, i + 1.0, i % 10);
+            }
+            writer.record(999, 1.0, 2.0);
+        }
+        Workload workload = Workload.read(file);
+        WorkloadReplayer replayer = new WorkloadReplayer();
+
+        ReplayReport fullSpeed = replayer.replay(workload, new CalculatorEngine(), false);
+        ReplayReport paced = replayer.replay(workload, new CalculatorEngine(), true);
+
+        assertThat(fullSpeed.getRequests()).isEqualTo(101);
+        assertThat(fullSpeed.getErrors()).isEqualTo(3);
+        assertThat(fullSpeed.getThroughput()).isPositive();
+        assertThat(fullSpeed.getLatencyPercentileNanos(50))
+                .isLessThanOrEqualTo(fullSpeed.getLatencyPercentileNanos(99));
+        assertThat(paced.isPaced()).isTrue();
+        assertThat(paced.getElapsedNanos()).isGreaterThanOrEqualTo(workload.getDurationNanos());
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not captures")
+    void testInvalidFile() throws IOException {
+        Path file = Files.write(tempDir.resolve("bogus.bin"), new byte[] { 1, 2, 3, 4, 5, 6 });
+
+        assertThatThrownBy(() -> Workload.read(file)).isInstanceOf(IOException.class);
+    }
+}